@@ -0,0 +1,52 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.dto.PokemonPage;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.service.CatalogSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca avançada ({@code PokemonService.advancedSearch}) sobre a cópia em
+ * memória, com filtros de seletividade diferente. A página cobre o catálogo
+ * inteiro, então cada operação devolve todos os resultados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdvancedSearchBenchmark {
+
+    // broad: um tipo (~10%); medium: dois tipos; narrow: tipo + golpe + geração; name: substring do nome
+    @Param({"broad", "medium", "narrow", "name"})
+    public String selectivity;
+
+    private CatalogSnapshot snapshot;
+    private int limit;
+
+    @Setup
+    public void setUp() {
+        List<Pokemon> catalog = CatalogFixtures.catalog();
+        snapshot = CatalogSnapshot.of(catalog);
+        limit = catalog.size();
+    }
+
+    @Benchmark
+    public PokemonPage advancedSearch() {
+        return switch (selectivity) {
+            case "broad" -> search(null, List.of("water"), null, null);
+            case "medium" -> search(null, List.of("water", "flying"), null, null);
+            case "narrow" -> search(null, List.of("water"), "move-10", "generation-iv");
+            case "name" -> search("mon-12", null, null, null);
+            default -> throw new IllegalArgumentException(selectivity);
+        };
+    }
+
+    private PokemonPage search(String name, List<String> types, String move, String generation) {
+        return snapshot.search(name, types, null, move, generation, List.of(), 0, limit, false);
+    }
+}
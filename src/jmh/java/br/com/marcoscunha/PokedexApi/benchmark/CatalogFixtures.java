@@ -0,0 +1,251 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Dados gerados para os benchmarks, sem acesso à rede nem ao banco: um
+ * catálogo com o tamanho e a distribuição do real (1025 Pokémons + formas)
+ * e documentos no mesmo formato dos devolvidos pela PokéAPI.
+ */
+public final class CatalogFixtures {
+
+    public static final int CATALOG_SIZE = 1300;
+
+    public static final List<String> TYPES = List.of(
+            "normal", "fire", "water", "grass", "electric", "ice", "fighting", "poison", "ground",
+            "flying", "psychic", "bug", "rock", "ghost", "dragon", "dark", "steel", "fairy"
+    );
+
+    public static final List<String> GENERATIONS = List.of(
+            "generation-i", "generation-ii", "generation-iii", "generation-iv", "generation-v",
+            "generation-vi", "generation-vii", "generation-viii", "generation-ix"
+    );
+
+    public static final List<String> STATS = List.of(
+            "hp", "attack", "defense", "special-attack", "special-defense", "speed"
+    );
+
+    private static final int ABILITIES = 300;
+    private static final int MOVES = 900;
+    private static final String API = "https://pokeapi.co/api/v2/";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CatalogFixtures() {
+    }
+
+    // ===================== CATÁLOGO =====================
+    public static List<Pokemon> catalog() {
+        Random random = new Random(42);
+        List<Pokemon> pokemons = new ArrayList<>(CATALOG_SIZE);
+
+        for (int id = 1; id <= CATALOG_SIZE; id++) {
+            Pokemon pokemon = new Pokemon();
+            pokemon.setId((long) id);
+            pokemon.setName("pokemon-" + id);
+            pokemon.setDescription("A generated description used for benchmarking entry " + id + ".");
+            pokemon.setHeight(1 + random.nextInt(200));
+            pokemon.setWeight(1 + random.nextInt(9000));
+            pokemon.setSprite("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + id + ".png");
+            pokemon.setGeneration(GENERATIONS.get(Math.min((id - 1) / 115, GENERATIONS.size() - 1)));
+
+            List<String> types = new ArrayList<>();
+            types.add(TYPES.get(random.nextInt(TYPES.size())));
+            if (random.nextBoolean()) {
+                String second = TYPES.get(random.nextInt(TYPES.size()));
+                if (!types.contains(second)) types.add(second);
+            }
+            pokemon.setType(types);
+
+            List<String> abilities = new ArrayList<>();
+            for (int i = 0, n = 1 + random.nextInt(3); i < n; i++) {
+                abilities.add("ability-" + skewed(random, ABILITIES));
+            }
+            pokemon.setAbility(abilities);
+
+            List<String> moves = new ArrayList<>();
+            for (int i = 0, n = 20 + random.nextInt(80); i < n; i++) {
+                String move = "move-" + skewed(random, MOVES);
+                if (!moves.contains(move)) moves.add(move);
+            }
+            pokemon.setMove(moves);
+
+            Map<String, Integer> stats = new HashMap<>();
+            STATS.forEach(stat -> stats.put(stat, 20 + random.nextInt(140)));
+            pokemon.setStats(stats);
+
+            int chainStart = ((id - 1) / 3) * 3 + 1;
+            pokemon.setEvolution(List.of("pokemon-" + chainStart, "pokemon-" + (chainStart + 1), "pokemon-" + (chainStart + 2)));
+
+            pokemons.add(pokemon);
+        }
+        return pokemons;
+    }
+
+    // imagem PNG típica de um sprite (~4 KB)
+    public static byte[] spriteBytes(long id) {
+        byte[] bytes = new byte[4096];
+        new Random(id).nextBytes(bytes);
+        return bytes;
+    }
+
+    // golpes comuns (tackle, protect...) aparecem em muitos Pokémons, os raros em poucos
+    private static int skewed(Random random, int bound) {
+        double value = random.nextDouble();
+        return (int) (value * value * bound);
+    }
+
+    // ===================== DOCUMENTOS DA POKÉAPI =====================
+    public static byte[] pokemonDocument() {
+        Random random = new Random(7);
+        Map<String, Object> document = new LinkedHashMap<>();
+
+        document.put("abilities", List.of(
+                Map.of("ability", resource("overgrow", "ability/65/"), "is_hidden", false, "slot", 1),
+                Map.of("ability", resource("chlorophyll", "ability/34/"), "is_hidden", true, "slot", 3)
+        ));
+        document.put("base_experience", 64);
+        document.put("forms", List.of(resource("bulbasaur", "pokemon-form/1/")));
+
+        List<Object> gameIndices = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            gameIndices.add(Map.of("game_index", 153, "version", resource("version-" + i, "version/" + i + "/")));
+        }
+        document.put("game_indices", gameIndices);
+        document.put("height", 7);
+        document.put("held_items", List.of());
+        document.put("id", 1);
+        document.put("is_default", true);
+        document.put("location_area_encounters", API + "pokemon/1/encounters");
+
+        List<Object> moves = new ArrayList<>();
+        for (int i = 0; i < 80; i++) {
+            List<Object> details = new ArrayList<>();
+            for (int v = 0; v < 8; v++) {
+                details.add(Map.of(
+                        "level_learned_at", random.nextInt(60),
+                        "move_learn_method", resource("level-up", "move-learn-method/1/"),
+                        "order", v,
+                        "version_group", resource("version-group-" + v, "version-group/" + v + "/")
+                ));
+            }
+            moves.add(Map.of("move", resource("move-" + i, "move/" + i + "/"), "version_group_details", details));
+        }
+        document.put("moves", moves);
+        document.put("name", "bulbasaur");
+        document.put("order", 1);
+        document.put("past_abilities", List.of());
+        document.put("past_types", List.of());
+        document.put("species", resource("bulbasaur", "pokemon-species/1/"));
+
+        Map<String, Object> versions = new LinkedHashMap<>();
+        for (int g = 0; g < 8; g++) {
+            Map<String, Object> games = new LinkedHashMap<>();
+            for (int v = 0; v < 3; v++) {
+                games.put("game-" + v, spriteSet());
+            }
+            versions.put(GENERATIONS.get(g), games);
+        }
+        Map<String, Object> sprites = new LinkedHashMap<>(spriteSet());
+        sprites.put("other", Map.of("home", spriteSet(), "official-artwork", spriteSet(), "showdown", spriteSet()));
+        sprites.put("versions", versions);
+        document.put("sprites", sprites);
+
+        List<Object> stats = new ArrayList<>();
+        for (int i = 0; i < STATS.size(); i++) {
+            stats.add(Map.of("base_stat", 45 + i * 5, "effort", 0, "stat", resource(STATS.get(i), "stat/" + (i + 1) + "/")));
+        }
+        document.put("stats", stats);
+        document.put("types", List.of(
+                Map.of("slot", 1, "type", resource("grass", "type/12/")),
+                Map.of("slot", 2, "type", resource("poison", "type/4/"))
+        ));
+        document.put("weight", 69);
+        return write(document);
+    }
+
+    public static byte[] speciesDocument() {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("base_happiness", 50);
+        document.put("capture_rate", 45);
+        document.put("color", resource("green", "pokemon-color/5/"));
+        document.put("egg_groups", List.of(resource("monster", "egg-group/1/"), resource("plant", "egg-group/7/")));
+        document.put("evolution_chain", Map.of("url", API + "evolution-chain/1/"));
+        document.put("evolves_from_species", null);
+
+        List<String> languages = List.of("ja-hrkt", "ko", "zh-hant", "fr", "de", "es", "it", "en", "ja", "zh-hans");
+        List<Object> flavorTexts = new ArrayList<>();
+        for (int version = 0; version < 12; version++) {
+            for (String language : languages) {
+                flavorTexts.add(Map.of(
+                        "flavor_text", "A strange seed was\nplanted on its\nback at birth.\fThe plant sprouts\nand grows with\nthis POKéMON. (" + language + ")",
+                        "language", resource(language, "language/" + language + "/"),
+                        "version", resource("version-" + version, "version/" + version + "/")
+                ));
+            }
+        }
+        document.put("flavor_text_entries", flavorTexts);
+        document.put("generation", resource("generation-i", "generation/1/"));
+        document.put("id", 1);
+        document.put("name", "bulbasaur");
+
+        List<Object> names = new ArrayList<>();
+        languages.forEach(language -> names.add(Map.of("language", resource(language, "language/" + language + "/"), "name", "Bulbasaur")));
+        document.put("names", names);
+        return write(document);
+    }
+
+    // cadeia ramificada, no formato da cadeia da Eevee
+    public static byte[] evolutionChainDocument() {
+        List<Object> branches = new ArrayList<>();
+        for (String name : List.of("vaporeon", "jolteon", "flareon", "espeon", "umbreon", "leafeon", "glaceon", "sylveon")) {
+            branches.add(evolutionNode(name, List.of()));
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("baby_trigger_item", null);
+        document.put("chain", evolutionNode("eevee", branches));
+        document.put("id", 67);
+        return write(document);
+    }
+
+    private static Map<String, Object> evolutionNode(String species, List<Object> evolvesTo) {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("evolution_details", List.of(Map.of(
+                "min_level", 1,
+                "trigger", resource("use-item", "evolution-trigger/3/"),
+                "time_of_day", ""
+        )));
+        node.put("evolves_to", evolvesTo);
+        node.put("is_baby", false);
+        node.put("species", resource(species, "pokemon-species/" + species + "/"));
+        return node;
+    }
+
+    private static Map<String, Object> spriteSet() {
+        Map<String, Object> sprites = new LinkedHashMap<>();
+        for (String key : List.of("back_default", "back_female", "back_shiny", "back_shiny_female",
+                "front_default", "front_female", "front_shiny", "front_shiny_female")) {
+            sprites.put(key, "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + key + "/1.png");
+        }
+        return sprites;
+    }
+
+    private static Map<String, Object> resource(String name, String path) {
+        return Map.of("name", name, "url", API + path);
+    }
+
+    private static byte[] write(Object document) {
+        try {
+            return MAPPER.writeValueAsBytes(document);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
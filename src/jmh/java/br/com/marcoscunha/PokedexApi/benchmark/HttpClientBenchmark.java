@@ -0,0 +1,130 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.config.RestTemplateConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Download de um documento da PokéAPI por 8 threads, como na importação: o
+ * {@code new RestTemplate()} de antes ({@code HttpURLConnection}, sem gzip e
+ * com no máximo 5 conexões ociosas guardadas) contra o {@link RestTemplate}
+ * do {@link RestTemplateConfig} (pool do HttpClient 5, gzip).
+ * <p>
+ * A PokéAPI falsa cobra o que a rede cobraria: {@value #HANDSHAKE_MS} ms em
+ * cada conexão nova (TCP + TLS), {@value #RTT_MS} ms de ida e volta por
+ * requisição e a transferência do corpo a {@value #BYTES_PER_SECOND} bytes/s,
+ * comprimido quando o cliente pede gzip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(8)
+@Fork(1)
+public class HttpClientBenchmark {
+
+    private static final long HANDSHAKE_MS = 60;
+    private static final long RTT_MS = 30;
+    private static final long BYTES_PER_SECOND = 2_000_000;
+
+    // simple: new RestTemplate() (antes); pooled: RestTemplateConfig
+    @Param({"simple", "pooled"})
+    public String client;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private AnnotationConfigApplicationContext context;
+    private RestTemplate restTemplate;
+    private String url;
+
+    private byte[] document;
+    private byte[] gzipped;
+    // conexões já abertas, pela porta de origem do cliente
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    @Setup
+    public void setUp() throws IOException {
+        document = CatalogFixtures.pokemonDocument();
+        gzipped = gzip(document);
+
+        // sem Nagle: cabeçalho e corpo saem em pacotes separados e o ACK atrasado somaria ~40 ms
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v2/pokemon/1/";
+
+        if ("pooled".equals(client)) {
+            context = new AnnotationConfigApplicationContext(RestTemplateConfig.class);
+            restTemplate = context.getBean(RestTemplate.class);
+        } else {
+            restTemplate = new RestTemplate();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) context.close();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int download() {
+        byte[] body = restTemplate.getForObject(url, byte[].class);
+        if (body == null || body.length != document.length) throw new IllegalStateException("Resposta incompleta");
+        return body.length;
+    }
+
+    // ===================== POKÉAPI FALSA =====================
+    private void handle(HttpExchange exchange) throws IOException {
+        String encoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzip = encoding != null && encoding.contains("gzip");
+        byte[] body = gzip ? gzipped : document;
+
+        long delay = RTT_MS + body.length * 1000L / BYTES_PER_SECOND;
+        if (connections.add(exchange.getRemoteAddress())) delay += HANDSHAKE_MS;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (gzip) exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
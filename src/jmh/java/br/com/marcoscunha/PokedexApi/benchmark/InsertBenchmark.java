@@ -0,0 +1,105 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.PokedexApi;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import br.com.marcoscunha.PokedexApi.repository.TermDictionary;
+import br.com.marcoscunha.PokedexApi.service.PokemonWriter;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gravação dos Pokémons importados: um {@code repository.save()} por registro
+ * (um SELECT e uma transação para cada um, como a importação fazia) contra o
+ * {@link PokemonWriter} (lotes de {@code pokeapi.import.write-batch-size} por
+ * transação, INSERTs em lotes JDBC). Cada operação grava {@value #POKEMONS}
+ * Pokémons do catálogo gerado, com as coleções, numa tabela vazia do H2 em
+ * modo MySQL: em memória, na mesma JVM, ou pelo servidor TCP do H2, em que
+ * cada comando e cada commit custam uma ida e volta pelo socket, como no MySQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 8, time = 3)
+@Fork(1)
+public class InsertBenchmark {
+
+    private static final int POKEMONS = 300;
+
+    @Param({"memory", "tcp"})
+    public String database;
+
+    private Server server;
+
+    private ConfigurableApplicationContext context;
+    private PokemonRepository repository;
+    private TermDictionary termDictionary;
+    private PokemonWriter writer;
+
+    private List<Pokemon> pokemons;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:insert;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        if ("tcp".equals(database)) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            url = "jdbc:h2:tcp://127.0.0.1:" + server.getPort() + "/mem:insert;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        }
+
+        context = new SpringApplicationBuilder(PokedexApi.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.docker.compose.enabled=false",
+                        "--pokeapi.import.on-startup=false",
+                        "--logging.level.root=warn"
+                );
+
+        repository = context.getBean(PokemonRepository.class);
+        termDictionary = context.getBean(TermDictionary.class);
+        writer = context.getBean(PokemonWriter.class);
+    }
+
+    // entidades novas a cada operação, com a tabela vazia
+    @Setup(Level.Invocation)
+    public void emptyTable() {
+        repository.deleteAllInBatch();
+        pokemons = CatalogFixtures.catalog().subList(0, POKEMONS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        if (server != null) server.stop();
+    }
+
+    @Benchmark
+    public long saveEach() {
+        for (Pokemon pokemon : pokemons) {
+            termDictionary.register(TermDictionary.Kind.TYPE, pokemon.getType());
+            termDictionary.register(TermDictionary.Kind.ABILITY, pokemon.getAbility());
+            termDictionary.register(TermDictionary.Kind.MOVE, pokemon.getMove());
+            repository.save(pokemon);
+        }
+        return pokemons.size();
+    }
+
+    @Benchmark
+    public long batchedWriter() {
+        pokemons.forEach(writer::add);
+        writer.flush();
+        return pokemons.size();
+    }
+}
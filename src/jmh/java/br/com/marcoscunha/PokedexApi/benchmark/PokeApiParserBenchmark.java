@@ -0,0 +1,53 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.service.PokeApiParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura dos documentos da PokéAPI usados na importação: extração em
+ * streaming ({@link PokeApiParser}) contra a árvore {@code Map<String, Object>}
+ * que a importação montava antes. Rodar com {@code -prof gc} para comparar a
+ * alocação por documento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokeApiParserBenchmark {
+
+    @Param({"pokemon", "species", "evolution-chain"})
+    public String document;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        json = switch (document) {
+            case "pokemon" -> CatalogFixtures.pokemonDocument();
+            case "species" -> CatalogFixtures.speciesDocument();
+            case "evolution-chain" -> CatalogFixtures.evolutionChainDocument();
+            default -> throw new IllegalArgumentException(document);
+        };
+    }
+
+    @Benchmark
+    public Object streaming() throws Exception {
+        return switch (document) {
+            case "pokemon" -> PokeApiParser.parsePokemon(json);
+            case "species" -> PokeApiParser.parseSpecies(json);
+            default -> PokeApiParser.parseEvolutionChain(json).speciesNames();
+        };
+    }
+
+    @Benchmark
+    public Object mapTree() throws Exception {
+        return mapper.readValue(json, Map.class);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.PokedexApi;
+import br.com.marcoscunha.PokedexApi.service.CatalogIndex;
+import br.com.marcoscunha.PokedexApi.service.PokemonWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga de leitura pela API HTTP: 400 clientes simultâneos, o dobro das
+ * threads do Tomcat, com as requisições nas threads da plataforma ou em
+ * virtual threads ({@code spring.threads.virtual.enabled}). SampleTime dá o
+ * p99. O cache de respostas fica desligado para que toda requisição chegue
+ * ao controller. Virtual threads exigem rodar em Java 21+.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(400)
+@Fork(1)
+public class ReadLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String requestThreads;
+
+    // list: listagem paginada (banco); search: busca avançada (memória); stream: a mesma busca em NDJSON
+    @Param({"list", "search", "stream"})
+    public String endpoint;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = "virtual".equals(requestThreads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads exigem Java 21+");
+        }
+
+        context = new SpringApplicationBuilder(PokedexApi.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.docker.compose.enabled=false",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.address=127.0.0.1",
+                "--server.port=0",
+                "--pokeapi.cache.max-bytes=0",
+                "--pokeapi.import.on-startup=false",
+                "--logging.level.root=warn"
+        );
+
+        PokemonWriter writer = context.getBean(PokemonWriter.class);
+        CatalogFixtures.catalog().forEach(writer::add);
+        writer.flush();
+        context.getBean(CatalogIndex.class).refresh();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/api/pokemons";
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int read() throws IOException, InterruptedException {
+        String path = switch (endpoint) {
+            case "list" -> "?limit=100&cursor=" + ThreadLocalRandom.current().nextInt(CatalogFixtures.CATALOG_SIZE - 100);
+            case "search" -> "/search/advanced?types=water&limit=100";
+            case "stream" -> "/stream?types=water";
+            default -> throw new IllegalArgumentException(endpoint);
+        };
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) throw new IllegalStateException("HTTP " + response.statusCode() + " em " + path);
+        return response.statusCode();
+    }
+}
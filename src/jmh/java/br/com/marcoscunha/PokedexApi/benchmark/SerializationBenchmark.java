@@ -0,0 +1,56 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.dto.PokemonFields;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson da listagem completa com cada conjunto de campos:
+ * resumo (padrão das coleções), detalhe e tudo, inclusive {@code spriteBase64}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"summary", "detail", "all"})
+    public String fields;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private List<Pokemon> catalog;
+    private Set<String> selected;
+
+    @Setup
+    public void setUp() {
+        catalog = CatalogFixtures.catalog();
+        selected = switch (fields) {
+            case "summary" -> PokemonFields.SUMMARY;
+            case "detail" -> PokemonFields.DETAIL;
+            case "all" -> PokemonFields.FULL;
+            default -> throw new IllegalArgumentException(fields);
+        };
+    }
+
+    @Benchmark
+    public byte[] serializeCatalog() throws Exception {
+        List<Map<String, Object>> views = catalog.stream()
+                .map(pokemon -> PokemonFields.view(pokemon, selected, spriteBase64(pokemon)))
+                .toList();
+        return mapper.writeValueAsBytes(views);
+    }
+
+    private String spriteBase64(Pokemon pokemon) {
+        if (!selected.contains("spriteBase64")) return null;
+        return Base64.getEncoder().encodeToString(CatalogFixtures.spriteBytes(pokemon.getId()));
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.PokedexApi;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import br.com.marcoscunha.PokedexApi.repository.PokemonSpecifications;
+import br.com.marcoscunha.PokedexApi.service.PokemonWriter;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca avançada no banco, sem a cópia em memória: a filtragem antiga
+ * (carrega a tabela inteira e filtra em Java) contra a {@code Specification}
+ * (um SELECT com EXISTS por filtro). Usa o H2 embarcado em modo MySQL, com o
+ * esquema e os índices criados pelas migrações do Flyway.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlSearchBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    // broad: um tipo (~10%); medium: dois tipos; narrow: tipo + golpe + geração
+    @Param({"broad", "medium", "narrow"})
+    public String selectivity;
+
+    private ConfigurableApplicationContext context;
+    private PokemonRepository repository;
+    private TransactionTemplate readOnly;
+
+    private List<String> types;
+    private String move;
+    private String generation;
+
+    @Setup
+    public void setUp() {
+        // argumentos de linha de comando: sobrepõem o application.properties
+        context = new SpringApplicationBuilder(PokedexApi.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.docker.compose.enabled=false",
+                        "--pokeapi.import.on-startup=false",
+                        "--logging.level.root=warn"
+                );
+
+        repository = context.getBean(PokemonRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        PokemonWriter writer = context.getBean(PokemonWriter.class);
+        CatalogFixtures.catalog().forEach(writer::add);
+        writer.flush();
+
+        switch (selectivity) {
+            case "broad" -> types = List.of("water");
+            case "medium" -> types = List.of("water", "flying");
+            case "narrow" -> {
+                types = List.of("water");
+                move = "move-10";
+                generation = "generation-iv";
+            }
+            default -> throw new IllegalArgumentException(selectivity);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // primeira página, com os tipos carregados para o resumo
+    @Benchmark
+    public List<Pokemon> javaFilter() {
+        return readOnly.execute(status -> repository.findAllByOrderByIdAsc().stream()
+                .filter(p -> p.getType().containsAll(types))
+                .filter(p -> move == null || p.getMove().contains(move))
+                .filter(p -> generation == null || (p.getGeneration() != null && p.getGeneration().contains(generation)))
+                .limit(PAGE_SIZE + 1)
+                .toList());
+    }
+
+    @Benchmark
+    public List<Pokemon> specification() {
+        return readOnly.execute(status -> {
+            List<Pokemon> page = repository.findBy(
+                    PokemonSpecifications.matching(null, types, null, move, generation, List.of()),
+                    query -> query.sortBy(Sort.by("id")).limit(PAGE_SIZE + 1).all());
+            page.forEach(pokemon -> Hibernate.initialize(pokemon.getType()));
+            return page;
+        });
+    }
+}
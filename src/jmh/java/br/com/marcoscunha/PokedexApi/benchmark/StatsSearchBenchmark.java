@@ -0,0 +1,59 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.dto.PokemonPage;
+import br.com.marcoscunha.PokedexApi.dto.StatRange;
+import br.com.marcoscunha.PokedexApi.dto.StatSort;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.service.CatalogSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca por faixa de stats ordenada por um stat ({@code /api/pokemons/search/stats}):
+ * "speed &gt;= 100, total &lt;= 500, os 20 de maior ataque". O índice colunar
+ * do {@link CatalogSnapshot} contra o filtro e a ordenação sobre o
+ * {@code Map<String, Integer>} de cada Pokémon.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsSearchBenchmark {
+
+    private static final int LIMIT = 20;
+
+    private static final List<StatRange> RANGES = List.of(
+            new StatRange("speed", 100, Integer.MAX_VALUE),
+            new StatRange(StatRange.TOTAL, Integer.MIN_VALUE, 500));
+    private static final StatSort SORT = new StatSort("attack", true);
+
+    private CatalogSnapshot snapshot;
+    private List<Pokemon> pokemons;
+
+    @Setup
+    public void setUp() {
+        pokemons = CatalogFixtures.catalog();
+        snapshot = CatalogSnapshot.of(pokemons);
+    }
+
+    @Benchmark
+    public PokemonPage statsIndex() {
+        return snapshot.top(null, null, null, null, null, RANGES, SORT, null, LIMIT, false);
+    }
+
+    @Benchmark
+    public List<Pokemon> boxedMap() {
+        return pokemons.stream()
+                .filter(pokemon -> pokemon.getStats().get("speed") >= 100)
+                .filter(pokemon -> pokemon.getStats().values().stream().mapToInt(Integer::intValue).sum() <= 500)
+                .sorted(Comparator.comparing((Pokemon pokemon) -> pokemon.getStats().get("attack")).reversed()
+                        .thenComparing(Pokemon::getId))
+                .limit(LIMIT)
+                .toList();
+    }
+}
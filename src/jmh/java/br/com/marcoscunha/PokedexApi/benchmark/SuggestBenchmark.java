@@ -0,0 +1,60 @@
+package br.com.marcoscunha.PokedexApi.benchmark;
+
+import br.com.marcoscunha.PokedexApi.dto.Suggestion;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.service.CatalogSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sugestões da caixa de busca ({@code /api/pokemons/suggest}) pela trie,
+ * contra a varredura com {@code contains} que o {@code /name} faz (o
+ * {@code LIKE '%x%'}), já sem o custo do banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestBenchmark {
+
+    // prefix: o que foi digitado até agora; typo: um caractere trocado; move: golpes, por popularidade
+    @Param({"prefix", "typo", "move"})
+    public String query;
+
+    private CatalogSnapshot snapshot;
+    private List<Pokemon> pokemons;
+
+    @Setup
+    public void setUp() {
+        pokemons = CatalogFixtures.catalog();
+        snapshot = CatalogSnapshot.of(pokemons);
+    }
+
+    @Benchmark
+    public List<Suggestion> trie() {
+        return switch (query) {
+            case "prefix" -> snapshot.suggest(Suggestion.Kind.NAME, "pokemon-12", 10);
+            case "typo" -> snapshot.suggest(Suggestion.Kind.NAME, "pokemin-12", 10);
+            case "move" -> snapshot.suggest(Suggestion.Kind.MOVE, "move-1", 10);
+            default -> throw new IllegalArgumentException(query);
+        };
+    }
+
+    @Benchmark
+    public List<Pokemon> containsScan() {
+        String term = switch (query) {
+            case "prefix" -> "pokemon-12";
+            case "typo" -> "pokemin-12";
+            case "move" -> "move-1";
+            default -> throw new IllegalArgumentException(query);
+        };
+        return pokemons.stream()
+                .filter(pokemon -> pokemon.getName().contains(term))
+                .limit(10)
+                .toList();
+    }
+}
@@ -1,12 +1,31 @@
 package br.com.marcoscunha.PokedexApi;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
 
 @SpringBootApplication
 public class PokedexApi {
 
+    // gera a exportação do catálogo e encerra, sem subir o servidor nem importar
+    private static final String EXPORT = "--export";
+
     public static void main(String[] args) {
-        SpringApplication.run(PokedexApi.class, args);
+        SpringApplication application = new SpringApplication(PokedexApi.class);
+        if (!isExportOnly(args)) {
+            application.run(args);
+            return;
+        }
+
+        application.setWebApplicationType(WebApplicationType.NONE);
+        ConfigurableApplicationContext context = application.run(args);
+        System.exit(SpringApplication.exit(context));
+    }
+
+    public static boolean isExportOnly(String... args) {
+        return Arrays.asList(args).contains(EXPORT);
     }
 }
@@ -0,0 +1,26 @@
+package br.com.marcoscunha.PokedexApi.config;
+
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prontidão da API: pronta assim que houver Pokémons no banco, mesmo com a
+ * importação ainda em andamento. Faz parte do grupo {@code readiness}.
+ */
+@Component("catalog")
+public class CatalogHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private PokemonRepository repository;
+
+    @Override
+    public Health health() {
+        long pokemons = repository.count();
+        return (pokemons > 0 ? Health.up() : Health.outOfService())
+                .withDetail("pokemons", pokemons)
+                .build();
+    }
+}
@@ -1,36 +1,52 @@
 package br.com.marcoscunha.PokedexApi.config;
 
+import br.com.marcoscunha.PokedexApi.controller.PokemonController;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+
+import java.util.List;
 
 @Configuration
 public class CorsConfig {
 
+    // filtro de servlet, e não o CORS do MVC: as respostas do ResponseCacheFilter
+    // (cache e 304) saem antes do DispatcherServlet e também precisam dos cabeçalhos
     @Bean
-    public WebMvcConfigurer corsConfigurer() {
-        return new WebMvcConfigurer() {
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.setAllowedOrigins(List.of(
+                "http://localhost:4200",                    // DEV
+                "https://megapokedex.app",                  // PROD
+                "https://www.megapokedex.app"              // PROD
+        ));
+        cors.setAllowedMethods(List.of(
+                "GET",
+                "POST",
+                "PUT",
+                "DELETE",
+                "OPTIONS"
+        ));
+        cors.addAllowedHeader("*");
+        cors.setExposedHeaders(List.of(
+                PokemonController.NEXT_CURSOR,
+                PokemonController.TOTAL_COUNT,
+                HttpHeaders.LINK,
+                HttpHeaders.ETAG
+        ));
+        cors.setAllowCredentials(true);
+        cors.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", cors);
 
-            @Override
-            public void addCorsMappings(CorsRegistry registry) {
-                registry.addMapping("/**")
-                        .allowedOrigins(
-                                "http://localhost:4200",                    // DEV
-                                "https://megapokedex.app",                  // PROD
-                                "https://www.megapokedex.app"              // PROD
-                        )
-                        .allowedMethods(
-                                "GET",
-                                "POST",
-                                "PUT",
-                                "DELETE",
-                                "OPTIONS"
-                        )
-                        .allowedHeaders("*")
-                        .allowCredentials(true)
-                        .maxAge(3600);
-            }
-        };
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
     }
 }
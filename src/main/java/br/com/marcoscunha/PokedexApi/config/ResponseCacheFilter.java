@@ -0,0 +1,172 @@
+package br.com.marcoscunha.PokedexApi.config;
+
+import br.com.marcoscunha.PokedexApi.controller.PokemonController;
+import br.com.marcoscunha.PokedexApi.service.ResponseCache;
+import br.com.marcoscunha.PokedexApi.service.StorageSupport;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache das consultas GET do catálogo ({@code /api/pokemons/...}). A chave é
+ * o caminho mais os parâmetros em ordem; o corpo fica guardado comprimido e
+ * é devolvido com {@code ETag}, respondendo {@code 304} quando o cliente já
+ * tem a mesma versão. Roda depois do {@code CorsFilter}, então as respostas
+ * do cache também levam os cabeçalhos de CORS. Sprites (que têm cache próprio), a exportação (já
+ * servida de arquivo), as sugestões (já respondidas da memória, uma por
+ * tecla), o streaming (escrito aos poucos, sem corpo completo para guardar)
+ * e os jobs de importação ficam de fora.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/api/pokemons";
+
+    // cabeçalhos da resposta original repetidos a partir do cache
+    private static final List<String> CACHED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            PokemonController.NEXT_CURSOR,
+            PokemonController.TOTAL_COUNT,
+            HttpHeaders.LINK
+    );
+
+    @Autowired
+    private ResponseCache cache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !"GET".equals(request.getMethod())
+                || !path.startsWith(PREFIX)
+                || path.endsWith("/sprite")
+                || path.startsWith(PREFIX + "/import")
+                || path.startsWith(PREFIX + "/export")
+                || path.startsWith(PREFIX + "/suggest")
+                || path.startsWith(PREFIX + "/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = key(request);
+        ResponseCache.Entry cached = cache.get(key).orElse(null);
+        if (cached != null) {
+            send(request, response, cached);
+            return;
+        }
+
+        // versão lida antes da consulta: se uma importação gravar no meio, a resposta não é guardada
+        long version = cache.version();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        Map<String, String> headers = new LinkedHashMap<>();
+        CACHED_HEADERS.forEach(name -> {
+            String value = wrapper.getHeader(name);
+            if (value != null) headers.put(name, value);
+        });
+
+        ResponseCache.Entry entry = new ResponseCache.Entry(version, StorageSupport.etag(body), gzip(body), headers);
+        cache.put(key, entry);
+
+        wrapper.resetBuffer();
+        send(request, response, entry);
+    }
+
+    // ===================== RESPOSTA =====================
+    private void send(HttpServletRequest request, HttpServletResponse response, ResponseCache.Entry entry)
+            throws IOException {
+        entry.headers().forEach(response::setHeader);
+        response.setHeader(HttpHeaders.ETAG, entry.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // soma ao Vary que o CorsFilter já pôs (Origin, Access-Control-Request-*), sem apagá-lo
+        vary(response, HttpHeaders.ORIGIN);
+        vary(response, HttpHeaders.ACCEPT_ENCODING);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), entry.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        byte[] body;
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = entry.gzipped();
+        } else {
+            body = gunzip(entry.gzipped());
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag)
+                        || candidate.equals("W/" + etag));
+    }
+
+    private static void vary(HttpServletResponse response, String header) {
+        boolean present = response.getHeaders(HttpHeaders.VARY).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .anyMatch(value -> value.trim().equalsIgnoreCase(header));
+        if (!present) response.addHeader(HttpHeaders.VARY, header);
+    }
+
+    // ===================== AUXILIARES =====================
+    // caminho + parâmetros em ordem alfabética (valores repetidos também ordenados)
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            String[] sorted = values.clone();
+            Arrays.sort(sorted);
+            for (String value : sorted) key.append('&').append(name).append('=').append(value);
+        });
+        return key.toString();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return StreamUtils.copyToByteArray(in);
+        }
+    }
+}
@@ -1,14 +1,71 @@
 package br.com.marcoscunha.PokedexApi.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${pokeapi.http.max-connections:50}")
+    private int maxConnections;
+
+    // limite de conexões simultâneas por host (pokeapi.co, raw.githubusercontent.com)
+    @Value("${pokeapi.http.max-connections-per-host:16}")
+    private int maxConnectionsPerHost;
+
+    @Value("${pokeapi.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${pokeapi.http.read-timeout-ms:15000}")
+    private long readTimeoutMs;
+
+    @Value("${pokeapi.http.pool-wait-timeout-ms:30000}")
+    private long poolWaitTimeoutMs;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager pokeApiConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
+    // httpcomponents.httpclient.pool.* com a tag httpclient=pokeapi
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public MeterBinder pokeApiConnectionPoolMetrics(PoolingHttpClientConnectionManager pokeApiConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(pokeApiConnectionManager, "pokeapi");
+    }
+
+    @Bean
+    public RestTemplate restTemplate(PoolingHttpClientConnectionManager pokeApiConnectionManager) {
+        // keep-alive e descompressão gzip/deflate vêm habilitados por padrão no HttpClient
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(pokeApiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
     }
 }
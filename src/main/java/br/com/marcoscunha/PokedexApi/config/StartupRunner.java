@@ -1,6 +1,12 @@
 package br.com.marcoscunha.PokedexApi.config;
 
-import br.com.marcoscunha.PokedexApi.service.PokemonService;
+import br.com.marcoscunha.PokedexApi.PokedexApi;
+import br.com.marcoscunha.PokedexApi.service.CatalogExport;
+import br.com.marcoscunha.PokedexApi.service.CatalogIndex;
+import br.com.marcoscunha.PokedexApi.service.EvolutionGraph;
+import br.com.marcoscunha.PokedexApi.service.ImportJob;
+import br.com.marcoscunha.PokedexApi.service.ImportJobService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,11 +15,29 @@ import org.springframework.context.annotation.Configuration;
 public class StartupRunner {
 
     @Bean
-    public CommandLineRunner run(PokemonService service) {
+    public CommandLineRunner run(ImportJobService importJobs, CatalogIndex catalogIndex, CatalogExport catalogExport,
+                                 EvolutionGraph evolutionGraph,
+                                 @Value("${pokeapi.import.on-startup:true}") boolean importOnStartup) {
         return args -> {
-            service.fetchAndSaveAllPokemons();
-            service.importAllVariations();
-            service.convertAllSpritesToBase64();
+            // busca avançada já responde com o que estiver no banco
+            catalogIndex.refresh();
+            evolutionGraph.refresh();
+
+            // modo linha de comando: só gera os arquivos de exportação (a aplicação encerra em seguida)
+            if (PokedexApi.isExportOnly(args)) {
+                catalogExport.regenerate();
+                return;
+            }
+
+            // banco já populado de antes, mas sem arquivos exportados ainda
+            if (catalogExport.file(CatalogExport.Format.BINARY).isEmpty()) {
+                catalogExport.regenerate();
+            }
+
+            // a importação segue em segundo plano; a API já atende com o que está persistido
+            if (importOnStartup) {
+                importJobs.submit(ImportJob.Type.FULL);
+            }
         };
     }
 }
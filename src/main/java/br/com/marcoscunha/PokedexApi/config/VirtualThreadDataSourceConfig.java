@@ -0,0 +1,107 @@
+package br.com.marcoscunha.PokedexApi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Com as requisições em virtual threads, o número de consultas simultâneas
+ * deixa de ser limitado pelas threads do Tomcat e passa fácil do pool do
+ * Hikari. Quem devolve uma conexão com outras threads esperando fica em
+ * {@code Thread.yield()} até entregá-la, e com centenas de virtual threads na
+ * fila isso ocupa as threads portadoras e o servidor para de responder.
+ * <p>
+ * Um {@link Semaphore} justo, do tamanho do pool, fica na frente do
+ * {@code getConnection}: o excesso espera estacionado, por ordem de chegada,
+ * e o Hikari não chega a ter fila.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimiter() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof HikariDataSource hikari ? new LimitedDataSource(hikari) : bean;
+            }
+        };
+    }
+
+    static final class LimitedDataSource extends DelegatingDataSource {
+
+        private final Semaphore permits;
+        private final long timeoutMs;
+
+        LimitedDataSource(HikariDataSource target) {
+            super(target);
+            this.permits = new Semaphore(target.getMaximumPoolSize(), true);
+            this.timeoutMs = target.getConnectionTimeout();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return limited(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException("Nenhuma conexão livre em " + timeoutMs + " ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrompido esperando uma conexão", e);
+            }
+        }
+
+        // a permissão volta no primeiro close(), depois de a conexão voltar ao pool
+        private Connection limited(Connection connection) {
+            AtomicBoolean released = new AtomicBoolean();
+            InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "close" -> {
+                    try {
+                        connection.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) permits.release();
+                    }
+                    yield null;
+                }
+                default -> invoke(connection, method, args);
+            };
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, handler);
+        }
+
+        private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
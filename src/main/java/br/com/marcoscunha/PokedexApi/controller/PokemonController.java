@@ -1,95 +1,373 @@
 package br.com.marcoscunha.PokedexApi.controller;
 
+import br.com.marcoscunha.PokedexApi.dto.EvolutionStage;
+import br.com.marcoscunha.PokedexApi.dto.PokemonBatch;
+import br.com.marcoscunha.PokedexApi.dto.PokemonFields;
+import br.com.marcoscunha.PokedexApi.dto.PokemonPage;
+import br.com.marcoscunha.PokedexApi.dto.StatRange;
+import br.com.marcoscunha.PokedexApi.dto.StatSort;
+import br.com.marcoscunha.PokedexApi.dto.Suggestion;
 import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.service.CatalogExport;
+import br.com.marcoscunha.PokedexApi.service.ImportJob;
+import br.com.marcoscunha.PokedexApi.service.ImportJobService;
 import br.com.marcoscunha.PokedexApi.service.PokemonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.Locale;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/pokemons")
 public class PokemonController {
 
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    // resumo padrão da busca por stats: o resumo de sempre mais os stats
+    private static final String STATS_FIELDS = "id,name,type,spriteUrl,generation,stats";
+
+    // atributos de requisição do Tomcat para envio com sendfile
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     @Autowired
     private PokemonService service;
 
+    @Autowired
+    private ImportJobService importJobs;
+
+    @Autowired
+    private CatalogExport catalogExport;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping("/search/advanced")
-    public ResponseEntity<List<Pokemon>> searchAdvanced(
+    public ResponseEntity<List<Map<String, Object>>> searchAdvanced(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) List<String> types,
             @RequestParam(required = false) String ability,
             @RequestParam(required = false) String move,
-            @RequestParam(required = false) String generation
+            @RequestParam(required = false) String generation,
+            @RequestParam(required = false) List<String> min,
+            @RequestParam(required = false) List<String> max,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean count
     ) {
-        List<Pokemon> pokemons = service.advancedSearch(name, types, ability, move, generation);
-        return ResponseEntity.ok(pokemons);
+        PokemonPage page = service.advancedSearch(name, types, ability, move, generation,
+                StatRange.parse(min, max), cursor, limit, count);
+        return page(page, fields);
     }
 
+    // mesmos filtros da avançada, com faixas de stats (min=speed:100, max=total:500) e sort=attack,desc
+    @GetMapping("/search/stats")
+    public ResponseEntity<List<Map<String, Object>>> searchStats(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) String ability,
+            @RequestParam(required = false) String move,
+            @RequestParam(required = false) String generation,
+            @RequestParam(required = false) List<String> min,
+            @RequestParam(required = false) List<String> max,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean count
+    ) {
+        PokemonPage page = service.statsSearch(name, types, ability, move, generation,
+                StatRange.parse(min, max), StatSort.parse(sort), cursor, limit, count);
+        return page(page, fields == null ? STATS_FIELDS : fields);
+    }
+
+    // ===================== STREAMING =====================
+    // filtros da avançada sem paginação (sem filtros: o catálogo inteiro), em NDJSON escrito página a página;
+    // a thread da requisição é liberada e a escrita segue no executor assíncrono do Spring MVC
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) String ability,
+            @RequestParam(required = false) String move,
+            @RequestParam(required = false) String generation,
+            @RequestParam(required = false) List<String> min,
+            @RequestParam(required = false) List<String> max,
+            @RequestParam(required = false) String fields
+    ) {
+        Set<String> selected = PokemonFields.parse(fields, PokemonFields.SUMMARY);
+        Stream<List<Pokemon>> pages = service.streamSearch(name, types, ability, move, generation, StatRange.parse(min, max));
+
+        StreamingResponseBody body = out -> {
+            for (Iterator<List<Pokemon>> page = pages.iterator(); page.hasNext(); ) {
+                for (Map<String, Object> view : service.toViews(page.next(), selected)) {
+                    out.write(objectMapper.writeValueAsBytes(view));
+                    out.write('\n');
+                }
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
 
     @GetMapping("")
-    public ResponseEntity<List<Pokemon>> getAll() {
-        List<Pokemon> pokemons = service.getAllPokemons();
-        return ResponseEntity.ok(pokemons);
+    public ResponseEntity<List<Map<String, Object>>> getAll(@RequestParam(required = false) String fields,
+                                                            @RequestParam(required = false) Long cursor,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(defaultValue = "false") boolean count) {
+        PokemonPage page = service.getAllPokemons(cursor, limit, count);
+        return page(page, fields);
+    }
+
+    // ===================== LOTE =====================
+    // um time ou uma linha evolutiva numa requisição só: ?ids=1,pikachu,25
+    @GetMapping(value = "", params = "ids")
+    public ResponseEntity<PokemonBatch<Map<String, Object>>> getBatch(@RequestParam List<String> ids,
+                                                                      @RequestParam(required = false) String fields) {
+        return batch(ids, fields);
+    }
+
+    // mesmo lote com as chaves no corpo (["bulbasaur", 2, "venusaur"]), para listas longas
+    @PostMapping("/batch")
+    public ResponseEntity<PokemonBatch<Map<String, Object>>> postBatch(@RequestBody List<String> ids,
+                                                                       @RequestParam(required = false) String fields) {
+        return batch(ids, fields);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Pokemon> getById(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> getById(@PathVariable Long id,
+                                                       @RequestParam(required = false) String fields) {
         Optional<Pokemon> result = Optional.ofNullable(service.findById(id));
-        return result.map(ResponseEntity::ok)
+        return result.map(pokemon -> service.toViews(List.of(pokemon), PokemonFields.parse(fields, PokemonFields.DETAIL)).get(0))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // cadeia inteira com os ramos, respondida do grafo em memória; os detalhes vêm do lote (?ids=)
+    @GetMapping("/{id}/evolutions")
+    public ResponseEntity<EvolutionStage> getEvolutions(@PathVariable Long id) {
+        return service.findEvolutions(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/sprite")
+    public ResponseEntity<byte[]> getSprite(@PathVariable Long id, WebRequest request) {
+        Optional<String> etag = service.findSpriteEtag(id).map(hash -> "\"" + hash + "\"");
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // a imagem de um ID nunca muda de conteúdo sem mudar o ETag
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+        if (request.checkNotModified(etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).cacheControl(cacheControl).build();
+        }
+
+        return service.findSprite(id)
+                .map(sprite -> ResponseEntity.ok()
+                        .eTag(etag.get())
+                        .cacheControl(cacheControl)
+                        .contentType(MediaType.parseMediaType(sprite.getContentType()))
+                        .body(sprite.getData()))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/name")
-    public ResponseEntity<List<Pokemon>> getByName(@RequestParam String name) {
-        List<Pokemon> result = service.findByName(name);
-        if (result.isEmpty()) {
+    public ResponseEntity<List<Map<String, Object>>> getByName(@RequestParam String name,
+                                                               @RequestParam(required = false) String fields,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(defaultValue = "false") boolean count) {
+        PokemonPage result = service.findByName(name, cursor, limit, count);
+        if (result.content().isEmpty() && cursor == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(result);
+        return page(result, fields);
     }
 
     @GetMapping("/type")
-    public ResponseEntity<List<Pokemon>> getByType(@RequestParam String type) {
-        List<Pokemon> result = service.findByType(type);
-        if (result.isEmpty()) {
+    public ResponseEntity<List<Map<String, Object>>> getByType(@RequestParam String type,
+                                                               @RequestParam(required = false) String fields,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(defaultValue = "false") boolean count) {
+        PokemonPage result = service.findByType(type, cursor, limit, count);
+        if (result.content().isEmpty() && cursor == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(result);
+        return page(result, fields);
     }
 
     @GetMapping("/ability")
-    public ResponseEntity<List<Pokemon>> getByAbility(@RequestParam String ability) {
-        List<Pokemon> result = service.findByAbility(ability);
-        if (result.isEmpty()) {
+    public ResponseEntity<List<Map<String, Object>>> getByAbility(@RequestParam String ability,
+                                                                  @RequestParam(required = false) String fields,
+                                                                  @RequestParam(required = false) Long cursor,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(defaultValue = "false") boolean count) {
+        PokemonPage result = service.findByAbility(ability, cursor, limit, count);
+        if (result.content().isEmpty() && cursor == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(result);
+        return page(result, fields);
     }
 
     @GetMapping("/move")
-    public ResponseEntity<List<Pokemon>> getByMove(@RequestParam String move) {
-        List<Pokemon> result = service.findByMove(move);
-        if (result.isEmpty()) {
+    public ResponseEntity<List<Map<String, Object>>> getByMove(@RequestParam String move,
+                                                               @RequestParam(required = false) String fields,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(defaultValue = "false") boolean count) {
+        PokemonPage result = service.findByMove(move, cursor, limit, count);
+        if (result.content().isEmpty() && cursor == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(result);
+        return page(result, fields);
     }
 
+    // caixa de busca: prefixo com até um erro de digitação, respondido da memória
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Suggestion>> suggest(@RequestParam String q,
+                                                    @RequestParam(defaultValue = "name") String kind,
+                                                    @RequestParam(required = false) Integer limit) {
+        Suggestion.Kind suggestionKind;
+        try {
+            suggestionKind = Suggestion.Kind.valueOf(kind.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tipo de sugestão desconhecido: " + kind);
+        }
+        return ResponseEntity.ok(service.suggest(q, suggestionKind, limit));
+    }
+
+    // ===================== EXPORTAÇÃO =====================
+    // catálogo inteiro a partir do arquivo gerado após a última importação
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CatalogExport.Format exportFormat;
+        try {
+            exportFormat = CatalogExport.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato desconhecido: " + format);
+        }
+        CatalogExport.Export export = catalogExport.file(exportFormat)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Exportação ainda não gerada"));
+        if (new ServletWebRequest(request, response).checkNotModified(export.etag())) return;
+
+        response.setContentType(exportFormat.contentType());
+        response.setContentLengthLong(export.size());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        // o Tomcat envia o arquivo com sendfile depois que o controller retorna;
+        // o arquivo de uma geração nunca é regravado (ver CatalogExport)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, export.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, export.size());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(export.path())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long position = 0, size = export.size(); position < size; ) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    // ===================== IMPORTAÇÃO EM SEGUNDO PLANO =====================
     @PostMapping("/import")
-    public ResponseEntity<String> importAll() {
-        service.fetchAndSaveAllPokemons();
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body("Todos os Pokémons foram importados com sucesso!!");
+    public ResponseEntity<ImportJob> importAll() {
+        return accepted(importJobs.submit(ImportJob.Type.POKEMON));
     }
 
     @PostMapping("/convert-sprites")
-    public ResponseEntity<String> convertSpritesToBase64() {
-        service.convertAllSpritesToBase64();
-        return ResponseEntity.ok("Sprites convertidas para base64 com sucesso.");
+    public ResponseEntity<ImportJob> convertSprites() {
+        return accepted(importJobs.submit(ImportJob.Type.SPRITES));
     }
 
+    @GetMapping("/import/jobs")
+    public ResponseEntity<List<ImportJob>> getImportJobs() {
+        return ResponseEntity.ok(importJobs.list());
+    }
+
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ImportJob> getImportJob(@PathVariable String jobId) {
+        return importJobs.find(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ImportJob> cancelImportJob(@PathVariable String jobId) {
+        return importJobs.cancel(jobId)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<ImportJob> accepted(ImportJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/pokemons/import/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    private ResponseEntity<PokemonBatch<Map<String, Object>>> batch(List<String> ids, String fields) {
+        return ResponseEntity.ok(service.findBatch(ids).map(pokemons -> summaries(pokemons, fields)));
+    }
+
+    // página atual no corpo; próxima página e total nos cabeçalhos
+    // (link relativo: a resposta pode ser servida do cache para outro host)
+    private ResponseEntity<List<Map<String, Object>>> page(PokemonPage page, String fields) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .scheme(null).host(null).port(null)
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .build()
+                    .toUriString();
+            response.header(NEXT_CURSOR, String.valueOf(page.nextCursor()))
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        if (page.total() != null) {
+            response.header(TOTAL_COUNT, String.valueOf(page.total()));
+        }
+        return response.body(summaries(page.content(), fields));
+    }
+
+    // coleções devolvem o resumo, a menos que ?fields= peça outros campos
+    private List<Map<String, Object>> summaries(List<Pokemon> pokemons, String fields) {
+        return service.toViews(pokemons, PokemonFields.parse(fields, PokemonFields.SUMMARY));
+    }
 }
@@ -0,0 +1,13 @@
+package br.com.marcoscunha.PokedexApi.dto;
+
+import java.util.List;
+
+/**
+ * Um estágio da cadeia de evolução ({@code GET /api/pokemons/{id}/evolutions}).
+ *
+ * @param id        ID do Pokémon (o padrão da espécie)
+ * @param name      nome da espécie
+ * @param evolvesTo próximos estágios, um por ramo
+ */
+public record EvolutionStage(Long id, String name, List<EvolutionStage> evolvesTo) {
+}
@@ -0,0 +1,18 @@
+package br.com.marcoscunha.PokedexApi.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Resultado de uma busca em lote ({@code GET /api/pokemons?ids=} e
+ * {@code POST /api/pokemons/batch}).
+ *
+ * @param pokemons Pokémons encontrados, na ordem pedida (cada um uma vez só)
+ * @param missing  IDs ou nomes pedidos que não existem, também na ordem pedida
+ */
+public record PokemonBatch<T>(List<T> pokemons, List<String> missing) {
+
+    public <R> PokemonBatch<R> map(Function<List<T>, List<R>> mapper) {
+        return new PokemonBatch<>(mapper.apply(pokemons), missing);
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.marcoscunha.PokedexApi.dto;
+
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Seleção de campos das respostas ({@code ?fields=id,name,type}).
+ * <p>
+ * Coleções usam o resumo ({@link #SUMMARY}) por padrão; {@code fields=all}
+ * devolve todos os campos. Os campos pesados ({@code spriteBase64} e
+ * {@code move}) só aparecem quando pedidos explicitamente ou com {@code all};
+ * a imagem em si é servida por {@code spriteUrl}.
+ */
+public final class PokemonFields {
+
+    public static final List<String> ALL = List.of(
+            "id", "name", "description", "height", "weight", "sprite", "spriteUrl", "spriteBase64",
+            "type", "ability", "move", "stats", "evolution", "generation"
+    );
+
+    public static final Set<String> SUMMARY = Set.of("id", "name", "type", "spriteUrl", "generation");
+
+    public static final Set<String> FULL = Set.copyOf(ALL);
+
+    // detalhe de um Pokémon: tudo, menos a imagem embutida
+    public static final Set<String> DETAIL = ALL.stream()
+            .filter(field -> !"spriteBase64".equals(field))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private PokemonFields() {
+    }
+
+    public static Set<String> parse(String fields, Set<String> defaults) {
+        if (fields == null || fields.isBlank()) return defaults;
+
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) continue;
+            if ("all".equals(name)) return FULL;
+            if (!FULL.contains(name)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Campo desconhecido: " + name);
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? defaults : selected;
+    }
+
+    public static Map<String, Object> view(Pokemon pokemon, Set<String> fields, String spriteBase64) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (String field : ALL) {
+            if (fields.contains(field)) view.put(field, value(pokemon, field, spriteBase64));
+        }
+        return view;
+    }
+
+    private static Object value(Pokemon pokemon, String field, String spriteBase64) {
+        return switch (field) {
+            case "id" -> pokemon.getId();
+            case "name" -> pokemon.getName();
+            case "description" -> pokemon.getDescription();
+            case "height" -> pokemon.getHeight();
+            case "weight" -> pokemon.getWeight();
+            case "sprite" -> pokemon.getSprite();
+            case "spriteUrl" -> "/api/pokemons/" + pokemon.getId() + "/sprite";
+            case "spriteBase64" -> spriteBase64;
+            case "type" -> pokemon.getType();
+            case "ability" -> pokemon.getAbility();
+            case "move" -> pokemon.getMove();
+            case "stats" -> pokemon.getStats();
+            case "evolution" -> pokemon.getEvolution();
+            case "generation" -> pokemon.getGeneration();
+            default -> throw new IllegalArgumentException(field);
+        };
+    }
+}
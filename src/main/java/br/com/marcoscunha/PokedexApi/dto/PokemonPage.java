@@ -0,0 +1,26 @@
+package br.com.marcoscunha.PokedexApi.dto;
+
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+
+import java.util.List;
+
+/**
+ * Uma página de resultados, paginada por ID (keyset).
+ *
+ * @param content    Pokémons da página, em ordem de ID (ou do stat pedido, na busca por stats)
+ * @param nextCursor ID a passar em {@code cursor} para a próxima página, ou {@code null} na última
+ * @param total      total de resultados, só calculado quando pedido ({@code count=true})
+ */
+public record PokemonPage(List<Pokemon> content, Long nextCursor, Long total) {
+
+    /**
+     * Monta a página a partir de uma consulta feita com {@code limit + 1} linhas:
+     * a linha a mais só indica que existe uma próxima página.
+     */
+    public static PokemonPage of(List<Pokemon> rows, int limit, Long total) {
+        if (rows.size() <= limit) return new PokemonPage(rows, null, total);
+
+        List<Pokemon> content = rows.subList(0, limit);
+        return new PokemonPage(content, content.get(limit - 1).getId(), total);
+    }
+}
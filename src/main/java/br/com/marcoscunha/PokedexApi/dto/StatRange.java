@@ -0,0 +1,54 @@
+package br.com.marcoscunha.PokedexApi.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Faixa de valores de um stat na busca ({@code min=speed:100},
+ * {@code max=total:500}). {@code total} é a soma dos seis stats base.
+ */
+public record StatRange(String stat, int min, int max) {
+
+    public static final List<String> STATS = List.of(
+            "hp", "attack", "defense", "special-attack", "special-defense", "speed"
+    );
+
+    public static final String TOTAL = "total";
+
+    public static boolean isKnown(String stat) {
+        return TOTAL.equals(stat) || STATS.contains(stat);
+    }
+
+    /**
+     * Junta os limites pedidos por stat: {@code min=speed:100&max=speed:120}
+     * vira uma única faixa.
+     */
+    public static List<StatRange> parse(List<String> minimums, List<String> maximums) {
+        Map<String, int[]> bounds = new LinkedHashMap<>();
+        if (minimums != null) minimums.forEach(value -> bound(bounds, value, 0));
+        if (maximums != null) maximums.forEach(value -> bound(bounds, value, 1));
+
+        List<StatRange> ranges = new ArrayList<>(bounds.size());
+        bounds.forEach((stat, range) -> ranges.add(new StatRange(stat, range[0], range[1])));
+        return ranges;
+    }
+
+    private static void bound(Map<String, int[]> bounds, String value, int side) {
+        int separator = value.lastIndexOf(':');
+        String stat = separator < 0 ? "" : value.substring(0, separator).trim().toLowerCase();
+        if (!isKnown(stat)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Stat desconhecido: " + value);
+        }
+        try {
+            int limit = Integer.parseInt(value.substring(separator + 1).trim());
+            bounds.computeIfAbsent(stat, key -> new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE})[side] = limit;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Valor inválido: " + value);
+        }
+    }
+}
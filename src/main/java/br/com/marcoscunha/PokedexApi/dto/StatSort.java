@@ -0,0 +1,29 @@
+package br.com.marcoscunha.PokedexApi.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Ordenação da busca por stats ({@code sort=attack,desc}); sem direção, crescente.
+ */
+public record StatSort(String stat, boolean descending) {
+
+    /**
+     * @return {@code null} se nenhuma ordenação foi pedida
+     */
+    public static StatSort parse(String sort) {
+        if (sort == null || sort.isBlank()) return null;
+
+        String[] parts = sort.split(",");
+        String stat = parts[0].trim().toLowerCase();
+        if (!StatRange.isKnown(stat)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Stat desconhecido: " + stat);
+        }
+
+        String direction = parts.length > 1 ? parts[1].trim().toLowerCase() : "asc";
+        if (!direction.equals("asc") && !direction.equals("desc")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Direção inválida: " + direction);
+        }
+        return new StatSort(stat, direction.equals("desc"));
+    }
+}
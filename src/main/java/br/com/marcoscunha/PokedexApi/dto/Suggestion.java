@@ -0,0 +1,19 @@
+package br.com.marcoscunha.PokedexApi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Sugestão da busca ({@code /api/pokemons/suggest}).
+ *
+ * @param value    nome do Pokémon, golpe ou habilidade
+ * @param id       ID do Pokémon (só em {@code kind=name})
+ * @param pokemons quantos Pokémons têm o golpe ou a habilidade
+ * @param distance 0 quando {@code q} é prefixo de {@code value}; 1 com um erro de digitação
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Suggestion(String value, Long id, Integer pokemons, int distance) {
+
+    public enum Kind {
+        NAME, MOVE, ABILITY
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.marcoscunha.PokedexApi.migration;
+
+import br.com.marcoscunha.PokedexApi.service.StorageSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+
+/**
+ * Bancos criados pelo ddl-auto=update ainda têm a coluna
+ * {@code pokemons.sprite_base64}, que o V1 (IF NOT EXISTS) manteve: as imagens
+ * que ainda não estão em {@code pokemon_sprites} são decodificadas e copiadas
+ * para lá, e a coluna é removida. Em esquemas criados pelo Flyway não há nada
+ * a fazer.
+ * <p>
+ * Em Java porque o MySQL não tem {@code DROP COLUMN IF EXISTS} e o ETag das
+ * sprites é o SHA-256 dos bytes, calculado como na importação.
+ */
+@Slf4j
+@Component
+public class V5__MoveSpriteBase64 extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final String SELECT_PAGE = """
+            SELECT p.id, p.sprite, p.sprite_base64 FROM pokemons p
+            WHERE p.id > ? AND p.sprite_base64 IS NOT NULL AND p.sprite_base64 <> ''
+              AND NOT EXISTS (SELECT 1 FROM pokemon_sprites s WHERE s.pokemon_id = p.id AND s.data IS NOT NULL)
+            ORDER BY p.id LIMIT ?""";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!hasSpriteBase64(connection)) return;
+
+        int copied = 0;
+        int invalid = 0;
+        try (PreparedStatement select = connection.prepareStatement(SELECT_PAGE);
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM pokemon_sprites WHERE pokemon_id = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO pokemon_sprites (pokemon_id, content_type, etag, data) VALUES (?, ?, ?, ?)")) {
+            // páginas pelo id: o MySQL não deixa rodar outro comando na conexão enquanto lê um ResultSet em stream
+            long lastId = 0;
+            for (boolean more = true; more; ) {
+                more = false;
+                select.setLong(1, lastId);
+                select.setInt(2, PAGE_SIZE);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        more = true;
+                        lastId = rows.getLong(1);
+                        byte[] data;
+                        try {
+                            data = Base64.getDecoder().decode(rows.getString(3));
+                        } catch (IllegalArgumentException e) {
+                            invalid++; // a conversão de sprites baixa de novo
+                            continue;
+                        }
+                        if (data.length == 0) continue;
+
+                        String contentType = MediaTypeFactory.getMediaType(rows.getString(2))
+                                .orElse(MediaType.IMAGE_PNG)
+                                .toString();
+                        delete.setLong(1, lastId);
+                        delete.addBatch();
+                        insert.setLong(1, lastId);
+                        insert.setString(2, contentType);
+                        insert.setString(3, StorageSupport.sha256(data));
+                        insert.setBytes(4, data);
+                        insert.addBatch();
+                        copied++;
+                    }
+                }
+                // sprites sem dados (linha com data nula) são substituídas
+                delete.executeBatch();
+                insert.executeBatch();
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE pokemons DROP COLUMN sprite_base64");
+        }
+        log.info("sprite_base64: {} sprites copiadas para pokemon_sprites, {} inválidas descartadas", copied, invalid);
+    }
+
+    private static boolean hasSpriteBase64(Connection connection) throws SQLException {
+        try (ResultSet columns = connection.getMetaData()
+                .getColumns(connection.getCatalog(), null, "pokemons", "sprite_base64")) {
+            return columns.next();
+        }
+    }
+}
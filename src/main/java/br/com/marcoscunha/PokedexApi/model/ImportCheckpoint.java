@@ -0,0 +1,35 @@
+package br.com.marcoscunha.PokedexApi.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Setter
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "import_checkpoints")
+public class ImportCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String job;
+
+    // posição na listagem até onde todas as entradas já foram importadas
+    @Column(name = "cursor_position", nullable = false)
+    private int cursor;
+
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
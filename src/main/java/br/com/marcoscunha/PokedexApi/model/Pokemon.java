@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 import java.util.Map;
@@ -35,33 +36,42 @@ public class Pokemon {
     @Column(nullable = false, length = 255)
     private String sprite;
 
-    @Lob
-    @Column(name = "sprite_base64", columnDefinition = "TEXT")
-    private String spriteBase64;
-
+    // lote: cada coleção acessada é carregada para os Pokémons já lidos
+    // (uma página inteira, até 500) num único SELECT por IDs, e não uma
+    // consulta por Pokémon; ao contrário do SUBSELECT, respeita o limit da página
+    // tipos, habilidades e golpes gravam só o código do dicionário (types,
+    // abilities, moves); o termo lido é a instância compartilhada do TermDictionary
     @ElementCollection
+    @BatchSize(size = 500)
     @CollectionTable(name = "pokemon_types", joinColumns = @JoinColumn(name = "pokemon_id"))
-    @Column(name = "type", length = 50)
+    @Column(name = "type_id")
+    @Convert(converter = TermConverter.Types.class)
     private List<String> type;
 
     @ElementCollection
+    @BatchSize(size = 500)
     @CollectionTable(name = "pokemon_abilities", joinColumns = @JoinColumn(name = "pokemon_id"))
-    @Column(name = "ability", length = 100)
+    @Column(name = "ability_id")
+    @Convert(converter = TermConverter.Abilities.class)
     private List<String> ability;
 
     @ElementCollection
+    @BatchSize(size = 500)
     @CollectionTable(name = "pokemon_moves", joinColumns = @JoinColumn(name = "pokemon_id"))
-    @Column(name = "move", length = 100)
+    @Column(name = "move_id")
+    @Convert(converter = TermConverter.Moves.class)
     private List<String> move;
 
     // Correção para Map<String, Integer> - define coluna da chave e coluna do valor
     @ElementCollection
+    @BatchSize(size = 500)
     @CollectionTable(name = "pokemon_stats", joinColumns = @JoinColumn(name = "pokemon_id"))
     @MapKeyColumn(name = "stat_name", length = 100)
     @Column(name = "stat_value")
     private Map<String, Integer> stats;
 
     @ElementCollection
+    @BatchSize(size = 500)
     @CollectionTable(name = "pokemon_evolutions", joinColumns = @JoinColumn(name = "pokemon_id"))
     @Column(name = "evolution", length = 100)
     private List<String> evolution;
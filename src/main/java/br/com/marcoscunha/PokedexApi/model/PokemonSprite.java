@@ -0,0 +1,32 @@
+package br.com.marcoscunha.PokedexApi.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// sprite fica numa tabela própria para que a listagem de Pokémons nunca leia o LOB
+@Setter
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "pokemon_sprites")
+public class PokemonSprite {
+
+    @Id
+    @Column(name = "pokemon_id")
+    private Long id;
+
+    @Lob
+    @Column(name = "data", columnDefinition = "MEDIUMBLOB")
+    private byte[] data;
+
+    @Column(name = "content_type", length = 50)
+    private String contentType;
+
+    // SHA-256 da imagem, usado como ETag forte
+    @Column(name = "etag", length = 64)
+    private String etag;
+}
@@ -0,0 +1,53 @@
+package br.com.marcoscunha.PokedexApi.model;
+
+import br.com.marcoscunha.PokedexApi.repository.TermDictionary;
+import jakarta.persistence.AttributeConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * Converte os termos das coleções do {@link Pokemon} para o código do
+ * {@link TermDictionary} e de volta. Nas consultas, um termo fora do
+ * dicionário vira {@code null} e não encontra nada.
+ */
+public abstract class TermConverter implements AttributeConverter<String, Short> {
+
+    private final TermDictionary.Kind kind;
+
+    // criado junto com o EntityManagerFactory, antes do dicionário (que depende das transações)
+    @Lazy
+    @Autowired
+    private TermDictionary dictionary;
+
+    protected TermConverter(TermDictionary.Kind kind) {
+        this.kind = kind;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String name) {
+        return name == null ? null : dictionary.code(kind, name);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        return code == null ? null : dictionary.name(kind, code);
+    }
+
+    public static class Types extends TermConverter {
+        public Types() {
+            super(TermDictionary.Kind.TYPE);
+        }
+    }
+
+    public static class Abilities extends TermConverter {
+        public Abilities() {
+            super(TermDictionary.Kind.ABILITY);
+        }
+    }
+
+    public static class Moves extends TermConverter {
+        public Moves() {
+            super(TermDictionary.Kind.MOVE);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.marcoscunha.PokedexApi.repository;
+
+import br.com.marcoscunha.PokedexApi.model.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
@@ -0,0 +1,8 @@
+package br.com.marcoscunha.PokedexApi.repository;
+
+// projeção com apenas a identidade do Pokémon, usada para planejar a importação
+public interface PokemonKey {
+    Long getId();
+
+    String getName();
+}
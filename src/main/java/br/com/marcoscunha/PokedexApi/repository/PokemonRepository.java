@@ -1,27 +1,70 @@
 package br.com.marcoscunha.PokedexApi.repository;
 
 import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
+public interface PokemonRepository extends JpaRepository<Pokemon, Long>, JpaSpecificationExecutor<Pokemon> {
     List<Pokemon> findAllByOrderByIdAsc();
 
-    List<Pokemon> findByNameContainingIgnoreCaseOrderByIdAsc(String name);
+    // ===================== PÁGINAS (keyset por ID) =====================
+    List<Pokemon> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 
-    List<Pokemon> findByTypeContainingIgnoreCaseOrderByIdAsc(String type);
+    List<Pokemon> findByIdGreaterThanAndNameContainingIgnoreCaseOrderByIdAsc(Long afterId, String name, Limit limit);
 
-    List<Pokemon> findByAbilityContainingIgnoreCaseOrderByIdAsc(String ability);
+    // termos já resolvidos no TermDictionary: a consulta compara só códigos
+    List<Pokemon> findDistinctByIdGreaterThanAndTypeInOrderByIdAsc(Long afterId, Collection<String> types, Limit limit);
 
-    List<Pokemon> findByMoveContainingIgnoreCaseOrderByIdAsc(String move);
+    List<Pokemon> findDistinctByIdGreaterThanAndAbilityInOrderByIdAsc(Long afterId, Collection<String> abilities, Limit limit);
+
+    List<Pokemon> findDistinctByIdGreaterThanAndMoveInOrderByIdAsc(Long afterId, Collection<String> moves, Limit limit);
+
+    long countByNameContainingIgnoreCase(String name);
+
+    long countDistinctByTypeIn(Collection<String> types);
+
+    long countDistinctByAbilityIn(Collection<String> abilities);
+
+    long countDistinctByMoveIn(Collection<String> moves);
 
     Page<Pokemon> findAll(Pageable pageable);
 
     Optional<Pokemon> findByName(String name);
+
+    List<PokemonKey> findAllProjectedBy();
+
+    long countByIdBetween(Long first, Long last);
+
+    @Query("select coalesce(max(p.id), 0) from Pokemon p")
+    long findMaxId();
+
+    // soma dos stats pedidos de um Pokémon (ausente conta como 0): o cursor da busca por stats no banco
+    @Query("select coalesce(sum(value(s)), 0) from Pokemon p join p.stats s where p.id = :id and key(s) in :stats")
+    long sumStats(Long id, Collection<String> stats);
+
+    @Query("select p.id as id, p.name as name, p.sprite as sprite from Pokemon p " +
+            "where p.id > :afterId and not exists " +
+            "(select 1 from PokemonSprite s where s.id = p.id and s.data is not null) " +
+            "order by p.id")
+    List<SpriteSource> findWithoutSprite(Long afterId, Limit limit);
+
+    @Query("select p.sprite as sprite, count(p) as uses from Pokemon p " +
+            "where p.sprite is not null and not exists " +
+            "(select 1 from PokemonSprite s where s.id = p.id and s.data is not null) " +
+            "group by p.sprite having count(p) > 1")
+    List<SharedSprite> findSharedSprites();
+
+    @Query("select count(p) from Pokemon p where not exists " +
+            "(select 1 from PokemonSprite s where s.id = p.id and s.data is not null)")
+    long countWithoutSprite();
 }
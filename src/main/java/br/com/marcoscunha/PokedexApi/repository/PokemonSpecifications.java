@@ -0,0 +1,135 @@
+package br.com.marcoscunha.PokedexApi.repository;
+
+import br.com.marcoscunha.PokedexApi.dto.StatRange;
+import br.com.marcoscunha.PokedexApi.dto.StatSort;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.MapJoin;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filtros da busca avançada como {@link Specification}: qualquer combinação
+ * vira um único SELECT, com um EXISTS por tipo, habilidade ou golpe
+ * (atendidos pelos índices de {@code V3__term_dictionaries.sql}).
+ * <p>
+ * Tipos, habilidades e golpes são comparados pelo código do dicionário
+ * ({@link TermDictionary}); os termos são gravados em minúsculas.
+ */
+public final class PokemonSpecifications {
+
+    private PokemonSpecifications() {
+    }
+
+    public static Specification<Pokemon> matching(String name, List<String> types, String ability,
+                                                  String move, String generation, List<StatRange> stats) {
+        List<Specification<Pokemon>> filters = new ArrayList<>();
+
+        if (name != null && !name.isEmpty()) filters.add(nameContaining(name));
+        if (types != null) types.stream().filter(type -> !type.isEmpty()).forEach(type -> filters.add(hasElement("type", type)));
+        if (ability != null && !ability.isEmpty()) filters.add(hasElement("ability", ability));
+        if (move != null && !move.isEmpty()) filters.add(hasElement("move", move));
+        if (generation != null && !generation.isEmpty()) filters.add(generationContaining(generation));
+        if (stats != null) stats.forEach(range -> filters.add(statBetween(range)));
+
+        return Specification.allOf(filters);
+    }
+
+    public static Specification<Pokemon> idGreaterThan(long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
+    /**
+     * Ordem da busca por stats quando a cópia em memória ainda não existe, a
+     * mesma do índice de stats: pelo valor do stat (ausente conta como 0) e,
+     * nos empates, por ID crescente nas duas direções. Com cursor, só o que vem
+     * depois de ({@code afterValue}, {@code afterId}) nessa ordem.
+     */
+    public static Specification<Pokemon> orderedByStat(StatSort sort, Long afterId, Integer afterValue) {
+        return (root, query, cb) -> {
+            Expression<Integer> value = statValue(root, query, cb, sort.stat());
+            query.orderBy(sort.descending() ? cb.desc(value) : cb.asc(value), cb.asc(root.get("id")));
+            if (afterId == null) return null;
+
+            Predicate beyond = sort.descending()
+                    ? cb.lessThan(statValue(root, query, cb, sort.stat()), afterValue)
+                    : cb.greaterThan(statValue(root, query, cb, sort.stat()), afterValue);
+            Predicate tie = cb.and(cb.equal(statValue(root, query, cb, sort.stat()), afterValue),
+                    cb.greaterThan(root.get("id"), afterId));
+            return cb.or(beyond, tie);
+        };
+    }
+
+    // busca em lote: id in (...) or name in (...), atendido pela chave primária e por idx_pokemons_name
+    public static Specification<Pokemon> idOrNameIn(Collection<Long> ids, Collection<String> names) {
+        return (root, query, cb) -> {
+            List<Predicate> keys = new ArrayList<>();
+            if (!ids.isEmpty()) keys.add(root.get("id").in(ids));
+            if (!names.isEmpty()) keys.add(root.get("name").in(names));
+            return cb.or(keys.toArray(Predicate[]::new));
+        };
+    }
+
+    // ===================== FILTROS =====================
+    private static Specification<Pokemon> nameContaining(String name) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), containing(name), '\\');
+    }
+
+    private static Specification<Pokemon> generationContaining(String generation) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("generation")), containing(generation), '\\');
+    }
+
+    // exists (select 1 from pokemon_<collection> c where c.pokemon_id = p.id and c.<collection>_id = :código)
+    private static Specification<Pokemon> hasElement(String collection, String value) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<Pokemon> correlated = subquery.correlate(root);
+            Join<Pokemon, String> element = correlated.join(collection);
+            subquery.select(cb.literal(1)).where(cb.equal(element, value.toLowerCase()));
+            return cb.exists(subquery);
+        };
+    }
+
+    // exists (select 1 from pokemon_stats s where s.pokemon_id = p.id and s.stat_name = :stat and s.stat_value between ...)
+    // total: (select sum(s.stat_value) from pokemon_stats s where s.pokemon_id = p.id) between ...
+    private static Specification<Pokemon> statBetween(StatRange range) {
+        return (root, query, cb) -> {
+            if (StatRange.TOTAL.equals(range.stat())) {
+                return cb.between(statValue(root, query, cb, StatRange.TOTAL), range.min(), range.max());
+            }
+
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            MapJoin<Pokemon, String, Integer> stats = subquery.correlate(root).joinMap("stats");
+            Predicate value = cb.between(stats.value(), range.min(), range.max());
+            subquery.select(cb.literal(1)).where(cb.equal(stats.key(), range.stat()), value);
+            return cb.exists(subquery);
+        };
+    }
+
+    // (select sum(s.stat_value) from pokemon_stats s where s.pokemon_id = p.id and s.stat_name in (...)), ou 0
+    private static Expression<Integer> statValue(Root<Pokemon> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                                 String stat) {
+        Subquery<Integer> value = query.subquery(Integer.class);
+        MapJoin<Pokemon, String, Integer> stats = value.correlate(root).joinMap("stats");
+        List<String> columns = StatRange.TOTAL.equals(stat) ? StatRange.STATS : List.of(stat);
+        value.select(cb.sum(stats.value())).where(stats.key().in(columns));
+        return cb.coalesce(value, 0);
+    }
+
+    private static String containing(String term) {
+        String escaped = term.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.marcoscunha.PokedexApi.repository;
+
+import br.com.marcoscunha.PokedexApi.model.PokemonSprite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PokemonSpriteRepository extends JpaRepository<PokemonSprite, Long> {
+
+    @Query("select s.etag from PokemonSprite s where s.id = :id and s.data is not null")
+    Optional<String> findEtagById(Long id);
+}
@@ -0,0 +1,8 @@
+package br.com.marcoscunha.PokedexApi.repository;
+
+// URL de sprite repetida entre Pokémons ainda sem imagem, com o número de usos
+public interface SharedSprite {
+    String getSprite();
+
+    long getUses();
+}
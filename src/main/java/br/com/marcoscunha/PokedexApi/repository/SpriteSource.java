@@ -0,0 +1,10 @@
+package br.com.marcoscunha.PokedexApi.repository;
+
+// projeção com o que a importação de sprites precisa de cada Pokémon
+public interface SpriteSource {
+    Long getId();
+
+    String getName();
+
+    String getSprite();
+}
@@ -0,0 +1,135 @@
+package br.com.marcoscunha.PokedexApi.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionários de tipos, habilidades e golpes (tabelas {@code types},
+ * {@code abilities} e {@code moves}). As coleções do {@code Pokemon} gravam
+ * só o código de cada termo; na leitura todos os Pokémons recebem a mesma
+ * instância de {@link String} para o mesmo termo.
+ * <p>
+ * Os dicionários são pequenos (centenas de termos) e ficam inteiros em
+ * memória, carregados no primeiro uso.
+ */
+@Slf4j
+@Component
+public class TermDictionary {
+
+    public enum Kind {
+        TYPE("types"),
+        ABILITY("abilities"),
+        MOVE("moves");
+
+        private final String table;
+
+        Kind(String table) {
+            this.table = table;
+        }
+    }
+
+    // cópia imutável, trocada inteira quando um termo novo é gravado
+    private record Terms(String[] names, Map<String, Short> codes) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+
+    private final Map<Kind, Terms> terms = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TermDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return o código do termo, ou {@code null} se ele não está no dicionário
+     */
+    public Short code(Kind kind, String name) {
+        return terms(kind).codes().get(name);
+    }
+
+    public String name(Kind kind, short code) {
+        String[] names = terms(kind).names();
+        if (code >= names.length || names[code] == null) {
+            // gravado por outra instância depois da última carga
+            names = reload(kind).names();
+        }
+        if (code >= names.length || names[code] == null) {
+            throw new IllegalStateException("Código desconhecido em " + kind.table + ": " + code);
+        }
+        return names[code];
+    }
+
+    /**
+     * Termos que contêm {@code term}, ignorando maiúsculas (a busca por trecho
+     * de {@code /type}, {@code /ability} e {@code /move}).
+     */
+    public List<String> containing(Kind kind, String term) {
+        String lower = term.toLowerCase(Locale.ROOT);
+        return terms(kind).codes().keySet().stream()
+                .filter(name -> name.toLowerCase(Locale.ROOT).contains(lower))
+                .toList();
+    }
+
+    /**
+     * Grava os termos que ainda não existem, numa transação própria: o código
+     * precisa existir antes do INSERT do Pokémon, mesmo que o lote seja desfeito.
+     */
+    public synchronized void register(Kind kind, Collection<String> names) {
+        Map<String, Short> codes = terms(kind).codes();
+        Set<String> missing = new LinkedHashSet<>();
+        names.stream().filter(name -> name != null && !codes.containsKey(name)).forEach(missing::add);
+        if (missing.isEmpty()) return;
+
+        newTransaction.executeWithoutResult(status -> missing.forEach(name -> {
+            try {
+                jdbcTemplate.update("INSERT INTO " + kind.table + " (name) VALUES (?)", name);
+            } catch (DuplicateKeyException e) {
+                // já gravado por outra instância
+            }
+        }));
+        reload(kind);
+    }
+
+    // ===================== CARGA =====================
+    private Terms terms(Kind kind) {
+        Terms loaded = terms.get(kind);
+        return loaded != null ? loaded : reload(kind);
+    }
+
+    private Terms reload(Kind kind) {
+        synchronized (terms) {
+            Map<String, Short> codes = new HashMap<>();
+            jdbcTemplate.query("SELECT id, name FROM " + kind.table,
+                    (RowCallbackHandler) row -> codes.put(row.getString("name"), row.getShort("id")));
+
+            int max = codes.values().stream().mapToInt(Short::intValue).max().orElse(0);
+            String[] names = new String[max + 1];
+            codes.forEach((name, code) -> names[code] = name);
+
+            Terms loaded = new Terms(names, Map.copyOf(codes));
+            terms.put(kind, loaded);
+            log.debug("dictionary.loaded table={} terms={}", kind.table, codes.size());
+            return loaded;
+        }
+    }
+}
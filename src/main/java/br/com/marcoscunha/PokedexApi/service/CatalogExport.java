@@ -0,0 +1,243 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.dto.PokemonFields;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Exportação do catálogo inteiro em arquivos, gerados a partir do
+ * {@link CatalogSnapshot} depois de cada importação (e com {@code --export}).
+ * Ler o catálogo completo vira o envio de um arquivo pronto, sem consultas.
+ * <p>
+ * Cada arquivo leva o hash do conteúdo no nome ({@code catalog-<hash>.ndjson})
+ * e nunca é regravado, então pode ser enviado direto do disco depois que a
+ * requisição sai do controller; a geração anterior fica até a seguinte.
+ * <p>
+ * NDJSON: um Pokémon por linha, com os campos do detalhe
+ * ({@code GET /api/pokemons/{id}}).
+ * <p>
+ * Binário: formato colunar, big-endian ({@link DataOutputStream}):
+ * <pre>
+ * "PKDX", versão (short), quantidade n (int)
+ * dicionário: tamanho (int) + strings (UTF)
+ * id (n long), name, description (n UTF), height, weight (n int), sprite (n UTF),
+ * generation (n códigos)
+ * type, ability, move, evolution: n quantidades (short) + os códigos de cada Pokémon
+ * stats: n quantidades (short) + pares (código do nome, valor int)
+ * </pre>
+ * Tipos, habilidades, golpes, evoluções, gerações e nomes de stats são
+ * códigos (unsigned short) no dicionário; {@code 0xFFFF} é ausente.
+ */
+@Slf4j
+@Component
+public class CatalogExport {
+
+    public enum Format {
+        NDJSON(".ndjson", "application/x-ndjson"),
+        BINARY(".bin", "application/octet-stream");
+
+        private final String suffix;
+        private final String contentType;
+
+        Format(String suffix, String contentType) {
+            this.suffix = suffix;
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+    }
+
+    /**
+     * Arquivo exportado; o ETag é o hash do conteúdo.
+     */
+    public record Export(Path path, long size, String etag) {
+    }
+
+    private static final String PREFIX = "catalog";
+    private static final int MAGIC = 0x504B4458; // "PKDX"
+    private static final short FORMAT_VERSION = 1;
+    private static final int ABSENT = 0xFFFF;
+
+    @Value("${pokeapi.export.dir:data/export}")
+    private Path directory;
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // geração atual de cada formato; depois de um restart, a mais recente do diretório
+    private final Map<Format, Path> current = new ConcurrentHashMap<>();
+
+    /**
+     * @return o arquivo do formato, se já foi gerado
+     */
+    public Optional<Export> file(Format format) {
+        Path path = current.computeIfAbsent(format, this::latest);
+        if (path == null) return Optional.empty();
+        try {
+            String name = path.getFileName().toString();
+            String hash = name.substring(PREFIX.length() + 1, name.length() - format.suffix.length());
+            return Optional.of(new Export(path, Files.size(path), "\"" + hash + "\""));
+        } catch (IOException e) {
+            current.remove(format, path);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Grava os dois arquivos com o snapshot atual e apaga as gerações
+     * anteriores à última: quem ainda está baixando a última continua lendo.
+     */
+    public synchronized void regenerate() {
+        CatalogSnapshot snapshot = catalogIndex.current();
+        if (snapshot == null || snapshot.size() == 0) return;
+
+        long start = System.nanoTime();
+        List<Pokemon> pokemons = snapshot.pokemons();
+        try {
+            Path ndjson = publish(Format.NDJSON, out -> writeNdjson(pokemons, out));
+            Path binary = publish(Format.BINARY, out -> writeBinary(pokemons, out));
+            log.info("export.generated pokemons={} ndjsonBytes={} binaryBytes={} ms={}",
+                    pokemons.size(), Files.size(ndjson), Files.size(binary),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gerar a exportação em " + directory, e);
+        }
+    }
+
+    private Path publish(Format format, StorageSupport.Writer writer) throws IOException {
+        Path previous = current.computeIfAbsent(format, this::latest);
+        Path path = StorageSupport.writeAddressed(directory, PREFIX, format.suffix, writer);
+        current.put(format, path);
+        for (Path old : generations(format)) {
+            if (!old.equals(path) && !old.equals(previous)) Files.deleteIfExists(old);
+        }
+        return path;
+    }
+
+    private Path latest(Format format) {
+        try {
+            return generations(format).stream()
+                    .max(Comparator.comparing(path -> path.toFile().lastModified()))
+                    .orElse(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Path> generations(Format format) throws IOException {
+        if (!Files.isDirectory(directory)) return List.of();
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "-*" + format.suffix)) {
+            stream.forEach(paths::add);
+        }
+        return paths;
+    }
+
+    // ===================== NDJSON =====================
+    private void writeNdjson(List<Pokemon> pokemons, OutputStream out) throws IOException {
+        for (Pokemon pokemon : pokemons) {
+            out.write(objectMapper.writeValueAsBytes(PokemonFields.view(pokemon, PokemonFields.DETAIL, null)));
+            out.write('\n');
+        }
+    }
+
+    // ===================== BINÁRIO =====================
+    private void writeBinary(List<Pokemon> pokemons, OutputStream target) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Pokemon pokemon : pokemons) {
+            if (pokemon.getGeneration() != null) code(dictionary, pokemon.getGeneration());
+            codeAll(dictionary, pokemon.getType());
+            codeAll(dictionary, pokemon.getAbility());
+            codeAll(dictionary, pokemon.getMove());
+            codeAll(dictionary, pokemon.getEvolution());
+            if (pokemon.getStats() != null) codeAll(dictionary, pokemon.getStats().keySet());
+        }
+        if (dictionary.size() >= ABSENT) {
+            throw new IllegalStateException("Dicionário da exportação excede " + ABSENT + " valores");
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(target, 64 * 1024));
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(pokemons.size());
+
+        out.writeInt(dictionary.size());
+        for (String value : dictionary.keySet()) out.writeUTF(value);
+
+        for (Pokemon pokemon : pokemons) out.writeLong(pokemon.getId());
+        for (Pokemon pokemon : pokemons) out.writeUTF(pokemon.getName());
+        for (Pokemon pokemon : pokemons) out.writeUTF(pokemon.getDescription());
+        for (Pokemon pokemon : pokemons) out.writeInt(pokemon.getHeight());
+        for (Pokemon pokemon : pokemons) out.writeInt(pokemon.getWeight());
+        for (Pokemon pokemon : pokemons) out.writeUTF(pokemon.getSprite());
+        for (Pokemon pokemon : pokemons) {
+            out.writeShort(pokemon.getGeneration() == null ? ABSENT : dictionary.get(pokemon.getGeneration()));
+        }
+
+        writeList(out, pokemons, Pokemon::getType, dictionary);
+        writeList(out, pokemons, Pokemon::getAbility, dictionary);
+        writeList(out, pokemons, Pokemon::getMove, dictionary);
+        writeList(out, pokemons, Pokemon::getEvolution, dictionary);
+
+        for (Pokemon pokemon : pokemons) out.writeShort(pokemon.getStats() == null ? 0 : pokemon.getStats().size());
+        for (Pokemon pokemon : pokemons) {
+            if (pokemon.getStats() == null) continue;
+            for (Map.Entry<String, Integer> stat : pokemon.getStats().entrySet()) {
+                out.writeShort(dictionary.get(stat.getKey()));
+                out.writeInt(stat.getValue() == null ? 0 : stat.getValue());
+            }
+        }
+        out.flush();
+    }
+
+    // coluna de lista: primeiro as quantidades, depois todos os códigos em sequência
+    private static void writeList(DataOutputStream out, List<Pokemon> pokemons,
+                                  Function<Pokemon, List<String>> column, Map<String, Integer> dictionary)
+            throws IOException {
+        for (Pokemon pokemon : pokemons) {
+            List<String> values = column.apply(pokemon);
+            out.writeShort(values == null ? 0 : values.size());
+        }
+        for (Pokemon pokemon : pokemons) {
+            List<String> values = column.apply(pokemon);
+            if (values == null) continue;
+            for (String value : values) out.writeShort(dictionary.get(value));
+        }
+    }
+
+    // ===================== AUXILIARES =====================
+    private static void codeAll(Map<String, Integer> dictionary, Collection<String> values) {
+        if (values != null) values.forEach(value -> code(dictionary, value));
+    }
+
+    private static void code(Map<String, Integer> dictionary, String value) {
+        dictionary.putIfAbsent(value, dictionary.size());
+    }
+}
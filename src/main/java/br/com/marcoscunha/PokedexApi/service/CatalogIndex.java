@@ -0,0 +1,60 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Mantém o {@link CatalogSnapshot} atual. A cópia é reconstruída depois de
+ * cada importação e trocada de uma vez; as buscas em andamento continuam
+ * usando a anterior.
+ */
+@Component
+public class CatalogIndex {
+
+    @Autowired
+    private PokemonRepository repository;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile CatalogSnapshot snapshot;
+
+    @Autowired
+    public CatalogIndex(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @return a cópia atual ou {@code null} se ainda não foi construída
+     */
+    public CatalogSnapshot current() {
+        return snapshot;
+    }
+
+    public void refresh() {
+        List<Pokemon> pokemons = readOnlyTransaction.execute(status -> {
+            List<Pokemon> all = repository.findAllByOrderByIdAsc();
+            all.forEach(pokemon -> {
+                Hibernate.initialize(pokemon.getType());
+                Hibernate.initialize(pokemon.getAbility());
+                Hibernate.initialize(pokemon.getMove());
+                Hibernate.initialize(pokemon.getStats());
+                Hibernate.initialize(pokemon.getEvolution());
+            });
+            return all;
+        });
+
+        snapshot = CatalogSnapshot.of(pokemons);
+        catalogVersion.bump();
+    }
+}
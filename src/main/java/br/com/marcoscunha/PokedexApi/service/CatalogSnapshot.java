@@ -0,0 +1,205 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.dto.PokemonPage;
+import br.com.marcoscunha.PokedexApi.dto.StatRange;
+import br.com.marcoscunha.PokedexApi.dto.StatSort;
+import br.com.marcoscunha.PokedexApi.dto.Suggestion;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cópia imutável do catálogo em memória, com índices invertidos
+ * (tipo, habilidade, movimento e geração → bitset de posições). Uma busca
+ * combinada vira uma interseção de bitsets, sem acesso ao banco.
+ * <p>
+ * Nomes, golpes e habilidades também ficam em {@link PrefixTrie}s para as
+ * sugestões da caixa de busca, e os stats em colunas primitivas
+ * ({@link StatsIndex}) para faixas e ordenação.
+ */
+public final class CatalogSnapshot {
+
+    private final List<Pokemon> pokemons;
+    private final long[] ids;
+    private final String[] names;
+    private final Map<String, BitSet> byType;
+    private final Map<String, BitSet> byAbility;
+    private final Map<String, BitSet> byMove;
+    private final Map<String, BitSet> byGeneration;
+    private final PrefixTrie nameTrie;
+    private final PrefixTrie moveTrie;
+    private final PrefixTrie abilityTrie;
+    private final StatsIndex statsIndex;
+
+    private CatalogSnapshot(List<Pokemon> pokemons) {
+        this.pokemons = List.copyOf(pokemons);
+        this.ids = new long[pokemons.size()];
+        this.names = new String[pokemons.size()];
+        this.byType = new HashMap<>();
+        this.byAbility = new HashMap<>();
+        this.byMove = new HashMap<>();
+        this.byGeneration = new HashMap<>();
+
+        for (int position = 0; position < pokemons.size(); position++) {
+            Pokemon pokemon = pokemons.get(position);
+            ids[position] = pokemon.getId();
+            names[position] = pokemon.getName();
+            index(byType, pokemon.getType(), position);
+            index(byAbility, pokemon.getAbility(), position);
+            index(byMove, pokemon.getMove(), position);
+            if (pokemon.getGeneration() != null) index(byGeneration, List.of(pokemon.getGeneration()), position);
+        }
+
+        Map<String, Long> nameIds = new HashMap<>();
+        for (int position = 0; position < names.length; position++) {
+            nameIds.putIfAbsent(names[position].toLowerCase(), ids[position]);
+        }
+        this.nameTrie = PrefixTrie.of(nameIds);
+        this.moveTrie = PrefixTrie.of(cardinalities(byMove));
+        this.abilityTrie = PrefixTrie.of(cardinalities(byAbility));
+        this.statsIndex = StatsIndex.of(this.pokemons);
+    }
+
+    /**
+     * @param pokemons catálogo completo, ordenado por ID e com as coleções carregadas
+     */
+    public static CatalogSnapshot of(List<Pokemon> pokemons) {
+        return new CatalogSnapshot(pokemons);
+    }
+
+    public int size() {
+        return pokemons.size();
+    }
+
+    /**
+     * Catálogo completo, em ordem de ID.
+     */
+    public List<Pokemon> pokemons() {
+        return pokemons;
+    }
+
+    /**
+     * Busca avançada, devolvendo só os {@code limit} primeiros resultados com ID maior que {@code afterId}.
+     */
+    public PokemonPage search(String name, List<String> types, String ability, String move, String generation,
+                              List<StatRange> stats, long afterId, int limit, boolean count) {
+        BitSet result = matches(name, types, ability, move, generation, stats);
+
+        // as posições seguem a ordem de ID, então o cursor vira uma busca binária
+        int start = Arrays.binarySearch(ids, afterId);
+        start = start >= 0 ? start + 1 : -start - 1;
+
+        List<Pokemon> rows = new ArrayList<>(limit + 1);
+        for (int position = result.nextSetBit(start); position >= 0 && rows.size() <= limit;
+             position = result.nextSetBit(position + 1)) {
+            rows.add(pokemons.get(position));
+        }
+        return PokemonPage.of(rows, limit, count ? (long) result.cardinality() : null);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Os {@code limit} primeiros resultados da busca na ordem do stat pedido,
+     * depois do Pokémon {@code afterId} nessa ordem (keyset por valor e ID;
+     * {@code null}: do início). O ID precisa estar no catálogo.
+     */
+    public PokemonPage top(String name, List<String> types, String ability, String move, String generation,
+                           List<StatRange> stats, StatSort sort, Long afterId, int limit, boolean count) {
+        BitSet result = matches(name, types, ability, move, generation, stats);
+
+        int after = -1;
+        if (afterId != null) {
+            after = Arrays.binarySearch(ids, afterId);
+            if (after < 0) throw new IllegalArgumentException("ID fora do catálogo: " + afterId);
+        }
+
+        int[] positions = statsIndex.top(sort.stat(), sort.descending(), result, after, limit + 1);
+        List<Pokemon> rows = new ArrayList<>(positions.length);
+        for (int position : positions) rows.add(pokemons.get(position));
+        return PokemonPage.of(rows, limit, count ? (long) result.cardinality() : null);
+    }
+
+    /**
+     * Sugestões para o que já foi digitado: prefixos exatos primeiro, depois
+     * os que estão a um erro de digitação. Golpes e habilidades mais comuns
+     * vêm antes.
+     */
+    public List<Suggestion> suggest(Suggestion.Kind kind, String query, int limit) {
+        String term = query.trim().toLowerCase();
+        return switch (kind) {
+            case NAME -> nameTrie.search(term, limit, false).stream()
+                    .map(hit -> new Suggestion(hit.key(), hit.value(), null, hit.edits()))
+                    .toList();
+            case MOVE -> counted(moveTrie.search(term, limit, true));
+            case ABILITY -> counted(abilityTrie.search(term, limit, true));
+        };
+    }
+
+    private BitSet matches(String name, List<String> types, String ability, String move, String generation,
+                           List<StatRange> stats) {
+        BitSet result = new BitSet(pokemons.size());
+        result.set(0, pokemons.size());
+
+        if (stats != null) stats.forEach(range -> result.and(statsIndex.range(range)));
+
+        if (types != null && !types.isEmpty())
+            types.forEach(type -> result.and(exact(byType, type)));
+
+        if (ability != null && !ability.isEmpty())
+            result.and(exact(byAbility, ability));
+
+        if (move != null && !move.isEmpty())
+            result.and(exact(byMove, move));
+
+        if (generation != null && !generation.isEmpty())
+            result.and(containing(byGeneration, generation));
+
+        if (name != null && !name.isEmpty()) {
+            String term = name.toLowerCase();
+            for (int position = result.nextSetBit(0); position >= 0; position = result.nextSetBit(position + 1)) {
+                if (!names[position].contains(term)) result.clear(position);
+            }
+        }
+        return result;
+    }
+
+    // ===================== AUXILIARES =====================
+    private static List<Suggestion> counted(List<PrefixTrie.Hit> hits) {
+        return hits.stream()
+                .map(hit -> new Suggestion(hit.key(), null, (int) hit.value(), hit.edits()))
+                .toList();
+    }
+
+    private static Map<String, Long> cardinalities(Map<String, BitSet> index) {
+        Map<String, Long> counts = new HashMap<>();
+        index.forEach((key, positions) -> counts.put(key, (long) positions.cardinality()));
+        return counts;
+    }
+
+    private static void index(Map<String, BitSet> index, Collection<String> keys, int position) {
+        if (keys == null) return;
+        keys.forEach(key -> index.computeIfAbsent(key.toLowerCase(), k -> new BitSet()).set(position));
+    }
+
+    private static BitSet exact(Map<String, BitSet> index, String key) {
+        return index.getOrDefault(key.toLowerCase(), new BitSet());
+    }
+
+    private static BitSet containing(Map<String, BitSet> index, String term) {
+        String lower = term.toLowerCase();
+        BitSet union = new BitSet();
+        index.forEach((key, positions) -> {
+            if (key.contains(lower)) union.or(positions);
+        });
+        return union;
+    }
+}
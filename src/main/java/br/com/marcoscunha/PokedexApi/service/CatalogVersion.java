@@ -0,0 +1,23 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão do catálogo: muda sempre que Pokémons ou sprites são gravados.
+ * Respostas guardadas com uma versão anterior deixam de valer.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    public void bump() {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.dto.EvolutionStage;
+import br.com.marcoscunha.PokedexApi.service.PokeApiParser.EvolutionNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Cadeias de evolução como grafo entre IDs de Pokémon, gravado em
+ * {@code evolution_nodes} (uma linha por espécie, com o estágio anterior) e
+ * mantido em memória em vetores: cada nó sabe o pai e o intervalo dos filhos,
+ * na ordem dos ramos da PokéAPI.
+ * <p>
+ * A cadeia de um Pokémon é montada subindo até a raiz e descendo pelos
+ * filhos, proporcional ao tamanho da cadeia e sem consultas. O grafo é
+ * recarregado inteiro depois de cada importação das cadeias.
+ */
+@Slf4j
+@Component
+public class EvolutionGraph {
+
+    private record Node(long id, int chain, Long parent, int branch, String name) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final CatalogVersion catalogVersion;
+
+    private volatile Graph graph = new Graph(List.of());
+
+    @Autowired
+    public EvolutionGraph(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          CatalogVersion catalogVersion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.catalogVersion = catalogVersion;
+    }
+
+    /**
+     * Cadeia inteira (a partir da espécie base) que contém o Pokémon.
+     */
+    public Optional<EvolutionStage> chain(long pokemonId) {
+        return graph.chain(pokemonId);
+    }
+
+    /**
+     * IDs das cadeias já gravadas.
+     */
+    public Set<Integer> chainIds() {
+        return graph.chainIds;
+    }
+
+    /**
+     * Regrava uma cadeia. Estágios sem ID de espécie (e o que vem depois
+     * deles) ficam de fora.
+     */
+    public void save(int chainId, EvolutionNode root) {
+        List<Node> nodes = new ArrayList<>();
+        collect(chainId, root, null, 0, nodes);
+        if (nodes.isEmpty()) return;
+
+        List<Object[]> rows = nodes.stream()
+                .map(node -> new Object[]{node.id(), node.chain(), node.parent(), node.branch(), node.name()})
+                .toList();
+        String ids = String.join(",", Collections.nCopies(nodes.size(), "?"));
+        List<Object> deleteArgs = new ArrayList<>();
+        deleteArgs.add(chainId);
+        nodes.forEach(node -> deleteArgs.add(node.id()));
+
+        // a espécie pode ter mudado de cadeia entre versões da PokéAPI
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM evolution_nodes WHERE chain_id = ? OR pokemon_id IN (" + ids + ")", deleteArgs.toArray());
+            jdbcTemplate.batchUpdate("INSERT INTO evolution_nodes (pokemon_id, chain_id, parent_id, branch, name) "
+                    + "VALUES (?, ?, ?, ?, ?)", rows);
+        });
+    }
+
+    public void refresh() {
+        List<Node> nodes = jdbcTemplate.query("SELECT pokemon_id, chain_id, parent_id, branch, name FROM evolution_nodes",
+                (row, index) -> new Node(row.getLong("pokemon_id"), row.getInt("chain_id"),
+                        row.getObject("parent_id", Long.class), row.getInt("branch"), row.getString("name")));
+
+        graph = new Graph(nodes);
+        catalogVersion.bump();
+        log.info("evolution.graph.loaded chains={} pokemons={}", graph.chainIds.size(), nodes.size());
+    }
+
+    // pré-ordem: base, depois cada ramo
+    private static void collect(int chainId, EvolutionNode node, Long parent, int branch, List<Node> nodes) {
+        if (node == null || node.speciesId() == null || node.species() == null) return;
+
+        nodes.add(new Node(node.speciesId(), chainId, parent, branch, node.species()));
+        for (int i = 0; i < node.evolvesTo().size(); i++) {
+            collect(chainId, node.evolvesTo().get(i), node.speciesId(), i, nodes);
+        }
+    }
+
+    // ===================== GRAFO EM MEMÓRIA =====================
+    private static final class Graph {
+
+        // por posição (ordem de ID): ID, nome, posição do pai (-1 na raiz) e intervalo em children
+        private final long[] ids;
+        private final String[] names;
+        private final int[] parent;
+        private final int[] firstChild;
+        private final int[] childCount;
+        // filhos de cada nó, seguidos e na ordem dos ramos
+        private final int[] children;
+        private final Set<Integer> chainIds;
+
+        private Graph(List<Node> rows) {
+            List<Node> nodes = rows.stream().sorted(Comparator.comparingLong(Node::id)).toList();
+            int size = nodes.size();
+            ids = new long[size];
+            names = new String[size];
+            parent = new int[size];
+            firstChild = new int[size];
+            childCount = new int[size];
+
+            Set<Integer> chains = new HashSet<>();
+            for (int position = 0; position < size; position++) {
+                ids[position] = nodes.get(position).id();
+                names[position] = nodes.get(position).name();
+                chains.add(nodes.get(position).chain());
+            }
+            chainIds = Set.copyOf(chains);
+
+            // pai ausente (espécie que ficou de fora da gravação): o nó vira raiz
+            for (int position = 0; position < size; position++) {
+                Long parentId = nodes.get(position).parent();
+                parent[position] = parentId == null ? -1 : Math.max(-1, Arrays.binarySearch(ids, parentId));
+            }
+
+            children = IntStream.range(0, size)
+                    .filter(position -> parent[position] >= 0)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingInt(position -> parent[position])
+                            .thenComparingInt(position -> nodes.get(position).branch()))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            for (int i = children.length - 1; i >= 0; i--) {
+                int from = parent[children[i]];
+                firstChild[from] = i;
+                childCount[from]++;
+            }
+        }
+
+        private Optional<EvolutionStage> chain(long pokemonId) {
+            int position = Arrays.binarySearch(ids, pokemonId);
+            if (position < 0) return Optional.empty();
+
+            // limite de passos: uma gravação inconsistente (ciclo) não prende a busca
+            for (int steps = 0; parent[position] >= 0 && steps < ids.length; steps++) {
+                position = parent[position];
+            }
+            return parent[position] < 0 ? Optional.of(stage(position)) : Optional.empty();
+        }
+
+        private EvolutionStage stage(int position) {
+            List<EvolutionStage> next = new ArrayList<>(childCount[position]);
+            for (int i = firstChild[position]; i < firstChild[position] + childCount[position]; i++) {
+                next.add(stage(children[i]));
+            }
+            return new EvolutionStage(ids[position], names[position], next);
+        }
+    }
+}
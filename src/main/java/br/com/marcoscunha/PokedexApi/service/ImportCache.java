@@ -0,0 +1,77 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache dos documentos da PokéAPI (espécies, cadeias de evolução e sprites
+ * repetidas) válido durante uma importação. Requisições simultâneas para a mesma URL esperam
+ * o mesmo download, então cada documento é buscado uma única vez por execução.
+ * <p>
+ * O escopo é aberto com {@link #begin()} e fechado com {@link #end()}; as
+ * chamadas podem ser aninhadas e o cache só é descartado quando o escopo
+ * mais externo termina.
+ */
+@Slf4j
+@Component
+public class ImportCache {
+
+    private final Map<String, CompletableFuture<Object>> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger openScopes = new AtomicInteger();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public void begin() {
+        openScopes.incrementAndGet();
+    }
+
+    public void end() {
+        if (openScopes.decrementAndGet() > 0) return;
+
+        log.info("Cache da importação: {} hits, {} misses, {} documentos",
+                hits.get(), misses.get(), entries.size());
+        entries.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Descarta um documento antes do fim do escopo, quando ninguém mais vai
+     * pedi-lo (a última forma que usa uma sprite repetida).
+     */
+    public void evict(String url) {
+        entries.remove(url);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String url, Function<String, T> loader) {
+        if (openScopes.get() <= 0) return loader.apply(url);
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = entries.putIfAbsent(url, created);
+
+        if (existing != null) {
+            hits.incrementAndGet();
+            return (T) existing.join();
+        }
+
+        misses.incrementAndGet();
+        try {
+            T value = loader.apply(url);
+            if (value == null) entries.remove(url); // falhas não ficam no cache
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            entries.remove(url);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
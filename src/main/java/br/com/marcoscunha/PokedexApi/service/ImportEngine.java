@@ -0,0 +1,125 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Motor de importação: executa as tarefas com paralelismo limitado e controla
+ * as chamadas à PokéAPI com um limitador de taxa (token bucket) e retentativas
+ * com backoff exponencial.
+ */
+@Component
+public class ImportEngine {
+
+    @Value("${pokeapi.import.parallelism:8}")
+    private int parallelism;
+
+    @Value("${pokeapi.import.requests-per-second:20}")
+    private double requestsPerSecond;
+
+    @Value("${pokeapi.import.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${pokeapi.import.backoff-ms:500}")
+    private long backoffMs;
+
+    private final Object bucketLock = new Object();
+    private long nextPermitNanos = System.nanoTime();
+
+    // ===================== EXECUÇÃO PARALELA =====================
+    public <T> void runAll(List<T> items, Consumer<T> task) {
+        if (items.isEmpty()) return;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "pokeapi-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> task.accept(item)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException ignored) {
+                    // cada tarefa trata (e reporta) os próprios erros
+                }
+            }
+        } catch (InterruptedException e) {
+            // job cancelado: as tarefas pendentes são descartadas pelo shutdownNow
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Importação cancelada");
+        } finally {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // ===================== CHAMADAS À API =====================
+    public <R> R call(Supplier<R> request) {
+        for (int attempt = 0; ; attempt++) {
+            acquirePermit();
+            try {
+                return request.get();
+            } catch (RestClientException e) {
+                if (attempt >= maxRetries || !isRetryable(e)) throw e;
+                sleep(backoffMs << attempt);
+            }
+        }
+    }
+
+    private boolean isRetryable(RestClientException e) {
+        if (e instanceof RestClientResponseException responseException) {
+            HttpStatusCode status = responseException.getStatusCode();
+            return status.is5xxServerError() || status.value() == 429;
+        }
+        // falhas de I/O (timeout, conexão recusada...)
+        return true;
+    }
+
+    private void acquirePermit() {
+        if (requestsPerSecond <= 0) return;
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        long waitNanos;
+        synchronized (bucketLock) {
+            long now = System.nanoTime();
+            if (nextPermitNanos < now) nextPermitNanos = now;
+            waitNanos = nextPermitNanos - now;
+            nextPermitNanos += intervalNanos;
+        }
+        if (waitNanos > 0) sleep(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida", e);
+        }
+    }
+}
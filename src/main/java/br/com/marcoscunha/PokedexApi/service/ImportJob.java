@@ -0,0 +1,85 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+/**
+ * Importação executada em segundo plano, acompanhada por
+ * {@code GET /api/pokemons/import/jobs/{id}}.
+ */
+@Getter
+@JsonPropertyOrder({"id", "type", "state"})
+public class ImportJob {
+
+    public enum Type {
+        // importação completa feita na inicialização: Pokémons, cadeias de evolução, variações e sprites
+        FULL,
+        POKEMON,
+        SPRITES
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Type type;
+    private final Instant submittedAt = Instant.now();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+
+    // andamento das etapas em execução (ver ImportMetrics)
+    private volatile Map<String, Object> progress = Map.of();
+
+    @JsonIgnore
+    private volatile Future<?> future;
+
+    ImportJob(Type type) {
+        this.type = type;
+    }
+
+    @JsonIgnore
+    public boolean isActive() {
+        return state == State.QUEUED || state == State.RUNNING;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    void setProgress(Map<String, Object> progress) {
+        this.progress = progress;
+    }
+
+    // um job ainda na fila é cancelado na hora; um em execução para na próxima verificação
+    synchronized void requestCancel() {
+        cancelRequested = true;
+        if (state == State.QUEUED) finished(State.CANCELLED, null);
+    }
+
+    synchronized boolean start() {
+        if (cancelRequested) return false;
+        state = State.RUNNING;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    void finished(State state, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = state;
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executa as importações em segundo plano, uma de cada vez, para que a API
+ * responda com o que já está no banco enquanto a carga acontece. Pedir um job
+ * de um tipo que já está na fila ou rodando devolve o job existente.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    // jobs encerrados mantidos para consulta
+    private static final int HISTORY = 20;
+
+    @Autowired
+    private PokemonService service;
+
+    @Autowired
+    private ImportCache importCache;
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    @Autowired
+    private ImportMetrics importMetrics;
+
+    @Autowired
+    private CatalogExport catalogExport;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "import-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    public ImportJob submit(ImportJob.Type type) {
+        synchronized (jobs) {
+            Optional<ImportJob> active = jobs.values().stream()
+                    .filter(job -> job.getType() == type && job.isActive())
+                    .findFirst();
+            if (active.isPresent()) return withProgress(active.get());
+
+            ImportJob job = new ImportJob(type);
+            jobs.put(job.getId(), job);
+            discardOldJobs();
+            job.setFuture(executor.submit(() -> run(job)));
+            log.info("import.job.submitted id={} type={}", job.getId(), type);
+            return job;
+        }
+    }
+
+    public Optional<ImportJob> find(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id)).map(this::withProgress);
+        }
+    }
+
+    /**
+     * Jobs do mais recente para o mais antigo.
+     */
+    public List<ImportJob> list() {
+        synchronized (jobs) {
+            List<ImportJob> list = new ArrayList<>(jobs.values());
+            Collections.reverse(list);
+            list.forEach(this::withProgress);
+            return list;
+        }
+    }
+
+    public Optional<ImportJob> cancel(String id) {
+        Optional<ImportJob> job = find(id);
+        job.filter(ImportJob::isActive).ifPresent(active -> {
+            active.requestCancel();
+            Future<?> future = active.getFuture();
+            if (future != null) future.cancel(true);
+            log.info("import.job.cancel id={} type={}", active.getId(), active.getType());
+        });
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ===================== EXECUÇÃO =====================
+    private void run(ImportJob job) {
+        if (!job.start()) return;
+        log.info("import.job.started id={} type={}", job.getId(), job.getType());
+
+        ImportJob.State state = ImportJob.State.SUCCEEDED;
+        String error = null;
+        try {
+            switch (job.getType()) {
+                case FULL -> {
+                    // as variações reaproveitam as espécies já baixadas na importação principal
+                    importCache.begin();
+                    try {
+                        service.fetchAndSaveAllPokemons();
+                        checkCancelled(job);
+                        service.importEvolutionChains();
+                        checkCancelled(job);
+                        service.importAllVariations();
+                    } finally {
+                        importCache.end();
+                    }
+                    checkCancelled(job);
+                    service.importAllSprites();
+                }
+                case POKEMON -> {
+                    importCache.begin();
+                    try {
+                        service.fetchAndSaveAllPokemons();
+                        checkCancelled(job);
+                        service.importEvolutionChains();
+                    } finally {
+                        importCache.end();
+                    }
+                }
+                case SPRITES -> service.importAllSprites();
+            }
+            checkCancelled(job);
+        } catch (CancellationException e) {
+            state = ImportJob.State.CANCELLED;
+        } catch (RuntimeException e) {
+            state = job.isCancelRequested() ? ImportJob.State.CANCELLED : ImportJob.State.FAILED;
+            error = e.getMessage();
+            if (state == ImportJob.State.FAILED) log.error("import.job.failed id={} type={}", job.getId(), job.getType(), e);
+        } finally {
+            // o próximo job não pode herdar a interrupção do cancelamento
+            Thread.interrupted();
+        }
+
+        // uma importação interrompida deixa no banco o que já foi gravado
+        if (state != ImportJob.State.SUCCEEDED) catalogIndex.refresh();
+        exportCatalog(job);
+
+        job.setProgress(importMetrics.progressSince(job.getStartedAt()));
+        job.finished(state, error);
+        log.info("import.job.finished id={} type={} state={}", job.getId(), job.getType(), state);
+    }
+
+    // uma vez por job, mesmo no FULL, que atualiza o índice mais de uma vez
+    private void exportCatalog(ImportJob job) {
+        try {
+            catalogExport.regenerate();
+        } catch (RuntimeException e) {
+            log.error("export.failed id={} type={}", job.getId(), job.getType(), e);
+        }
+    }
+
+    private void checkCancelled(ImportJob job) {
+        if (job.isCancelRequested() || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Importação cancelada");
+        }
+    }
+
+    private ImportJob withProgress(ImportJob job) {
+        if (job.getState() == ImportJob.State.RUNNING) {
+            job.setProgress(importMetrics.progressSince(job.getStartedAt()));
+        }
+        return job;
+    }
+
+    private void discardOldJobs() {
+        Iterator<ImportJob> iterator = jobs.values().iterator();
+        int finished = (int) jobs.values().stream().filter(job -> !job.isActive()).count();
+        while (finished > HISTORY && iterator.hasNext()) {
+            if (!iterator.next().isActive()) {
+                iterator.remove();
+                finished--;
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progresso das importações, por job ({@code pokemon}, {@code variations},
+ * {@code sprites}): exposto como gauges {@code pokedex.import.*} e registrado
+ * no log como eventos {@code import.started}, {@code import.progress} e
+ * {@code import.finished}.
+ */
+@Slf4j
+@Component
+public class ImportMetrics {
+
+    // um evento import.progress a cada 5% do job
+    private static final int PROGRESS_EVENTS = 20;
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Run> runs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImportMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Run start(String job, int total) {
+        Run run = runs.computeIfAbsent(job, this::register);
+        run.reset(total);
+        log.info("import.started job={} total={}", job, total);
+        return run;
+    }
+
+    /**
+     * Andamento dos jobs iniciados a partir de {@code since}, para o status das importações.
+     */
+    public Map<String, Object> progressSince(Instant since) {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        runs.values().stream()
+                .filter(run -> since != null && run.startedOn != null && !run.startedOn.isBefore(since))
+                .sorted((a, b) -> a.startedOn.compareTo(b.startedOn))
+                .forEach(run -> progress.put(run.job, run.view()));
+        return progress;
+    }
+
+    private Run register(String job) {
+        Run run = new Run(job);
+        Gauge.builder("pokedex.import.processed", run, Run::processed)
+                .tag("job", job).description("Itens importados com sucesso").register(registry);
+        Gauge.builder("pokedex.import.failed", run, Run::failed)
+                .tag("job", job).description("Itens que falharam na importação").register(registry);
+        Gauge.builder("pokedex.import.in.flight", run, Run::inFlight)
+                .tag("job", job).description("Itens sendo importados agora").register(registry);
+        Gauge.builder("pokedex.import.total", run, Run::total)
+                .tag("job", job).description("Itens pendentes no início do job").register(registry);
+        Gauge.builder("pokedex.import.eta", run, Run::etaSeconds)
+                .tag("job", job).baseUnit("seconds").description("Tempo estimado até o fim do job").register(registry);
+        return run;
+    }
+
+    // ===================== EXECUÇÃO DE UM JOB =====================
+    public static final class Run {
+
+        private final String job;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile int total;
+        private volatile long startedAt;
+        private volatile Instant startedOn;
+        private volatile boolean running;
+
+        private Run(String job) {
+            this.job = job;
+        }
+
+        private void reset(int total) {
+            processed.set(0);
+            failed.set(0);
+            inFlight.set(0);
+            this.total = total;
+            this.startedAt = System.nanoTime();
+            this.startedOn = Instant.now();
+            this.running = true;
+        }
+
+        public void started() {
+            inFlight.incrementAndGet();
+        }
+
+        public void succeeded(String item) {
+            processed.incrementAndGet();
+            done(item, "ok");
+        }
+
+        public void failed(String item) {
+            failed.incrementAndGet();
+            done(item, "error");
+        }
+
+        public void finish() {
+            running = false;
+            log.info("import.finished job={} processed={} failed={} total={} elapsedMs={}",
+                    job, processed(), failed(), total, elapsedMillis());
+        }
+
+        public int processed() {
+            return processed.get();
+        }
+
+        public int failed() {
+            return failed.get();
+        }
+
+        public int inFlight() {
+            return inFlight.get();
+        }
+
+        public int total() {
+            return total;
+        }
+
+        /**
+         * Estimativa pelo ritmo médio até agora; {@code 0} quando o job não está rodando.
+         */
+        public double etaSeconds() {
+            int completed = processed() + failed();
+            if (!running || completed == 0) return 0;
+            double secondsPerItem = elapsedMillis() / 1000.0 / completed;
+            return Math.max(0, total - completed) * secondsPerItem;
+        }
+
+        private Map<String, Object> view() {
+            Map<String, Object> view = new LinkedHashMap<>();
+            view.put("running", running);
+            view.put("processed", processed());
+            view.put("failed", failed());
+            view.put("inFlight", inFlight());
+            view.put("total", total);
+            view.put("etaSeconds", Math.round(etaSeconds()));
+            return view;
+        }
+
+        private void done(String item, String status) {
+            inFlight.decrementAndGet();
+            int completed = processed() + failed();
+            log.debug("import.item job={} item={} status={}", job, item, status);
+
+            int step = Math.max(1, total / PROGRESS_EVENTS);
+            if (completed % step == 0 || completed == total) {
+                log.info("import.progress job={} completed={} total={} failed={} inFlight={} percent={} etaSeconds={}",
+                        job, completed, total, failed(), inFlight(),
+                        total == 0 ? 100 : completed * 100 / total, Math.round(etaSeconds()));
+            }
+        }
+
+        private long elapsedMillis() {
+            return (System.nanoTime() - startedAt) / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.model.ImportCheckpoint;
+import br.com.marcoscunha.PokedexApi.repository.ImportCheckpointRepository;
+import br.com.marcoscunha.PokedexApi.repository.PokemonKey;
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Planeja a importação antes de qualquer chamada à rede: carrega de uma vez
+ * os IDs e nomes já persistidos e mantém um checkpoint por tarefa, para que
+ * uma execução interrompida continue de onde parou.
+ */
+@Slf4j
+@Component
+public class ImportPlanner {
+
+    private static final int CHECKPOINT_INTERVAL = 25;
+
+    @Autowired
+    private PokemonRepository repository;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PokemonWriter pokemonWriter;
+
+    public record Existing(Set<Long> ids, Set<String> names) {
+
+        public boolean contains(Long id, String name) {
+            return (id != null && ids.contains(id)) || (name != null && names.contains(name));
+        }
+    }
+
+    public Existing loadExisting() {
+        List<PokemonKey> keys = repository.findAllProjectedBy();
+        Set<Long> ids = new HashSet<>(keys.size() * 2);
+        Set<String> names = new HashSet<>(keys.size() * 2);
+        for (PokemonKey key : keys) {
+            ids.add(key.getId());
+            names.add(key.getName());
+        }
+        return new Existing(ids, names);
+    }
+
+    /**
+     * Indica se a última execução da tarefa terminou e o banco ainda tem
+     * pelo menos a quantidade de registros que ela gravou.
+     */
+    public boolean isCompleted(String job, long persisted) {
+        return checkpointRepository.findById(job)
+                .map(checkpoint -> checkpoint.isCompleted() && persisted >= checkpoint.getTotal())
+                .orElse(false);
+    }
+
+    /**
+     * Inicia o acompanhamento de uma listagem. As entradas anteriores ao
+     * cursor salvo e as que {@code alreadyDone} reconhece como persistidas
+     * já começam marcadas como concluídas.
+     */
+    public <T> Progress start(String job, List<T> entries, BiPredicate<Integer, T> alreadyDone) {
+        int savedCursor = checkpointRepository.findById(job)
+                .filter(checkpoint -> !checkpoint.isCompleted() && checkpoint.getTotal() == entries.size())
+                .map(ImportCheckpoint::getCursor)
+                .orElse(0);
+
+        BitSet done = new BitSet(entries.size());
+        done.set(0, savedCursor);
+        for (int i = savedCursor; i < entries.size(); i++) {
+            if (alreadyDone.test(i, entries.get(i))) done.set(i);
+        }
+
+        if (savedCursor > 0) {
+            log.info("Retomando '{}' a partir da posição {} de {}", job, savedCursor, entries.size());
+        }
+        return new Progress(job, entries.size(), done);
+    }
+
+    public class Progress {
+
+        private final String job;
+        private final int total;
+        private final BitSet done;
+        private int sinceLastSave;
+
+        private Progress(String job, int total, BitSet done) {
+            this.job = job;
+            this.total = total;
+            this.done = done;
+        }
+
+        public synchronized boolean isDone(int index) {
+            return done.get(index);
+        }
+
+        public synchronized void markDone(int index) {
+            done.set(index);
+            if (++sinceLastSave >= CHECKPOINT_INTERVAL) save();
+        }
+
+        public synchronized void finish() {
+            save();
+        }
+
+        private void save() {
+            // markDone só é chamado depois do commit de cada INSERT, então o cursor só avança sobre
+            // registros que já chegaram ao banco; o flush grava o buffer (e espera os lotes em
+            // andamento) para que esses avisos cheguem antes do checkpoint
+            pokemonWriter.flush();
+
+            sinceLastSave = 0;
+            int cursor = done.nextClearBit(0);
+            int position = Math.min(cursor, total);
+            checkpointRepository.save(new ImportCheckpoint(job, position, total, position >= total, Instant.now()));
+        }
+    }
+}
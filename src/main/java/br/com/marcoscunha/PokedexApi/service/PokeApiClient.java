@@ -0,0 +1,136 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Optional;
+
+/**
+ * Acesso às URLs da PokéAPI (documentos e imagens) passando pelo
+ * {@link ResponseStore}. O modo é definido em {@code pokeapi.store.mode}:
+ * <ul>
+ *     <li>{@code cache-first}: usa a cópia local quando existir, sem rede;</li>
+ *     <li>{@code revalidate}: confirma a cópia local com ETag/Last-Modified;</li>
+ *     <li>{@code offline}: nunca acessa a rede;</li>
+ *     <li>{@code off}: ignora o armazenamento local.</li>
+ * </ul>
+ * Cada chamada é medida no timer {@code pokeapi.fetch}, com o tipo do
+ * documento ({@code kind}) e a origem da resposta ({@code source}).
+ */
+@Component
+public class PokeApiClient {
+
+    @Value("${pokeapi.store.mode:cache-first}")
+    private String mode;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ImportEngine importEngine;
+
+    @Autowired
+    private ResponseStore store;
+
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // origem da resposta, usada como tag do timer
+    private record Fetched(byte[] body, String source) {
+    }
+
+    /**
+     * Situação do pool de conexões HTTP (em uso, livres, aguardando, máximo).
+     */
+    public PoolStats poolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Retorna o corpo da resposta ou {@code null} quando a URL não pode ser obtida.
+     */
+    public byte[] get(String url) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Fetched fetched = fetch(url);
+
+        sample.stop(Timer.builder("pokeapi.fetch")
+                .description("Documentos e imagens obtidos da PokéAPI")
+                .tag("kind", kindOf(url))
+                .tag("source", fetched.body() != null ? fetched.source() : "error")
+                .register(meterRegistry));
+        return fetched.body();
+    }
+
+    private Fetched fetch(String url) {
+        if ("off".equals(mode)) return new Fetched(download(url, new HttpHeaders()), "network");
+
+        Optional<ResponseStore.Entry> stored = store.lookup(url);
+
+        if (stored.isPresent() && ("cache-first".equals(mode) || "offline".equals(mode))) {
+            return new Fetched(stored.get().body(), "store");
+        }
+        if ("offline".equals(mode)) return new Fetched(null, "store");
+
+        HttpHeaders headers = new HttpHeaders();
+        stored.ifPresent(entry -> {
+            if (entry.etag() != null) headers.setIfNoneMatch(entry.etag());
+            if (entry.lastModified() != null) headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+        });
+
+        ResponseEntity<byte[]> response = exchange(url, headers);
+        if (response == null) return new Fetched(stored.map(ResponseStore.Entry::body).orElse(null), "store");
+
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && stored.isPresent()) {
+            return new Fetched(stored.get().body(), "not-modified");
+        }
+
+        byte[] body = response.getBody();
+        if (body == null) return new Fetched(null, "network");
+
+        store.save(new ResponseStore.Entry(url, body,
+                response.getHeaders().getETag(),
+                response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)));
+        return new Fetched(body, "network");
+    }
+
+    // ===================== AUXILIARES =====================
+    static String kindOf(String url) {
+        String path = url.toLowerCase();
+        if (path.endsWith(".png") || path.endsWith(".gif") || path.endsWith(".svg")) return "sprite";
+        if (path.contains("?limit=")) return "list";
+        if (path.contains("/pokemon-species/")) return "species";
+        if (path.contains("/evolution-chain/")) return "evolution";
+        if (path.contains("/pokemon-form/")) return "form";
+        if (path.contains("/pokemon/")) return "pokemon";
+        return "other";
+    }
+
+    private byte[] download(String url, HttpHeaders headers) {
+        ResponseEntity<byte[]> response = exchange(url, headers);
+        return response != null ? response.getBody() : null;
+    }
+
+    private ResponseEntity<byte[]> exchange(String url, HttpHeaders headers) {
+        try {
+            return importEngine.call(() ->
+                    restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), byte[].class));
+        } catch (RestClientException e) {
+            return null;
+        }
+    }
+}
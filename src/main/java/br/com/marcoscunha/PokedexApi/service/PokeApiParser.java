@@ -0,0 +1,378 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Leitura em streaming dos documentos da PokéAPI. Só os campos usados na
+ * importação são extraídos; o resto (game_indices, held_items, sprites por
+ * versão, detalhes de cada golpe...) é pulado sem montar nenhuma árvore.
+ */
+public final class PokeApiParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    public record NamedResource(String name, String url) {
+    }
+
+    public record PokemonDocument(Integer id, String name, Integer height, Integer weight,
+                                  List<String> types, List<String> abilities, List<String> moves,
+                                  Map<String, Integer> stats, String speciesUrl) {
+    }
+
+    public record SpeciesDocument(String generation, String evolutionChainUrl, String flavorText) {
+    }
+
+    /**
+     * @param species   nome da espécie
+     * @param speciesId ID da espécie, que é também o ID do Pokémon padrão dela
+     * @param evolvesTo próximos estágios, na ordem da PokéAPI (um por ramo)
+     */
+    public record EvolutionNode(String species, Long speciesId, List<EvolutionNode> evolvesTo) {
+
+        /**
+         * Nomes das espécies da cadeia em pré-ordem (base, depois cada ramo).
+         */
+        public List<String> speciesNames() {
+            List<String> names = new ArrayList<>();
+            collect(this, names);
+            return names;
+        }
+
+        private static void collect(EvolutionNode node, List<String> names) {
+            if (node.species() != null) names.add(node.species());
+            node.evolvesTo().forEach(next -> collect(next, names));
+        }
+    }
+
+    private PokeApiParser() {
+    }
+
+    // ===================== DOCUMENTOS =====================
+
+    /**
+     * {@code /pokemon?limit=...} e {@code /pokemon-form?limit=...}
+     */
+    public static List<NamedResource> parseResults(byte[] json) throws IOException {
+        return readResults(json).stream().filter(resource -> resource.name() != null).toList();
+    }
+
+    /**
+     * {@code /evolution-chain?limit=...}: os itens só têm a URL.
+     */
+    public static List<String> parseResultUrls(byte[] json) throws IOException {
+        return readResults(json).stream().map(NamedResource::url).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * {@code /pokemon/{id}}
+     */
+    public static PokemonDocument parsePokemon(byte[] json) throws IOException {
+        Integer id = null, height = null, weight = null;
+        String name = null, speciesUrl = null;
+        List<String> types = List.of(), abilities = List.of(), moves = List.of();
+        Map<String, Integer> stats = new HashMap<>();
+
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = readInt(parser);
+                    case "name" -> name = lowerCase(readText(parser));
+                    case "height" -> height = readInt(parser);
+                    case "weight" -> weight = readInt(parser);
+                    case "types" -> types = readNameList(parser, "type");
+                    case "abilities" -> abilities = readNameList(parser, "ability");
+                    case "moves" -> moves = readNameList(parser, "move");
+                    case "stats" -> stats = readStats(parser);
+                    case "species" -> {
+                        NamedResource species = readResource(parser);
+                        speciesUrl = species != null ? species.url() : null;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new PokemonDocument(id, name, height, weight, types, abilities, moves, stats, speciesUrl);
+    }
+
+    /**
+     * {@code /pokemon-species/{id}}; o texto é a primeira descrição em inglês.
+     */
+    public static SpeciesDocument parseSpecies(byte[] json) throws IOException {
+        String generation = null, evolutionChainUrl = null, flavorText = null;
+
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "generation" -> {
+                        NamedResource resource = readResource(parser);
+                        generation = resource != null ? resource.name() : null;
+                    }
+                    case "evolution_chain" -> {
+                        NamedResource resource = readResource(parser);
+                        evolutionChainUrl = resource != null ? resource.url() : null;
+                    }
+                    case "flavor_text_entries" -> flavorText = readEnglishFlavorText(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new SpeciesDocument(generation, evolutionChainUrl, flavorText);
+    }
+
+    /**
+     * {@code /evolution-chain/{id}}; devolve a raiz da cadeia.
+     */
+    public static EvolutionNode parseEvolutionChain(byte[] json) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+
+            EvolutionNode chain = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("chain".equals(field)) {
+                    chain = readEvolutionNode(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return chain;
+        }
+    }
+
+    /**
+     * {@code /pokemon-form/{id}}; devolve a URL do Pokémon ao qual a forma pertence.
+     */
+    public static String parseFormPokemonUrl(byte[] json) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+
+            String url = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("pokemon".equals(field)) {
+                    NamedResource pokemon = readResource(parser);
+                    url = pokemon != null ? pokemon.url() : null;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return url;
+        }
+    }
+
+    // ===================== AUXILIARES =====================
+    /**
+     * Último segmento numérico de uma URL da PokéAPI ({@code .../pokemon-species/25/} → 25).
+     */
+    public static Long idFromUrl(String url) {
+        if (url == null) return null;
+        String[] parts = url.split("/");
+        try {
+            return Long.valueOf(parts[parts.length - 1]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static List<NamedResource> readResults(byte[] json) throws IOException {
+        List<NamedResource> results = new ArrayList<>();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return results;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("results".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        NamedResource resource = readResource(parser);
+                        if (resource != null) results.add(resource);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return results;
+    }
+
+    private static NamedResource readResource(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String name = null, url = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> name = readText(parser);
+                case "url" -> url = readText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new NamedResource(name, url);
+    }
+
+    // [{"<key>": {"name": ...}, ...}, ...]
+    private static List<String> readNameList(JsonParser parser, String key) throws IOException {
+        List<String> names = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return names;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (key.equals(field)) {
+                    NamedResource resource = readResource(parser);
+                    if (resource != null && resource.name() != null) names.add(resource.name().toLowerCase());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return names;
+    }
+
+    // [{"base_stat": 45, "stat": {"name": "hp"}}, ...]
+    private static Map<String, Integer> readStats(JsonParser parser) throws IOException {
+        Map<String, Integer> stats = new HashMap<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return stats;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String statName = null;
+            Integer baseStat = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "base_stat" -> baseStat = readInt(parser);
+                    case "stat" -> {
+                        NamedResource stat = readResource(parser);
+                        statName = stat != null ? stat.name() : null;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (statName != null && baseStat != null) stats.put(statName, baseStat);
+        }
+        return stats;
+    }
+
+    // [{"flavor_text": "...", "language": {"name": "en"}}, ...]
+    private static String readEnglishFlavorText(JsonParser parser) throws IOException {
+        String found = null;
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (found != null || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String text = null, language = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "flavor_text" -> text = readText(parser);
+                    case "language" -> {
+                        NamedResource resource = readResource(parser);
+                        language = resource != null ? resource.name() : null;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if ("en".equalsIgnoreCase(language) && text != null && !text.isEmpty()) {
+                found = text.replaceAll("[\\n\\f]", " ").trim();
+            }
+        }
+        return found;
+    }
+
+    // {"species": {...}, "evolves_to": [...], ...} — a ordem dos campos não é garantida
+    private static EvolutionNode readEvolutionNode(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String species = null;
+        Long speciesId = null;
+        List<EvolutionNode> evolvesTo = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "species" -> {
+                    NamedResource resource = readResource(parser);
+                    species = resource != null ? lowerCase(resource.name()) : null;
+                    speciesId = resource != null ? idFromUrl(resource.url()) : null;
+                }
+                case "evolves_to" -> {
+                    if (parser.currentToken() != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        EvolutionNode next = readEvolutionNode(parser);
+                        if (next != null) evolvesTo.add(next);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new EvolutionNode(species, speciesId, evolvesTo);
+    }
+
+    private static Integer readInt(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) return parser.getIntValue();
+        parser.skipChildren();
+        return null;
+    }
+
+    private static String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) return parser.getText();
+        parser.skipChildren();
+        return null;
+    }
+
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase() : null;
+    }
+}
@@ -1,103 +1,161 @@
 package br.com.marcoscunha.PokedexApi.service;
 
+import br.com.marcoscunha.PokedexApi.dto.EvolutionStage;
+import br.com.marcoscunha.PokedexApi.dto.PokemonBatch;
+import br.com.marcoscunha.PokedexApi.dto.PokemonFields;
+import br.com.marcoscunha.PokedexApi.dto.PokemonPage;
+import br.com.marcoscunha.PokedexApi.dto.StatRange;
+import br.com.marcoscunha.PokedexApi.dto.StatSort;
+import br.com.marcoscunha.PokedexApi.dto.Suggestion;
 import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.model.PokemonSprite;
 import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import br.com.marcoscunha.PokedexApi.repository.PokemonSpecifications;
+import br.com.marcoscunha.PokedexApi.repository.PokemonSpriteRepository;
+import br.com.marcoscunha.PokedexApi.repository.SpriteSource;
+import br.com.marcoscunha.PokedexApi.repository.TermDictionary;
+import br.com.marcoscunha.PokedexApi.service.PokeApiParser.EvolutionNode;
+import br.com.marcoscunha.PokedexApi.service.PokeApiParser.NamedResource;
+import br.com.marcoscunha.PokedexApi.service.PokeApiParser.PokemonDocument;
+import br.com.marcoscunha.PokedexApi.service.PokeApiParser.SpeciesDocument;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.io.InputStream;
-import java.net.URL;
+import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Slf4j
 @Service
 public class PokemonService {
 
     @Value("${pokeapi.base-url:https://pokeapi.co/api/v2/}")
     private String baseApiUrl;
 
+    @Value("${pokeapi.import.sprite-page-size:50}")
+    private int spritePageSize;
+
+    @Value("${pokeapi.api.default-page-size:100}")
+    private int defaultPageSize;
+
+    @Value("${pokeapi.api.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${pokeapi.sprite-base-url:https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/}")
+    private String spriteBaseUrl;
+
     private static final String UNKNOWN = "unknown";
     private static final String DESCRIPTION_NOT_FOUND = "Descrição não encontrada.";
+    private static final String POKEMON_JOB = "pokemon";
+    private static final String VARIATIONS_JOB = "variations";
+    private static final String SPRITES_JOB = "sprites";
+    private static final String EVOLUTIONS_JOB = "evolutions";
+    private static final long FIRST_VARIATION_ID = 1026;
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
 
     @Autowired
     private PokemonRepository repository;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private PokemonSpriteRepository spriteRepository;
+
+    @Autowired
+    private PokeApiClient pokeApiClient;
+
+    @Autowired
+    private ImportEngine importEngine;
 
-    // ===================== PROGRESS BAR =====================
-    private void printProgressBar(int current, int total, String name, String status) {
-        int barSize = 40;
-        double progress = (double) current / total;
+    @Autowired
+    private ImportCache importCache;
 
-        int filled = (int) (progress * barSize);
-        int empty = barSize - filled;
+    @Autowired
+    private ImportPlanner importPlanner;
 
-        String bar = "[" + "#".repeat(filled) + "-".repeat(empty) + "]";
-        int percent = (int) (progress * 100);
+    @Autowired
+    private PokemonWriter pokemonWriter;
 
-        System.out.printf("\r%s %3d%% (%4d/%4d) - %-15s [%s]",
-                bar, percent, current, total, name, status);
+    @Autowired
+    private CatalogIndex catalogIndex;
 
-        System.out.flush();
+    @Autowired
+    private ImportMetrics importMetrics;
 
-        if (current == total) {
-            System.out.println();
-        }
-    }
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private TermDictionary termDictionary;
+
+    @Autowired
+    private EvolutionGraph evolutionGraph;
 
     // ===================== FETCH + SAVE =====================
-    public Pokemon fetchAndSavePokemon(String pokemonIdentifier) {
+    /**
+     * Baixa e enfileira o Pokémon para gravação; {@code written} é avisado
+     * depois do commit (ou da falha) do INSERT, ou na hora se ele já estava
+     * no banco. Devolve {@code null}, sem aviso, se o download falhar.
+     */
+    public Pokemon fetchAndSavePokemon(String pokemonIdentifier, Consumer<Boolean> written) {
         String url = baseApiUrl + "pokemon/" + pokemonIdentifier.toLowerCase();
-        Map<String, Object> response = fetchFromApi(url);
+        PokemonDocument response = fetchDocument(url, PokeApiParser::parsePokemon);
 
         if (response == null) return null;
 
-        Integer id = (Integer) response.get("id");
-        String name = Optional.ofNullable((String) response.get("name"))
-                .map(String::toLowerCase).orElse(null);
+        Integer id = response.id();
+        String name = response.name();
 
         if (id == null || name == null) return null;
 
         // ---------- 🔥 ANTI-DUPLICIDADE ABSOLUTA ----------
-        Optional<Pokemon> existingById = repository.findById(Long.valueOf(id));
-        if (existingById.isPresent()) return existingById.get();
-
-        Optional<Pokemon> existingByName = repository.findByName(name);
-        if (existingByName.isPresent()) return existingByName.get();
+        Optional<Pokemon> existing = repository.findById(Long.valueOf(id)).or(() -> repository.findByName(name));
+        if (existing.isPresent()) {
+            written.accept(true);
+            return existing.get();
+        }
         // -----------------------------------------------------
 
         Pokemon pokemon = new Pokemon();
         pokemon.setId(Long.valueOf(id));
         pokemon.setName(name);
-        pokemon.setHeight((int) response.get("height"));
-        pokemon.setWeight((int) response.get("weight"));
+        pokemon.setHeight(response.height());
+        pokemon.setWeight(response.weight());
 
-        pokemon.setSprite("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + id + ".png");
+        pokemon.setSprite(spriteBaseUrl + id + ".png");
 
-        pokemon.setType(parseNameList((List<Map<String, Object>>) response.get("types"), "type"));
-        pokemon.setAbility(parseNameList((List<Map<String, Object>>) response.get("abilities"), "ability"));
-        pokemon.setMove(parseNameList((List<Map<String, Object>>) response.get("moves"), "move"));
-        pokemon.setStats(parseStats((List<Map<String, Object>>) response.get("stats")));
+        pokemon.setType(response.types());
+        pokemon.setAbility(response.abilities());
+        pokemon.setMove(response.moves());
+        pokemon.setStats(response.stats());
 
         // Species info
-        Map<String, Object> speciesInfo = (Map<String, Object>) response.get("species");
-        String speciesUrl = speciesInfo != null ? (String) speciesInfo.get("url") : null;
+        String speciesUrl = response.speciesUrl();
 
         if (speciesUrl != null) {
-            Map<String, Object> speciesData = fetchFromApi(speciesUrl);
+            SpeciesDocument speciesData = fetchShared(speciesUrl, PokeApiParser::parseSpecies);
 
             if (speciesData != null) {
-                Map<String, Object> generationInfo = (Map<String, Object>) speciesData.get("generation");
-                if (generationInfo != null) pokemon.setGeneration((String) generationInfo.get("name"));
+                if (speciesData.generation() != null) pokemon.setGeneration(speciesData.generation());
 
                 pokemon.setEvolution(parseEvolution(speciesData));
-                pokemon.setDescription(parseFlavorText(speciesData));
+                pokemon.setDescription(Optional.ofNullable(speciesData.flavorText()).orElse(DESCRIPTION_NOT_FOUND));
             } else {
                 handleSpeciesFallback(pokemon);
             }
@@ -106,108 +164,154 @@ public class PokemonService {
             handleSpeciesFallback(pokemon);
         }
 
-        return repository.save(pokemon);
+        pokemonWriter.add(pokemon, written);
+        return pokemon;
     }
 
     public void fetchAndSaveAllPokemons() {
         int maxPokemon = 1025;
-        String url = baseApiUrl + "pokemon?limit=" + maxPokemon + "&offset=0";
-        Map<String, Object> response = fetchFromApi(url);
 
-        if (response == null || !response.containsKey("results")) return;
+        // banco já completo: nem a listagem é consultada
+        if (importPlanner.isCompleted(POKEMON_JOB, repository.countByIdBetween(1L, (long) maxPokemon))) {
+            log.info("Pokémons já importados");
+            return;
+        }
 
-        List<Map<String, String>> results = (List<Map<String, String>>) response.get("results");
-        int total = results.size();
-        int count = 0;
+        String url = baseApiUrl + "pokemon?limit=" + maxPokemon + "&offset=0";
+        List<NamedResource> results = fetchDocument(url, PokeApiParser::parseResults);
 
-        System.out.println("\n=== INÍCIO DA IMPORTAÇÃO DE POKÉMONS ===\n");
+        if (results == null || results.isEmpty()) return;
 
-        for (Map<String, String> pokemonData : results) {
-            count++;
-            String name = pokemonData.get("name");
-            String status = "SALVANDO";
+        // ---------- planejamento: só o que ainda falta no banco ----------
+        ImportPlanner.Existing existing = importPlanner.loadExisting();
+        ImportPlanner.Progress progress = importPlanner.start(POKEMON_JOB, results,
+                (index, entry) -> existing.contains(PokeApiParser.idFromUrl(entry.url()), entry.name()));
 
-            try {
-                fetchAndSavePokemon(name);
-                status = "OK";
-            } catch (Exception e) {
-                status = "ERRO";
-            }
+        List<Integer> pending = IntStream.range(0, results.size())
+                .filter(index -> !progress.isDone(index))
+                .boxed()
+                .toList();
 
-            printProgressBar(count, total, name, status);
+        ImportMetrics.Run run = importMetrics.start(POKEMON_JOB, pending.size());
 
-            try { Thread.sleep(200); } catch (InterruptedException ignored) {}
+        importCache.begin();
+        try {
+            importEngine.runAll(pending, index -> {
+                String name = results.get(index).name();
+                run.started();
+
+                try {
+                    // só conta como feito depois do commit: o checkpoint nunca passa de um INSERT pendente ou falho
+                    Pokemon pokemon = fetchAndSavePokemon(name, written -> {
+                        if (written) {
+                            progress.markDone(index);
+                            run.succeeded(name);
+                        } else {
+                            run.failed(name);
+                        }
+                    });
+                    if (pokemon != null) return;
+                } catch (Exception e) {
+                    log.debug("Falha ao importar {}", name, e);
+                }
+                run.failed(name);
+            });
+        } finally {
+            importCache.end();
+            progress.finish();
+            run.finish();
         }
 
-        System.out.println("\n=== IMPORTAÇÃO CONCLUÍDA ===\n");
+        catalogIndex.refresh();
+        log.info("Pool HTTP: {}", pokeApiClient.poolStats());
     }
 
-    // ===================== SPRITE BASE64 =====================
-    public void convertAllSpritesToBase64() {
-        List<Pokemon> pokemons = repository.findAll();
-        int total = pokemons.size();
-        int index = 0;
+    // ===================== SPRITES =====================
+    public void importAllSprites() {
+        ImportMetrics.Run run = importMetrics.start(SPRITES_JOB, (int) repository.countWithoutSprite());
 
-        System.out.println("\n=== CONVERSÃO DE SPRITES PARA BASE64 INICIADA ===\n");
+        // percorre só os Pokémons sem sprite, uma página por vez, gravando cada página
+        // logo após o download; formas que usam a mesma imagem baixam uma vez só, e só
+        // essas imagens ficam no cache, até o último Pokémon que as usa
+        Map<String, AtomicInteger> shared = new ConcurrentHashMap<>();
+        repository.findSharedSprites().forEach(sprite ->
+                shared.put(sprite.getSprite(), new AtomicInteger((int) sprite.getUses())));
 
-        for (Pokemon pokemon : pokemons) {
-            index++;
-            String status = "OK";
+        importCache.begin();
+        try {
+            long afterId = 0;
+            List<SpriteSource> page;
+            while (!(page = repository.findWithoutSprite(afterId, Limit.of(spritePageSize))).isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+
+                List<PokemonSprite> sprites = Collections.synchronizedList(new ArrayList<>());
+                importEngine.runAll(page, source -> {
+                    run.started();
+
+                    try {
+                        PokemonSprite sprite = downloadSprite(source.getId(), source.getSprite(), shared);
+                        if (sprite != null) {
+                            sprites.add(sprite);
+                            run.succeeded(source.getName());
+                            return;
+                        }
+                    } catch (Exception e) {
+                        log.debug("Falha ao baixar a sprite de {}", source.getName(), e);
+                    }
+                    run.failed(source.getName()); // fica para a próxima importação
+                });
 
-            try {
-                if (pokemon.getSpriteBase64() == null || pokemon.getSpriteBase64().isEmpty()) {
-                    String base64 = downloadImageAsBase64(pokemon.getSprite());
-                    pokemon.setSpriteBase64(base64);
-                }
-            } catch (Exception e) {
-                status = "ERRO";
+                spriteRepository.saveAll(sprites);
+                catalogVersion.bump();
             }
-
-            printProgressBar(index, total, pokemon.getName(), status);
+        } finally {
+            importCache.end();
+            run.finish();
         }
+    }
 
-        repository.saveAll(pokemons);
-        System.out.println("\n=== CONVERSÃO FINALIZADA ===\n");
+    private PokemonSprite downloadSprite(Long id, String spriteUrl, Map<String, AtomicInteger> shared) {
+        AtomicInteger remaining = shared.get(spriteUrl);
+        byte[] imageBytes = remaining == null
+                ? pokeApiClient.get(spriteUrl)
+                : importCache.get(spriteUrl, pokeApiClient::get);
+        if (remaining != null && remaining.decrementAndGet() <= 0) importCache.evict(spriteUrl);
+        if (imageBytes == null || imageBytes.length == 0) return null;
+
+        String contentType = MediaTypeFactory.getMediaType(spriteUrl)
+                .orElse(MediaType.IMAGE_PNG)
+                .toString();
+        return new PokemonSprite(id, imageBytes, contentType, StorageSupport.sha256(imageBytes));
     }
 
-    private String downloadImageAsBase64(String imageUrl) {
-        try (InputStream in = new URL(imageUrl).openStream()) {
-            byte[] imageBytes = in.readAllBytes();
-            return Base64.getEncoder().encodeToString(imageBytes);
-        } catch (Exception e) {
-            return "";
-        }
+    public Optional<String> findSpriteEtag(Long id) {
+        return spriteRepository.findEtagById(id);
+    }
+
+    public Optional<PokemonSprite> findSprite(Long id) {
+        return spriteRepository.findById(id).filter(sprite -> sprite.getData() != null);
     }
 
     // ===================== AUXILIARES =====================
-    private Map<String, Object> fetchFromApi(String url) {
+    @FunctionalInterface
+    private interface DocumentReader<T> {
+        T read(byte[] json) throws IOException;
+    }
+
+    private <T> T fetchDocument(String url, DocumentReader<T> reader) {
+        byte[] body = pokeApiClient.get(url);
+        if (body == null) return null;
+
         try {
-            return restTemplate.getForObject(url, Map.class);
-        } catch (RestClientException e) {
+            return reader.read(body);
+        } catch (IOException e) {
             return null;
         }
     }
 
-    private List<String> parseNameList(List<Map<String, Object>> dataList, String key) {
-        List<String> names = new ArrayList<>();
-        Optional.ofNullable(dataList).orElse(List.of()).forEach(item -> {
-            Map<String, String> inner = (Map<String, String>) item.get(key);
-            if (inner != null && inner.get("name") != null)
-                names.add(inner.get("name").toLowerCase());
-        });
-        return names;
-    }
-
-    private Map<String, Integer> parseStats(List<Map<String, Object>> statsList) {
-        Map<String, Integer> statMap = new HashMap<>();
-        Optional.ofNullable(statsList).orElse(List.of()).forEach(statInfo -> {
-            Map<String, String> stat = (Map<String, String>) statInfo.get("stat");
-            Object baseStatObj = statInfo.get("base_stat");
-            if (stat != null && stat.get("name") != null && baseStatObj instanceof Integer baseStat) {
-                statMap.put(stat.get("name"), baseStat);
-            }
-        });
-        return statMap;
+    // espécies e cadeias de evolução são compartilhadas entre vários Pokémons
+    private <T> T fetchShared(String url, DocumentReader<T> reader) {
+        return importCache.get(url, key -> fetchDocument(key, reader));
     }
 
     private void handleSpeciesFallback(Pokemon pokemon) {
@@ -215,201 +319,402 @@ public class PokemonService {
         pokemon.setDescription(DESCRIPTION_NOT_FOUND);
     }
 
-    private List<String> parseEvolution(Map<String, Object> speciesData) {
-        Map<String, Object> evolutionChain = (Map<String, Object>) speciesData.get("evolution_chain");
-        String url = evolutionChain != null ? (String) evolutionChain.get("url") : null;
+    private List<String> parseEvolution(SpeciesDocument speciesData) {
+        String url = speciesData.evolutionChainUrl();
         if (url == null) return List.of(UNKNOWN);
 
-        Map<String, Object> evolutionData = fetchFromApi(url);
-        if (evolutionData == null || evolutionData.get("chain") == null) return List.of(UNKNOWN);
+        EvolutionNode chain = fetchShared(url, PokeApiParser::parseEvolutionChain);
+        if (chain == null) return List.of(UNKNOWN);
 
-        List<String> evolutionList = new ArrayList<>();
-        extractEvolutionChain((Map<String, Object>) evolutionData.get("chain"), evolutionList);
+        List<String> evolutionList = chain.speciesNames();
         return evolutionList.isEmpty() ? List.of(UNKNOWN) : evolutionList;
     }
 
-    private void extractEvolutionChain(Map<String, Object> node, List<String> evolutionList) {
-        Map<String, String> species = (Map<String, String>) node.get("species");
-        if (species != null && species.get("name") != null)
-            evolutionList.add(species.get("name").toLowerCase());
+    // ===================== BUSCAS =====================
+    public List<Map<String, Object>> toViews(List<Pokemon> pokemons, Set<String> fields) {
+        Map<Long, String> sprites = new HashMap<>();
+
+        // o LOB só é lido quando o campo é pedido, e numa única consulta
+        if (fields.contains("spriteBase64") && !pokemons.isEmpty()) {
+            List<Long> ids = pokemons.stream().map(Pokemon::getId).toList();
+            spriteRepository.findAllById(ids).forEach(sprite -> {
+                if (sprite.getData() != null)
+                    sprites.put(sprite.getId(), Base64.getEncoder().encodeToString(sprite.getData()));
+            });
+        }
 
-        Optional.ofNullable((List<Map<String, Object>>) node.get("evolves_to"))
-                .orElse(List.of())
-                .forEach(next -> extractEvolutionChain(next, evolutionList));
+        return pokemons.stream()
+                .map(pokemon -> PokemonFields.view(pokemon, fields, sprites.get(pokemon.getId())))
+                .toList();
     }
 
-    private String parseFlavorText(Map<String, Object> speciesData) {
-        List<Map<String, Object>> entries = (List<Map<String, Object>>) speciesData.get("flavor_text_entries");
-        if (entries != null) {
-            for (Map<String, Object> entry : entries) {
-                Map<String, String> lang = (Map<String, String>) entry.get("language");
-                if ("en".equalsIgnoreCase(Optional.ofNullable(lang).map(l -> l.get("name")).orElse(""))) {
-                    String text = (String) entry.get("flavor_text");
-                    if (text != null && !text.isEmpty()) {
-                        return text.replaceAll("[\\n\\f]", " ").trim();
-                    }
-                }
-            }
-        }
-        return DESCRIPTION_NOT_FOUND;
-    }
+    // ===================== CONSULTAS PAGINADAS =====================
+    // cursor = último ID da página anterior; cada consulta lê só limit + 1 linhas
 
-    // ===================== BUSCAS =====================
-    public List<Pokemon> getAllPokemons() {
-        return repository.findAllByOrderByIdAsc();
+    public PokemonPage getAllPokemons(Long cursor, Integer limit, boolean count) {
+        return page(cursor, limit, count, repository::findByIdGreaterThanOrderByIdAsc, repository::count);
     }
 
     public Pokemon findById(Long id) {
         return repository.findById(id).orElse(null);
     }
 
-    public List<Pokemon> findByName(String name) {
-        return repository.findByNameContainingIgnoreCaseOrderByIdAsc(name);
+    public PokemonPage findByName(String name, Long cursor, Integer limit, boolean count) {
+        return page(cursor, limit, count,
+                (afterId, rows) -> repository.findByIdGreaterThanAndNameContainingIgnoreCaseOrderByIdAsc(afterId, name, rows),
+                () -> repository.countByNameContainingIgnoreCase(name));
+    }
+
+    // busca por trecho: os termos que contêm o texto saem do dicionário, e o banco filtra pelos códigos
+    public PokemonPage findByType(String type, Long cursor, Integer limit, boolean count) {
+        List<String> types = termDictionary.containing(TermDictionary.Kind.TYPE, type);
+        return page(cursor, limit, count, types,
+                (afterId, rows) -> repository.findDistinctByIdGreaterThanAndTypeInOrderByIdAsc(afterId, types, rows),
+                () -> repository.countDistinctByTypeIn(types));
+    }
+
+    public PokemonPage findByAbility(String ability, Long cursor, Integer limit, boolean count) {
+        List<String> abilities = termDictionary.containing(TermDictionary.Kind.ABILITY, ability);
+        return page(cursor, limit, count, abilities,
+                (afterId, rows) -> repository.findDistinctByIdGreaterThanAndAbilityInOrderByIdAsc(afterId, abilities, rows),
+                () -> repository.countDistinctByAbilityIn(abilities));
+    }
+
+    public PokemonPage findByMove(String move, Long cursor, Integer limit, boolean count) {
+        List<String> moves = termDictionary.containing(TermDictionary.Kind.MOVE, move);
+        return page(cursor, limit, count, moves,
+                (afterId, rows) -> repository.findDistinctByIdGreaterThanAndMoveInOrderByIdAsc(afterId, moves, rows),
+                () -> repository.countDistinctByMoveIn(moves));
+    }
+
+    public PokemonPage advancedSearch(String name, List<String> types, String ability, String move, String generation,
+                                      List<StatRange> stats, Long cursor, Integer limit, boolean count) {
+        int size = pageSize(limit);
+        long afterId = cursor != null ? cursor : 0;
+
+        CatalogSnapshot snapshot = catalogIndex.current();
+        if (snapshot != null) return snapshot.search(name, types, ability, move, generation, stats, afterId, size, count);
+
+        // cópia em memória ainda não construída: a filtragem vai para o banco num único SELECT
+        Specification<Pokemon> criteria = PokemonSpecifications.matching(name, types, ability, move, generation, stats);
+        List<Pokemon> rows = repository.findBy(criteria.and(PokemonSpecifications.idGreaterThan(afterId)),
+                query -> query.sortBy(Sort.by("id")).limit(size + 1).all());
+        return PokemonPage.of(rows, size, count ? repository.count(criteria) : null);
+    }
+
+    // busca avançada ordenada por um stat (top-K pelo índice colunar); sem ordenação, igual à avançada
+    public PokemonPage statsSearch(String name, List<String> types, String ability, String move, String generation,
+                                   List<StatRange> stats, StatSort sort, Long cursor, Integer limit, boolean count) {
+        if (sort == null) return advancedSearch(name, types, ability, move, generation, stats, cursor, limit, count);
+
+        // cursor = último ID da página anterior; a posição dele na ordem do stat continua a busca
+        CatalogSnapshot snapshot = catalogIndex.current();
+        if (snapshot != null) {
+            if (cursor != null && !snapshot.contains(cursor)) throw cursorNotFound(cursor);
+            return snapshot.top(name, types, ability, move, generation, stats, sort, cursor, pageSize(limit), count);
+        }
+
+        // índice ainda não construído: o banco filtra e ordena pelo mesmo (valor, ID)
+        Integer afterValue = null;
+        if (cursor != null) {
+            if (!repository.existsById(cursor)) throw cursorNotFound(cursor);
+            afterValue = (int) repository.sumStats(cursor,
+                    StatRange.TOTAL.equals(sort.stat()) ? StatRange.STATS : List.of(sort.stat()));
+        }
+        int size = pageSize(limit);
+        Specification<Pokemon> criteria = PokemonSpecifications.matching(name, types, ability, move, generation, stats);
+        List<Pokemon> rows = repository.findBy(criteria.and(PokemonSpecifications.orderedByStat(sort, cursor, afterValue)),
+                query -> query.limit(size + 1).all());
+        return PokemonPage.of(rows, size, count ? repository.count(criteria) : null);
+    }
+
+    private static ResponseStatusException cursorNotFound(long cursor) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor não encontrado no catálogo: " + cursor);
+    }
+
+    /**
+     * Busca avançada sem paginação, para o streaming: as páginas (de
+     * {@code max-page-size}) só são montadas quando lidas. Só a cópia em memória;
+     * sem ela, 503 antes de a resposta começar.
+     */
+    public Stream<List<Pokemon>> streamSearch(String name, List<String> types, String ability, String move,
+                                              String generation, List<StatRange> stats) {
+        CatalogSnapshot snapshot = catalogIndex.current();
+        if (snapshot == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Catálogo em memória ainda não construído");
+        }
+
+        LongFunction<PokemonPage> page = afterId ->
+                snapshot.search(name, types, ability, move, generation, stats, afterId, maxPageSize, false);
+        return Stream.iterate(page.apply(0), Objects::nonNull,
+                        previous -> previous.nextCursor() == null ? null : page.apply(previous.nextCursor()))
+                .map(PokemonPage::content);
+    }
+
+    // sugestões da caixa de busca: só a cópia em memória, nunca o banco
+    public List<Suggestion> suggest(String query, Suggestion.Kind kind, Integer limit) {
+        CatalogSnapshot snapshot = catalogIndex.current();
+        if (snapshot == null || query == null || query.isBlank()) return List.of();
+
+        if (limit != null && limit < 1) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit deve ser maior que zero");
+        int size = limit == null ? DEFAULT_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
+        return snapshot.suggest(kind, query, size);
+    }
+
+    // ===================== LOTE =====================
+    /**
+     * Vários Pokémons por ID ou nome (misturados) numa consulta só; as coleções
+     * pedidas vêm depois em lote pelo {@code @BatchSize}, uma consulta por tabela.
+     * Chaves repetidas ou que apontam para o mesmo Pokémon saem uma vez.
+     */
+    public PokemonBatch<Pokemon> findBatch(List<String> keys) {
+        Set<String> requested = new LinkedHashSet<>();
+        keys.stream()
+                .map(key -> key.trim().toLowerCase(Locale.ROOT))
+                .filter(key -> !key.isEmpty())
+                .forEach(requested::add);
+        if (requested.size() > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No máximo " + maxPageSize + " Pokémons por lote");
+        }
+
+        Set<Long> ids = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        requested.forEach(key -> {
+            Long id = batchId(key);
+            if (id != null) ids.add(id);
+            else names.add(key);
+        });
+
+        Map<Long, Pokemon> byId = new HashMap<>();
+        Map<String, Pokemon> byName = new HashMap<>();
+        if (!requested.isEmpty()) {
+            repository.findAll(PokemonSpecifications.idOrNameIn(ids, names)).forEach(pokemon -> {
+                byId.put(pokemon.getId(), pokemon);
+                byName.put(pokemon.getName().toLowerCase(Locale.ROOT), pokemon);
+            });
+        }
+
+        Map<Long, Pokemon> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : requested) {
+            Long id = batchId(key);
+            Pokemon pokemon = id != null ? byId.get(id) : byName.get(key);
+            if (pokemon != null) found.putIfAbsent(pokemon.getId(), pokemon);
+            else missing.add(key);
+        }
+        return new PokemonBatch<>(List.copyOf(found.values()), missing);
+    }
+
+    // só dígitos é ID; o resto (inclusive números grandes demais) é nome
+    private static Long batchId(String key) {
+        if (key.length() > 18 || !key.chars().allMatch(Character::isDigit)) return null;
+        return Long.parseLong(key);
     }
 
-    public List<Pokemon> findByType(String type) {
-        return repository.findByTypeContainingIgnoreCaseOrderByIdAsc(type);
+    private PokemonPage page(Long cursor, Integer limit, boolean count,
+                             BiFunction<Long, Limit, List<Pokemon>> query, LongSupplier counter) {
+        int size = pageSize(limit);
+        List<Pokemon> rows = query.apply(cursor != null ? cursor : 0L, Limit.of(size + 1));
+        return PokemonPage.of(rows, size, count ? counter.getAsLong() : null);
     }
 
-    public List<Pokemon> findByAbility(String ability) {
-        return repository.findByAbilityContainingIgnoreCaseOrderByIdAsc(ability);
+    // nenhum termo do dicionário contém o texto: nem vai ao banco
+    private PokemonPage page(Long cursor, Integer limit, boolean count, List<String> terms,
+                             BiFunction<Long, Limit, List<Pokemon>> query, LongSupplier counter) {
+        if (terms.isEmpty()) return PokemonPage.of(List.of(), pageSize(limit), count ? 0L : null);
+        return page(cursor, limit, count, query, counter);
     }
 
-    public List<Pokemon> findByMove(String move) {
-        return repository.findByMoveContainingIgnoreCaseOrderByIdAsc(move);
+    private int pageSize(Integer limit) {
+        if (limit == null) return defaultPageSize;
+        if (limit < 1) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit deve ser maior que zero");
+        return Math.min(limit, maxPageSize);
     }
 
-    public List<Pokemon> advancedSearch(String name, List<String> types, String ability, String move, String generation) {
-        List<Pokemon> result = getAllPokemons();
+    // ===================== CADEIAS DE EVOLUÇÃO =====================
+    public Optional<EvolutionStage> findEvolutions(Long id) {
+        return evolutionGraph.chain(id);
+    }
+
+    /**
+     * Grava o grafo de evolução a partir de {@code /evolution-chain}. As cadeias
+     * já baixadas na importação dos Pokémons vêm do {@link ImportCache}.
+     */
+    public void importEvolutionChains() {
+        if (importPlanner.isCompleted(EVOLUTIONS_JOB, evolutionGraph.chainIds().size())) {
+            log.info("Cadeias de evolução já importadas");
+            return;
+        }
+
+        List<String> chains = fetchDocument(baseApiUrl + "evolution-chain?limit=10000&offset=0", PokeApiParser::parseResultUrls);
+        if (chains == null || chains.isEmpty()) {
+            log.warn("Erro ao acessar /evolution-chain");
+            return;
+        }
 
-        if (name != null && !name.isEmpty())
-            result = result.stream().filter(p -> p.getName().contains(name.toLowerCase())).collect(Collectors.toList());
+        Set<Integer> stored = evolutionGraph.chainIds();
+        ImportPlanner.Progress progress = importPlanner.start(EVOLUTIONS_JOB, chains,
+                (index, url) -> stored.contains(chainId(url)));
 
-        if (types != null && !types.isEmpty())
-            result = result.stream().filter(p -> types.stream().allMatch(t -> p.getType().contains(t.toLowerCase()))).collect(Collectors.toList());
+        List<Integer> pending = IntStream.range(0, chains.size())
+                .filter(index -> !progress.isDone(index))
+                .boxed()
+                .toList();
 
-        if (ability != null && !ability.isEmpty())
-            result = result.stream().filter(p -> p.getAbility().contains(ability.toLowerCase())).collect(Collectors.toList());
+        ImportMetrics.Run run = importMetrics.start(EVOLUTIONS_JOB, pending.size());
 
-        if (move != null && !move.isEmpty())
-            result = result.stream().filter(p -> p.getMove().contains(move.toLowerCase())).collect(Collectors.toList());
+        try {
+            importEngine.runAll(pending, index -> {
+                String url = chains.get(index);
+                Integer chainId = chainId(url);
+                run.started();
+
+                try {
+                    EvolutionNode chain = chainId != null ? fetchShared(url, PokeApiParser::parseEvolutionChain) : null;
+                    if (chain != null) {
+                        evolutionGraph.save(chainId, chain);
+                        progress.markDone(index);
+                        run.succeeded(url);
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.debug("Falha ao importar a cadeia {}", url, e);
+                }
+                run.failed(url);
+            });
+        } finally {
+            progress.finish();
+            run.finish();
+        }
 
-        if (generation != null && !generation.isEmpty())
-            result = result.stream().filter(p -> p.getGeneration() != null &&
-                    p.getGeneration().toLowerCase().contains(generation.toLowerCase())).collect(Collectors.toList());
+        evolutionGraph.refresh();
+    }
 
-        return result;
+    private static Integer chainId(String url) {
+        Long id = PokeApiParser.idFromUrl(url);
+        return id != null ? id.intValue() : null;
     }
 
     // ===================== IMPORTAR VARIAÇÕES DE FORMA AUTOMÁTICA =====================
     public void importAllVariations() {
 
-        int nextId = 1026; // começa o ID das variações
+        if (importPlanner.isCompleted(VARIATIONS_JOB, repository.countByIdBetween(FIRST_VARIATION_ID, Long.MAX_VALUE))) {
+            log.info("Variações já importadas");
+            return;
+        }
+
         int limit = 2000; // pega todas as forms possíveis
         String url = baseApiUrl + "pokemon-form?limit=" + limit;
 
-        Map<String, Object> response = fetchFromApi(url);
-        if (response == null) {
-            System.out.println("ERRO ao acessar /pokemon-form");
+        List<NamedResource> results = fetchDocument(url, PokeApiParser::parseResults);
+        if (results == null) {
+            log.warn("Erro ao acessar /pokemon-form");
             return;
         }
 
-        List<Map<String, Object>> results = (List<Map<String, Object>>) response.get("results");
-
         // FILTRO: somente formas relevantes
         List<String> allowedPatterns = List.of(
                 "mega", "primal", "origin", "therian", "sky", "unbound",
                 "alola", "galar", "hisui", "paldea"
         );
 
-        List<Map<String, Object>> filteredForms = results.stream()
+        List<NamedResource> filteredForms = results.stream()
                 .filter(entry -> {
-                    String name = ((String) entry.get("name")).toLowerCase();
+                    String name = entry.name().toLowerCase();
                     return allowedPatterns.stream().anyMatch(name::contains);
                 })
                 .toList();
 
-        int total = filteredForms.size();
-        int count = 0;
-
-        System.out.println("\n=== IMPORTANDO VARIAÇÕES OFICIAIS DA POKEAPI ===\n");
-
-        for (Map<String, Object> formEntry : filteredForms) {
-            count++;
-
-            String formName = ((String) formEntry.get("name")).toLowerCase();
-            String formUrl = (String) formEntry.get("url");
-
-            String status = "OK";
+        // variações já gravadas são reconhecidas só pelo nome: os IDs antigos vieram de um
+        // contador que pulava as falhas e a lista de formas da PokéAPI muda entre versões,
+        // então a posição na lista não identifica a forma; as novas ganham IDs depois do maior
+        ImportPlanner.Existing existing = importPlanner.loadExisting();
+        ImportPlanner.Progress progress = importPlanner.start(VARIATIONS_JOB, filteredForms,
+                (index, entry) -> existing.names().contains(entry.name().toLowerCase()));
+        AtomicLong lastId = new AtomicLong(Math.max(repository.findMaxId(), FIRST_VARIATION_ID - 1));
+
+        List<Integer> pending = IntStream.range(0, filteredForms.size())
+                .filter(index -> !progress.isDone(index))
+                .boxed()
+                .toList();
 
-            try {
-                // Evita duplicidade
-                if (repository.findByName(formName).isPresent()) {
-                    printProgressBar(count, total, formName, "EXISTE");
-                    continue;
-                }
+        ImportMetrics.Run run = importMetrics.start(VARIATIONS_JOB, pending.size());
 
-                // 1) baixa a estrutura da forma
-                Map<String, Object> formData = fetchFromApi(formUrl);
-                if (formData == null) {
-                    printProgressBar(count, total, formName, "ERRO");
-                    continue;
-                }
+        importCache.begin();
+        try {
+            importEngine.runAll(pending, index -> {
+                NamedResource formEntry = filteredForms.get(index);
+
+                String formName = formEntry.name().toLowerCase();
+                String formUrl = formEntry.url();
+                run.started();
+
+                try {
+                    // 1) baixa a estrutura da forma
+                    // 2) forma aponta para o Pokémon completo
+                    String pokemonUrl = fetchDocument(formUrl, PokeApiParser::parseFormPokemonUrl);
+                    if (pokemonUrl == null) {
+                        run.failed(formName);
+                        return;
+                    }
 
-                // 2) forma aponta para o Pokémon completo
-                Map<String, Object> pokemonObj = (Map<String, Object>) formData.get("pokemon");
-                if (pokemonObj == null || pokemonObj.get("url") == null) {
-                    printProgressBar(count, total, formName, "ERRO");
-                    continue;
-                }
+                    // 3) baixa os dados reais do Pokémon
+                    PokemonDocument fullData = fetchDocument(pokemonUrl, PokeApiParser::parsePokemon);
+                    if (fullData == null) {
+                        run.failed(formName);
+                        return;
+                    }
 
-                // 3) baixa os dados reais do Pokémon
-                Map<String, Object> fullData = fetchFromApi((String) pokemonObj.get("url"));
-                if (fullData == null) {
-                    printProgressBar(count, total, formName, "ERRO");
-                    continue;
-                }
+                    // === Criar variação ===
+                    Pokemon p = new Pokemon();
+                    p.setId(lastId.incrementAndGet());
+                    p.setName(formName);
+
+                    p.setHeight(fullData.height());
+                    p.setWeight(fullData.weight());
+
+                    int spriteId = fullData.id();
+                    p.setSprite(spriteBaseUrl + spriteId + ".png");
+
+                    p.setType(fullData.types());
+                    p.setAbility(fullData.abilities());
+                    p.setMove(fullData.moves());
+                    p.setStats(fullData.stats());
+
+                    // generation = herdada da espécie
+                    SpeciesDocument species = fullData.speciesUrl() != null
+                            ? fetchShared(fullData.speciesUrl(), PokeApiParser::parseSpecies)
+                            : null;
+                    if (species != null) {
+                        p.setGeneration(species.generation() != null ? species.generation() : "unknown");
+                    } else {
+                        p.setGeneration("unknown");
+                    }
 
-                // === Criar variação ===
-                Pokemon p = new Pokemon();
-                p.setId((long) nextId++);
-                p.setName(formName);
-
-                p.setHeight((int) fullData.get("height"));
-                p.setWeight((int) fullData.get("weight"));
-
-                int spriteId = (int) fullData.get("id");
-                p.setSprite("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + spriteId + ".png");
-
-                p.setType(parseNameList((List<Map<String, Object>>) fullData.get("types"), "type"));
-                p.setAbility(parseNameList((List<Map<String, Object>>) fullData.get("abilities"), "ability"));
-                p.setMove(parseNameList((List<Map<String, Object>>) fullData.get("moves"), "move"));
-                p.setStats(parseStats((List<Map<String, Object>>) fullData.get("stats")));
-
-                // generation = herdada da espécie
-                Map<String, Object> species = fetchFromApi((String) ((Map<String, Object>) fullData.get("species")).get("url"));
-                if (species != null) {
-                    Map<String, Object> gen = (Map<String, Object>) species.get("generation");
-                    p.setGeneration(gen != null ? (String) gen.get("name") : "unknown");
-                } else {
-                    p.setGeneration("unknown");
+                    p.setEvolution(List.of(formName));
+                    p.setDescription("Official alternate form: " + formName);
+
+                    pokemonWriter.add(p, written -> {
+                        if (written) {
+                            progress.markDone(index);
+                            run.succeeded(formName);
+                        } else {
+                            run.failed(formName);
+                        }
+                    });
+
+                } catch (Exception e) {
+                    log.debug("Falha ao importar a forma {}", formName, e);
+                    run.failed(formName);
                 }
-
-                p.setEvolution(List.of(formName));
-                p.setDescription("Official alternate form: " + formName);
-
-                repository.save(p);
-
-            } catch (Exception e) {
-                status = "ERRO";
-            }
-
-            printProgressBar(count, total, formName, status);
-
-            try { Thread.sleep(120); } catch (InterruptedException ignored) {}
+            });
+        } finally {
+            importCache.end();
+            progress.finish();
+            run.finish();
         }
 
-        System.out.println("\n=== IMPORTAÇÃO COMPLETA: TODAS AS FORMAS ADICIONADAS ===\n");
+        catalogIndex.refresh();
     }
 
 
@@ -0,0 +1,201 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.repository.TermDictionary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Gravação em lote dos Pokémons importados. Os registros ficam num buffer e
+ * são persistidos {@code pokeapi.import.write-batch-size} por transação com
+ * {@link EntityManager#persist}, sem o SELECT que o {@code save()} faz antes
+ * de inserir uma entidade com ID atribuído. Junto com
+ * {@code hibernate.jdbc.batch_size} os INSERTs (inclusive os das coleções)
+ * saem agrupados em lotes JDBC.
+ * <p>
+ * Cada registro pode levar um aviso, chamado depois do commit (ou da falha)
+ * do seu INSERT, e {@link #flush()} só volta quando todos os lotes separados
+ * antes dele terminaram, inclusive os que outra thread está gravando.
+ */
+@Slf4j
+@Component
+public class PokemonWriter {
+
+    @Value("${pokeapi.import.write-batch-size:25}")
+    private int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private TermDictionary termDictionary;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private record Pending(Pokemon pokemon, Consumer<Boolean> written) {
+    }
+
+    // buffer e lotes em gravação, sob o mesmo monitor
+    private final List<Pending> buffer = new ArrayList<>();
+    private final NavigableSet<Long> running = new TreeSet<>();
+    private long lastBatch;
+
+    @Autowired
+    public PokemonWriter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void add(Pokemon pokemon) {
+        add(pokemon, written -> {
+        });
+    }
+
+    /**
+     * Enfileira o registro; {@code written} recebe {@code true} depois do commit
+     * do INSERT ou {@code false} se nem sozinho ele pôde ser gravado.
+     */
+    public void add(Pokemon pokemon, Consumer<Boolean> written) {
+        List<Pending> batch = null;
+        long id = 0;
+        synchronized (buffer) {
+            buffer.add(new Pending(pokemon, written));
+            if (buffer.size() >= batchSize) {
+                batch = drain();
+                id = ++lastBatch;
+                running.add(id);
+            }
+        }
+        if (batch != null) write(id, batch);
+    }
+
+    /**
+     * Grava o que está no buffer e espera os lotes que outras threads já
+     * separaram: ao voltar, tudo o que foi adicionado antes está no banco.
+     */
+    public void flush() {
+        List<Pending> batch;
+        long id;
+        synchronized (buffer) {
+            batch = drain();
+            id = ++lastBatch;
+            running.add(id);
+        }
+        write(id, batch);
+
+        synchronized (buffer) {
+            while (!running.isEmpty() && running.first() <= id) {
+                try {
+                    buffer.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrompido esperando a gravação dos lotes", e);
+                }
+            }
+        }
+    }
+
+    // ===================== AUXILIARES =====================
+    private List<Pending> drain() {
+        List<Pending> batch = new ArrayList<>(buffer);
+        buffer.clear();
+        return batch;
+    }
+
+    private void write(long id, List<Pending> batch) {
+        List<Pending> saved = new ArrayList<>(batch.size());
+        List<Pending> failed = new ArrayList<>();
+        try {
+            if (!batch.isEmpty()) persistAll(batch, saved, failed);
+        } finally {
+            synchronized (buffer) {
+                running.remove(id);
+                buffer.notifyAll();
+            }
+        }
+
+        // avisos fora do monitor e depois de o lote sair de running: quem recebe o aviso pode chamar flush()
+        saved.forEach(pending -> report(pending, true));
+        failed.forEach(pending -> report(pending, false));
+    }
+
+    private void persistAll(List<Pending> batch, List<Pending> saved, List<Pending> failed) {
+        List<Pokemon> pokemons = batch.stream().map(Pending::pokemon).toList();
+        try {
+            registerTerms(pokemons);
+            persist(pokemons);
+            saved.addAll(batch);
+        } catch (RuntimeException e) {
+            // um registro inválido não pode derrubar o lote inteiro
+            for (Pending pending : batch) {
+                try {
+                    resetCollections(pending.pokemon());
+                    persist(List.of(pending.pokemon()));
+                    saved.add(pending);
+                } catch (RuntimeException single) {
+                    log.warn("Erro ao gravar {}: {}", pending.pokemon().getName(), single.getMessage());
+                    failed.add(pending);
+                }
+            }
+        } finally {
+            catalogVersion.bump();
+        }
+    }
+
+    private static void report(Pending pending, boolean written) {
+        try {
+            pending.written().accept(written);
+        } catch (RuntimeException e) {
+            log.warn("Erro no aviso de gravação de {}: {}", pending.pokemon().getName(), e.getMessage());
+        }
+    }
+
+    // tipos, habilidades e golpes novos entram no dicionário antes dos INSERTs que usam o código
+    private void registerTerms(List<Pokemon> batch) {
+        termDictionary.register(TermDictionary.Kind.TYPE, terms(batch, Pokemon::getType));
+        termDictionary.register(TermDictionary.Kind.ABILITY, terms(batch, Pokemon::getAbility));
+        termDictionary.register(TermDictionary.Kind.MOVE, terms(batch, Pokemon::getMove));
+    }
+
+    private static List<String> terms(List<Pokemon> batch, Function<Pokemon, List<String>> collection) {
+        return batch.stream()
+                .map(collection)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    // as coleções ficaram presas à sessão da transação desfeita
+    private void resetCollections(Pokemon pokemon) {
+        if (pokemon.getType() != null) pokemon.setType(new ArrayList<>(pokemon.getType()));
+        if (pokemon.getAbility() != null) pokemon.setAbility(new ArrayList<>(pokemon.getAbility()));
+        if (pokemon.getMove() != null) pokemon.setMove(new ArrayList<>(pokemon.getMove()));
+        if (pokemon.getStats() != null) pokemon.setStats(new HashMap<>(pokemon.getStats()));
+        if (pokemon.getEvolution() != null) pokemon.setEvolution(new ArrayList<>(pokemon.getEvolution()));
+    }
+
+    private void persist(List<Pokemon> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
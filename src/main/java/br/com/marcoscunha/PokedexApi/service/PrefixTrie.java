@@ -0,0 +1,205 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Trie imutável para as sugestões da busca, guardada em vetores (um nó por
+ * posição, filhos contíguos e ordenados) em vez de um objeto por nó.
+ * <p>
+ * As chaves ficam ordenadas, então as chaves abaixo de um nó formam um
+ * intervalo contínuo de {@link #keys}. A busca aceita um erro de digitação
+ * (distância de edição 1) calculando a linha de Levenshtein a cada nó
+ * visitado e descartando os ramos que já passaram desse limite.
+ */
+final class PrefixTrie {
+
+    /**
+     * @param key    chave encontrada
+     * @param value  valor associado (ID do Pokémon ou quantidade de Pokémons)
+     * @param edits  0 para prefixo exato, 1 para um erro de digitação
+     */
+    record Hit(String key, long value, int edits) {
+    }
+
+    // consultas mais curtas que isso não aceitam erro: "a" com um erro casaria tudo
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final int MAX_EDITS = 1;
+
+    private final String[] keys;
+    private final long[] values;
+
+    // por nó: caractere de entrada, primeiro filho, quantidade de filhos, profundidade e intervalo de chaves
+    private final char[] label;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] depth;
+    private final int[] from;
+    private final int[] to;
+
+    private PrefixTrie(String[] keys, long[] values) {
+        this.keys = keys;
+        this.values = values;
+
+        int capacity = 1;
+        for (String key : keys) capacity += key.length();
+        char[] label = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] childCount = new int[capacity];
+        int[] depth = new int[capacity];
+        int[] from = new int[capacity];
+        int[] to = new int[capacity];
+
+        // em largura: os filhos de cada nó saem em posições seguidas
+        to[0] = keys.length;
+        int count = 1;
+        for (int node = 0; node < count; node++) {
+            int position = from[node];
+            if (position < to[node] && keys[position].length() == depth[node]) position++;
+
+            firstChild[node] = count;
+            while (position < to[node]) {
+                char c = keys[position].charAt(depth[node]);
+                int end = position;
+                while (end < to[node] && keys[end].charAt(depth[node]) == c) end++;
+
+                label[count] = c;
+                depth[count] = depth[node] + 1;
+                from[count] = position;
+                to[count] = end;
+                count++;
+                position = end;
+            }
+            childCount[node] = count - firstChild[node];
+        }
+
+        this.label = Arrays.copyOf(label, count);
+        this.firstChild = Arrays.copyOf(firstChild, count);
+        this.childCount = Arrays.copyOf(childCount, count);
+        this.depth = Arrays.copyOf(depth, count);
+        this.from = Arrays.copyOf(from, count);
+        this.to = Arrays.copyOf(to, count);
+    }
+
+    /**
+     * @param entries chave (já em minúsculas) → valor
+     */
+    static PrefixTrie of(Map<String, Long> entries) {
+        String[] keys = entries.keySet().toArray(String[]::new);
+        Arrays.sort(keys);
+        long[] values = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) values[i] = entries.get(keys[i]);
+        return new PrefixTrie(keys, values);
+    }
+
+    /**
+     * Chaves que começam com {@code query}. Se elas não chegam a {@code limit},
+     * completa com as que estão a um erro de digitação. Ordem: prefixos exatos
+     * (a chave idêntica primeiro), depois maior valor (quando {@code byValue}),
+     * chave mais curta e ordem alfabética.
+     */
+    List<Hit> search(String query, int limit, boolean byValue) {
+        if (query.isEmpty() || keys.length == 0) return List.of();
+
+        // a chave igual ao que foi digitado vem antes dos demais prefixos
+        Comparator<Hit> order = Comparator.comparingInt(Hit::edits)
+                .thenComparing(hit -> !hit.key().equals(query));
+        if (byValue) order = order.thenComparing(Comparator.comparingLong(Hit::value).reversed());
+        order = order.thenComparingInt(hit -> hit.key().length()).thenComparing(Hit::key);
+
+        // só os limit melhores ficam guardados; o pior fica no topo
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, order.reversed());
+
+        int node = find(query);
+        int exact = node < 0 ? 0 : to[node] - from[node];
+        if (node >= 0) {
+            for (int key = from[node]; key < to[node]; key++) offer(best, new Hit(keys[key], values[key], 0), limit, order);
+        }
+
+        if (exact < limit && query.length() >= MIN_FUZZY_LENGTH) {
+            boolean[] seen = new boolean[keys.length];
+            if (node >= 0) Arrays.fill(seen, from[node], to[node], true);
+
+            int[] row = new int[query.length() + 1];
+            for (int j = 0; j < row.length; j++) row[j] = j;
+            visitChildren(0, query, row, seen, best, limit, order);
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(order);
+        return hits;
+    }
+
+    // ===================== BUSCA =====================
+    // nó alcançado digitando exatamente query, ou -1
+    private int find(String query) {
+        int node = 0;
+        for (int i = 0; i < query.length() && node >= 0; i++) {
+            node = child(node, query.charAt(i));
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (label[middle] < c) low = middle + 1;
+            else if (label[middle] > c) high = middle - 1;
+            else return middle;
+        }
+        return -1;
+    }
+
+    // caminhos a um erro de query; as chaves do caminho exato já estão marcadas em seen
+    private void visitChildren(int node, String query, int[] previous, boolean[] seen,
+                               PriorityQueue<Hit> best, int limit, Comparator<Hit> order) {
+        int end = firstChild[node] + childCount[node];
+        for (int child = firstChild[node]; child < end; child++) {
+            int[] row = nextRow(previous, query, label[child]);
+            int last = row[query.length()];
+            if (last == 0) continue;
+
+            // a consulta inteira casou com o caminho até aqui (com um erro): tudo abaixo é sugestão
+            if (last <= MAX_EDITS) {
+                for (int key = from[child]; key < to[child]; key++) {
+                    if (seen[key]) continue;
+                    seen[key] = true;
+                    offer(best, new Hit(keys[key], values[key], last), limit, order);
+                }
+            } else if (min(row) <= MAX_EDITS) {
+                visitChildren(child, query, row, seen, best, limit, order);
+            }
+        }
+    }
+
+    private static void offer(PriorityQueue<Hit> best, Hit hit, int limit, Comparator<Hit> order) {
+        if (best.size() < limit) {
+            best.add(hit);
+        } else if (order.compare(hit, best.peek()) < 0) {
+            best.poll();
+            best.add(hit);
+        }
+    }
+
+    private static int[] nextRow(int[] previous, String query, char c) {
+        int[] row = new int[previous.length];
+        row[0] = previous[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int substitution = previous[j - 1] + (query.charAt(j - 1) == c ? 0 : 1);
+            row[j] = Math.min(substitution, Math.min(previous[j], row[j - 1]) + 1);
+        }
+        return row;
+    }
+
+    private static int min(int[] row) {
+        int min = row[0];
+        for (int value : row) min = Math.min(min, value);
+        return min;
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Respostas já serializadas (e comprimidas) das consultas do catálogo,
+ * válidas enquanto a {@link CatalogVersion} não mudar. O tamanho é limitado
+ * em bytes; ao passar do limite, as menos usadas recentemente saem primeiro.
+ * <p>
+ * Métricas: {@code pokedex.response.cache.requests} (hit/miss),
+ * {@code .evictions}, {@code .entries} e {@code .bytes}.
+ */
+@Component
+public class ResponseCache {
+
+    /**
+     * @param headers cabeçalhos da resposta original que precisam ser repetidos (Content-Type, paginação)
+     */
+    public record Entry(long version, String etag, byte[] gzipped, Map<String, String> headers) {
+    }
+
+    @Value("${pokeapi.cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+    private long cachedVersion;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public ResponseCache(MeterRegistry registry) {
+        hits = Counter.builder("pokedex.response.cache.requests").tag("result", "hit").register(registry);
+        misses = Counter.builder("pokedex.response.cache.requests").tag("result", "miss").register(registry);
+        evictions = Counter.builder("pokedex.response.cache.evictions").register(registry);
+        Gauge.builder("pokedex.response.cache.entries", this, cache -> cache.stats()[0]).register(registry);
+        Gauge.builder("pokedex.response.cache.bytes", this, cache -> cache.stats()[1]).baseUnit("bytes").register(registry);
+    }
+
+    public long version() {
+        return catalogVersion.current();
+    }
+
+    public synchronized Optional<Entry> get(String key) {
+        discardIfStale();
+        Entry entry = entries.get(key);
+        (entry != null ? hits : misses).increment();
+        return Optional.ofNullable(entry);
+    }
+
+    public synchronized void put(String key, Entry entry) {
+        discardIfStale();
+        // gerada antes de uma importação gravar algo: já nasce velha
+        if (entry.version() != cachedVersion || entry.gzipped().length > maxBytes) return;
+
+        remove(key);
+        entries.put(key, entry);
+        bytes += entry.gzipped().length;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().gzipped().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    // o catálogo mudou: nenhuma resposta guardada vale mais
+    private void discardIfStale() {
+        long current = catalogVersion.current();
+        if (current == cachedVersion) return;
+
+        entries.clear();
+        bytes = 0;
+        cachedVersion = current;
+    }
+
+    private void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous != null) bytes -= previous.gzipped().length;
+    }
+
+    private synchronized double[] stats() {
+        return new double[]{entries.size(), bytes};
+    }
+}
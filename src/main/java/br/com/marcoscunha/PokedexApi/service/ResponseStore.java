@@ -0,0 +1,104 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Armazenamento local (em disco) das respostas da PokéAPI.
+ * <p>
+ * Os corpos ficam em {@code objects/}, comprimidos com gzip e nomeados pelo
+ * SHA-256 do conteúdo (respostas idênticas, como sprites repetidas, são
+ * guardadas uma vez só). Em {@code refs/} cada URL aponta para o seu objeto,
+ * junto com o ETag e o Last-Modified usados na revalidação.
+ */
+@Component
+public class ResponseStore {
+
+    public record Entry(String url, byte[] body, String etag, String lastModified) {
+    }
+
+    @Value("${pokeapi.store.dir:data/pokeapi-store}")
+    private Path directory;
+
+    public Optional<Entry> lookup(String url) {
+        Path refFile = refPath(url);
+        if (!Files.exists(refFile)) return Optional.empty();
+
+        try {
+            Properties ref = new Properties();
+            try (InputStream in = Files.newInputStream(refFile)) {
+                ref.load(in);
+            }
+
+            String objectHash = ref.getProperty("object");
+            if (!isHash(objectHash)) {
+                // ref sem objeto (gravação interrompida, edição manual): descartada, o download regrava
+                Files.deleteIfExists(refFile);
+                return Optional.empty();
+            }
+
+            Path objectFile = objectPath(objectHash);
+            if (!Files.exists(objectFile)) return Optional.empty();
+
+            byte[] body;
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(objectFile))) {
+                body = in.readAllBytes();
+            }
+            return Optional.of(new Entry(url, body, ref.getProperty("etag"), ref.getProperty("last-modified")));
+        } catch (IOException | IllegalArgumentException e) {
+            // entrada corrompida (inclusive escape inválido na ref): tratada como ausente e regravada no próximo download
+            return Optional.empty();
+        }
+    }
+
+    public void save(Entry entry) {
+        try {
+            String objectHash = StorageSupport.sha256(entry.body());
+            Path objectFile = objectPath(objectHash);
+
+            if (!Files.exists(objectFile)) {
+                StorageSupport.writeAtomically(objectFile, out -> {
+                    try (OutputStream gzip = new GZIPOutputStream(out)) {
+                        gzip.write(entry.body());
+                    }
+                });
+            }
+
+            Properties ref = new Properties();
+            ref.setProperty("url", entry.url());
+            ref.setProperty("object", objectHash);
+            if (entry.etag() != null) ref.setProperty("etag", entry.etag());
+            if (entry.lastModified() != null) ref.setProperty("last-modified", entry.lastModified());
+
+            StorageSupport.writeAtomically(refPath(entry.url()), out -> ref.store(out, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar resposta de " + entry.url(), e);
+        }
+    }
+
+    // ===================== AUXILIARES =====================
+    private Path refPath(String url) {
+        String hash = StorageSupport.sha256(url.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve("refs").resolve(hash.substring(0, 2)).resolve(hash + ".properties");
+    }
+
+    private static boolean isHash(String value) {
+        return value != null && value.length() == 64 && value.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+    }
+
+    private Path objectPath(String hash) {
+        return directory.resolve("objects").resolve(hash.substring(0, 2)).resolve(hash + ".gz");
+    }
+}
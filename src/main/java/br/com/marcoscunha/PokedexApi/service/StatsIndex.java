@@ -0,0 +1,148 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.dto.StatRange;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stats do catálogo em colunas de {@code short}, uma por stat mais o total,
+ * sem {@code Integer} nem mapas. Cada coluna também fica ordenada por valor:
+ * uma faixa ({@code speed >= 100}) vira duas buscas binárias, e os K maiores
+ * (ou menores) saem percorrendo a ordem até juntar K candidatos.
+ * <p>
+ * As posições são as mesmas do {@link CatalogSnapshot} (ordem de ID); stat
+ * ausente conta como 0.
+ */
+final class StatsIndex {
+
+    private static final int TOTAL = StatRange.STATS.size();
+
+    // [coluna][posição]
+    private final short[][] values;
+    // [coluna][i]: posições em ordem crescente de valor (empate: menor ID antes) e os valores nessa ordem
+    private final int[][] order;
+    private final short[][] sorted;
+
+    private StatsIndex(List<Pokemon> pokemons) {
+        int size = pokemons.size();
+        values = new short[TOTAL + 1][size];
+        order = new int[TOTAL + 1][];
+        sorted = new short[TOTAL + 1][];
+
+        for (int position = 0; position < size; position++) {
+            Map<String, Integer> stats = pokemons.get(position).getStats();
+            int total = 0;
+            for (int column = 0; column < TOTAL; column++) {
+                Integer value = stats == null ? null : stats.get(StatRange.STATS.get(column));
+                int stat = value == null ? 0 : value;
+                values[column][position] = (short) stat;
+                total += stat;
+            }
+            values[TOTAL][position] = (short) total;
+        }
+
+        for (int column = 0; column <= TOTAL; column++) {
+            // valor e posição num long só: ordenação primitiva, sem Comparator
+            long[] keys = new long[size];
+            for (int position = 0; position < size; position++) {
+                keys[position] = ((long) values[column][position] << 32) | position;
+            }
+            Arrays.sort(keys);
+
+            order[column] = new int[size];
+            sorted[column] = new short[size];
+            for (int i = 0; i < size; i++) {
+                order[column][i] = (int) keys[i];
+                sorted[column][i] = (short) (keys[i] >> 32);
+            }
+        }
+    }
+
+    static StatsIndex of(List<Pokemon> pokemons) {
+        return new StatsIndex(pokemons);
+    }
+
+    /**
+     * Posições com {@code min <= stat <= max}.
+     */
+    BitSet range(StatRange range) {
+        int column = column(range.stat());
+        short[] values = sorted[column];
+
+        int from = firstAtLeast(values, range.min());
+        int to = range.max() == Integer.MAX_VALUE ? values.length : firstAtLeast(values, range.max() + 1);
+
+        BitSet positions = new BitSet(values.length);
+        for (int i = from; i < to; i++) positions.set(order[column][i]);
+        return positions;
+    }
+
+    /**
+     * Até {@code limit} posições de {@code candidates}, ordenadas pelo stat,
+     * começando logo depois de {@code after} nessa ordem ({@code -1}: do início).
+     * Empates saem em ordem de ID nas duas direções, então (valor, ID) é o
+     * cursor da paginação.
+     */
+    int[] top(String stat, boolean descending, BitSet candidates, int after, int limit) {
+        int column = column(stat);
+        int[] positions = order[column];
+        short[] values = sorted[column];
+
+        int[] top = new int[Math.min(limit, candidates.cardinality())];
+        int found = 0;
+        if (!descending) {
+            int begin = after < 0 ? 0 : indexOf(column, after) + 1;
+            for (int i = begin; i < positions.length && found < top.length; i++) {
+                if (candidates.get(positions[i])) top[found++] = positions[i];
+            }
+            return Arrays.copyOf(top, found);
+        }
+
+        // decrescente por valor, mas cada grupo de valores iguais em ordem crescente de ID;
+        // com cursor, o primeiro grupo é o dele e começa logo depois dele
+        int end = positions.length - 1;
+        int skip = -1;
+        if (after >= 0) {
+            skip = indexOf(column, after);
+            end = firstAtLeast(values, values[skip] + 1) - 1;
+        }
+        while (end >= 0 && found < top.length) {
+            int start = end;
+            while (start > 0 && values[start - 1] == values[end]) start--;
+            for (int i = Math.max(start, skip + 1); i <= end && found < top.length; i++) {
+                if (candidates.get(positions[i])) top[found++] = positions[i];
+            }
+            skip = -1;
+            end = start - 1;
+        }
+        return Arrays.copyOf(top, found);
+    }
+
+    // ===================== AUXILIARES =====================
+    private static int column(String stat) {
+        return StatRange.TOTAL.equals(stat) ? TOTAL : StatRange.STATS.indexOf(stat);
+    }
+
+    // índice da posição na ordem da coluna: no grupo do seu valor, as posições são crescentes
+    private int indexOf(int column, int position) {
+        short value = values[column][position];
+        int from = firstAtLeast(sorted[column], value);
+        int to = firstAtLeast(sorted[column], value + 1);
+        return Arrays.binarySearch(order[column], from, to, position);
+    }
+
+    private static int firstAtLeast(short[] values, int minimum) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < minimum) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hash de conteúdo e gravação atômica de arquivos, usados pelo armazenamento
+ * das respostas da PokéAPI, pelas sprites, pelo cache de respostas e pela
+ * exportação do catálogo.
+ */
+public final class StorageSupport {
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private StorageSupport() {
+    }
+
+    /**
+     * SHA-256 em hexadecimal (64 caracteres).
+     */
+    public static String sha256(byte[] data) {
+        return HexFormat.of().formatHex(digest().digest(data));
+    }
+
+    /**
+     * ETag forte do conteúdo: os primeiros 128 bits do SHA-256, entre aspas.
+     */
+    public static String etag(byte[] data) {
+        return "\"" + HexFormat.of().formatHex(digest().digest(data), 0, 16) + "\"";
+    }
+
+    /**
+     * Grava num arquivo temporário ao lado do destino e troca de uma vez:
+     * quem lê o arquivo nunca vê uma gravação pela metade.
+     *
+     * @return o SHA-256 do conteúdo gravado
+     */
+    public static String writeAtomically(Path target, Writer writer) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            String hash = write(temp, writer);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return hash;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Grava o conteúdo num arquivo com o hash no nome
+     * ({@code prefixo-<32 hex>sufixo}). O arquivo nunca é regravado: quem o
+     * abre depois, mesmo com uma versão nova já gravada, lê o mesmo conteúdo.
+     *
+     * @return o arquivo gravado (ou o que já existia com o mesmo conteúdo)
+     */
+    public static Path writeAddressed(Path directory, String prefix, String suffix, Writer writer) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, prefix, ".tmp");
+        try {
+            String hash = write(temp, writer);
+            Path target = directory.resolve(prefix + "-" + hash.substring(0, 32) + suffix);
+            if (!Files.exists(target)) {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String write(Path file, Writer writer) throws IOException {
+        MessageDigest digest = digest();
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(file), digest)) {
+            writer.write(out);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
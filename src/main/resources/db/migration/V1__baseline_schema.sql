@@ -0,0 +1,62 @@
+-- Esquema criado até aqui pelo ddl-auto=update do Hibernate. Em bancos já
+-- existentes as tabelas são mantidas como estão (IF NOT EXISTS).
+
+CREATE TABLE IF NOT EXISTS pokemons (
+    height      INTEGER      NOT NULL,
+    weight      INTEGER      NOT NULL,
+    id          BIGINT       NOT NULL,
+    generation  VARCHAR(50),
+    description VARCHAR(255) NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    sprite      VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pokemon_types (
+    pokemon_id BIGINT NOT NULL,
+    type       VARCHAR(50),
+    CONSTRAINT FK1sm3905xlixo7nya31jarisc5 FOREIGN KEY (pokemon_id) REFERENCES pokemons (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pokemon_abilities (
+    pokemon_id BIGINT NOT NULL,
+    ability    VARCHAR(100),
+    CONSTRAINT FKlrp6841657cqf6we0t38vpofn FOREIGN KEY (pokemon_id) REFERENCES pokemons (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pokemon_moves (
+    pokemon_id BIGINT NOT NULL,
+    move       VARCHAR(100),
+    CONSTRAINT FKmcj0jjhjkgbrymr8cilxs9dew FOREIGN KEY (pokemon_id) REFERENCES pokemons (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pokemon_stats (
+    stat_value INTEGER,
+    pokemon_id BIGINT       NOT NULL,
+    stat_name  VARCHAR(100) NOT NULL,
+    PRIMARY KEY (pokemon_id, stat_name),
+    CONSTRAINT FKhn101wkmg6gk7edlc6v01vkk6 FOREIGN KEY (pokemon_id) REFERENCES pokemons (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pokemon_evolutions (
+    pokemon_id BIGINT NOT NULL,
+    evolution  VARCHAR(100),
+    CONSTRAINT FKkdpn9bj6s2cub601gol9u7pnc FOREIGN KEY (pokemon_id) REFERENCES pokemons (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pokemon_sprites (
+    pokemon_id   BIGINT NOT NULL,
+    content_type VARCHAR(50),
+    etag         VARCHAR(64),
+    data         MEDIUMBLOB,
+    PRIMARY KEY (pokemon_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    completed       BIT         NOT NULL,
+    cursor_position INTEGER     NOT NULL,
+    total           INTEGER     NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    job             VARCHAR(50) NOT NULL,
+    PRIMARY KEY (job)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- Índices da busca. Nas coleções o pokemon_id vai junto do valor, então o
+-- EXISTS da busca avançada é resolvido só pelo índice.
+
+CREATE INDEX idx_pokemon_types_type ON pokemon_types (type, pokemon_id);
+CREATE INDEX idx_pokemon_abilities_ability ON pokemon_abilities (ability, pokemon_id);
+CREATE INDEX idx_pokemon_moves_move ON pokemon_moves (move, pokemon_id);
+CREATE INDEX idx_pokemons_name ON pokemons (name);
+CREATE INDEX idx_pokemons_generation ON pokemons (generation);
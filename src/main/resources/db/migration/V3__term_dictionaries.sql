@@ -0,0 +1,63 @@
+-- Tipos, habilidades e golpes normalizados: cada termo é gravado uma vez no
+-- seu dicionário e as coleções dos Pokémons guardam só o código (SMALLINT)
+-- no lugar do VARCHAR repetido.
+
+CREATE TABLE types (
+    id   SMALLINT    NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_types_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE abilities (
+    id   SMALLINT     NOT NULL AUTO_INCREMENT,
+    name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_abilities_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE moves (
+    id   SMALLINT     NOT NULL AUTO_INCREMENT,
+    name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_moves_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+-- ===================== pokemon_types =====================
+INSERT INTO types (name) SELECT DISTINCT type FROM pokemon_types WHERE type IS NOT NULL ORDER BY type;
+
+ALTER TABLE pokemon_types ADD COLUMN type_id SMALLINT;
+UPDATE pokemon_types SET type_id = (SELECT t.id FROM types t WHERE t.name = pokemon_types.type);
+DELETE FROM pokemon_types WHERE type_id IS NULL;
+
+DROP INDEX idx_pokemon_types_type ON pokemon_types;
+ALTER TABLE pokemon_types DROP COLUMN type;
+ALTER TABLE pokemon_types MODIFY type_id SMALLINT NOT NULL;
+CREATE INDEX idx_pokemon_types_type ON pokemon_types (type_id, pokemon_id);
+ALTER TABLE pokemon_types ADD CONSTRAINT fk_pokemon_types_type FOREIGN KEY (type_id) REFERENCES types (id);
+
+-- ===================== pokemon_abilities =====================
+INSERT INTO abilities (name) SELECT DISTINCT ability FROM pokemon_abilities WHERE ability IS NOT NULL ORDER BY ability;
+
+ALTER TABLE pokemon_abilities ADD COLUMN ability_id SMALLINT;
+UPDATE pokemon_abilities SET ability_id = (SELECT a.id FROM abilities a WHERE a.name = pokemon_abilities.ability);
+DELETE FROM pokemon_abilities WHERE ability_id IS NULL;
+
+DROP INDEX idx_pokemon_abilities_ability ON pokemon_abilities;
+ALTER TABLE pokemon_abilities DROP COLUMN ability;
+ALTER TABLE pokemon_abilities MODIFY ability_id SMALLINT NOT NULL;
+CREATE INDEX idx_pokemon_abilities_ability ON pokemon_abilities (ability_id, pokemon_id);
+ALTER TABLE pokemon_abilities ADD CONSTRAINT fk_pokemon_abilities_ability FOREIGN KEY (ability_id) REFERENCES abilities (id);
+
+-- ===================== pokemon_moves =====================
+INSERT INTO moves (name) SELECT DISTINCT move FROM pokemon_moves WHERE move IS NOT NULL ORDER BY move;
+
+ALTER TABLE pokemon_moves ADD COLUMN move_id SMALLINT;
+UPDATE pokemon_moves SET move_id = (SELECT m.id FROM moves m WHERE m.name = pokemon_moves.move);
+DELETE FROM pokemon_moves WHERE move_id IS NULL;
+
+DROP INDEX idx_pokemon_moves_move ON pokemon_moves;
+ALTER TABLE pokemon_moves DROP COLUMN move;
+ALTER TABLE pokemon_moves MODIFY move_id SMALLINT NOT NULL;
+CREATE INDEX idx_pokemon_moves_move ON pokemon_moves (move_id, pokemon_id);
+ALTER TABLE pokemon_moves ADD CONSTRAINT fk_pokemon_moves_move FOREIGN KEY (move_id) REFERENCES moves (id);
@@ -0,0 +1,15 @@
+-- Grafo de evolução: uma linha por espécie, apontando para o estágio anterior.
+-- O ID da espécie é o do Pokémon padrão dela; não há FK para pokemons porque
+-- a cadeia pode citar espécies que ainda não foram importadas.
+-- branch ordena os ramos de um mesmo estágio (as evoluções do Eevee).
+
+CREATE TABLE evolution_nodes (
+    pokemon_id BIGINT       NOT NULL,
+    chain_id   INTEGER      NOT NULL,
+    parent_id  BIGINT,
+    branch     SMALLINT     NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    PRIMARY KEY (pokemon_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_evolution_nodes_chain ON evolution_nodes (chain_id);
@@ -5,4 +5,4 @@ ${n.map((r,i)=>`${i+1}) ${r.toString()}`).join(`
 `+e.message,i,n,r),e[nv]=i,e[ao]=null,e}function cv(e,t,n,r=null){e=e&&e.charAt(0)===`
 `&&e.charAt(1)==iv?e.slice(2):e;let i=Ce(t);if(Array.isArray(t))i=t.map(Ce).join(" -> ");else if(typeof t=="object"){let o=[];for(let s in t)if(t.hasOwnProperty(s)){let a=t[s];o.push(s+":"+(typeof a=="string"?JSON.stringify(a):Ce(a)))}i=`{${o.join(", ")}}`}return`${n}${r?"("+r+")":""}[${i}]: ${e.replace(rv,`
   `)}`}var Pr=pf(of("Optional"),8);var No=pf(of("SkipSelf"),4);function jn(e,t){let n=e.hasOwnProperty(so);return n?e[so]:null}function uv(e,t,n){if(e.length!==t.length)return!1;for(let r=0;r<e.length;r++){let i=e[r],o=t[r];if(n&&(i=n(i),o=n(o)),o!==i)return!1}return!0}function dv(e){return e.flat(Number.POSITIVE_INFINITY)}function Tl(e,t){e.forEach(n=>Array.isArray(n)?Tl(n,t):t(n))}function gf(e,t,n){t>=e.length?e.push(n):e.splice(t,0,n)}function lo(e,t){return t>=e.length-1?e.pop():e.splice(t,1)[0]}function fv(e,t,n,r){let i=e.length;if(i==t)e.push(n,r);else if(i===1)e.push(r,e[0]),e[0]=n;else{for(i--,e.push(e[i-1],e[i]);i>t;){let o=i-2;e[i]=e[o],i--}e[t]=n,e[t+1]=r}}function hv(e,t,n){let r=Fr(e,t);return r>=0?e[r|1]=n:(r=~r,fv(e,r,t,n)),r}function ca(e,t){let n=Fr(e,t);if(n>=0)return e[n|1]}function Fr(e,t){return pv(e,t,1)}function pv(e,t,n){let r=0,i=e.length>>n;for(;i!==r;){let o=r+(i-r>>1),s=e[o<<n];if(t===s)return o<<n;s>t?i=o:r=o+1}return~(i<<n)}var Un={},Le=[],Bn=new I(""),mf=new I("",-1),vf=new I(""),co=class{get(t,n=wr){if(n===wr){let r=new Error(`NullInjectorError: No provider for ${Ce(t)}!`);throw r.name="NullInjectorError",r}return n}},yf=function(e){return e[e.OnPush=0]="OnPush",e[e.Default=1]="Default",e}(yf||{}),et=function(e){return e[e.Emulated=0]="Emulated",e[e.None=2]="None",e[e.ShadowDom=3]="ShadowDom",e}(et||{}),Oe=function(e){return e[e.None=0]="None",e[e.SignalBased=1]="SignalBased",e[e.HasDecoratorInputTransform=2]="HasDecoratorInputTransform",e}(Oe||{});function gv(e,t,n){let r=e.length;for(;;){let i=e.indexOf(t,n);if(i===-1)return i;if(i===0||e.charCodeAt(i-1)<=32){let o=t.length;if(i+o===r||e.charCodeAt(i+o)<=32)return i}n=i+1}}function Sa(e,t,n){let r=0;for(;r<n.length;){let i=n[r];if(typeof i=="number"){if(i!==0)break;r++;let o=n[r++],s=n[r++],a=n[r++];e.setAttribute(t,s,a,o)}else{let o=i,s=n[++r];vv(o)?e.setProperty(t,o,s):e.setAttribute(t,o,s),r++}}return r}function mv(e){return e===3||e===4||e===6}function vv(e){return e.charCodeAt(0)===64}function _r(e,t){if(!(t===null||t.length===0))if(e===null||e.length===0)e=t.slice();else{let n=-1;for(let r=0;r<t.length;r++){let i=t[r];typeof i=="number"?n=i:n===0||(n===-1||n===2?Cd(e,n,i,null,t[++r]):Cd(e,n,i,null,null))}}return e}function Cd(e,t,n,r,i){let o=0,s=e.length;if(t===-1)s=-1;else for(;o<e.length;){let a=e[o++];if(typeof a=="number"){if(a===t){s=-1;break}else if(a>t){s=o-1;break}}}for(;o<e.length;){let a=e[o];if(typeof a=="number")break;if(a===n){if(r===null){i!==null&&(e[o+1]=i);return}else if(r===e[o+1]){e[o+2]=i;return}}o++,r!==null&&o++,i!==null&&o++}s!==-1&&(e.splice(s,0,t),o=s+1),e.splice(o++,0,n),r!==null&&e.splice(o++,0,r),i!==null&&e.splice(o++,0,i)}var Df="ng-template";function yv(e,t,n,r){let i=0;if(r){for(;i<t.length&&typeof t[i]=="string";i+=2)if(t[i]==="class"&&gv(t[i+1].toLowerCase(),n,0)!==-1)return!0}else if(Al(e))return!1;if(i=t.indexOf(1,i),i>-1){let o;for(;++i<t.length&&typeof(o=t[i])=="string";)if(o.toLowerCase()===n)return!0}return!1}function Al(e){return e.type===4&&e.value!==Df}function Dv(e,t,n){let r=e.type===4&&!n?Df:e.value;return t===r}function Cv(e,t,n){let r=4,i=e.attrs,o=i!==null?Ev(i):0,s=!1;for(let a=0;a<t.length;a++){let l=t[a];if(typeof l=="number"){if(!s&&!$e(r)&&!$e(l))return!1;if(s&&$e(l))continue;s=!1,r=l|r&1;continue}if(!s)if(r&4){if(r=2|r&1,l!==""&&!Dv(e,l,n)||l===""&&t.length===1){if($e(r))return!1;s=!0}}else if(r&8){if(i===null||!yv(e,i,l,n)){if($e(r))return!1;s=!0}}else{let c=t[++a],u=wv(l,i,Al(e),n);if(u===-1){if($e(r))return!1;s=!0;continue}if(c!==""){let d;if(u>o?d="":d=i[u+1].toLowerCase(),r&2&&c!==d){if($e(r))return!1;s=!0}}}}return $e(r)||s}function $e(e){return(e&1)===0}function wv(e,t,n,r){if(t===null)return-1;let i=0;if(r||!n){let o=!1;for(;i<t.length;){let s=t[i];if(s===e)return i;if(s===3||s===6)o=!0;else if(s===1||s===2){let a=t[++i];for(;typeof a=="string";)a=t[++i];continue}else{if(s===4)break;if(s===0){i+=4;continue}}i+=o?1:2}return-1}else return bv(t,e)}function _v(e,t,n=!1){for(let r=0;r<t.length;r++)if(Cv(e,t[r],n))return!0;return!1}function Ev(e){for(let t=0;t<e.length;t++){let n=e[t];if(mv(n))return t}return e.length}function bv(e,t){let n=e.indexOf(4);if(n>-1)for(n++;n<e.length;){let r=e[n];if(typeof r=="number")return-1;if(r===t)return n;n++}return-1}function wd(e,t){return e?":not("+t.trim()+")":t}function Iv(e){let t=e[0],n=1,r=2,i="",o=!1;for(;n<e.length;){let s=e[n];if(typeof s=="string")if(r&2){let a=e[++n];i+="["+s+(a.length>0?'="'+a+'"':"")+"]"}else r&8?i+="."+s:r&4&&(i+=" "+s);else i!==""&&!$e(s)&&(t+=wd(o,i),i=""),r=s,o=o||!$e(r);n++}return i!==""&&(t+=wd(o,i)),t}function Mv(e){return e.map(Iv).join(",")}function xv(e){let t=[],n=[],r=1,i=2;for(;r<e.length;){let o=e[r];if(typeof o=="string")i===2?o!==""&&t.push(o,e[++r]):i===8&&n.push(o);else{if(!$e(i))break;i=o}r++}return{attrs:t,classes:n}}function Pt(e){return Or(()=>{let t=_f(e),n=q(D({},t),{decls:e.decls,vars:e.vars,template:e.template,consts:e.consts||null,ngContentSelectors:e.ngContentSelectors,onPush:e.changeDetection===yf.OnPush,directiveDefs:null,pipeDefs:null,dependencies:t.standalone&&e.dependencies||null,getStandaloneInjector:null,signals:e.signals??!1,data:e.data||{},encapsulation:e.encapsulation||et.Emulated,styles:e.styles||Le,_:null,schemas:e.schemas||null,tView:null,id:""});Ef(n);let r=e.dependencies;return n.directiveDefs=Ed(r,!1),n.pipeDefs=Ed(r,!0),n.id=Av(n),n})}function Sv(e){return tt(e)||Nl(e)}function Tv(e){return e!==null}function mt(e){return Or(()=>({type:e.type,bootstrap:e.bootstrap||Le,declarations:e.declarations||Le,imports:e.imports||Le,exports:e.exports||Le,transitiveCompileScopes:null,schemas:e.schemas||null,id:e.id||null}))}function _d(e,t){if(e==null)return Un;let n={};for(let r in e)if(e.hasOwnProperty(r)){let i=e[r],o,s,a=Oe.None;Array.isArray(i)?(a=i[0],o=i[1],s=i[2]??o):(o=i,s=i),t?(n[o]=a!==Oe.None?[r,a]:r,t[o]=s):n[o]=r}return n}function de(e){return Or(()=>{let t=_f(e);return Ef(t),t})}function tt(e){return e[Ym]||null}function Nl(e){return e[Qm]||null}function Rl(e){return e[Km]||null}function Cf(e){let t=tt(e)||Nl(e)||Rl(e);return t!==null?t.standalone:!1}function wf(e,t){let n=e[Jm]||null;if(!n&&t===!0)throw new Error(`Type ${Ce(e)} does not have '\u0275mod' property.`);return n}function _f(e){let t={};return{type:e.type,providersResolver:null,factory:null,hostBindings:e.hostBindings||null,hostVars:e.hostVars||0,hostAttrs:e.hostAttrs||null,contentQueries:e.contentQueries||null,declaredInputs:t,inputTransforms:null,inputConfig:e.inputs||Un,exportAs:e.exportAs||null,standalone:e.standalone===!0,signals:e.signals===!0,selectors:e.selectors||Le,viewQuery:e.viewQuery||null,features:e.features||null,setInput:null,findHostDirectiveDefs:null,hostDirectives:null,inputs:_d(e.inputs,t),outputs:_d(e.outputs),debugInfo:null}}function Ef(e){e.features?.forEach(t=>t(e))}function Ed(e,t){if(!e)return null;let n=t?Rl:Sv;return()=>(typeof e=="function"?e():e).map(r=>n(r)).filter(Tv)}function Av(e){let t=0,n=[e.selectors,e.ngContentSelectors,e.hostVars,e.hostAttrs,e.consts,e.vars,e.decls,e.encapsulation,e.standalone,e.signals,e.exportAs,JSON.stringify(e.inputs),JSON.stringify(e.outputs),Object.getOwnPropertyNames(e.type.prototype),!!e.contentQueries,!!e.viewQuery].join("|");for(let i of n)t=Math.imul(31,t)+i.charCodeAt(0)<<0;return t+=2147483648,"c"+t}function Yn(e){return{\u0275providers:e}}function Nv(...e){return{\u0275providers:Ol(!0,e),\u0275fromNgModule:!0}}function Ol(e,...t){let n=[],r=new Set,i,o=s=>{n.push(s)};return Tl(t,s=>{let a=s;Ta(a,o,[],r)&&(i||=[],i.push(a))}),i!==void 0&&bf(i,o),n}function bf(e,t){for(let n=0;n<e.length;n++){let{ngModule:r,providers:i}=e[n];Pl(i,o=>{t(o,r)})}}function Ta(e,t,n,r){if(e=De(e),!e)return!1;let i=null,o=md(e),s=!o&&tt(e);if(!o&&!s){let l=e.ngModule;if(o=md(l),o)i=l;else return!1}else{if(s&&!s.standalone)return!1;i=e}let a=r.has(i);if(s){if(a)return!1;if(r.add(i),s.dependencies){let l=typeof s.dependencies=="function"?s.dependencies():s.dependencies;for(let c of l)Ta(c,t,n,r)}}else if(o){if(o.imports!=null&&!a){r.add(i);let c;try{Tl(o.imports,u=>{Ta(u,t,n,r)&&(c||=[],c.push(u))})}finally{}c!==void 0&&bf(c,t)}if(!a){let c=jn(i)||(()=>new i);t({provide:i,useFactory:c,deps:Le},i),t({provide:vf,useValue:i,multi:!0},i),t({provide:Bn,useValue:()=>M(i),multi:!0},i)}let l=o.providers;if(l!=null&&!a){let c=e;Pl(l,u=>{t(u,c)})}}else return!1;return i!==e&&e.providers!==void 0}function Pl(e,t){for(let n of e)df(n)&&(n=n.\u0275providers),Array.isArray(n)?Pl(n,t):t(n)}var Rv=W({provide:String,useValue:W});function If(e){return e!==null&&typeof e=="object"&&Rv in e}function Ov(e){return!!(e&&e.useExisting)}function Pv(e){return!!(e&&e.useFactory)}function $n(e){return typeof e=="function"}function Fv(e){return!!e.useClass}var Ro=new I(""),eo={},kv={},ua;function Fl(){return ua===void 0&&(ua=new co),ua}var ue=class{},Er=class extends ue{get destroyed(){return this._destroyed}constructor(t,n,r,i){super(),this.parent=n,this.source=r,this.scopes=i,this.records=new Map,this._ngOnDestroyHooks=new Set,this._onDestroyHooks=[],this._destroyed=!1,Na(t,s=>this.processProvider(s)),this.records.set(mf,On(void 0,this)),i.has("environment")&&this.records.set(ue,On(void 0,this));let o=this.records.get(Ro);o!=null&&typeof o.value=="string"&&this.scopes.add(o.value),this.injectorDefTypes=new Set(this.get(vf,Le,k.Self))}destroy(){this.assertNotDestroyed(),this._destroyed=!0;let t=j(null);try{for(let r of this._ngOnDestroyHooks)r.ngOnDestroy();let n=this._onDestroyHooks;this._onDestroyHooks=[];for(let r of n)r()}finally{this.records.clear(),this._ngOnDestroyHooks.clear(),this.injectorDefTypes.clear(),j(t)}}onDestroy(t){return this.assertNotDestroyed(),this._onDestroyHooks.push(t),()=>this.removeOnDestroy(t)}runInContext(t){this.assertNotDestroyed();let n=Tt(this),r=ke(void 0),i;try{return t()}finally{Tt(n),ke(r)}}get(t,n=wr,r=k.Default){if(this.assertNotDestroyed(),t.hasOwnProperty(yd))return t[yd](this);r=Ao(r);let i,o=Tt(this),s=ke(void 0);try{if(!(r&k.SkipSelf)){let l=this.records.get(t);if(l===void 0){let c=Bv(t)&&To(t);c&&this.injectableDefInScope(c)?l=On(Aa(t),eo):l=null,this.records.set(t,l)}if(l!=null)return this.hydrate(t,l)}let a=r&k.Self?Fl():this.parent;return n=r&k.Optional&&n===wr?null:n,a.get(t,n)}catch(a){if(a.name==="NullInjectorError"){if((a[ao]=a[ao]||[]).unshift(Ce(t)),o)throw a;return lv(a,t,"R3InjectorError",this.source)}else throw a}finally{ke(s),Tt(o)}}resolveInjectorInitializers(){let t=j(null),n=Tt(this),r=ke(void 0),i;try{let o=this.get(Bn,Le,k.Self);for(let s of o)s()}finally{Tt(n),ke(r),j(t)}}toString(){let t=[],n=this.records;for(let r of n.keys())t.push(Ce(r));return`R3Injector[${t.join(", ")}]`}assertNotDestroyed(){if(this._destroyed)throw new b(205,!1)}processProvider(t){t=De(t);let n=$n(t)?t:De(t&&t.provide),r=Vv(t);if(!$n(t)&&t.multi===!0){let i=this.records.get(n);i||(i=On(void 0,eo,!0),i.factory=()=>xa(i.multi),this.records.set(n,i)),n=t,i.multi.push(t)}this.records.set(n,r)}hydrate(t,n){let r=j(null);try{return n.value===eo&&(n.value=kv,n.value=n.factory()),typeof n.value=="object"&&n.value&&Uv(n.value)&&this._ngOnDestroyHooks.add(n.value),n.value}finally{j(r)}}injectableDefInScope(t){if(!t.providedIn)return!1;let n=De(t.providedIn);return typeof n=="string"?n==="any"||this.scopes.has(n):this.injectorDefTypes.has(n)}removeOnDestroy(t){let n=this._onDestroyHooks.indexOf(t);n!==-1&&this._onDestroyHooks.splice(n,1)}};function Aa(e){let t=To(e),n=t!==null?t.factory:jn(e);if(n!==null)return n;if(e instanceof I)throw new b(204,!1);if(e instanceof Function)return Lv(e);throw new b(204,!1)}function Lv(e){if(e.length>0)throw new b(204,!1);let n=qm(e);return n!==null?()=>n.factory(e):()=>new e}function Vv(e){if(If(e))return On(void 0,e.useValue);{let t=Mf(e);return On(t,eo)}}function Mf(e,t,n){let r;if($n(e)){let i=De(e);return jn(i)||Aa(i)}else if(If(e))r=()=>De(e.useValue);else if(Pv(e))r=()=>e.useFactory(...xa(e.deps||[]));else if(Ov(e))r=()=>M(De(e.useExisting));else{let i=De(e&&(e.useClass||e.provide));if(jv(e))r=()=>new i(...xa(e.deps));else return jn(i)||Aa(i)}return r}function On(e,t,n=!1){return{factory:e,value:t,multi:n?[]:void 0}}function jv(e){return!!e.deps}function Uv(e){return e!==null&&typeof e=="object"&&typeof e.ngOnDestroy=="function"}function Bv(e){return typeof e=="function"||typeof e=="object"&&e instanceof I}function Na(e,t){for(let n of e)Array.isArray(n)?Na(n,t):n&&df(n)?Na(n.\u0275providers,t):t(n)}function Ge(e,t){e instanceof Er&&e.assertNotDestroyed();let n,r=Tt(e),i=ke(void 0);try{return t()}finally{Tt(r),ke(i)}}function xf(){return ff()!==void 0||ov()!=null}function $v(e){if(!xf())throw new b(-203,!1)}function Hv(e){return typeof e=="function"}var vt=0,S=1,A=2,oe=3,He=4,We=5,br=6,Ir=7,ce=8,Ve=9,ze=10,ne=11,Mr=12,bd=13,Qn=14,je=15,kr=16,Pn=17,ht=18,Oo=19,Sf=20,At=21,da=22,Jt=23,we=25,Tf=1;var Xt=7,uo=8,Hn=9,ge=10,kl=function(e){return e[e.None=0]="None",e[e.HasTransplantedViews=2]="HasTransplantedViews",e}(kl||{});function Qt(e){return Array.isArray(e)&&typeof e[Tf]=="object"}function yt(e){return Array.isArray(e)&&e[Tf]===!0}function Ll(e){return(e.flags&4)!==0}function Po(e){return e.componentOffset>-1}function Fo(e){return(e.flags&1)===1}function Nt(e){return!!e.template}function zv(e){return(e[A]&512)!==0}function Gv(e){return(e[A]&256)===256}var Ra=class{constructor(t,n,r){this.previousValue=t,this.currentValue=n,this.firstChange=r}isFirstChange(){return this.firstChange}};function Af(e,t,n,r){t!==null?t.applyValueToInputSignal(t,r):e[n]=r}function Ft(){return Nf}function Nf(e){return e.type.prototype.ngOnChanges&&(e.setInput=qv),Wv}Ft.ngInherit=!0;function Wv(){let e=Of(this),t=e?.current;if(t){let n=e.previous;if(n===Un)e.previous=t;else for(let r in t)n[r]=t[r];e.current=null,this.ngOnChanges(t)}}function qv(e,t,n,r,i){let o=this.declaredInputs[r],s=Of(e)||Zv(e,{previous:Un,current:null}),a=s.current||(s.current={}),l=s.previous,c=l[o];a[o]=new Ra(c&&c.currentValue,n,l===Un),Af(e,t,i,n)}var Rf="__ngSimpleChanges__";function Of(e){return e[Rf]||null}function Zv(e,t){return e[Rf]=t}var Id=null;var Je=function(e,t,n){Id?.(e,t,n)},Pf="svg",Yv="math",Qv=!1;function Kv(){return Qv}function nt(e){for(;Array.isArray(e);)e=e[vt];return e}function Ff(e,t){return nt(t[e])}function qe(e,t){return nt(t[e.index])}function Lr(e,t){return e.data[t]}function kt(e,t){let n=t[e];return Qt(n)?n:n[vt]}function Jv(e){return(e[A]&4)===4}function Vl(e){return(e[A]&128)===128}function Xv(e){return yt(e[oe])}function zn(e,t){return t==null?null:e[t]}function kf(e){e[Pn]=0}function ey(e){e[A]&1024||(e[A]|=1024,Vl(e)&&xr(e))}function ty(e,t){for(;e>0;)t=t[Qn],e--;return t}function jl(e){return!!(e[A]&9216||e[Jt]?.dirty)}function Oa(e){e[ze].changeDetectionScheduler?.notify(1),jl(e)?xr(e):e[A]&64&&(Kv()?(e[A]|=1024,xr(e)):e[ze].changeDetectionScheduler?.notify())}function xr(e){e[ze].changeDetectionScheduler?.notify();let t=Sr(e);for(;t!==null&&!(t[A]&8192||(t[A]|=8192,!Vl(t)));)t=Sr(t)}function Ul(e,t){if((e[A]&256)===256)throw new b(911,!1);e[At]===null&&(e[At]=[]),e[At].push(t)}function Lf(e,t){if(e[At]===null)return;let n=e[At].indexOf(t);n!==-1&&e[At].splice(n,1)}function Sr(e){let t=e[oe];return yt(t)?t[oe]:t}var P={lFrame:Gf(null),bindingsEnabled:!0,skipHydrationRootTNode:null};function ny(){return P.lFrame.elementDepthCount}function ry(){P.lFrame.elementDepthCount++}function iy(){P.lFrame.elementDepthCount--}function Vf(){return P.bindingsEnabled}function oy(){return P.skipHydrationRootTNode!==null}function sy(e){return P.skipHydrationRootTNode===e}function ay(){P.skipHydrationRootTNode=null}function U(){return P.lFrame.lView}function fe(){return P.lFrame.tView}function he(e){return P.lFrame.contextLView=e,e[ce]}function pe(e){return P.lFrame.contextLView=null,e}function me(){let e=jf();for(;e!==null&&e.type===64;)e=e.parent;return e}function jf(){return P.lFrame.currentTNode}function ly(){let e=P.lFrame,t=e.currentTNode;return e.isParent?t:t.parent}function ln(e,t){let n=P.lFrame;n.currentTNode=e,n.isParent=t}function Bl(){return P.lFrame.isParent}function Uf(){P.lFrame.isParent=!1}function Bf(){let e=P.lFrame,t=e.bindingRootIndex;return t===-1&&(t=e.bindingRootIndex=e.tView.bindingStartIndex),t}function cy(e){return P.lFrame.bindingIndex=e}function Vr(){return P.lFrame.bindingIndex++}function uy(e){let t=P.lFrame,n=t.bindingIndex;return t.bindingIndex=t.bindingIndex+e,n}function dy(){return P.lFrame.inI18n}function fy(e,t){let n=P.lFrame;n.bindingIndex=n.bindingRootIndex=e,Pa(t)}function hy(){return P.lFrame.currentDirectiveIndex}function Pa(e){P.lFrame.currentDirectiveIndex=e}function py(e){let t=P.lFrame.currentDirectiveIndex;return t===-1?null:e[t]}function $f(){return P.lFrame.currentQueryIndex}function $l(e){P.lFrame.currentQueryIndex=e}function gy(e){let t=e[S];return t.type===2?t.declTNode:t.type===1?e[We]:null}function Hf(e,t,n){if(n&k.SkipSelf){let i=t,o=e;for(;i=i.parent,i===null&&!(n&k.Host);)if(i=gy(o),i===null||(o=o[Qn],i.type&10))break;if(i===null)return!1;t=i,e=o}let r=P.lFrame=zf();return r.currentTNode=t,r.lView=e,!0}function Hl(e){let t=zf(),n=e[S];P.lFrame=t,t.currentTNode=n.firstChild,t.lView=e,t.tView=n,t.contextLView=e,t.bindingIndex=n.bindingStartIndex,t.inI18n=!1}function zf(){let e=P.lFrame,t=e===null?null:e.child;return t===null?Gf(e):t}function Gf(e){let t={currentTNode:null,isParent:!0,lView:null,tView:null,selectedIndex:-1,contextLView:null,elementDepthCount:0,currentNamespace:null,currentDirectiveIndex:-1,bindingRootIndex:-1,bindingIndex:-1,currentQueryIndex:0,parent:e,child:null,inI18n:!1};return e!==null&&(e.child=t),t}function Wf(){let e=P.lFrame;return P.lFrame=e.parent,e.currentTNode=null,e.lView=null,e}var qf=Wf;function zl(){let e=Wf();e.isParent=!0,e.tView=null,e.selectedIndex=-1,e.contextLView=null,e.elementDepthCount=0,e.currentDirectiveIndex=-1,e.currentNamespace=null,e.bindingRootIndex=-1,e.bindingIndex=-1,e.currentQueryIndex=0}function my(e){return(P.lFrame.contextLView=ty(e,P.lFrame.contextLView))[ce]}function cn(){return P.lFrame.selectedIndex}function en(e){P.lFrame.selectedIndex=e}function Zf(){let e=P.lFrame;return Lr(e.tView,e.selectedIndex)}function Yf(){P.lFrame.currentNamespace=Pf}function vy(){return P.lFrame.currentNamespace}var Qf=!0;function ko(){return Qf}function Lo(e){Qf=e}function yy(e,t,n){let{ngOnChanges:r,ngOnInit:i,ngDoCheck:o}=t.type.prototype;if(r){let s=Nf(t);(n.preOrderHooks??=[]).push(e,s),(n.preOrderCheckHooks??=[]).push(e,s)}i&&(n.preOrderHooks??=[]).push(0-e,i),o&&((n.preOrderHooks??=[]).push(e,o),(n.preOrderCheckHooks??=[]).push(e,o))}function Vo(e,t){for(let n=t.directiveStart,r=t.directiveEnd;n<r;n++){let o=e.data[n].type.prototype,{ngAfterContentInit:s,ngAfterContentChecked:a,ngAfterViewInit:l,ngAfterViewChecked:c,ngOnDestroy:u}=o;s&&(e.contentHooks??=[]).push(-n,s),a&&((e.contentHooks??=[]).push(n,a),(e.contentCheckHooks??=[]).push(n,a)),l&&(e.viewHooks??=[]).push(-n,l),c&&((e.viewHooks??=[]).push(n,c),(e.viewCheckHooks??=[]).push(n,c)),u!=null&&(e.destroyHooks??=[]).push(n,u)}}function to(e,t,n){Kf(e,t,3,n)}function no(e,t,n,r){(e[A]&3)===n&&Kf(e,t,n,r)}function fa(e,t){let n=e[A];(n&3)===t&&(n&=16383,n+=1,e[A]=n)}function Kf(e,t,n,r){let i=r!==void 0?e[Pn]&65535:0,o=r??-1,s=t.length-1,a=0;for(let l=i;l<s;l++)if(typeof t[l+1]=="number"){if(a=t[l],r!=null&&a>=r)break}else t[l]<0&&(e[Pn]+=65536),(a<o||o==-1)&&(Dy(e,n,t,l),e[Pn]=(e[Pn]&4294901760)+l+2),l++}function Md(e,t){Je(4,e,t);let n=j(null);try{t.call(e)}finally{j(n),Je(5,e,t)}}function Dy(e,t,n,r){let i=n[r]<0,o=n[r+1],s=i?-n[r]:n[r],a=e[s];i?e[A]>>14<e[Pn]>>16&&(e[A]&3)===t&&(e[A]+=16384,Md(a,o)):Md(a,o)}var Vn=-1,tn=class{constructor(t,n,r){this.factory=t,this.resolving=!1,this.canSeeViewProviders=n,this.injectImpl=r}};function Cy(e){return e instanceof tn}function wy(e){return(e.flags&8)!==0}function _y(e){return(e.flags&16)!==0}function Jf(e){return e!==Vn}function fo(e){return e&32767}function Ey(e){return e>>16}function ho(e,t){let n=Ey(e),r=t;for(;n>0;)r=r[Qn],n--;return r}var Fa=!0;function xd(e){let t=Fa;return Fa=e,t}var by=256,Xf=by-1,eh=5,Iy=0,Xe={};function My(e,t,n){let r;typeof n=="string"?r=n.charCodeAt(0)||0:n.hasOwnProperty(Cr)&&(r=n[Cr]),r==null&&(r=n[Cr]=Iy++);let i=r&Xf,o=1<<i;t.data[e+(i>>eh)]|=o}function po(e,t){let n=th(e,t);if(n!==-1)return n;let r=t[S];r.firstCreatePass&&(e.injectorIndex=t.length,ha(r.data,e),ha(t,null),ha(r.blueprint,null));let i=Gl(e,t),o=e.injectorIndex;if(Jf(i)){let s=fo(i),a=ho(i,t),l=a[S].data;for(let c=0;c<8;c++)t[o+c]=a[s+c]|l[s+c]}return t[o+8]=i,o}function ha(e,t){e.push(0,0,0,0,0,0,0,0,t)}function th(e,t){return e.injectorIndex===-1||e.parent&&e.parent.injectorIndex===e.injectorIndex||t[e.injectorIndex+8]===null?-1:e.injectorIndex}function Gl(e,t){if(e.parent&&e.parent.injectorIndex!==-1)return e.parent.injectorIndex;let n=0,r=null,i=t;for(;i!==null;){if(r=sh(i),r===null)return Vn;if(n++,i=i[Qn],r.injectorIndex!==-1)return r.injectorIndex|n<<16}return Vn}function ka(e,t,n){My(e,t,n)}function nh(e,t,n){if(n&k.Optional||e!==void 0)return e;Sl(t,"NodeInjector")}function rh(e,t,n,r){if(n&k.Optional&&r===void 0&&(r=null),!(n&(k.Self|k.Host))){let i=e[Ve],o=ke(void 0);try{return i?i.get(t,r,n&k.Optional):hf(t,r,n&k.Optional)}finally{ke(o)}}return nh(r,t,n)}function ih(e,t,n,r=k.Default,i){if(e!==null){if(t[A]&2048&&!(r&k.Self)){let s=Ay(e,t,n,r,Xe);if(s!==Xe)return s}let o=oh(e,t,n,r,Xe);if(o!==Xe)return o}return rh(t,n,r,i)}function oh(e,t,n,r,i){let o=Sy(n);if(typeof o=="function"){if(!Hf(t,e,r))return r&k.Host?nh(i,n,r):rh(t,n,r,i);try{let s;if(s=o(r),s==null&&!(r&k.Optional))Sl(n);else return s}finally{qf()}}else if(typeof o=="number"){let s=null,a=th(e,t),l=Vn,c=r&k.Host?t[je][We]:null;for((a===-1||r&k.SkipSelf)&&(l=a===-1?Gl(e,t):t[a+8],l===Vn||!Td(r,!1)?a=-1:(s=t[S],a=fo(l),t=ho(l,t)));a!==-1;){let u=t[S];if(Sd(o,a,u.data)){let d=xy(a,t,n,s,r,c);if(d!==Xe)return d}l=t[a+8],l!==Vn&&Td(r,t[S].data[a+8]===c)&&Sd(o,a,t)?(s=u,a=fo(l),t=ho(l,t)):a=-1}}return i}function xy(e,t,n,r,i,o){let s=t[S],a=s.data[e+8],l=r==null?Po(a)&&Fa:r!=s&&(a.type&3)!==0,c=i&k.Host&&o===a,u=ro(a,s,n,l,c);return u!==null?nn(t,s,u,a):Xe}function ro(e,t,n,r,i){let o=e.providerIndexes,s=t.data,a=o&1048575,l=e.directiveStart,c=e.directiveEnd,u=o>>20,d=r?a:a+u,f=i?a+u:c;for(let h=d;h<f;h++){let m=s[h];if(h<l&&n===m||h>=l&&m.type===n)return h}if(i){let h=s[l];if(h&&Nt(h)&&h.type===n)return l}return null}function nn(e,t,n,r){let i=e[n],o=t.data;if(Cy(i)){let s=i;s.resolving&&ev(Xm(o[n]));let a=xd(s.canSeeViewProviders);s.resolving=!0;let l,c=s.injectImpl?ke(s.injectImpl):null,u=Hf(e,r,k.Default);try{i=e[n]=s.factory(void 0,o,e,r),t.firstCreatePass&&n>=r.directiveStart&&yy(n,o[n],t)}finally{c!==null&&ke(c),xd(a),s.resolving=!1,qf()}}return i}function Sy(e){if(typeof e=="string")return e.charCodeAt(0)||0;let t=e.hasOwnProperty(Cr)?e[Cr]:void 0;return typeof t=="number"?t>=0?t&Xf:Ty:t}function Sd(e,t,n){let r=1<<e;return!!(n[t+(e>>eh)]&r)}function Td(e,t){return!(e&k.Self)&&!(e&k.Host&&t)}var Kt=class{constructor(t,n){this._tNode=t,this._lView=n}get(t,n,r){return ih(this._tNode,this._lView,t,Ao(r),n)}};function Ty(){return new Kt(me(),U())}function un(e){return Or(()=>{let t=e.prototype.constructor,n=t[so]||La(t),r=Object.prototype,i=Object.getPrototypeOf(e.prototype).constructor;for(;i&&i!==r;){let o=i[so]||La(i);if(o&&o!==n)return o;i=Object.getPrototypeOf(i)}return o=>new o})}function La(e){return sf(e)?()=>{let t=La(De(e));return t&&t()}:jn(e)}function Ay(e,t,n,r,i){let o=e,s=t;for(;o!==null&&s!==null&&s[A]&2048&&!(s[A]&512);){let a=oh(o,s,n,r|k.Self,Xe);if(a!==Xe)return a;let l=o.parent;if(!l){let c=s[Sf];if(c){let u=c.get(n,Xe,r);if(u!==Xe)return u}l=sh(s),s=s[Qn]}o=l}return i}function sh(e){let t=e[S],n=t.type;return n===2?t.declTNode:n===1?e[We]:null}function Ad(e,t=null,n=null,r){let i=ah(e,t,n,r);return i.resolveInjectorInitializers(),i}function ah(e,t=null,n=null,r,i=new Set){let o=[n||Le,Nv(e)];return r=r||(typeof e=="object"?void 0:Ce(e)),new Er(o,t||Fl(),r||null,i)}var Dt=(()=>{class e{static{this.THROW_IF_NOT_FOUND=wr}static{this.NULL=new co}static create(n,r){if(Array.isArray(n))return Ad({name:""},r,n,"");{let i=n.name??"";return Ad({name:i},n.parent,n.providers,i)}}static{this.\u0275prov=w({token:e,providedIn:"any",factory:()=>M(mf)})}static{this.__NG_ELEMENT_ID__=-1}}return e})();var Ny="ngOriginalError";function pa(e){return e[Ny]}var rt=class{constructor(){this._console=console}handleError(t){let n=this._findOriginalError(t);this._console.error("ERROR",t),n&&this._console.error("ORIGINAL ERROR",n)}_findOriginalError(t){let n=t&&pa(t);for(;n&&pa(n);)n=pa(n);return n||null}},lh=new I("",{providedIn:"root",factory:()=>y(rt).handleError.bind(void 0)}),Wl=(()=>{class e{static{this.__NG_ELEMENT_ID__=Ry}static{this.__NG_ENV_ID__=n=>n}}return e})(),Va=class extends Wl{constructor(t){super(),this._lView=t}onDestroy(t){return Ul(this._lView,t),()=>Lf(this._lView,t)}};function Ry(){return new Va(U())}function Oy(){return Kn(me(),U())}function Kn(e,t){return new Se(qe(e,t))}var Se=(()=>{class e{constructor(n){this.nativeElement=n}static{this.__NG_ELEMENT_ID__=Oy}}return e})();function Py(e){return e instanceof Se?e.nativeElement:e}var ja=class extends ye{constructor(t=!1){super(),this.destroyRef=void 0,this.__isAsync=t,xf()&&(this.destroyRef=y(Wl,{optional:!0})??void 0)}emit(t){let n=j(null);try{super.next(t)}finally{j(n)}}subscribe(t,n,r){let i=t,o=n||(()=>null),s=r;if(t&&typeof t=="object"){let l=t;i=l.next?.bind(l),o=l.error?.bind(l),s=l.complete?.bind(l)}this.__isAsync&&(o=ga(o),i&&(i=ga(i)),s&&(s=ga(s)));let a=super.subscribe({next:i,error:o,complete:s});return t instanceof te&&t.add(a),a}};function ga(e){return t=>{setTimeout(e,void 0,t)}}var ie=ja;function Fy(){return this._results[Symbol.iterator]()}var Ua=class e{get changes(){return this._changes??=new ie}constructor(t=!1){this._emitDistinctChangesOnly=t,this.dirty=!0,this._onDirty=void 0,this._results=[],this._changesDetected=!1,this._changes=void 0,this.length=0,this.first=void 0,this.last=void 0;let n=e.prototype;n[Symbol.iterator]||(n[Symbol.iterator]=Fy)}get(t){return this._results[t]}map(t){return this._results.map(t)}filter(t){return this._results.filter(t)}find(t){return this._results.find(t)}reduce(t,n){return this._results.reduce(t,n)}forEach(t){this._results.forEach(t)}some(t){return this._results.some(t)}toArray(){return this._results.slice()}toString(){return this._results.toString()}reset(t,n){this.dirty=!1;let r=dv(t);(this._changesDetected=!uv(this._results,r,n))&&(this._results=r,this.length=r.length,this.last=r[this.length-1],this.first=r[0])}notifyOnChanges(){this._changes!==void 0&&(this._changesDetected||!this._emitDistinctChangesOnly)&&this._changes.emit(this)}onDirty(t){this._onDirty=t}setDirty(){this.dirty=!0,this._onDirty?.()}destroy(){this._changes!==void 0&&(this._changes.complete(),this._changes.unsubscribe())}};function ch(e){return(e.flags&128)===128}var uh=new Map,ky=0;function Ly(){return ky++}function Vy(e){uh.set(e[Oo],e)}function jy(e){uh.delete(e[Oo])}var Nd="__ngContext__";function Rt(e,t){Qt(t)?(e[Nd]=t[Oo],Vy(t)):e[Nd]=t}function dh(e){return hh(e[Mr])}function fh(e){return hh(e[He])}function hh(e){for(;e!==null&&!yt(e);)e=e[He];return e}var Ba;function ph(e){Ba=e}function Uy(){if(Ba!==void 0)return Ba;if(typeof document<"u")return document;throw new b(210,!1)}var ql=new I("",{providedIn:"root",factory:()=>By}),By="ng",Zl=new I(""),ot=new I("",{providedIn:"platform",factory:()=>"unknown"});var Yl=new I("",{providedIn:"root",factory:()=>Uy().body?.querySelector("[ngCspNonce]")?.getAttribute("ngCspNonce")||null});var $y="h",Hy="b";var zy=()=>null;function Ql(e,t,n=!1){return zy(e,t,n)}var gh=!1,Gy=new I("",{providedIn:"root",factory:()=>gh});var go=class{constructor(t){this.changingThisBreaksApplicationSecurity=t}toString(){return`SafeValue must use [property]=binding: ${this.changingThisBreaksApplicationSecurity} (see ${rf})`}};function jo(e){return e instanceof go?e.changingThisBreaksApplicationSecurity:e}function mh(e,t){let n=Wy(e);if(n!=null&&n!==t){if(n==="ResourceURL"&&t==="URL")return!0;throw new Error(`Required a safe ${t}, got a ${n} (see ${rf})`)}return n===t}function Wy(e){return e instanceof go&&e.getTypeName()||null}var qy=/^(?!javascript:)(?:[a-z0-9+.-]+:|[^&:\/?#]*(?:[\/?#]|$))/i;function vh(e){return e=String(e),e.match(qy)?e:"unsafe:"+e}var Kl=function(e){return e[e.NONE=0]="NONE",e[e.HTML=1]="HTML",e[e.STYLE=2]="STYLE",e[e.SCRIPT=3]="SCRIPT",e[e.URL=4]="URL",e[e.RESOURCE_URL=5]="RESOURCE_URL",e}(Kl||{});function jr(e){let t=Zy();return t?t.sanitize(Kl.URL,e)||"":mh(e,"URL")?jo(e):vh(xl(e))}function Zy(){let e=U();return e&&e[ze].sanitizer}var Yy=/^>|^->|<!--|-->|--!>|<!-$/g,Qy=/(<|>)/g,Ky="\u200B$1\u200B";function Jy(e){return e.replace(Yy,t=>t.replace(Qy,Ky))}function Xy(e){af("Must never be called in production mode");let n=e[je][ce];return n&&n.constructor?tt(n.constructor):null}function e0(e){af("Must never be called in production mode");let n=Xy(e)?.type?.name;return n?` (used in the '${n}' component template)`:""}function yh(e){return e instanceof Function?e():e}function Uo(e){return(e??y(Dt)).get(ot)==="browser"}var it=function(e){return e[e.Important=1]="Important",e[e.DashCase=2]="DashCase",e}(it||{}),t0;function Jl(e,t){return t0(e,t)}function Fn(e,t,n,r,i){if(r!=null){let o,s=!1;yt(r)?o=r:Qt(r)&&(s=!0,r=r[vt]);let a=nt(r);e===0&&n!==null?i==null?_h(t,n,a):mo(t,n,a,i||null,!0):e===1&&n!==null?mo(t,n,a,i||null,!0):e===2?D0(t,a,s):e===3&&t.destroyNode(a),o!=null&&w0(t,e,o,n,i)}}function n0(e,t){return e.createText(t)}function r0(e,t,n){e.setValue(t,n)}function i0(e,t){return e.createComment(Jy(t))}function Dh(e,t,n){return e.createElement(t,n)}function o0(e,t){Ch(e,t),t[vt]=null,t[We]=null}function s0(e,t,n,r,i,o){r[vt]=i,r[We]=t,Ho(e,r,n,1,i,o)}function Ch(e,t){t[ze].changeDetectionScheduler?.notify(1),Ho(e,t,t[ne],2,null,null)}function a0(e){let t=e[Mr];if(!t)return ma(e[S],e);for(;t;){let n=null;if(Qt(t))n=t[Mr];else{let r=t[ge];r&&(n=r)}if(!n){for(;t&&!t[He]&&t!==e;)Qt(t)&&ma(t[S],t),t=t[oe];t===null&&(t=e),Qt(t)&&ma(t[S],t),n=t&&t[He]}t=n}}function l0(e,t,n,r){let i=ge+r,o=n.length;r>0&&(n[i-1][He]=t),r<o-ge?(t[He]=n[i],gf(n,ge+r,t)):(n.push(t),t[He]=null),t[oe]=n;let s=t[kr];s!==null&&n!==s&&c0(s,t);let a=t[ht];a!==null&&a.insertView(e),Oa(t),t[A]|=128}function c0(e,t){let n=e[Hn],i=t[oe][oe][je];t[je]!==i&&(e[A]|=kl.HasTransplantedViews),n===null?e[Hn]=[t]:n.push(t)}function wh(e,t){let n=e[Hn],r=n.indexOf(t);n.splice(r,1)}function Tr(e,t){if(e.length<=ge)return;let n=ge+t,r=e[n];if(r){let i=r[kr];i!==null&&i!==e&&wh(i,r),t>0&&(e[n-1][He]=r[He]);let o=lo(e,ge+t);o0(r[S],r);let s=o[ht];s!==null&&s.detachView(o[S]),r[oe]=null,r[He]=null,r[A]&=-129}return r}function Bo(e,t){if(!(t[A]&256)){let n=t[ne];n.destroyNode&&Ho(e,t,n,3,null,null),a0(t)}}function ma(e,t){if(t[A]&256)return;let n=j(null);try{t[A]&=-129,t[A]|=256,t[Jt]&&$u(t[Jt]),d0(e,t),u0(e,t),t[S].type===1&&t[ne].destroy();let r=t[kr];if(r!==null&&yt(t[oe])){r!==t[oe]&&wh(r,t);let i=t[ht];i!==null&&i.detachView(e)}jy(t)}finally{j(n)}}function u0(e,t){let n=e.cleanup,r=t[Ir];if(n!==null)for(let o=0;o<n.length-1;o+=2)if(typeof n[o]=="string"){let s=n[o+3];s>=0?r[s]():r[-s].unsubscribe(),o+=2}else{let s=r[n[o+1]];n[o].call(s)}r!==null&&(t[Ir]=null);let i=t[At];if(i!==null){t[At]=null;for(let o=0;o<i.length;o++){let s=i[o];s()}}}function d0(e,t){let n;if(e!=null&&(n=e.destroyHooks)!=null)for(let r=0;r<n.length;r+=2){let i=t[n[r]];if(!(i instanceof tn)){let o=n[r+1];if(Array.isArray(o))for(let s=0;s<o.length;s+=2){let a=i[o[s]],l=o[s+1];Je(4,a,l);try{l.call(a)}finally{Je(5,a,l)}}else{Je(4,i,o);try{o.call(i)}finally{Je(5,i,o)}}}}}function f0(e,t,n){return h0(e,t.parent,n)}function h0(e,t,n){let r=t;for(;r!==null&&r.type&40;)t=r,r=t.parent;if(r===null)return n[vt];{let{componentOffset:i}=r;if(i>-1){let{encapsulation:o}=e.data[r.directiveStart+i];if(o===et.None||o===et.Emulated)return null}return qe(r,n)}}function mo(e,t,n,r,i){e.insertBefore(t,n,r,i)}function _h(e,t,n){e.appendChild(t,n)}function Rd(e,t,n,r,i){r!==null?mo(e,t,n,r,i):_h(e,t,n)}function p0(e,t,n,r){e.removeChild(t,n,r)}function Xl(e,t){return e.parentNode(t)}function g0(e,t){return e.nextSibling(t)}function m0(e,t,n){return y0(e,t,n)}function v0(e,t,n){return e.type&40?qe(e,n):null}var y0=v0,Od;function $o(e,t,n,r){let i=f0(e,r,t),o=t[ne],s=r.parent||t[We],a=m0(s,r,t);if(i!=null)if(Array.isArray(n))for(let l=0;l<n.length;l++)Rd(o,i,n[l],a,!1);else Rd(o,i,n,a,!1);Od!==void 0&&Od(o,r,t,n,i)}function io(e,t){if(t!==null){let n=t.type;if(n&3)return qe(t,e);if(n&4)return $a(-1,e[t.index]);if(n&8){let r=t.child;if(r!==null)return io(e,r);{let i=e[t.index];return yt(i)?$a(-1,i):nt(i)}}else{if(n&32)return Jl(t,e)()||nt(e[t.index]);{let r=Eh(e,t);if(r!==null){if(Array.isArray(r))return r[0];let i=Sr(e[je]);return io(i,r)}else return io(e,t.next)}}}return null}function Eh(e,t){if(t!==null){let r=e[je][We],i=t.projection;return r.projection[i]}return null}function $a(e,t){let n=ge+e+1;if(n<t.length){let r=t[n],i=r[S].firstChild;if(i!==null)return io(r,i)}return t[Xt]}function D0(e,t,n){let r=Xl(e,t);r&&p0(e,r,t,n)}function ec(e,t,n,r,i,o,s){for(;n!=null;){let a=r[n.index],l=n.type;if(s&&t===0&&(a&&Rt(nt(a),r),n.flags|=2),(n.flags&32)!==32)if(l&8)ec(e,t,n.child,r,i,o,!1),Fn(t,e,i,a,o);else if(l&32){let c=Jl(n,r),u;for(;u=c();)Fn(t,e,i,u,o);Fn(t,e,i,a,o)}else l&16?C0(e,t,r,n,i,o):Fn(t,e,i,a,o);n=s?n.projectionNext:n.next}}function Ho(e,t,n,r,i,o){ec(n,r,e.firstChild,t,i,o,!1)}function C0(e,t,n,r,i,o){let s=n[je],l=s[We].projection[r.projection];if(Array.isArray(l))for(let c=0;c<l.length;c++){let u=l[c];Fn(t,e,i,u,o)}else{let c=l,u=s[oe];ch(r)&&(c.flags|=128),ec(e,t,c,u,i,o,!0)}}function w0(e,t,n,r,i){let o=n[Xt],s=nt(n);o!==s&&Fn(t,e,r,o,i);for(let a=ge;a<n.length;a++){let l=n[a];Ho(l[S],l,e,t,r,o)}}function _0(e,t,n,r,i){if(t)i?e.addClass(n,r):e.removeClass(n,r);else{let o=r.indexOf("-")===-1?void 0:it.DashCase;i==null?e.removeStyle(n,r,o):(typeof i=="string"&&i.endsWith("!important")&&(i=i.slice(0,-10),o|=it.Important),e.setStyle(n,r,i,o))}}function E0(e,t,n){e.setAttribute(t,"style",n)}function bh(e,t,n){n===""?e.removeAttribute(t,"class"):e.setAttribute(t,"class",n)}function Ih(e,t,n){let{mergedAttrs:r,classes:i,styles:o}=n;r!==null&&Sa(e,t,r),i!==null&&bh(e,t,i),o!==null&&E0(e,t,o)}var dn={};function E(e=1){Mh(fe(),U(),cn()+e,!1)}function Mh(e,t,n,r){if(!r)if((t[A]&3)===3){let o=e.preOrderCheckHooks;o!==null&&to(t,o,n)}else{let o=e.preOrderHooks;o!==null&&no(t,o,0,n)}en(n)}function L(e,t=k.Default){let n=U();if(n===null)return M(e,t);let r=me();return ih(r,n,De(e),t)}function xh(){let e="invalid";throw new Error(e)}function Sh(e,t,n,r,i,o){let s=j(null);try{let a=null;i&Oe.SignalBased&&(a=t[r][Hs]),a!==null&&a.transformFn!==void 0&&(o=a.transformFn(o)),i&Oe.HasDecoratorInputTransform&&(o=e.inputTransforms[r].call(t,o)),e.setInput!==null?e.setInput(t,a,o,n,r):Af(t,a,r,o)}finally{j(s)}}function b0(e,t){let n=e.hostBindingOpCodes;if(n!==null)try{for(let r=0;r<n.length;r++){let i=n[r];if(i<0)en(~i);else{let o=i,s=n[++r],a=n[++r];fy(s,o);let l=t[o];a(2,l)}}}finally{en(-1)}}function zo(e,t,n,r,i,o,s,a,l,c,u){let d=t.blueprint.slice();return d[vt]=i,d[A]=r|4|128|8|64,(c!==null||e&&e[A]&2048)&&(d[A]|=2048),kf(d),d[oe]=d[Qn]=e,d[ce]=n,d[ze]=s||e&&e[ze],d[ne]=a||e&&e[ne],d[Ve]=l||e&&e[Ve]||null,d[We]=o,d[Oo]=Ly(),d[br]=u,d[Sf]=c,d[je]=t.type==2?e[je]:d,d}function Ur(e,t,n,r,i){let o=e.data[t];if(o===null)o=I0(e,t,n,r,i),dy()&&(o.flags|=32);else if(o.type&64){o.type=n,o.value=r,o.attrs=i;let s=ly();o.injectorIndex=s===null?-1:s.injectorIndex}return ln(o,!0),o}function I0(e,t,n,r,i){let o=jf(),s=Bl(),a=s?o:o&&o.parent,l=e.data[t]=N0(e,a,n,t,r,i);return e.firstChild===null&&(e.firstChild=l),o!==null&&(s?o.child==null&&l.parent!==null&&(o.child=l):o.next===null&&(o.next=l,l.prev=o)),l}function Th(e,t,n,r){if(n===0)return-1;let i=t.length;for(let o=0;o<n;o++)t.push(r),e.blueprint.push(r),e.data.push(null);return i}function Ah(e,t,n,r,i){let o=cn(),s=r&2;try{en(-1),s&&t.length>we&&Mh(e,t,we,!1),Je(s?2:0,i),n(r,i)}finally{en(o),Je(s?3:1,i)}}function tc(e,t,n){if(Ll(t)){let r=j(null);try{let i=t.directiveStart,o=t.directiveEnd;for(let s=i;s<o;s++){let a=e.data[s];if(a.contentQueries){let l=n[s];a.contentQueries(1,l,s)}}}finally{j(r)}}}function nc(e,t,n){Vf()&&(L0(e,t,n,qe(n,t)),(n.flags&64)===64&&Ph(e,t,n))}function rc(e,t,n=qe){let r=t.localNames;if(r!==null){let i=t.index+1;for(let o=0;o<r.length;o+=2){let s=r[o+1],a=s===-1?n(t,e):e[s];e[i++]=a}}}function Nh(e){let t=e.tView;return t===null||t.incompleteFirstPass?e.tView=ic(1,null,e.template,e.decls,e.vars,e.directiveDefs,e.pipeDefs,e.viewQuery,e.schemas,e.consts,e.id):t}function ic(e,t,n,r,i,o,s,a,l,c,u){let d=we+r,f=d+i,h=M0(d,f),m=typeof c=="function"?c():c;return h[S]={type:e,blueprint:h,template:n,queries:null,viewQuery:a,declTNode:t,data:h.slice().fill(null,d),bindingStartIndex:d,expandoStartIndex:f,hostBindingOpCodes:null,firstCreatePass:!0,firstUpdatePass:!0,staticViewQueries:!1,staticContentQueries:!1,preOrderHooks:null,preOrderCheckHooks:null,contentHooks:null,contentCheckHooks:null,viewHooks:null,viewCheckHooks:null,destroyHooks:null,cleanup:null,contentQueries:null,components:null,directiveRegistry:typeof o=="function"?o():o,pipeRegistry:typeof s=="function"?s():s,firstChild:null,schemas:l,consts:m,incompleteFirstPass:!1,ssrId:u}}function M0(e,t){let n=[];for(let r=0;r<t;r++)n.push(r<e?null:dn);return n}function x0(e,t,n,r){let o=r.get(Gy,gh)||n===et.ShadowDom,s=e.selectRootElement(t,o);return S0(s),s}function S0(e){T0(e)}var T0=()=>null;function A0(e,t,n,r){let i=Lh(t);i.push(n),e.firstCreatePass&&Vh(e).push(r,i.length-1)}function N0(e,t,n,r,i,o){let s=t?t.injectorIndex:-1,a=0;return oy()&&(a|=128),{type:n,index:r,insertBeforeIndex:null,injectorIndex:s,directiveStart:-1,directiveEnd:-1,directiveStylingLast:-1,componentOffset:-1,propertyBindings:null,flags:a,providerIndexes:0,value:i,attrs:o,mergedAttrs:null,localNames:null,initialInputs:void 0,inputs:null,outputs:null,tView:null,next:null,prev:null,projectionNext:null,child:null,parent:t,projection:null,styles:null,stylesWithoutHost:null,residualStyles:void 0,classes:null,classesWithoutHost:null,residualClasses:void 0,classBindings:0,styleBindings:0}}function Pd(e,t,n,r,i){for(let o in t){if(!t.hasOwnProperty(o))continue;let s=t[o];if(s===void 0)continue;r??={};let a,l=Oe.None;Array.isArray(s)?(a=s[0],l=s[1]):a=s;let c=o;if(i!==null){if(!i.hasOwnProperty(o))continue;c=i[o]}e===0?Fd(r,n,c,a,l):Fd(r,n,c,a)}return r}function Fd(e,t,n,r,i){let o;e.hasOwnProperty(n)?(o=e[n]).push(t,r):o=e[n]=[t,r],i!==void 0&&o.push(i)}function R0(e,t,n){let r=t.directiveStart,i=t.directiveEnd,o=e.data,s=t.attrs,a=[],l=null,c=null;for(let u=r;u<i;u++){let d=o[u],f=n?n.get(d):null,h=f?f.inputs:null,m=f?f.outputs:null;l=Pd(0,d.inputs,u,l,h),c=Pd(1,d.outputs,u,c,m);let v=l!==null&&s!==null&&!Al(t)?W0(l,u,s):null;a.push(v)}l!==null&&(l.hasOwnProperty("class")&&(t.flags|=8),l.hasOwnProperty("style")&&(t.flags|=16)),t.initialInputs=a,t.inputs=l,t.outputs=c}function O0(e){return e==="class"?"className":e==="for"?"htmlFor":e==="formaction"?"formAction":e==="innerHtml"?"innerHTML":e==="readonly"?"readOnly":e==="tabindex"?"tabIndex":e}function Rh(e,t,n,r,i,o,s,a){let l=qe(t,n),c=t.inputs,u;!a&&c!=null&&(u=c[r])?(sc(e,n,u,r,i),Po(t)&&P0(n,t.index)):t.type&3?(r=O0(r),i=s!=null?s(i,t.value||"",r):i,o.setProperty(l,r,i)):t.type&12}function P0(e,t){let n=kt(t,e);n[A]&16||(n[A]|=64)}function oc(e,t,n,r){if(Vf()){let i=r===null?null:{"":-1},o=j0(e,n),s,a;o===null?s=a=null:[s,a]=o,s!==null&&Oh(e,t,n,s,i,a),i&&U0(n,r,i)}n.mergedAttrs=_r(n.mergedAttrs,n.attrs)}function Oh(e,t,n,r,i,o){for(let c=0;c<r.length;c++)ka(po(n,t),e,r[c].type);$0(n,e.data.length,r.length);for(let c=0;c<r.length;c++){let u=r[c];u.providersResolver&&u.providersResolver(u)}let s=!1,a=!1,l=Th(e,t,r.length,null);for(let c=0;c<r.length;c++){let u=r[c];n.mergedAttrs=_r(n.mergedAttrs,u.hostAttrs),H0(e,n,t,l,u),B0(l,u,i),u.contentQueries!==null&&(n.flags|=4),(u.hostBindings!==null||u.hostAttrs!==null||u.hostVars!==0)&&(n.flags|=64);let d=u.type.prototype;!s&&(d.ngOnChanges||d.ngOnInit||d.ngDoCheck)&&((e.preOrderHooks??=[]).push(n.index),s=!0),!a&&(d.ngOnChanges||d.ngDoCheck)&&((e.preOrderCheckHooks??=[]).push(n.index),a=!0),l++}R0(e,n,o)}function F0(e,t,n,r,i){let o=i.hostBindings;if(o){let s=e.hostBindingOpCodes;s===null&&(s=e.hostBindingOpCodes=[]);let a=~t.index;k0(s)!=a&&s.push(a),s.push(n,r,o)}}function k0(e){let t=e.length;for(;t>0;){let n=e[--t];if(typeof n=="number"&&n<0)return n}return 0}function L0(e,t,n,r){let i=n.directiveStart,o=n.directiveEnd;Po(n)&&z0(t,n,e.data[i+n.componentOffset]),e.firstCreatePass||po(n,t),Rt(r,t);let s=n.initialInputs;for(let a=i;a<o;a++){let l=e.data[a],c=nn(t,e,a,n);if(Rt(c,t),s!==null&&G0(t,a-i,c,l,n,s),Nt(l)){let u=kt(n.index,t);u[ce]=nn(t,e,a,n)}}}function Ph(e,t,n){let r=n.directiveStart,i=n.directiveEnd,o=n.index,s=hy();try{en(o);for(let a=r;a<i;a++){let l=e.data[a],c=t[a];Pa(a),(l.hostBindings!==null||l.hostVars!==0||l.hostAttrs!==null)&&V0(l,c)}}finally{en(-1),Pa(s)}}function V0(e,t){e.hostBindings!==null&&e.hostBindings(1,t)}function j0(e,t){let n=e.directiveRegistry,r=null,i=null;if(n)for(let o=0;o<n.length;o++){let s=n[o];if(_v(t,s.selectors,!1))if(r||(r=[]),Nt(s))if(s.findHostDirectiveDefs!==null){let a=[];i=i||new Map,s.findHostDirectiveDefs(s,a,i),r.unshift(...a,s);let l=a.length;Ha(e,t,l)}else r.unshift(s),Ha(e,t,0);else i=i||new Map,s.findHostDirectiveDefs?.(s,r,i),r.push(s)}return r===null?null:[r,i]}function Ha(e,t,n){t.componentOffset=n,(e.components??=[]).push(t.index)}function U0(e,t,n){if(t){let r=e.localNames=[];for(let i=0;i<t.length;i+=2){let o=n[t[i+1]];if(o==null)throw new b(-301,!1);r.push(t[i],o)}}}function B0(e,t,n){if(n){if(t.exportAs)for(let r=0;r<t.exportAs.length;r++)n[t.exportAs[r]]=e;Nt(t)&&(n[""]=e)}}function $0(e,t,n){e.flags|=1,e.directiveStart=t,e.directiveEnd=t+n,e.providerIndexes=t}function H0(e,t,n,r,i){e.data[r]=i;let o=i.factory||(i.factory=jn(i.type,!0)),s=new tn(o,Nt(i),L);e.blueprint[r]=s,n[r]=s,F0(e,t,r,Th(e,n,i.hostVars,dn),i)}function z0(e,t,n){let r=qe(t,e),i=Nh(n),o=e[ze].rendererFactory,s=16;n.signals?s=4096:n.onPush&&(s=64);let a=Go(e,zo(e,i,null,s,r,t,null,o.createRenderer(r,n),null,null,null));e[t.index]=a}function G0(e,t,n,r,i,o){let s=o[t];if(s!==null)for(let a=0;a<s.length;){let l=s[a++],c=s[a++],u=s[a++],d=s[a++];Sh(r,n,l,c,u,d)}}function W0(e,t,n){let r=null,i=0;for(;i<n.length;){let o=n[i];if(o===0){i+=4;continue}else if(o===5){i+=2;continue}if(typeof o=="number")break;if(e.hasOwnProperty(o)){r===null&&(r=[]);let s=e[o];for(let a=0;a<s.length;a+=3)if(s[a]===t){r.push(o,s[a+1],s[a+2],n[i+1]);break}}i+=2}return r}function Fh(e,t,n,r){return[e,!0,0,t,null,r,null,n,null,null]}function kh(e,t){let n=e.contentQueries;if(n!==null){let r=j(null);try{for(let i=0;i<n.length;i+=2){let o=n[i],s=n[i+1];if(s!==-1){let a=e.data[s];$l(o),a.contentQueries(2,t[s],s)}}}finally{j(r)}}}function Go(e,t){return e[Mr]?e[bd][He]=t:e[Mr]=t,e[bd]=t,t}function za(e,t,n){$l(0);let r=j(null);try{t(e,n)}finally{j(r)}}function Lh(e){return e[Ir]||(e[Ir]=[])}function Vh(e){return e.cleanup||(e.cleanup=[])}function Wo(e,t){let n=e[Ve],r=n?n.get(rt,null):null;r&&r.handleError(t)}function sc(e,t,n,r,i){for(let o=0;o<n.length;){let s=n[o++],a=n[o++],l=n[o++],c=t[s],u=e.data[s];Sh(u,c,r,a,l,i)}}function q0(e,t,n){let r=Ff(t,e);r0(e[ne],r,n)}function Z0(e,t){let n=kt(t,e),r=n[S];Y0(r,n);let i=n[vt];i!==null&&n[br]===null&&(n[br]=Ql(i,n[Ve])),ac(r,n,n[ce])}function Y0(e,t){for(let n=t.length;n<e.blueprint.length;n++)t.push(e.blueprint[n])}function ac(e,t,n){Hl(t);try{let r=e.viewQuery;r!==null&&za(1,r,n);let i=e.template;i!==null&&Ah(e,t,i,1,n),e.firstCreatePass&&(e.firstCreatePass=!1),t[ht]?.finishViewCreation(e),e.staticContentQueries&&kh(e,t),e.staticViewQueries&&za(2,e.viewQuery,n);let o=e.components;o!==null&&Q0(t,o)}catch(r){throw e.firstCreatePass&&(e.incompleteFirstPass=!0,e.firstCreatePass=!1),r}finally{t[A]&=-5,zl()}}function Q0(e,t){for(let n=0;n<t.length;n++)Z0(e,t[n])}function Br(e,t,n,r){let i=j(null);try{let o=t.tView,a=e[A]&4096?4096:16,l=zo(e,o,n,a,null,t,null,null,r?.injector??null,r?.embeddedViewInjector??null,r?.dehydratedView??null),c=e[t.index];l[kr]=c;let u=e[ht];return u!==null&&(l[ht]=u.createEmbeddedView(o)),ac(o,l,n),l}finally{j(i)}}function jh(e,t){let n=ge+t;if(n<e.length)return e[n]}function Gn(e,t){return!t||t.firstChild===null||ch(e)}function $r(e,t,n,r=!0){let i=t[S];if(l0(i,t,e,n),r){let s=$a(n,e),a=t[ne],l=Xl(a,e[Xt]);l!==null&&s0(i,e[We],a,t,l,s)}let o=t[br];o!==null&&o.firstChild!==null&&(o.firstChild=null)}function lc(e,t){let n=Tr(e,t);return n!==void 0&&Bo(n[S],n),n}function vo(e,t,n,r,i=!1){for(;n!==null;){let o=t[n.index];o!==null&&r.push(nt(o)),yt(o)&&K0(o,r);let s=n.type;if(s&8)vo(e,t,n.child,r);else if(s&32){let a=Jl(n,t),l;for(;l=a();)r.push(l)}else if(s&16){let a=Eh(t,n);if(Array.isArray(a))r.push(...a);else{let l=Sr(t[je]);vo(l[S],l,a,r,!0)}}n=i?n.projectionNext:n.next}return r}function K0(e,t){for(let n=ge;n<e.length;n++){let r=e[n],i=r[S].firstChild;i!==null&&vo(r[S],r,i,t)}e[Xt]!==e[vt]&&t.push(e[Xt])}var Uh=[];function J0(e){return e[Jt]??X0(e)}function X0(e){let t=Uh.pop()??Object.create(tD);return t.lView=e,t}function eD(e){e.lView[Jt]!==e&&(e.lView=null,Uh.push(e))}var tD=q(D({},ju),{consumerIsAlwaysLive:!0,consumerMarkedDirty:e=>{xr(e.lView)},consumerOnSignalRead(){this.lView[Jt]=this}}),Bh=100;function $h(e,t=!0,n=0){let r=e[ze],i=r.rendererFactory,o=!1;o||i.begin?.();try{nD(e,n)}catch(s){throw t&&Wo(e,s),s}finally{o||(i.end?.(),r.inlineEffectRunner?.flush())}}function nD(e,t){Ga(e,t);let n=0;for(;jl(e);){if(n===Bh)throw new b(103,!1);n++,Ga(e,1)}}function rD(e,t,n,r){let i=t[A];if((i&256)===256)return;let o=!1;!o&&t[ze].inlineEffectRunner?.flush(),Hl(t);let s=null,a=null;!o&&iD(e)&&(a=J0(t),s=Uu(a));try{kf(t),cy(e.bindingStartIndex),n!==null&&Ah(e,t,n,2,r);let l=(i&3)===3;if(!o)if(l){let d=e.preOrderCheckHooks;d!==null&&to(t,d,null)}else{let d=e.preOrderHooks;d!==null&&no(t,d,0,null),fa(t,0)}if(oD(t),Hh(t,0),e.contentQueries!==null&&kh(e,t),!o)if(l){let d=e.contentCheckHooks;d!==null&&to(t,d)}else{let d=e.contentHooks;d!==null&&no(t,d,1),fa(t,1)}b0(e,t);let c=e.components;c!==null&&Gh(t,c,0);let u=e.viewQuery;if(u!==null&&za(2,u,r),!o)if(l){let d=e.viewCheckHooks;d!==null&&to(t,d)}else{let d=e.viewHooks;d!==null&&no(t,d,2),fa(t,2)}if(e.firstUpdatePass===!0&&(e.firstUpdatePass=!1),t[da]){for(let d of t[da])d();t[da]=null}o||(t[A]&=-73)}catch(l){throw xr(t),l}finally{a!==null&&(Bu(a,s),eD(a)),zl()}}function iD(e){return e.type!==2}function Hh(e,t){for(let n=dh(e);n!==null;n=fh(n))for(let r=ge;r<n.length;r++){let i=n[r];zh(i,t)}}function oD(e){for(let t=dh(e);t!==null;t=fh(t)){if(!(t[A]&kl.HasTransplantedViews))continue;let n=t[Hn];for(let r=0;r<n.length;r++){let i=n[r],o=i[oe];ey(i)}}}function sD(e,t,n){let r=kt(t,e);zh(r,n)}function zh(e,t){Vl(e)&&Ga(e,t)}function Ga(e,t){let r=e[S],i=e[A],o=e[Jt],s=!!(t===0&&i&16);if(s||=!!(i&64&&t===0),s||=!!(i&1024),s||=!!(o?.dirty&&zs(o)),o&&(o.dirty=!1),e[A]&=-9217,s)rD(r,e,r.template,e[ce]);else if(i&8192){Hh(e,1);let a=r.components;a!==null&&Gh(e,a,1)}}function Gh(e,t,n){for(let r=0;r<t.length;r++)sD(e,t[r],n)}function qo(e){for(e[ze].changeDetectionScheduler?.notify();e;){e[A]|=64;let t=Sr(e);if(zv(e)&&!t)return e;e=t}return null}var rn=class{get rootNodes(){let t=this._lView,n=t[S];return vo(n,t,n.firstChild,[])}constructor(t,n,r=!0){this._lView=t,this._cdRefInjectingView=n,this.notifyErrorHandler=r,this._appRef=null,this._attachedToViewContainer=!1}get context(){return this._lView[ce]}set context(t){this._lView[ce]=t}get destroyed(){return(this._lView[A]&256)===256}destroy(){if(this._appRef)this._appRef.detachView(this);else if(this._attachedToViewContainer){let t=this._lView[oe];if(yt(t)){let n=t[uo],r=n?n.indexOf(this):-1;r>-1&&(Tr(t,r),lo(n,r))}this._attachedToViewContainer=!1}Bo(this._lView[S],this._lView)}onDestroy(t){Ul(this._lView,t)}markForCheck(){qo(this._cdRefInjectingView||this._lView)}detach(){this._lView[A]&=-129}reattach(){Oa(this._lView),this._lView[A]|=128}detectChanges(){this._lView[A]|=1024,$h(this._lView,this.notifyErrorHandler)}checkNoChanges(){}attachToViewContainerRef(){if(this._appRef)throw new b(902,!1);this._attachedToViewContainer=!0}detachFromAppRef(){this._appRef=null,Ch(this._lView[S],this._lView)}attachToAppRef(t){if(this._attachedToViewContainer)throw new b(902,!1);this._appRef=t,Oa(this._lView)}},on=(()=>{class e{static{this.__NG_ELEMENT_ID__=cD}}return e})(),aD=on,lD=class extends aD{constructor(t,n,r){super(),this._declarationLView=t,this._declarationTContainer=n,this.elementRef=r}get ssrId(){return this._declarationTContainer.tView?.ssrId||null}createEmbeddedView(t,n){return this.createEmbeddedViewImpl(t,n)}createEmbeddedViewImpl(t,n,r){let i=Br(this._declarationLView,this._declarationTContainer,t,{embeddedViewInjector:n,dehydratedView:r});return new rn(i)}};function cD(){return cc(me(),U())}function cc(e,t){return e.type&4?new lD(t,e,Kn(e,t)):null}var xA=new RegExp(`^(\\d+)*(${Hy}|${$y})*(.*)`);var uD=()=>null;function Wn(e,t){return uD(e,t)}var yo=class{},Wa=class{},Do=class{};function dD(e){let t=Error(`No component factory found for ${Ce(e)}.`);return t[fD]=e,t}var fD="ngComponent";var qa=class{resolveComponentFactory(t){throw dD(t)}},Zo=(()=>{class e{static{this.NULL=new qa}}return e})(),Ar=class{},st=(()=>{class e{constructor(){this.destroyNode=null}static{this.__NG_ELEMENT_ID__=()=>hD()}}return e})();function hD(){let e=U(),t=me(),n=kt(t.index,e);return(Qt(n)?n:e)[ne]}var pD=(()=>{class e{static{this.\u0275prov=w({token:e,providedIn:"root",factory:()=>null})}}return e})(),va={};var kd=new Set;function fn(e){kd.has(e)||(kd.add(e),performance?.mark?.("mark_feature_usage",{detail:{feature:e}}))}function Ld(...e){}function gD(){let e=typeof Dr.requestAnimationFrame=="function",t=Dr[e?"requestAnimationFrame":"setTimeout"],n=Dr[e?"cancelAnimationFrame":"clearTimeout"];if(typeof Zone<"u"&&t&&n){let r=t[Zone.__symbol__("OriginalDelegate")];r&&(t=r);let i=n[Zone.__symbol__("OriginalDelegate")];i&&(n=i)}return{nativeRequestAnimationFrame:t,nativeCancelAnimationFrame:n}}var Y=class e{constructor({enableLongStackTrace:t=!1,shouldCoalesceEventChangeDetection:n=!1,shouldCoalesceRunChangeDetection:r=!1}){if(this.hasPendingMacrotasks=!1,this.hasPendingMicrotasks=!1,this.isStable=!0,this.onUnstable=new ie(!1),this.onMicrotaskEmpty=new ie(!1),this.onStable=new ie(!1),this.onError=new ie(!1),typeof Zone>"u")throw new b(908,!1);Zone.assertZonePatched();let i=this;i._nesting=0,i._outer=i._inner=Zone.current,Zone.TaskTrackingZoneSpec&&(i._inner=i._inner.fork(new Zone.TaskTrackingZoneSpec)),t&&Zone.longStackTraceZoneSpec&&(i._inner=i._inner.fork(Zone.longStackTraceZoneSpec)),i.shouldCoalesceEventChangeDetection=!r&&n,i.shouldCoalesceRunChangeDetection=r,i.lastRequestAnimationFrameId=-1,i.nativeRequestAnimationFrame=gD().nativeRequestAnimationFrame,yD(i)}static isInAngularZone(){return typeof Zone<"u"&&Zone.current.get("isAngularZone")===!0}static assertInAngularZone(){if(!e.isInAngularZone())throw new b(909,!1)}static assertNotInAngularZone(){if(e.isInAngularZone())throw new b(909,!1)}run(t,n,r){return this._inner.run(t,n,r)}runTask(t,n,r,i){let o=this._inner,s=o.scheduleEventTask("NgZoneEvent: "+i,t,mD,Ld,Ld);try{return o.runTask(s,n,r)}finally{o.cancelTask(s)}}runGuarded(t,n,r){return this._inner.runGuarded(t,n,r)}runOutsideAngular(t){return this._outer.run(t)}},mD={};function uc(e){if(e._nesting==0&&!e.hasPendingMicrotasks&&!e.isStable)try{e._nesting++,e.onMicrotaskEmpty.emit(null)}finally{if(e._nesting--,!e.hasPendingMicrotasks)try{e.runOutsideAngular(()=>e.onStable.emit(null))}finally{e.isStable=!0}}}function vD(e){e.isCheckStableRunning||e.lastRequestAnimationFrameId!==-1||(e.lastRequestAnimationFrameId=e.nativeRequestAnimationFrame.call(Dr,()=>{e.fakeTopEventTask||(e.fakeTopEventTask=Zone.root.scheduleEventTask("fakeTopEventTask",()=>{e.lastRequestAnimationFrameId=-1,Za(e),e.isCheckStableRunning=!0,uc(e),e.isCheckStableRunning=!1},void 0,()=>{},()=>{})),e.fakeTopEventTask.invoke()}),Za(e))}function yD(e){let t=()=>{vD(e)};e._inner=e._inner.fork({name:"angular",properties:{isAngularZone:!0},onInvokeTask:(n,r,i,o,s,a)=>{if(DD(a))return n.invokeTask(i,o,s,a);try{return Vd(e),n.invokeTask(i,o,s,a)}finally{(e.shouldCoalesceEventChangeDetection&&o.type==="eventTask"||e.shouldCoalesceRunChangeDetection)&&t(),jd(e)}},onInvoke:(n,r,i,o,s,a,l)=>{try{return Vd(e),n.invoke(i,o,s,a,l)}finally{e.shouldCoalesceRunChangeDetection&&t(),jd(e)}},onHasTask:(n,r,i,o)=>{n.hasTask(i,o),r===i&&(o.change=="microTask"?(e._hasPendingMicrotasks=o.microTask,Za(e),uc(e)):o.change=="macroTask"&&(e.hasPendingMacrotasks=o.macroTask))},onHandleError:(n,r,i,o)=>(n.handleError(i,o),e.runOutsideAngular(()=>e.onError.emit(o)),!1)})}function Za(e){e._hasPendingMicrotasks||(e.shouldCoalesceEventChangeDetection||e.shouldCoalesceRunChangeDetection)&&e.lastRequestAnimationFrameId!==-1?e.hasPendingMicrotasks=!0:e.hasPendingMicrotasks=!1}function Vd(e){e._nesting++,e.isStable&&(e.isStable=!1,e.onUnstable.emit(null))}function jd(e){e._nesting--,uc(e)}function DD(e){return!Array.isArray(e)||e.length!==1?!1:e[0].data?.__ignore_ng_zone__===!0}var kn=function(e){return e[e.EarlyRead=0]="EarlyRead",e[e.Write=1]="Write",e[e.MixedReadWrite=2]="MixedReadWrite",e[e.Read=3]="Read",e}(kn||{}),CD={destroy(){}};function Yo(e,t){!t&&$v(Yo);let n=t?.injector??y(Dt);if(!Uo(n))return CD;fn("NgAfterNextRender");let r=n.get(dc),i=r.handler??=new Qa,o=t?.phase??kn.MixedReadWrite,s=()=>{i.unregister(l),a()},a=n.get(Wl).onDestroy(s),l=Ge(n,()=>new Ya(o,()=>{s(),e()}));return i.register(l),{destroy:s}}var Ya=class{constructor(t,n){this.phase=t,this.callbackFn=n,this.zone=y(Y),this.errorHandler=y(rt,{optional:!0}),y(yo,{optional:!0})?.notify(1)}invoke(){try{this.zone.runOutsideAngular(this.callbackFn)}catch(t){this.errorHandler?.handleError(t)}}},Qa=class{constructor(){this.executingCallbacks=!1,this.buckets={[kn.EarlyRead]:new Set,[kn.Write]:new Set,[kn.MixedReadWrite]:new Set,[kn.Read]:new Set},this.deferredCallbacks=new Set}register(t){(this.executingCallbacks?this.deferredCallbacks:this.buckets[t.phase]).add(t)}unregister(t){this.buckets[t.phase].delete(t),this.deferredCallbacks.delete(t)}execute(){this.executingCallbacks=!0;for(let t of Object.values(this.buckets))for(let n of t)n.invoke();this.executingCallbacks=!1;for(let t of this.deferredCallbacks)this.buckets[t.phase].add(t);this.deferredCallbacks.clear()}destroy(){for(let t of Object.values(this.buckets))t.clear();this.deferredCallbacks.clear()}},dc=(()=>{class e{constructor(){this.handler=null,this.internalCallbacks=[]}execute(){this.executeInternalCallbacks(),this.handler?.execute()}executeInternalCallbacks(){let n=[...this.internalCallbacks];this.internalCallbacks.length=0;for(let r of n)r()}ngOnDestroy(){this.handler?.destroy(),this.handler=null,this.internalCallbacks.length=0}static{this.\u0275prov=w({token:e,providedIn:"root",factory:()=>new e})}}return e})();function Co(e,t,n){let r=n?e.styles:null,i=n?e.classes:null,o=0;if(t!==null)for(let s=0;s<t.length;s++){let a=t[s];if(typeof a=="number")o=a;else if(o==1)i=pd(i,a);else if(o==2){let l=a,c=t[++s];r=pd(r,l+": "+c+";")}}n?e.styles=r:e.stylesWithoutHost=r,n?e.classes=i:e.classesWithoutHost=i}var wo=class extends Zo{constructor(t){super(),this.ngModule=t}resolveComponentFactory(t){let n=tt(t);return new qn(n,this.ngModule)}};function Ud(e){let t=[];for(let n in e){if(!e.hasOwnProperty(n))continue;let r=e[n];r!==void 0&&t.push({propName:Array.isArray(r)?r[0]:r,templateName:n})}return t}function wD(e){let t=e.toLowerCase();return t==="svg"?Pf:t==="math"?Yv:null}var _o=class{constructor(t,n){this.injector=t,this.parentInjector=n}get(t,n,r){r=Ao(r);let i=this.injector.get(t,va,r);return i!==va||n===va?i:this.parentInjector.get(t,n,r)}},qn=class extends Do{get inputs(){let t=this.componentDef,n=t.inputTransforms,r=Ud(t.inputs);if(n!==null)for(let i of r)n.hasOwnProperty(i.propName)&&(i.transform=n[i.propName]);return r}get outputs(){return Ud(this.componentDef.outputs)}constructor(t,n){super(),this.componentDef=t,this.ngModule=n,this.componentType=t.type,this.selector=Mv(t.selectors),this.ngContentSelectors=t.ngContentSelectors?t.ngContentSelectors:[],this.isBoundToModule=!!n}create(t,n,r,i){let o=j(null);try{i=i||this.ngModule;let s=i instanceof ue?i:i?.injector;s&&this.componentDef.getStandaloneInjector!==null&&(s=this.componentDef.getStandaloneInjector(s)||s);let a=s?new _o(t,s):t,l=a.get(Ar,null);if(l===null)throw new b(407,!1);let c=a.get(pD,null),u=a.get(dc,null),d=a.get(yo,null),f={rendererFactory:l,sanitizer:c,inlineEffectRunner:null,afterRenderEventManager:u,changeDetectionScheduler:d},h=l.createRenderer(null,this.componentDef),m=this.componentDef.selectors[0][0]||"div",v=r?x0(h,r,this.componentDef.encapsulation,a):Dh(h,m,wD(m)),C=512;this.componentDef.signals?C|=4096:this.componentDef.onPush||(C|=16);let x=null;v!==null&&(x=Ql(v,a,!0));let Qe=ic(0,null,null,1,0,null,null,null,null,null,null),G=zo(null,Qe,null,C,null,null,f,h,a,null,x);Hl(G);let Te,It;try{let Ae=this.componentDef,wn,Bs=null;Ae.findHostDirectiveDefs?(wn=[],Bs=new Map,Ae.findHostDirectiveDefs(Ae,wn,Bs),wn.push(Ae)):wn=[Ae];let fm=_D(G,v),hm=ED(fm,v,Ae,wn,G,f,h);It=Lr(Qe,we),v&&MD(h,Ae,v,r),n!==void 0&&xD(It,this.ngContentSelectors,n),Te=ID(hm,Ae,wn,Bs,G,[SD]),ac(Qe,G,null)}finally{zl()}return new Ka(this.componentType,Te,Kn(It,G),G,It)}finally{j(o)}}},Ka=class extends Wa{constructor(t,n,r,i,o){super(),this.location=r,this._rootLView=i,this._tNode=o,this.previousInputValues=null,this.instance=n,this.hostView=this.changeDetectorRef=new rn(i,void 0,!1),this.componentType=t}setInput(t,n){let r=this._tNode.inputs,i;if(r!==null&&(i=r[t])){if(this.previousInputValues??=new Map,this.previousInputValues.has(t)&&Object.is(this.previousInputValues.get(t),n))return;let o=this._rootLView;sc(o[S],o,i,t,n),this.previousInputValues.set(t,n);let s=kt(this._tNode.index,o);qo(s)}}get injector(){return new Kt(this._tNode,this._rootLView)}destroy(){this.hostView.destroy()}onDestroy(t){this.hostView.onDestroy(t)}};function _D(e,t){let n=e[S],r=we;return e[r]=t,Ur(n,r,2,"#host",null)}function ED(e,t,n,r,i,o,s){let a=i[S];bD(r,e,t,s);let l=null;t!==null&&(l=Ql(t,i[Ve]));let c=o.rendererFactory.createRenderer(t,n),u=16;n.signals?u=4096:n.onPush&&(u=64);let d=zo(i,Nh(n),null,u,i[e.index],e,o,c,null,null,l);return a.firstCreatePass&&Ha(a,e,r.length-1),Go(i,d),i[e.index]=d}function bD(e,t,n,r){for(let i of e)t.mergedAttrs=_r(t.mergedAttrs,i.hostAttrs);t.mergedAttrs!==null&&(Co(t,t.mergedAttrs,!0),n!==null&&Ih(r,n,t))}function ID(e,t,n,r,i,o){let s=me(),a=i[S],l=qe(s,i);Oh(a,i,s,n,null,r);for(let u=0;u<n.length;u++){let d=s.directiveStart+u,f=nn(i,a,d,s);Rt(f,i)}Ph(a,i,s),l&&Rt(l,i);let c=nn(i,a,s.directiveStart+s.componentOffset,s);if(e[ce]=i[ce]=c,o!==null)for(let u of o)u(c,t);return tc(a,s,i),c}function MD(e,t,n,r){if(r)Sa(e,n,["ng-version","17.3.12"]);else{let{attrs:i,classes:o}=xv(t.selectors[0]);i&&Sa(e,n,i),o&&o.length>0&&bh(e,n,o.join(" "))}}function xD(e,t,n){let r=e.projection=[];for(let i=0;i<t.length;i++){let o=n[i];r.push(o!=null?Array.from(o):null)}}function SD(){let e=me();Vo(U()[S],e)}var Lt=(()=>{class e{static{this.__NG_ELEMENT_ID__=TD}}return e})();function TD(){let e=me();return qh(e,U())}var AD=Lt,Wh=class extends AD{constructor(t,n,r){super(),this._lContainer=t,this._hostTNode=n,this._hostLView=r}get element(){return Kn(this._hostTNode,this._hostLView)}get injector(){return new Kt(this._hostTNode,this._hostLView)}get parentInjector(){let t=Gl(this._hostTNode,this._hostLView);if(Jf(t)){let n=ho(t,this._hostLView),r=fo(t),i=n[S].data[r+8];return new Kt(i,n)}else return new Kt(null,this._hostLView)}clear(){for(;this.length>0;)this.remove(this.length-1)}get(t){let n=Bd(this._lContainer);return n!==null&&n[t]||null}get length(){return this._lContainer.length-ge}createEmbeddedView(t,n,r){let i,o;typeof r=="number"?i=r:r!=null&&(i=r.index,o=r.injector);let s=Wn(this._lContainer,t.ssrId),a=t.createEmbeddedViewImpl(n||{},o,s);return this.insertImpl(a,i,Gn(this._hostTNode,s)),a}createComponent(t,n,r,i,o){let s=t&&!Hv(t),a;if(s)a=n;else{let m=n||{};a=m.index,r=m.injector,i=m.projectableNodes,o=m.environmentInjector||m.ngModuleRef}let l=s?t:new qn(tt(t)),c=r||this.parentInjector;if(!o&&l.ngModule==null){let v=(s?c:this.parentInjector).get(ue,null);v&&(o=v)}let u=tt(l.componentType??{}),d=Wn(this._lContainer,u?.id??null),f=d?.firstChild??null,h=l.create(c,i,f,o);return this.insertImpl(h.hostView,a,Gn(this._hostTNode,d)),h}insert(t,n){return this.insertImpl(t,n,!0)}insertImpl(t,n,r){let i=t._lView;if(Xv(i)){let a=this.indexOf(t);if(a!==-1)this.detach(a);else{let l=i[oe],c=new Wh(l,l[We],l[oe]);c.detach(c.indexOf(t))}}let o=this._adjustIndex(n),s=this._lContainer;return $r(s,i,o,r),t.attachToViewContainerRef(),gf(ya(s),o,t),t}move(t,n){return this.insert(t,n)}indexOf(t){let n=Bd(this._lContainer);return n!==null?n.indexOf(t):-1}remove(t){let n=this._adjustIndex(t,-1),r=Tr(this._lContainer,n);r&&(lo(ya(this._lContainer),n),Bo(r[S],r))}detach(t){let n=this._adjustIndex(t,-1),r=Tr(this._lContainer,n);return r&&lo(ya(this._lContainer),n)!=null?new rn(r):null}_adjustIndex(t,n=0){return t??this.length+n}};function Bd(e){return e[uo]}function ya(e){return e[uo]||(e[uo]=[])}function qh(e,t){let n,r=t[e.index];return yt(r)?n=r:(n=Fh(r,t,null,e),t[e.index]=n,Go(t,n)),RD(n,t,e,r),new Wh(n,e,t)}function ND(e,t){let n=e[ne],r=n.createComment(""),i=qe(t,e),o=Xl(n,i);return mo(n,o,r,g0(n,i),!1),r}var RD=PD,OD=()=>!1;function Zh(e,t,n){return OD(e,t,n)}function PD(e,t,n,r){if(e[Xt])return;let i;n.type&8?i=nt(r):i=ND(t,n),e[Xt]=i}var Ja=class e{constructor(t){this.queryList=t,this.matches=null}clone(){return new e(this.queryList)}setDirty(){this.queryList.setDirty()}},Xa=class e{constructor(t=[]){this.queries=t}createEmbeddedView(t){let n=t.queries;if(n!==null){let r=t.contentQueries!==null?t.contentQueries[0]:n.length,i=[];for(let o=0;o<r;o++){let s=n.getByIndex(o),a=this.queries[s.indexInDeclarationView];i.push(a.clone())}return new e(i)}return null}insertView(t){this.dirtyQueriesWithMatches(t)}detachView(t){this.dirtyQueriesWithMatches(t)}finishViewCreation(t){this.dirtyQueriesWithMatches(t)}dirtyQueriesWithMatches(t){for(let n=0;n<this.queries.length;n++)fc(t,n).matches!==null&&this.queries[n].setDirty()}},el=class{constructor(t,n,r=null){this.flags=n,this.read=r,typeof t=="string"?this.predicate=$D(t):this.predicate=t}},tl=class e{constructor(t=[]){this.queries=t}elementStart(t,n){for(let r=0;r<this.queries.length;r++)this.queries[r].elementStart(t,n)}elementEnd(t){for(let n=0;n<this.queries.length;n++)this.queries[n].elementEnd(t)}embeddedTView(t){let n=null;for(let r=0;r<this.length;r++){let i=n!==null?n.length:0,o=this.getByIndex(r).embeddedTView(t,i);o&&(o.indexInDeclarationView=r,n!==null?n.push(o):n=[o])}return n!==null?new e(n):null}template(t,n){for(let r=0;r<this.queries.length;r++)this.queries[r].template(t,n)}getByIndex(t){return this.queries[t]}get length(){return this.queries.length}track(t){this.queries.push(t)}},nl=class e{constructor(t,n=-1){this.metadata=t,this.matches=null,this.indexInDeclarationView=-1,this.crossesNgTemplate=!1,this._appliesToNextNode=!0,this._declarationNodeIndex=n}elementStart(t,n){this.isApplyingToNode(n)&&this.matchTNode(t,n)}elementEnd(t){this._declarationNodeIndex===t.index&&(this._appliesToNextNode=!1)}template(t,n){this.elementStart(t,n)}embeddedTView(t,n){return this.isApplyingToNode(t)?(this.crossesNgTemplate=!0,this.addMatch(-t.index,n),new e(this.metadata)):null}isApplyingToNode(t){if(this._appliesToNextNode&&(this.metadata.flags&1)!==1){let n=this._declarationNodeIndex,r=t.parent;for(;r!==null&&r.type&8&&r.index!==n;)r=r.parent;return n===(r!==null?r.index:-1)}return this._appliesToNextNode}matchTNode(t,n){let r=this.metadata.predicate;if(Array.isArray(r))for(let i=0;i<r.length;i++){let o=r[i];this.matchTNodeWithReadOption(t,n,FD(n,o)),this.matchTNodeWithReadOption(t,n,ro(n,t,o,!1,!1))}else r===on?n.type&4&&this.matchTNodeWithReadOption(t,n,-1):this.matchTNodeWithReadOption(t,n,ro(n,t,r,!1,!1))}matchTNodeWithReadOption(t,n,r){if(r!==null){let i=this.metadata.read;if(i!==null)if(i===Se||i===Lt||i===on&&n.type&4)this.addMatch(n.index,-2);else{let o=ro(n,t,i,!1,!1);o!==null&&this.addMatch(n.index,o)}else this.addMatch(n.index,r)}}addMatch(t,n){this.matches===null?this.matches=[t,n]:this.matches.push(t,n)}};function FD(e,t){let n=e.localNames;if(n!==null){for(let r=0;r<n.length;r+=2)if(n[r]===t)return n[r+1]}return null}function kD(e,t){return e.type&11?Kn(e,t):e.type&4?cc(e,t):null}function LD(e,t,n,r){return n===-1?kD(t,e):n===-2?VD(e,t,r):nn(e,e[S],n,t)}function VD(e,t,n){if(n===Se)return Kn(t,e);if(n===on)return cc(t,e);if(n===Lt)return qh(t,e)}function Yh(e,t,n,r){let i=t[ht].queries[r];if(i.matches===null){let o=e.data,s=n.matches,a=[];for(let l=0;s!==null&&l<s.length;l+=2){let c=s[l];if(c<0)a.push(null);else{let u=o[c];a.push(LD(t,u,s[l+1],n.metadata.read))}}i.matches=a}return i.matches}function rl(e,t,n,r){let i=e.queries.getByIndex(n),o=i.matches;if(o!==null){let s=Yh(e,t,i,n);for(let a=0;a<o.length;a+=2){let l=o[a];if(l>0)r.push(s[a/2]);else{let c=o[a+1],u=t[-l];for(let d=ge;d<u.length;d++){let f=u[d];f[kr]===f[oe]&&rl(f[S],f,c,r)}if(u[Hn]!==null){let d=u[Hn];for(let f=0;f<d.length;f++){let h=d[f];rl(h[S],h,c,r)}}}}}return r}function jD(e,t){return e[ht].queries[t].queryList}function UD(e,t,n){let r=new Ua((n&4)===4);return A0(e,t,r,r.destroy),(t[ht]??=new Xa).queries.push(new Ja(r))-1}function BD(e,t,n){let r=fe();return r.firstCreatePass&&(HD(r,new el(e,t,n),-1),(t&2)===2&&(r.staticViewQueries=!0)),UD(r,U(),t)}function $D(e){return e.split(",").map(t=>t.trim())}function HD(e,t,n){e.queries===null&&(e.queries=new tl),e.queries.track(new nl(t,n))}function fc(e,t){return e.queries.getByIndex(t)}function zD(e,t){let n=e[S],r=fc(n,t);return r.crossesNgTemplate?rl(n,e,t,[]):Yh(n,e,r,t)}function GD(e){return typeof e=="function"&&e[Hs]!==void 0}function Qh(e){return GD(e)&&typeof e.set=="function"}function WD(e){return Object.getPrototypeOf(e.prototype).constructor}function Vt(e){let t=WD(e.type),n=!0,r=[e];for(;t;){let i;if(Nt(e))i=t.\u0275cmp||t.\u0275dir;else{if(t.\u0275cmp)throw new b(903,!1);i=t.\u0275dir}if(i){if(n){r.push(i);let s=e;s.inputs=Ji(e.inputs),s.inputTransforms=Ji(e.inputTransforms),s.declaredInputs=Ji(e.declaredInputs),s.outputs=Ji(e.outputs);let a=i.hostBindings;a&&KD(e,a);let l=i.viewQuery,c=i.contentQueries;if(l&&YD(e,l),c&&QD(e,c),qD(e,i),Gm(e.outputs,i.outputs),Nt(i)&&i.data.animation){let u=e.data;u.animation=(u.animation||[]).concat(i.data.animation)}}let o=i.features;if(o)for(let s=0;s<o.length;s++){let a=o[s];a&&a.ngInherit&&a(e),a===Vt&&(n=!1)}}t=Object.getPrototypeOf(t)}ZD(r)}function qD(e,t){for(let n in t.inputs){if(!t.inputs.hasOwnProperty(n)||e.inputs.hasOwnProperty(n))continue;let r=t.inputs[n];if(r!==void 0&&(e.inputs[n]=r,e.declaredInputs[n]=t.declaredInputs[n],t.inputTransforms!==null)){let i=Array.isArray(r)?r[0]:r;if(!t.inputTransforms.hasOwnProperty(i))continue;e.inputTransforms??={},e.inputTransforms[i]=t.inputTransforms[i]}}}function ZD(e){let t=0,n=null;for(let r=e.length-1;r>=0;r--){let i=e[r];i.hostVars=t+=i.hostVars,i.hostAttrs=_r(i.hostAttrs,n=_r(n,i.hostAttrs))}}function Ji(e){return e===Un?{}:e===Le?[]:e}function YD(e,t){let n=e.viewQuery;n?e.viewQuery=(r,i)=>{t(r,i),n(r,i)}:e.viewQuery=t}function QD(e,t){let n=e.contentQueries;n?e.contentQueries=(r,i,o)=>{t(r,i,o),n(r,i,o)}:e.contentQueries=t}function KD(e,t){let n=e.hostBindings;n?e.hostBindings=(r,i)=>{t(r,i),n(r,i)}:e.hostBindings=t}var Ot=class{},Nr=class{};var il=class extends Ot{constructor(t,n,r){super(),this._parent=n,this._bootstrapComponents=[],this.destroyCbs=[],this.componentFactoryResolver=new wo(this);let i=wf(t);this._bootstrapComponents=yh(i.bootstrap),this._r3Injector=ah(t,n,[{provide:Ot,useValue:this},{provide:Zo,useValue:this.componentFactoryResolver},...r],Ce(t),new Set(["environment"])),this._r3Injector.resolveInjectorInitializers(),this.instance=this._r3Injector.get(t)}get injector(){return this._r3Injector}destroy(){let t=this._r3Injector;!t.destroyed&&t.destroy(),this.destroyCbs.forEach(n=>n()),this.destroyCbs=null}onDestroy(t){this.destroyCbs.push(t)}},ol=class extends Nr{constructor(t){super(),this.moduleType=t}create(t){return new il(this.moduleType,t,[])}};var Eo=class extends Ot{constructor(t){super(),this.componentFactoryResolver=new wo(this),this.instance=null;let n=new Er([...t.providers,{provide:Ot,useValue:this},{provide:Zo,useValue:this.componentFactoryResolver}],t.parent||Fl(),t.debugName,new Set(["environment"]));this.injector=n,t.runEnvironmentInitializers&&n.resolveInjectorInitializers()}destroy(){this.injector.destroy()}onDestroy(t){this.injector.onDestroy(t)}};function Hr(e,t,n=null){return new Eo({providers:e,parent:t,debugName:n,runEnvironmentInitializers:!0}).injector}var JD=(()=>{class e{constructor(){this.cachedInjectors=new Map}getOrCreateInjector(n,r,i,o){if(!this.cachedInjectors.has(n)){let s=i.length>0?Hr(i,r,o):null;this.cachedInjectors.set(n,s)}return this.cachedInjectors.get(n)}ngOnDestroy(){try{for(let n of this.cachedInjectors.values())n!==null&&n.destroy()}finally{this.cachedInjectors.clear()}}static{this.\u0275prov=w({token:e,providedIn:"environment",factory:()=>new e})}}return e})();var hn=(()=>{class e{constructor(){this.taskId=0,this.pendingTasks=new Set,this.hasPendingTasks=new ae(!1)}get _hasPendingTasks(){return this.hasPendingTasks.value}add(){this._hasPendingTasks||this.hasPendingTasks.next(!0);let n=this.taskId++;return this.pendingTasks.add(n),n}remove(n){this.pendingTasks.delete(n),this.pendingTasks.size===0&&this._hasPendingTasks&&this.hasPendingTasks.next(!1)}ngOnDestroy(){this.pendingTasks.clear(),this._hasPendingTasks&&this.hasPendingTasks.next(!1)}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function Kh(e){return hc(e)?Array.isArray(e)||!(e instanceof Map)&&Symbol.iterator in e:!1}function XD(e,t){if(Array.isArray(e))for(let n=0;n<e.length;n++)t(e[n]);else{let n=e[Symbol.iterator](),r;for(;!(r=n.next()).done;)t(r.value)}}function hc(e){return e!==null&&(typeof e=="function"||typeof e=="object")}function Jh(e,t,n){return e[t]=n}function pt(e,t,n){let r=e[t];return Object.is(r,n)?!1:(e[t]=n,!0)}function eC(e,t,n,r){let i=pt(e,t,n);return pt(e,t+1,r)||i}function tC(e){return(e.flags&32)===32}function nC(e,t,n,r,i,o,s,a,l){let c=t.consts,u=Ur(t,e,4,s||null,zn(c,a));oc(t,n,u,zn(c,l)),Vo(t,u);let d=u.tView=ic(2,u,r,i,o,t.directiveRegistry,t.pipeRegistry,null,t.schemas,c,null);return t.queries!==null&&(t.queries.template(t,u),d.queries=t.queries.embeddedTView(u)),u}function _e(e,t,n,r,i,o,s,a){let l=U(),c=fe(),u=e+we,d=c.firstCreatePass?nC(u,c,l,t,n,r,i,o,s):c.data[u];ln(d,!1);let f=rC(c,l,d,e);ko()&&$o(c,l,f,d),Rt(f,l);let h=Fh(f,l,f,d);return l[u]=h,Go(l,h),Zh(h,d,l),Fo(d)&&nc(c,l,d),s!=null&&rc(l,d,a),_e}var rC=iC;function iC(e,t,n,r){return Lo(!0),t[ne].createComment("")}var xe=function(e){return e[e.NOT_STARTED=0]="NOT_STARTED",e[e.IN_PROGRESS=1]="IN_PROGRESS",e[e.COMPLETE=2]="COMPLETE",e[e.FAILED=3]="FAILED",e}(xe||{}),$d=0,oC=1,le=function(e){return e[e.Placeholder=0]="Placeholder",e[e.Loading=1]="Loading",e[e.Complete=2]="Complete",e[e.Error=3]="Error",e}(le||{}),Xh=function(e){return e[e.Initial=-1]="Initial",e}(Xh||{}),sC=0,ep=1;var tp=4,np=5,rp=function(e){return e[e.Manual=0]="Manual",e[e.Playthrough=1]="Playthrough",e}(rp||{});function ip(e,t,n){let r=e===1?np:tp;t[r]===null&&(t[r]=[]),t[r].push(n)}function sl(e,t){let n=e===1?np:tp,r=t[n];if(r!==null){for(let i of r)i();t[n]=null}}function op(e){sl(1,e),sl(0,e)}function Qo(e){return e+1}function Ko(e,t){let n=e[S],r=Qo(t.index);return e[r]}function aC(e,t,n){let r=e[S],i=Qo(t);e[i]=n}function Jo(e,t){let n=Qo(t.index);return e.data[n]}function lC(e,t,n){let r=Qo(t);e.data[r]=n}function cC(e,t,n){let r=t[S],i=Jo(r,n);switch(e){case le.Complete:return i.primaryTmplIndex;case le.Loading:return i.loadingTmplIndex;case le.Error:return i.errorTmplIndex;case le.Placeholder:return i.placeholderTmplIndex;default:return null}}function Hd(e,t){return t===le.Placeholder?e.placeholderBlockConfig?.[$d]??null:t===le.Loading?e.loadingBlockConfig?.[$d]??null:null}function uC(e){return e.loadingBlockConfig?.[oC]??null}function zd(e,t){if(!e||e.length===0)return t;let n=new Set(e);for(let r of t)n.add(r);return e.length===n.size?e:Array.from(n)}function dC(e,t){let n=t.primaryTmplIndex+we;return Lr(e,n)}function fC(e,t){let r=t[Ve].get(gC),i=()=>r.remove(e);return r.add(e),i}var hC=()=>typeof requestIdleCallback<"u"?requestIdleCallback:setTimeout,pC=()=>typeof requestIdleCallback<"u"?cancelIdleCallback:clearTimeout,gC=(()=>{class e{constructor(){this.executingCallbacks=!1,this.idleId=null,this.current=new Set,this.deferred=new Set,this.ngZone=y(Y),this.requestIdleCallbackFn=hC().bind(globalThis),this.cancelIdleCallbackFn=pC().bind(globalThis)}add(n){(this.executingCallbacks?this.deferred:this.current).add(n),this.idleId===null&&this.scheduleIdleCallback()}remove(n){let{current:r,deferred:i}=this;r.delete(n),i.delete(n),r.size===0&&i.size===0&&this.cancelIdleCallback()}scheduleIdleCallback(){let n=()=>{this.cancelIdleCallback(),this.executingCallbacks=!0;for(let r of this.current)r();if(this.current.clear(),this.executingCallbacks=!1,this.deferred.size>0){for(let r of this.deferred)this.current.add(r);this.deferred.clear(),this.scheduleIdleCallback()}};this.idleId=this.requestIdleCallbackFn(()=>this.ngZone.run(n))}cancelIdleCallback(){this.idleId!==null&&(this.cancelIdleCallbackFn(this.idleId),this.idleId=null)}ngOnDestroy(){this.cancelIdleCallback(),this.current.clear(),this.deferred.clear()}static{this.\u0275prov=w({token:e,providedIn:"root",factory:()=>new e})}}return e})();var mC=new I("");function vC(e){return e.get(mC,null,{optional:!0})?.behavior===rp.Manual?!1:Uo(e)}var yC=null;function TA(e,t,n,r,i,o,s,a,l){let c=U(),u=fe(),d=e+we;if(_e(e,null,0,0),u.firstCreatePass){fn("NgDefer");let C={primaryTmplIndex:t,loadingTmplIndex:r??null,placeholderTmplIndex:i??null,errorTmplIndex:o??null,placeholderBlockConfig:null,loadingBlockConfig:null,dependencyResolverFn:n??null,loadingState:xe.NOT_STARTED,loadingPromise:null,providers:null};l?.(u,C,a,s),lC(u,d,C)}let f=me(),h=c[d];Zh(h,f,c);let m=[null,Xh.Initial,null,null,null,null];aC(c,d,m);let v=()=>op(m);ip(0,m,()=>Lf(c,v)),Ul(c,v)}function AA(){DC(fC)}function DC(e){let t=U(),n=me();if(bC(t,n),Uo(t[Ve])){let r=e(()=>IC(t,n),t),i=Ko(t,n);ip(0,i,r)}}function Yt(e,t,n,r=!1){let i=n[oe],o=i[S];if(Gv(i))return;let s=Ko(i,t),a=s[ep];if(Gd(a,e)&&Gd(s[sC]??-1,e)){let l=i[Ve],c=Jo(o,t),d=!r&&Uo(l)&&(uC(c)!==null||Hd(c,le.Loading)!==null||Hd(c,le.Placeholder))?yC:_C;try{d(e,s,n,t,i)}catch(f){Wo(i,f)}}}function CC(e){return e instanceof _o&&typeof e.injector.__ngOutletInjector=="function"}function wC(e,t){return e.injector.__ngOutletInjector(t)}function _C(e,t,n,r,i){let o=cC(e,i,r);if(o!==null){t[ep]=e;let s=i[S],a=o+we,l=Lr(s,a),c=0;lc(n,c);let u;if(e===le.Complete){let h=Jo(s,r),m=h.providers;if(m&&m.length>0){let v=i[Ve],C=CC(v),x=C?v:v.get(ue);u=x.get(JD).getOrCreateInjector(h,x,m,""),C&&(u=wC(v,u))}}let d=Wn(n,l.tView.ssrId),f=Br(i,l,null,{dehydratedView:d,injector:u});$r(n,f,c,Gn(l,d)),qo(f)}}function Gd(e,t){return e<t}function EC(e,t,n){let r=t[Ve],i=t[S];if(e.loadingState!==xe.NOT_STARTED)return e.loadingPromise??Promise.resolve();let o=Ko(t,n),s=dC(i,e);e.loadingState=xe.IN_PROGRESS,sl(1,o);let a=e.dependencyResolverFn,l=r.get(hn),c=l.add();return a?(e.loadingPromise=Promise.allSettled(a()).then(u=>{let d=!1,f=[],h=[];for(let m of u)if(m.status==="fulfilled"){let v=m.value,C=tt(v)||Nl(v);if(C)f.push(C);else{let x=Rl(v);x&&h.push(x)}}else{d=!0;break}if(e.loadingPromise=null,l.remove(c),d){if(e.loadingState=xe.FAILED,e.errorTmplIndex===null){let m=e0(t),v=new b(750,!1);Wo(t,v)}}else{e.loadingState=xe.COMPLETE;let m=s.tView;if(f.length>0){m.directiveRegistry=zd(m.directiveRegistry,f);let v=f.map(x=>x.type),C=Ol(!1,...v);e.providers=C}h.length>0&&(m.pipeRegistry=zd(m.pipeRegistry,h))}}),e.loadingPromise):(e.loadingPromise=Promise.resolve().then(()=>{e.loadingPromise=null,e.loadingState=xe.COMPLETE,l.remove(c)}),e.loadingPromise)}function bC(e,t){let n=e[t.index];Yt(le.Placeholder,t,n)}function Wd(e,t,n){e.loadingPromise.then(()=>{e.loadingState===xe.COMPLETE?Yt(le.Complete,t,n):e.loadingState===xe.FAILED&&Yt(le.Error,t,n)})}function IC(e,t){let n=e[S],r=e[t.index],i=e[Ve];if(!vC(i))return;let o=Ko(e,t),s=Jo(n,t);switch(op(o),s.loadingState){case xe.NOT_STARTED:Yt(le.Loading,t,r),EC(s,e,t),s.loadingState===xe.IN_PROGRESS&&Wd(s,t,r);break;case xe.IN_PROGRESS:Yt(le.Loading,t,r),Wd(s,t,r);break;case xe.COMPLETE:Yt(le.Complete,t,r);break;case xe.FAILED:Yt(le.Error,t,r);break;default:}}function MC(e,t,n,r){return pt(e,Vr(),n)?t+xl(n)+r:dn}function Xi(e,t){return e<<17|t<<2}function sn(e){return e>>17&32767}function xC(e){return(e&2)==2}function SC(e,t){return e&131071|t<<17}function al(e){return e|2}function Zn(e){return(e&131068)>>2}function Da(e,t){return e&-131069|t<<2}function TC(e){return(e&1)===1}function ll(e){return e|1}function AC(e,t,n,r,i,o){let s=o?t.classBindings:t.styleBindings,a=sn(s),l=Zn(s);e[r]=n;let c=!1,u;if(Array.isArray(n)){let d=n;u=d[1],(u===null||Fr(d,u)>0)&&(c=!0)}else u=n;if(i)if(l!==0){let f=sn(e[a+1]);e[r+1]=Xi(f,a),f!==0&&(e[f+1]=Da(e[f+1],r)),e[a+1]=SC(e[a+1],r)}else e[r+1]=Xi(a,0),a!==0&&(e[a+1]=Da(e[a+1],r)),a=r;else e[r+1]=Xi(l,0),a===0?a=r:e[l+1]=Da(e[l+1],r),l=r;c&&(e[r+1]=al(e[r+1])),qd(e,u,r,!0),qd(e,u,r,!1),NC(t,u,e,r,o),s=Xi(a,l),o?t.classBindings=s:t.styleBindings=s}function NC(e,t,n,r,i){let o=i?e.residualClasses:e.residualStyles;o!=null&&typeof t=="string"&&Fr(o,t)>=0&&(n[r+1]=ll(n[r+1]))}function qd(e,t,n,r){let i=e[n+1],o=t===null,s=r?sn(i):Zn(i),a=!1;for(;s!==0&&(a===!1||o);){let l=e[s],c=e[s+1];RC(l,t)&&(a=!0,e[s+1]=r?ll(c):al(c)),s=r?sn(c):Zn(c)}a&&(e[n+1]=r?al(i):ll(i))}function RC(e,t){return e===null||t==null||(Array.isArray(e)?e[1]:e)===t?!0:Array.isArray(e)&&typeof t=="string"?Fr(e,t)>=0:!1}function Q(e,t,n){let r=U(),i=Vr();if(pt(r,i,t)){let o=fe(),s=Zf();Rh(o,s,r,e,t,r[ne],n,!1)}return Q}function Zd(e,t,n,r,i){let o=t.inputs,s=i?"class":"style";sc(e,n,o[s],s,r)}function zr(e,t){return OC(e,t,null,!0),zr}function OC(e,t,n,r){let i=U(),o=fe(),s=uy(2);if(o.firstUpdatePass&&FC(o,e,s,r),t!==dn&&pt(i,s,t)){let a=o.data[cn()];UC(o,a,i,i[ne],e,i[s+1]=BC(t,n),r,s)}}function PC(e,t){return t>=e.expandoStartIndex}function FC(e,t,n,r){let i=e.data;if(i[n+1]===null){let o=i[cn()],s=PC(e,n);$C(o,r)&&t===null&&!s&&(t=!1),t=kC(i,o,t,r),AC(i,o,t,n,s,r)}}function kC(e,t,n,r){let i=py(e),o=r?t.residualClasses:t.residualStyles;if(i===null)(r?t.classBindings:t.styleBindings)===0&&(n=Ca(null,e,t,n,r),n=Rr(n,t.attrs,r),o=null);else{let s=t.directiveStylingLast;if(s===-1||e[s]!==i)if(n=Ca(i,e,t,n,r),o===null){let l=LC(e,t,r);l!==void 0&&Array.isArray(l)&&(l=Ca(null,e,t,l[1],r),l=Rr(l,t.attrs,r),VC(e,t,r,l))}else o=jC(e,t,r)}return o!==void 0&&(r?t.residualClasses=o:t.residualStyles=o),n}function LC(e,t,n){let r=n?t.classBindings:t.styleBindings;if(Zn(r)!==0)return e[sn(r)]}function VC(e,t,n,r){let i=n?t.classBindings:t.styleBindings;e[sn(i)]=r}function jC(e,t,n){let r,i=t.directiveEnd;for(let o=1+t.directiveStylingLast;o<i;o++){let s=e[o].hostAttrs;r=Rr(r,s,n)}return Rr(r,t.attrs,n)}function Ca(e,t,n,r,i){let o=null,s=n.directiveEnd,a=n.directiveStylingLast;for(a===-1?a=n.directiveStart:a++;a<s&&(o=t[a],r=Rr(r,o.hostAttrs,i),o!==e);)a++;return e!==null&&(n.directiveStylingLast=a),r}function Rr(e,t,n){let r=n?1:2,i=-1;if(t!==null)for(let o=0;o<t.length;o++){let s=t[o];typeof s=="number"?i=s:i===r&&(Array.isArray(e)||(e=e===void 0?[]:["",e]),hv(e,s,n?!0:t[++o]))}return e===void 0?null:e}function UC(e,t,n,r,i,o,s,a){if(!(t.type&3))return;let l=e.data,c=l[a+1],u=TC(c)?Yd(l,t,n,i,Zn(c),s):void 0;if(!bo(u)){bo(o)||xC(c)&&(o=Yd(l,null,n,i,a,s));let d=Ff(cn(),n);_0(r,s,d,i,o)}}function Yd(e,t,n,r,i,o){let s=t===null,a;for(;i>0;){let l=e[i],c=Array.isArray(l),u=c?l[1]:l,d=u===null,f=n[i+1];f===dn&&(f=d?Le:void 0);let h=d?ca(f,r):u===r?f:void 0;if(c&&!bo(h)&&(h=ca(l,r)),bo(h)&&(a=h,s))return a;let m=e[i+1];i=s?sn(m):Zn(m)}if(t!==null){let l=o?t.residualClasses:t.residualStyles;l!=null&&(a=ca(l,r))}return a}function bo(e){return e!==void 0}function BC(e,t){return e==null||e===""||(typeof t=="string"?e=e+t:typeof e=="object"&&(e=Ce(jo(e)))),e}function $C(e,t){return(e.flags&(t?8:16))!==0}var cl=class{destroy(t){}updateValue(t,n){}swap(t,n){let r=Math.min(t,n),i=Math.max(t,n),o=this.detach(i);if(i-r>1){let s=this.detach(r);this.attach(r,o),this.attach(i,s)}else this.attach(r,o)}move(t,n){this.attach(n,this.detach(t))}};function wa(e,t,n,r,i){return e===n&&Object.is(t,r)?1:Object.is(i(e,t),i(n,r))?-1:0}function HC(e,t,n){let r,i,o=0,s=e.length-1;if(Array.isArray(t)){let a=t.length-1;for(;o<=s&&o<=a;){let l=e.at(o),c=t[o],u=wa(o,l,o,c,n);if(u!==0){u<0&&e.updateValue(o,c),o++;continue}let d=e.at(s),f=t[a],h=wa(s,d,a,f,n);if(h!==0){h<0&&e.updateValue(s,f),s--,a--;continue}let m=n(o,l),v=n(s,d),C=n(o,c);if(Object.is(C,v)){let x=n(a,f);Object.is(x,m)?(e.swap(o,s),e.updateValue(s,f),a--,s--):e.move(s,o),e.updateValue(o,c),o++;continue}if(r??=new Io,i??=Kd(e,o,s,n),ul(e,r,o,C))e.updateValue(o,c),o++,s++;else if(i.has(C))r.set(m,e.detach(o)),s--;else{let x=e.create(o,t[o]);e.attach(o,x),o++,s++}}for(;o<=a;)Qd(e,r,n,o,t[o]),o++}else if(t!=null){let a=t[Symbol.iterator](),l=a.next();for(;!l.done&&o<=s;){let c=e.at(o),u=l.value,d=wa(o,c,o,u,n);if(d!==0)d<0&&e.updateValue(o,u),o++,l=a.next();else{r??=new Io,i??=Kd(e,o,s,n);let f=n(o,u);if(ul(e,r,o,f))e.updateValue(o,u),o++,s++,l=a.next();else if(!i.has(f))e.attach(o,e.create(o,u)),o++,s++,l=a.next();else{let h=n(o,c);r.set(h,e.detach(o)),s--}}}for(;!l.done;)Qd(e,r,n,e.length,l.value),l=a.next()}for(;o<=s;)e.destroy(e.detach(s--));r?.forEach(a=>{e.destroy(a)})}function ul(e,t,n,r){return t!==void 0&&t.has(r)?(e.attach(n,t.get(r)),t.delete(r),!0):!1}function Qd(e,t,n,r,i){if(ul(e,t,r,n(r,i)))e.updateValue(r,i);else{let o=e.create(r,i);e.attach(r,o)}}function Kd(e,t,n,r){let i=new Set;for(let o=t;o<=n;o++)i.add(r(o,e.at(o)));return i}var Io=class{constructor(){this.kvMap=new Map,this._vMap=void 0}has(t){return this.kvMap.has(t)}delete(t){if(!this.has(t))return!1;let n=this.kvMap.get(t);return this._vMap!==void 0&&this._vMap.has(n)?(this.kvMap.set(t,this._vMap.get(n)),this._vMap.delete(n)):this.kvMap.delete(t),!0}get(t){return this.kvMap.get(t)}set(t,n){if(this.kvMap.has(t)){let r=this.kvMap.get(t);this._vMap===void 0&&(this._vMap=new Map);let i=this._vMap;for(;i.has(r);)r=i.get(r);i.set(r,n)}else this.kvMap.set(t,n)}forEach(t){for(let[n,r]of this.kvMap)if(t(r,n),this._vMap!==void 0){let i=this._vMap;for(;i.has(r);)r=i.get(r),t(r,n)}}};function Jn(e,t,n){fn("NgControlFlow");let r=U(),i=Vr(),o=pl(r,we+e),s=0;if(pt(r,i,t)){let a=j(null);try{if(lc(o,s),t!==-1){let l=gl(r[S],we+t),c=Wn(o,l.tView.ssrId),u=Br(r,l,n,{dehydratedView:c});$r(o,u,s,Gn(l,c))}}finally{j(a)}}else{let a=jh(o,s);a!==void 0&&(a[ce]=n)}}var dl=class{constructor(t,n,r){this.lContainer=t,this.$implicit=n,this.$index=r}get $count(){return this.lContainer.length-ge}};function Ct(e,t){return t}var fl=class{constructor(t,n,r){this.hasEmptyBlock=t,this.trackByFn=n,this.liveCollection=r}};function Ze(e,t,n,r,i,o,s,a,l,c,u,d,f){fn("NgControlFlow");let h=l!==void 0,m=U(),v=a?s.bind(m[je][ce]):s,C=new fl(h,v);m[we+e]=C,_e(e+1,t,n,r,i,o),h&&_e(e+2,l,c,u,d,f)}var hl=class extends cl{constructor(t,n,r){super(),this.lContainer=t,this.hostLView=n,this.templateTNode=r,this.needsIndexUpdate=!1}get length(){return this.lContainer.length-ge}at(t){return this.getLView(t)[ce].$implicit}attach(t,n){let r=n[br];this.needsIndexUpdate||=t!==this.length,$r(this.lContainer,n,t,Gn(this.templateTNode,r))}detach(t){return this.needsIndexUpdate||=t!==this.length-1,zC(this.lContainer,t)}create(t,n){let r=Wn(this.lContainer,this.templateTNode.tView.ssrId);return Br(this.hostLView,this.templateTNode,new dl(this.lContainer,n,t),{dehydratedView:r})}destroy(t){Bo(t[S],t)}updateValue(t,n){this.getLView(t)[ce].$implicit=n}reset(){this.needsIndexUpdate=!1}updateIndexes(){if(this.needsIndexUpdate)for(let t=0;t<this.length;t++)this.getLView(t)[ce].$index=t}getLView(t){return GC(this.lContainer,t)}};function Ye(e){let t=j(null),n=cn();try{let r=U(),i=r[S],o=r[n];if(o.liveCollection===void 0){let a=n+1,l=pl(r,a),c=gl(i,a);o.liveCollection=new hl(l,r,c)}else o.liveCollection.reset();let s=o.liveCollection;if(HC(s,e,o.trackByFn),s.updateIndexes(),o.hasEmptyBlock){let a=Vr(),l=s.length===0;if(pt(r,a,l)){let c=n+2,u=pl(r,c);if(l){let d=gl(i,c),f=Wn(u,d.tView.ssrId),h=Br(r,d,void 0,{dehydratedView:f});$r(u,h,0,Gn(d,f))}else lc(u,0)}}}finally{j(t)}}function pl(e,t){return e[t]}function zC(e,t){return Tr(e,t)}function GC(e,t){return jh(e,t)}function gl(e,t){return Lr(e,t)}function WC(e,t,n,r,i,o){let s=t.consts,a=zn(s,i),l=Ur(t,e,2,r,a);return oc(t,n,l,zn(s,o)),l.attrs!==null&&Co(l,l.attrs,!1),l.mergedAttrs!==null&&Co(l,l.mergedAttrs,!0),t.queries!==null&&t.queries.elementStart(t,l),l}function p(e,t,n,r){let i=U(),o=fe(),s=we+e,a=i[ne],l=o.firstCreatePass?WC(s,o,i,t,n,r):o.data[s],c=qC(o,i,l,a,t,e);i[s]=c;let u=Fo(l);return ln(l,!0),Ih(a,c,l),!tC(l)&&ko()&&$o(o,i,c,l),ny()===0&&Rt(c,i),ry(),u&&(nc(o,i,l),tc(o,l,i)),r!==null&&rc(i,l),p}function g(){let e=me();Bl()?Uf():(e=e.parent,ln(e,!1));let t=e;sy(t)&&ay(),iy();let n=fe();return n.firstCreatePass&&(Vo(n,e),Ll(e)&&n.queries.elementEnd(e)),t.classesWithoutHost!=null&&wy(t)&&Zd(n,t,U(),t.classesWithoutHost,!0),t.stylesWithoutHost!=null&&_y(t)&&Zd(n,t,U(),t.stylesWithoutHost,!1),g}function F(e,t,n,r){return p(e,t,n,r),g(),F}var qC=(e,t,n,r,i,o)=>(Lo(!0),Dh(r,i,vy()));function ZC(e,t,n,r,i){let o=t.consts,s=zn(o,r),a=Ur(t,e,8,"ng-container",s);s!==null&&Co(a,s,!0);let l=zn(o,i);return oc(t,n,a,l),t.queries!==null&&t.queries.elementStart(t,a),a}function pc(e,t,n){let r=U(),i=fe(),o=e+we,s=i.firstCreatePass?ZC(o,i,r,t,n):i.data[o];ln(s,!0);let a=YC(i,r,s,e);return r[o]=a,ko()&&$o(i,r,a,s),Rt(a,r),Fo(s)&&(nc(i,r,s),tc(i,s,r)),n!=null&&rc(r,s),pc}function gc(){let e=me(),t=fe();return Bl()?Uf():(e=e.parent,ln(e,!1)),t.firstCreatePass&&(Vo(t,e),Ll(e)&&t.queries.elementEnd(e)),gc}var YC=(e,t,n,r)=>(Lo(!0),i0(t[ne],""));function at(){return U()}var Mo="en-US";var QC=Mo;function KC(e){typeof e=="string"&&(QC=e.toLowerCase().replace(/_/g,"-"))}function K(e,t,n,r){let i=U(),o=fe(),s=me();return sp(o,i,i[ne],s,e,t,r),K}function JC(e,t,n,r){let i=e.cleanup;if(i!=null)for(let o=0;o<i.length-1;o+=2){let s=i[o];if(s===n&&i[o+1]===r){let a=t[Ir],l=i[o+2];return a.length>l?a[l]:null}typeof s=="string"&&(o+=2)}return null}function sp(e,t,n,r,i,o,s){let a=Fo(r),c=e.firstCreatePass&&Vh(e),u=t[ce],d=Lh(t),f=!0;if(r.type&3||s){let v=qe(r,t),C=s?s(v):v,x=d.length,Qe=s?Te=>s(nt(Te[r.index])):r.index,G=null;if(!s&&a&&(G=JC(e,t,i,r.index)),G!==null){let Te=G.__ngLastListenerFn__||G;Te.__ngNextListenerFn__=o,G.__ngLastListenerFn__=o,f=!1}else{o=Xd(r,t,u,o,!1);let Te=n.listen(C,i,o);d.push(o,Te),c&&c.push(i,Qe,x,x+1)}}else o=Xd(r,t,u,o,!1);let h=r.outputs,m;if(f&&h!==null&&(m=h[i])){let v=m.length;if(v)for(let C=0;C<v;C+=2){let x=m[C],Qe=m[C+1],It=t[x][Qe].subscribe(o),Ae=d.length;d.push(o,It),c&&c.push(i,r.index,Ae,-(Ae+1))}}}function Jd(e,t,n,r){let i=j(null);try{return Je(6,t,n),n(r)!==!1}catch(o){return Wo(e,o),!1}finally{Je(7,t,n),j(i)}}function Xd(e,t,n,r,i){return function o(s){if(s===Function)return r;let a=e.componentOffset>-1?kt(e.index,t):t;qo(a);let l=Jd(t,n,r,s),c=o.__ngNextListenerFn__;for(;c;)l=Jd(t,n,c,s)&&l,c=c.__ngNextListenerFn__;return i&&l===!1&&s.preventDefault(),l}}function H(e=1){return my(e)}function ap(e,t,n){BD(e,t,n)}function mc(e){let t=U(),n=fe(),r=$f();$l(r+1);let i=fc(n,r);if(e.dirty&&Jv(t)===((i.metadata.flags&2)===2)){if(i.matches===null)e.reset([]);else{let o=zD(t,r);e.reset(o,Py),e.notifyOnChanges()}return!0}return!1}function vc(){return jD(U(),$f())}function _(e,t=""){let n=U(),r=fe(),i=e+we,o=r.firstCreatePass?Ur(r,i,1,t,null):r.data[i],s=XC(r,n,o,t,e);n[i]=s,ko()&&$o(r,n,s,o),ln(o,!1)}var XC=(e,t,n,r,i)=>(Lo(!0),n0(t[ne],r));function Xn(e){return J("",e,""),Xn}function J(e,t,n){let r=U(),i=MC(r,e,t,n);return i!==dn&&q0(r,cn(),i),J}function er(e,t,n){Qh(t)&&(t=t());let r=U(),i=Vr();if(pt(r,i,t)){let o=fe(),s=Zf();Rh(o,s,r,e,t,r[ne],n,!1)}return er}function Gr(e,t){let n=Qh(e);return n&&e.set(t),n}function tr(e,t){let n=U(),r=fe(),i=me();return sp(r,n,n[ne],i,e,t),tr}function ew(e,t,n){let r=fe();if(r.firstCreatePass){let i=Nt(e);ml(n,r.data,r.blueprint,i,!0),ml(t,r.data,r.blueprint,i,!1)}}function ml(e,t,n,r,i){if(e=De(e),Array.isArray(e))for(let o=0;o<e.length;o++)ml(e[o],t,n,r,i);else{let o=fe(),s=U(),a=me(),l=$n(e)?e:De(e.provide),c=Mf(e),u=a.providerIndexes&1048575,d=a.directiveStart,f=a.providerIndexes>>20;if($n(e)||!e.multi){let h=new tn(c,i,L),m=Ea(l,t,i?u:u+f,d);m===-1?(ka(po(a,s),o,l),_a(o,e,t.length),t.push(l),a.directiveStart++,a.directiveEnd++,i&&(a.providerIndexes+=1048576),n.push(h),s.push(h)):(n[m]=h,s[m]=h)}else{let h=Ea(l,t,u+f,d),m=Ea(l,t,u,u+f),v=h>=0&&n[h],C=m>=0&&n[m];if(i&&!C||!i&&!v){ka(po(a,s),o,l);let x=rw(i?nw:tw,n.length,i,r,c);!i&&C&&(n[m].providerFactory=x),_a(o,e,t.length,0),t.push(l),a.directiveStart++,a.directiveEnd++,i&&(a.providerIndexes+=1048576),n.push(x),s.push(x)}else{let x=lp(n[i?m:h],c,!i&&r);_a(o,e,h>-1?h:m,x)}!i&&r&&C&&n[m].componentProviders++}}}function _a(e,t,n,r){let i=$n(t),o=Fv(t);if(i||o){let l=(o?De(t.useClass):t).prototype.ngOnDestroy;if(l){let c=e.destroyHooks||(e.destroyHooks=[]);if(!i&&t.multi){let u=c.indexOf(n);u===-1?c.push(n,[r,l]):c[u+1].push(r,l)}else c.push(n,l)}}}function lp(e,t,n){return n&&e.componentProviders++,e.multi.push(t)-1}function Ea(e,t,n,r){for(let i=n;i<r;i++)if(t[i]===e)return i;return-1}function tw(e,t,n,r){return vl(this.multi,[])}function nw(e,t,n,r){let i=this.multi,o;if(this.providerFactory){let s=this.providerFactory.componentProviders,a=nn(n,n[S],this.providerFactory.index,r);o=a.slice(0,s),vl(i,o);for(let l=s;l<a.length;l++)o.push(a[l])}else o=[],vl(i,o);return o}function vl(e,t){for(let n=0;n<e.length;n++){let r=e[n];t.push(r())}return t}function rw(e,t,n,r,i){let o=new tn(e,n,L);return o.multi=[],o.index=t,o.componentProviders=0,lp(o,i,r&&!n),o}function Wr(e,t=[]){return n=>{n.providersResolver=(r,i)=>ew(r,i?i(e):e,t)}}var iw=(()=>{class e{constructor(n){this._injector=n,this.cachedInjectors=new Map}getOrCreateStandaloneInjector(n){if(!n.standalone)return null;if(!this.cachedInjectors.has(n)){let r=Ol(!1,n.type),i=r.length>0?Hr([r],this._injector,`Standalone[${n.type.name}]`):null;this.cachedInjectors.set(n,i)}return this.cachedInjectors.get(n)}ngOnDestroy(){try{for(let n of this.cachedInjectors.values())n!==null&&n.destroy()}finally{this.cachedInjectors.clear()}}static{this.\u0275prov=w({token:e,providedIn:"environment",factory:()=>new e(M(ue))})}}return e})();function jt(e){fn("NgStandalone"),e.getStandaloneInjector=t=>t.get(iw).getOrCreateStandaloneInjector(e)}function yc(e,t,n,r){return ow(U(),Bf(),e,t,n,r)}function cp(e,t,n,r,i){return sw(U(),Bf(),e,t,n,r,i)}function up(e,t){let n=e[t];return n===dn?void 0:n}function ow(e,t,n,r,i,o){let s=t+n;return pt(e,s,i)?Jh(e,s+1,o?r.call(o,i):r(i)):up(e,s+1)}function sw(e,t,n,r,i,o,s){let a=t+n;return eC(e,a,i,o)?Jh(e,a+2,s?r.call(s,i,o):r(i,o)):up(e,a+2)}var Xo=(()=>{class e{log(n){console.log(n)}warn(n){console.warn(n)}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"platform"})}}return e})();var dp=new I("");function pn(e){return!!e&&typeof e.then=="function"}function fp(e){return!!e&&typeof e.subscribe=="function"}var es=new I(""),hp=(()=>{class e{constructor(){this.initialized=!1,this.done=!1,this.donePromise=new Promise((n,r)=>{this.resolve=n,this.reject=r}),this.appInits=y(es,{optional:!0})??[]}runInitializers(){if(this.initialized)return;let n=[];for(let i of this.appInits){let o=i();if(pn(o))n.push(o);else if(fp(o)){let s=new Promise((a,l)=>{o.subscribe({complete:a,error:l})});n.push(s)}}let r=()=>{this.done=!0,this.resolve()};Promise.all(n).then(()=>{r()}).catch(i=>{this.reject(i)}),n.length===0&&r(),this.initialized=!0}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),qr=new I("");function aw(){Hu(()=>{throw new b(600,!1)})}function lw(e){return e.isBoundToModule}function cw(e,t,n){try{let r=n();return pn(r)?r.catch(i=>{throw t.runOutsideAngular(()=>e.handleError(i)),i}):r}catch(r){throw t.runOutsideAngular(()=>e.handleError(r)),r}}var nr=(()=>{class e{constructor(){this._bootstrapListeners=[],this._runningTick=!1,this._destroyed=!1,this._destroyListeners=[],this._views=[],this.internalErrorHandler=y(lh),this.afterRenderEffectManager=y(dc),this.externalTestViews=new Set,this.beforeRender=new ye,this.afterTick=new ye,this.componentTypes=[],this.components=[],this.isStable=y(hn).hasPendingTasks.pipe(N(n=>!n)),this._injector=y(ue)}get destroyed(){return this._destroyed}get injector(){return this._injector}bootstrap(n,r){let i=n instanceof Do;if(!this._injector.get(hp).done){let f=!i&&Cf(n),h=!1;throw new b(405,h)}let s;i?s=n:s=this._injector.get(Zo).resolveComponentFactory(n),this.componentTypes.push(s.componentType);let a=lw(s)?void 0:this._injector.get(Ot),l=r||s.selector,c=s.create(Dt.NULL,[],l,a),u=c.location.nativeElement,d=c.injector.get(dp,null);return d?.registerApplication(u),c.onDestroy(()=>{this.detachView(c.hostView),ba(this.components,c),d?.unregisterApplication(u)}),this._loadComponent(c),c}tick(){this._tick(!0)}_tick(n){if(this._runningTick)throw new b(101,!1);let r=j(null);try{this._runningTick=!0,this.detectChangesInAttachedViews(n)}catch(i){this.internalErrorHandler(i)}finally{this.afterTick.next(),this._runningTick=!1,j(r)}}detectChangesInAttachedViews(n){let r=0,i=this.afterRenderEffectManager;for(;;){if(r===Bh)throw new b(103,!1);if(n){let o=r===0;this.beforeRender.next(o);for(let{_lView:s,notifyErrorHandler:a}of this._views)uw(s,o,a)}if(r++,i.executeInternalCallbacks(),![...this.externalTestViews.keys(),...this._views].some(({_lView:o})=>yl(o))&&(i.execute(),![...this.externalTestViews.keys(),...this._views].some(({_lView:o})=>yl(o))))break}}attachView(n){let r=n;this._views.push(r),r.attachToAppRef(this)}detachView(n){let r=n;ba(this._views,r),r.detachFromAppRef()}_loadComponent(n){this.attachView(n.hostView),this.tick(),this.components.push(n);let r=this._injector.get(qr,[]);[...this._bootstrapListeners,...r].forEach(i=>i(n))}ngOnDestroy(){if(!this._destroyed)try{this._destroyListeners.forEach(n=>n()),this._views.slice().forEach(n=>n.destroy())}finally{this._destroyed=!0,this._views=[],this._bootstrapListeners=[],this._destroyListeners=[]}}onDestroy(n){return this._destroyListeners.push(n),()=>ba(this._destroyListeners,n)}destroy(){if(this._destroyed)throw new b(406,!1);let n=this._injector;n.destroy&&!n.destroyed&&n.destroy()}get viewCount(){return this._views.length}warnIfDestroyed(){}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function ba(e,t){let n=e.indexOf(t);n>-1&&e.splice(n,1)}function uw(e,t,n){!t&&!yl(e)||dw(e,n,t)}function yl(e){return jl(e)}function dw(e,t,n){let r;n?(r=0,e[A]|=1024):e[A]&64?r=0:r=1,$h(e,t,r)}var Dl=class{constructor(t,n){this.ngModuleFactory=t,this.componentFactories=n}},ts=(()=>{class e{compileModuleSync(n){return new ol(n)}compileModuleAsync(n){return Promise.resolve(this.compileModuleSync(n))}compileModuleAndAllComponentsSync(n){let r=this.compileModuleSync(n),i=wf(n),o=yh(i.declarations).reduce((s,a)=>{let l=tt(a);return l&&s.push(new qn(l)),s},[]);return new Dl(r,o)}compileModuleAndAllComponentsAsync(n){return Promise.resolve(this.compileModuleAndAllComponentsSync(n))}clearCache(){}clearCacheFor(n){}getModuleId(n){}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();var fw=(()=>{class e{constructor(){this.zone=y(Y),this.applicationRef=y(nr)}initialize(){this._onMicrotaskEmptySubscription||(this._onMicrotaskEmptySubscription=this.zone.onMicrotaskEmpty.subscribe({next:()=>{this.zone.run(()=>{this.applicationRef.tick()})}}))}ngOnDestroy(){this._onMicrotaskEmptySubscription?.unsubscribe()}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function hw(e){return[{provide:Y,useFactory:e},{provide:Bn,multi:!0,useFactory:()=>{let t=y(fw,{optional:!0});return()=>t.initialize()}},{provide:Bn,multi:!0,useFactory:()=>{let t=y(vw);return()=>{t.initialize()}}},{provide:lh,useFactory:pw}]}function pw(){let e=y(Y),t=y(rt);return n=>e.runOutsideAngular(()=>t.handleError(n))}function gw(e){let t=hw(()=>new Y(mw(e)));return Yn([[],t])}function mw(e){return{enableLongStackTrace:!1,shouldCoalesceEventChangeDetection:e?.eventCoalescing??!1,shouldCoalesceRunChangeDetection:e?.runCoalescing??!1}}var vw=(()=>{class e{constructor(){this.subscription=new te,this.initialized=!1,this.zone=y(Y),this.pendingTasks=y(hn)}initialize(){if(this.initialized)return;this.initialized=!0;let n=null;!this.zone.isStable&&!this.zone.hasPendingMacrotasks&&!this.zone.hasPendingMicrotasks&&(n=this.pendingTasks.add()),this.zone.runOutsideAngular(()=>{this.subscription.add(this.zone.onStable.subscribe(()=>{Y.assertNotInAngularZone(),queueMicrotask(()=>{n!==null&&!this.zone.hasPendingMacrotasks&&!this.zone.hasPendingMicrotasks&&(this.pendingTasks.remove(n),n=null)})}))}),this.subscription.add(this.zone.onUnstable.subscribe(()=>{Y.assertInAngularZone(),n??=this.pendingTasks.add()}))}ngOnDestroy(){this.subscription.unsubscribe()}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function yw(){return typeof $localize<"u"&&$localize.locale||Mo}var Dc=new I("",{providedIn:"root",factory:()=>y(Dc,k.Optional|k.SkipSelf)||yw()});var pp=new I("");var oo=null;function Dw(e=[],t){return Dt.create({name:t,providers:[{provide:Ro,useValue:"platform"},{provide:pp,useValue:new Set([()=>oo=null])},...e]})}function Cw(e=[]){if(oo)return oo;let t=Dw(e);return oo=t,aw(),ww(t),t}function ww(e){e.get(Zl,null)?.forEach(n=>n())}var gn=(()=>{class e{static{this.__NG_ELEMENT_ID__=_w}}return e})();function _w(e){return Ew(me(),U(),(e&16)===16)}function Ew(e,t,n){if(Po(e)&&!n){let r=kt(e.index,t);return new rn(r,r)}else if(e.type&47){let r=t[je];return new rn(r,t)}return null}var Cl=class{constructor(){}supports(t){return Kh(t)}create(t){return new wl(t)}},bw=(e,t)=>t,wl=class{constructor(t){this.length=0,this._linkedRecords=null,this._unlinkedRecords=null,this._previousItHead=null,this._itHead=null,this._itTail=null,this._additionsHead=null,this._additionsTail=null,this._movesHead=null,this._movesTail=null,this._removalsHead=null,this._removalsTail=null,this._identityChangesHead=null,this._identityChangesTail=null,this._trackByFn=t||bw}forEachItem(t){let n;for(n=this._itHead;n!==null;n=n._next)t(n)}forEachOperation(t){let n=this._itHead,r=this._removalsHead,i=0,o=null;for(;n||r;){let s=!r||n&&n.currentIndex<ef(r,i,o)?n:r,a=ef(s,i,o),l=s.currentIndex;if(s===r)i--,r=r._nextRemoved;else if(n=n._next,s.previousIndex==null)i++;else{o||(o=[]);let c=a-i,u=l-i;if(c!=u){for(let f=0;f<c;f++){let h=f<o.length?o[f]:o[f]=0,m=h+f;u<=m&&m<c&&(o[f]=h+1)}let d=s.previousIndex;o[d]=u-c}}a!==l&&t(s,a,l)}}forEachPreviousItem(t){let n;for(n=this._previousItHead;n!==null;n=n._nextPrevious)t(n)}forEachAddedItem(t){let n;for(n=this._additionsHead;n!==null;n=n._nextAdded)t(n)}forEachMovedItem(t){let n;for(n=this._movesHead;n!==null;n=n._nextMoved)t(n)}forEachRemovedItem(t){let n;for(n=this._removalsHead;n!==null;n=n._nextRemoved)t(n)}forEachIdentityChange(t){let n;for(n=this._identityChangesHead;n!==null;n=n._nextIdentityChange)t(n)}diff(t){if(t==null&&(t=[]),!Kh(t))throw new b(900,!1);return this.check(t)?this:null}onDestroy(){}check(t){this._reset();let n=this._itHead,r=!1,i,o,s;if(Array.isArray(t)){this.length=t.length;for(let a=0;a<this.length;a++)o=t[a],s=this._trackByFn(a,o),n===null||!Object.is(n.trackById,s)?(n=this._mismatch(n,o,s,a),r=!0):(r&&(n=this._verifyReinsertion(n,o,s,a)),Object.is(n.item,o)||this._addIdentityChange(n,o)),n=n._next}else i=0,XD(t,a=>{s=this._trackByFn(i,a),n===null||!Object.is(n.trackById,s)?(n=this._mismatch(n,a,s,i),r=!0):(r&&(n=this._verifyReinsertion(n,a,s,i)),Object.is(n.item,a)||this._addIdentityChange(n,a)),n=n._next,i++}),this.length=i;return this._truncate(n),this.collection=t,this.isDirty}get isDirty(){return this._additionsHead!==null||this._movesHead!==null||this._removalsHead!==null||this._identityChangesHead!==null}_reset(){if(this.isDirty){let t;for(t=this._previousItHead=this._itHead;t!==null;t=t._next)t._nextPrevious=t._next;for(t=this._additionsHead;t!==null;t=t._nextAdded)t.previousIndex=t.currentIndex;for(this._additionsHead=this._additionsTail=null,t=this._movesHead;t!==null;t=t._nextMoved)t.previousIndex=t.currentIndex;this._movesHead=this._movesTail=null,this._removalsHead=this._removalsTail=null,this._identityChangesHead=this._identityChangesTail=null}}_mismatch(t,n,r,i){let o;return t===null?o=this._itTail:(o=t._prev,this._remove(t)),t=this._unlinkedRecords===null?null:this._unlinkedRecords.get(r,null),t!==null?(Object.is(t.item,n)||this._addIdentityChange(t,n),this._reinsertAfter(t,o,i)):(t=this._linkedRecords===null?null:this._linkedRecords.get(r,i),t!==null?(Object.is(t.item,n)||this._addIdentityChange(t,n),this._moveAfter(t,o,i)):t=this._addAfter(new _l(n,r),o,i)),t}_verifyReinsertion(t,n,r,i){let o=this._unlinkedRecords===null?null:this._unlinkedRecords.get(r,null);return o!==null?t=this._reinsertAfter(o,t._prev,i):t.currentIndex!=i&&(t.currentIndex=i,this._addToMoves(t,i)),t}_truncate(t){for(;t!==null;){let n=t._next;this._addToRemovals(this._unlink(t)),t=n}this._unlinkedRecords!==null&&this._unlinkedRecords.clear(),this._additionsTail!==null&&(this._additionsTail._nextAdded=null),this._movesTail!==null&&(this._movesTail._nextMoved=null),this._itTail!==null&&(this._itTail._next=null),this._removalsTail!==null&&(this._removalsTail._nextRemoved=null),this._identityChangesTail!==null&&(this._identityChangesTail._nextIdentityChange=null)}_reinsertAfter(t,n,r){this._unlinkedRecords!==null&&this._unlinkedRecords.remove(t);let i=t._prevRemoved,o=t._nextRemoved;return i===null?this._removalsHead=o:i._nextRemoved=o,o===null?this._removalsTail=i:o._prevRemoved=i,this._insertAfter(t,n,r),this._addToMoves(t,r),t}_moveAfter(t,n,r){return this._unlink(t),this._insertAfter(t,n,r),this._addToMoves(t,r),t}_addAfter(t,n,r){return this._insertAfter(t,n,r),this._additionsTail===null?this._additionsTail=this._additionsHead=t:this._additionsTail=this._additionsTail._nextAdded=t,t}_insertAfter(t,n,r){let i=n===null?this._itHead:n._next;return t._next=i,t._prev=n,i===null?this._itTail=t:i._prev=t,n===null?this._itHead=t:n._next=t,this._linkedRecords===null&&(this._linkedRecords=new xo),this._linkedRecords.put(t),t.currentIndex=r,t}_remove(t){return this._addToRemovals(this._unlink(t))}_unlink(t){this._linkedRecords!==null&&this._linkedRecords.remove(t);let n=t._prev,r=t._next;return n===null?this._itHead=r:n._next=r,r===null?this._itTail=n:r._prev=n,t}_addToMoves(t,n){return t.previousIndex===n||(this._movesTail===null?this._movesTail=this._movesHead=t:this._movesTail=this._movesTail._nextMoved=t),t}_addToRemovals(t){return this._unlinkedRecords===null&&(this._unlinkedRecords=new xo),this._unlinkedRecords.put(t),t.currentIndex=null,t._nextRemoved=null,this._removalsTail===null?(this._removalsTail=this._removalsHead=t,t._prevRemoved=null):(t._prevRemoved=this._removalsTail,this._removalsTail=this._removalsTail._nextRemoved=t),t}_addIdentityChange(t,n){return t.item=n,this._identityChangesTail===null?this._identityChangesTail=this._identityChangesHead=t:this._identityChangesTail=this._identityChangesTail._nextIdentityChange=t,t}},_l=class{constructor(t,n){this.item=t,this.trackById=n,this.currentIndex=null,this.previousIndex=null,this._nextPrevious=null,this._prev=null,this._next=null,this._prevDup=null,this._nextDup=null,this._prevRemoved=null,this._nextRemoved=null,this._nextAdded=null,this._nextMoved=null,this._nextIdentityChange=null}},El=class{constructor(){this._head=null,this._tail=null}add(t){this._head===null?(this._head=this._tail=t,t._nextDup=null,t._prevDup=null):(this._tail._nextDup=t,t._prevDup=this._tail,t._nextDup=null,this._tail=t)}get(t,n){let r;for(r=this._head;r!==null;r=r._nextDup)if((n===null||n<=r.currentIndex)&&Object.is(r.trackById,t))return r;return null}remove(t){let n=t._prevDup,r=t._nextDup;return n===null?this._head=r:n._nextDup=r,r===null?this._tail=n:r._prevDup=n,this._head===null}},xo=class{constructor(){this.map=new Map}put(t){let n=t.trackById,r=this.map.get(n);r||(r=new El,this.map.set(n,r)),r.add(t)}get(t,n){let r=t,i=this.map.get(r);return i?i.get(t,n):null}remove(t){let n=t.trackById;return this.map.get(n).remove(t)&&this.map.delete(n),t}get isEmpty(){return this.map.size===0}clear(){this.map.clear()}};function ef(e,t,n){let r=e.previousIndex;if(r===null)return r;let i=0;return n&&r<n.length&&(i=n[r]),r+t+i}var bl=class{constructor(){}supports(t){return t instanceof Map||hc(t)}create(){return new Il}},Il=class{constructor(){this._records=new Map,this._mapHead=null,this._appendAfter=null,this._previousMapHead=null,this._changesHead=null,this._changesTail=null,this._additionsHead=null,this._additionsTail=null,this._removalsHead=null,this._removalsTail=null}get isDirty(){return this._additionsHead!==null||this._changesHead!==null||this._removalsHead!==null}forEachItem(t){let n;for(n=this._mapHead;n!==null;n=n._next)t(n)}forEachPreviousItem(t){let n;for(n=this._previousMapHead;n!==null;n=n._nextPrevious)t(n)}forEachChangedItem(t){let n;for(n=this._changesHead;n!==null;n=n._nextChanged)t(n)}forEachAddedItem(t){let n;for(n=this._additionsHead;n!==null;n=n._nextAdded)t(n)}forEachRemovedItem(t){let n;for(n=this._removalsHead;n!==null;n=n._nextRemoved)t(n)}diff(t){if(!t)t=new Map;else if(!(t instanceof Map||hc(t)))throw new b(900,!1);return this.check(t)?this:null}onDestroy(){}check(t){this._reset();let n=this._mapHead;if(this._appendAfter=null,this._forEach(t,(r,i)=>{if(n&&n.key===i)this._maybeAddToChanges(n,r),this._appendAfter=n,n=n._next;else{let o=this._getOrCreateRecordForKey(i,r);n=this._insertBeforeOrAppend(n,o)}}),n){n._prev&&(n._prev._next=null),this._removalsHead=n;for(let r=n;r!==null;r=r._nextRemoved)r===this._mapHead&&(this._mapHead=null),this._records.delete(r.key),r._nextRemoved=r._next,r.previousValue=r.currentValue,r.currentValue=null,r._prev=null,r._next=null}return this._changesTail&&(this._changesTail._nextChanged=null),this._additionsTail&&(this._additionsTail._nextAdded=null),this.isDirty}_insertBeforeOrAppend(t,n){if(t){let r=t._prev;return n._next=t,n._prev=r,t._prev=n,r&&(r._next=n),t===this._mapHead&&(this._mapHead=n),this._appendAfter=t,t}return this._appendAfter?(this._appendAfter._next=n,n._prev=this._appendAfter):this._mapHead=n,this._appendAfter=n,null}_getOrCreateRecordForKey(t,n){if(this._records.has(t)){let i=this._records.get(t);this._maybeAddToChanges(i,n);let o=i._prev,s=i._next;return o&&(o._next=s),s&&(s._prev=o),i._next=null,i._prev=null,i}let r=new Ml(t);return this._records.set(t,r),r.currentValue=n,this._addToAdditions(r),r}_reset(){if(this.isDirty){let t;for(this._previousMapHead=this._mapHead,t=this._previousMapHead;t!==null;t=t._next)t._nextPrevious=t._next;for(t=this._changesHead;t!==null;t=t._nextChanged)t.previousValue=t.currentValue;for(t=this._additionsHead;t!=null;t=t._nextAdded)t.previousValue=t.currentValue;this._changesHead=this._changesTail=null,this._additionsHead=this._additionsTail=null,this._removalsHead=null}}_maybeAddToChanges(t,n){Object.is(n,t.currentValue)||(t.previousValue=t.currentValue,t.currentValue=n,this._addToChanges(t))}_addToAdditions(t){this._additionsHead===null?this._additionsHead=this._additionsTail=t:(this._additionsTail._nextAdded=t,this._additionsTail=t)}_addToChanges(t){this._changesHead===null?this._changesHead=this._changesTail=t:(this._changesTail._nextChanged=t,this._changesTail=t)}_forEach(t,n){t instanceof Map?t.forEach(n):Object.keys(t).forEach(r=>n(t[r],r))}},Ml=class{constructor(t){this.key=t,this.previousValue=null,this.currentValue=null,this._nextPrevious=null,this._next=null,this._prev=null,this._nextAdded=null,this._nextRemoved=null,this._nextChanged=null}};function tf(){return new Cc([new Cl])}var Cc=(()=>{class e{static{this.\u0275prov=w({token:e,providedIn:"root",factory:tf})}constructor(n){this.factories=n}static create(n,r){if(r!=null){let i=r.factories.slice();n=n.concat(i)}return new e(n)}static extend(n){return{provide:e,useFactory:r=>e.create(n,r||tf()),deps:[[e,new No,new Pr]]}}find(n){let r=this.factories.find(i=>i.supports(n));if(r!=null)return r;throw new b(901,!1)}}return e})();function nf(){return new wc([new bl])}var wc=(()=>{class e{static{this.\u0275prov=w({token:e,providedIn:"root",factory:nf})}constructor(n){this.factories=n}static create(n,r){if(r){let i=r.factories.slice();n=n.concat(i)}return new e(n)}static extend(n){return{provide:e,useFactory:r=>e.create(n,r||nf()),deps:[[e,new No,new Pr]]}}find(n){let r=this.factories.find(i=>i.supports(n));if(r)return r;throw new b(901,!1)}}return e})();function gp(e){try{let{rootComponent:t,appProviders:n,platformProviders:r}=e,i=Cw(r),o=[gw(),...n||[]],a=new Eo({providers:o,parent:i,debugName:"",runEnvironmentInitializers:!1}).injector,l=a.get(Y);return l.run(()=>{a.resolveInjectorInitializers();let c=a.get(rt,null),u;l.runOutsideAngular(()=>{u=l.onError.subscribe({next:h=>{c.handleError(h)}})});let d=()=>a.destroy(),f=i.get(pp);return f.add(d),a.onDestroy(()=>{u.unsubscribe(),f.delete(d)}),cw(c,l,()=>{let h=a.get(hp);return h.runInitializers(),h.donePromise.then(()=>{let m=a.get(Dc,Mo);KC(m||Mo);let v=a.get(nr);return t!==void 0&&v.bootstrap(t),v})})})}catch(t){return Promise.reject(t)}}function ns(e){return typeof e=="boolean"?e:e!=null&&e!=="false"}function mp(e){let t=tt(e);if(!t)return null;let n=new qn(t);return{get selector(){return n.selector},get type(){return n.componentType},get inputs(){return n.inputs},get outputs(){return n.outputs},get ngContentSelectors(){return n.ngContentSelectors},get isStandalone(){return t.standalone},get isSignal(){return t.signals}}}var _p=null;function Et(){return _p}function Ep(e){_p??=e}var rs=class{};var ve=new I(""),Sc=(()=>{class e{historyGo(n){throw new Error("")}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(xw),providedIn:"platform"})}}return e})(),bp=new I(""),xw=(()=>{class e extends Sc{constructor(){super(),this._doc=y(ve),this._location=window.location,this._history=window.history}getBaseHrefFromDOM(){return Et().getBaseHref(this._doc)}onPopState(n){let r=Et().getGlobalEventTarget(this._doc,"window");return r.addEventListener("popstate",n,!1),()=>r.removeEventListener("popstate",n)}onHashChange(n){let r=Et().getGlobalEventTarget(this._doc,"window");return r.addEventListener("hashchange",n,!1),()=>r.removeEventListener("hashchange",n)}get href(){return this._location.href}get protocol(){return this._location.protocol}get hostname(){return this._location.hostname}get port(){return this._location.port}get pathname(){return this._location.pathname}get search(){return this._location.search}get hash(){return this._location.hash}set pathname(n){this._location.pathname=n}pushState(n,r,i){this._history.pushState(n,r,i)}replaceState(n,r,i){this._history.replaceState(n,r,i)}forward(){this._history.forward()}back(){this._history.back()}historyGo(n=0){this._history.go(n)}getState(){return this._history.state}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>new e,providedIn:"platform"})}}return e})();function Tc(e,t){if(e.length==0)return t;if(t.length==0)return e;let n=0;return e.endsWith("/")&&n++,t.startsWith("/")&&n++,n==2?e+t.substring(1):n==1?e+t:e+"/"+t}function vp(e){let t=e.match(/#|\?|$/),n=t&&t.index||e.length,r=n-(e[n-1]==="/"?1:0);return e.slice(0,r)+e.slice(n)}function _t(e){return e&&e[0]!=="?"?"?"+e:e}var mn=(()=>{class e{historyGo(n){throw new Error("")}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Ac),providedIn:"root"})}}return e})(),Ip=new I(""),Ac=(()=>{class e extends mn{constructor(n,r){super(),this._platformLocation=n,this._removeListenerFns=[],this._baseHref=r??this._platformLocation.getBaseHrefFromDOM()??y(ve).location?.origin??""}ngOnDestroy(){for(;this._removeListenerFns.length;)this._removeListenerFns.pop()()}onPopState(n){this._removeListenerFns.push(this._platformLocation.onPopState(n),this._platformLocation.onHashChange(n))}getBaseHref(){return this._baseHref}prepareExternalUrl(n){return Tc(this._baseHref,n)}path(n=!1){let r=this._platformLocation.pathname+_t(this._platformLocation.search),i=this._platformLocation.hash;return i&&n?`${r}${i}`:r}pushState(n,r,i,o){let s=this.prepareExternalUrl(i+_t(o));this._platformLocation.pushState(n,r,s)}replaceState(n,r,i,o){let s=this.prepareExternalUrl(i+_t(o));this._platformLocation.replaceState(n,r,s)}forward(){this._platformLocation.forward()}back(){this._platformLocation.back()}getState(){return this._platformLocation.getState()}historyGo(n=0){this._platformLocation.historyGo?.(n)}static{this.\u0275fac=function(r){return new(r||e)(M(Sc),M(Ip,8))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),Mp=(()=>{class e extends mn{constructor(n,r){super(),this._platformLocation=n,this._baseHref="",this._removeListenerFns=[],r!=null&&(this._baseHref=r)}ngOnDestroy(){for(;this._removeListenerFns.length;)this._removeListenerFns.pop()()}onPopState(n){this._removeListenerFns.push(this._platformLocation.onPopState(n),this._platformLocation.onHashChange(n))}getBaseHref(){return this._baseHref}path(n=!1){let r=this._platformLocation.hash??"#";return r.length>0?r.substring(1):r}prepareExternalUrl(n){let r=Tc(this._baseHref,n);return r.length>0?"#"+r:r}pushState(n,r,i,o){let s=this.prepareExternalUrl(i+_t(o));s.length==0&&(s=this._platformLocation.pathname),this._platformLocation.pushState(n,r,s)}replaceState(n,r,i,o){let s=this.prepareExternalUrl(i+_t(o));s.length==0&&(s=this._platformLocation.pathname),this._platformLocation.replaceState(n,r,s)}forward(){this._platformLocation.forward()}back(){this._platformLocation.back()}getState(){return this._platformLocation.getState()}historyGo(n=0){this._platformLocation.historyGo?.(n)}static{this.\u0275fac=function(r){return new(r||e)(M(Sc),M(Ip,8))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),ir=(()=>{class e{constructor(n){this._subject=new ie,this._urlChangeListeners=[],this._urlChangeSubscription=null,this._locationStrategy=n;let r=this._locationStrategy.getBaseHref();this._basePath=Aw(vp(yp(r))),this._locationStrategy.onPopState(i=>{this._subject.emit({url:this.path(!0),pop:!0,state:i.state,type:i.type})})}ngOnDestroy(){this._urlChangeSubscription?.unsubscribe(),this._urlChangeListeners=[]}path(n=!1){return this.normalize(this._locationStrategy.path(n))}getState(){return this._locationStrategy.getState()}isCurrentPathEqualTo(n,r=""){return this.path()==this.normalize(n+_t(r))}normalize(n){return e.stripTrailingSlash(Tw(this._basePath,yp(n)))}prepareExternalUrl(n){return n&&n[0]!=="/"&&(n="/"+n),this._locationStrategy.prepareExternalUrl(n)}go(n,r="",i=null){this._locationStrategy.pushState(i,"",n,r),this._notifyUrlChangeListeners(this.prepareExternalUrl(n+_t(r)),i)}replaceState(n,r="",i=null){this._locationStrategy.replaceState(i,"",n,r),this._notifyUrlChangeListeners(this.prepareExternalUrl(n+_t(r)),i)}forward(){this._locationStrategy.forward()}back(){this._locationStrategy.back()}historyGo(n=0){this._locationStrategy.historyGo?.(n)}onUrlChange(n){return this._urlChangeListeners.push(n),this._urlChangeSubscription??=this.subscribe(r=>{this._notifyUrlChangeListeners(r.url,r.state)}),()=>{let r=this._urlChangeListeners.indexOf(n);this._urlChangeListeners.splice(r,1),this._urlChangeListeners.length===0&&(this._urlChangeSubscription?.unsubscribe(),this._urlChangeSubscription=null)}}_notifyUrlChangeListeners(n="",r){this._urlChangeListeners.forEach(i=>i(n,r))}subscribe(n,r,i){return this._subject.subscribe({next:n,error:r,complete:i})}static{this.normalizeQueryParams=_t}static{this.joinWithSlash=Tc}static{this.stripTrailingSlash=vp}static{this.\u0275fac=function(r){return new(r||e)(M(mn))}}static{this.\u0275prov=w({token:e,factory:()=>Sw(),providedIn:"root"})}}return e})();function Sw(){return new ir(M(mn))}function Tw(e,t){if(!e||!t.startsWith(e))return t;let n=t.substring(e.length);return n===""||["/",";","?","#"].includes(n[0])?n:t}function yp(e){return e.replace(/\/index.html$/,"")}function Aw(e){if(new RegExp("^(https?:)?//").test(e)){let[,n]=e.split(/\/\/[^\/]+/);return n}return e}function is(e,t){t=encodeURIComponent(t);for(let n of e.split(";")){let r=n.indexOf("="),[i,o]=r==-1?[n,""]:[n.slice(0,r),n.slice(r+1)];if(i.trim()===t)return decodeURIComponent(o)}return null}var _c=/\s+/,Dp=[],os=(()=>{class e{constructor(n,r){this._ngEl=n,this._renderer=r,this.initialClasses=Dp,this.stateMap=new Map}set klass(n){this.initialClasses=n!=null?n.trim().split(_c):Dp}set ngClass(n){this.rawClass=typeof n=="string"?n.trim().split(_c):n}ngDoCheck(){for(let r of this.initialClasses)this._updateState(r,!0);let n=this.rawClass;if(Array.isArray(n)||n instanceof Set)for(let r of n)this._updateState(r,!0);else if(n!=null)for(let r of Object.keys(n))this._updateState(r,!!n[r]);this._applyStateDiff()}_updateState(n,r){let i=this.stateMap.get(n);i!==void 0?(i.enabled!==r&&(i.changed=!0,i.enabled=r),i.touched=!0):this.stateMap.set(n,{enabled:r,changed:!0,touched:!0})}_applyStateDiff(){for(let n of this.stateMap){let r=n[0],i=n[1];i.changed?(this._toggleClass(r,i.enabled),i.changed=!1):i.touched||(i.enabled&&this._toggleClass(r,!1),this.stateMap.delete(r)),i.touched=!1}}_toggleClass(n,r){n=n.trim(),n.length>0&&n.split(_c).forEach(i=>{r?this._renderer.addClass(this._ngEl.nativeElement,i):this._renderer.removeClass(this._ngEl.nativeElement,i)})}static{this.\u0275fac=function(r){return new(r||e)(L(Se),L(st))}}static{this.\u0275dir=de({type:e,selectors:[["","ngClass",""]],inputs:{klass:[Oe.None,"class","klass"],ngClass:"ngClass"},standalone:!0})}}return e})();var Ec=class{constructor(t,n,r,i){this.$implicit=t,this.ngForOf=n,this.index=r,this.count=i}get first(){return this.index===0}get last(){return this.index===this.count-1}get even(){return this.index%2===0}get odd(){return!this.even}},xp=(()=>{class e{set ngForOf(n){this._ngForOf=n,this._ngForOfDirty=!0}set ngForTrackBy(n){this._trackByFn=n}get ngForTrackBy(){return this._trackByFn}constructor(n,r,i){this._viewContainer=n,this._template=r,this._differs=i,this._ngForOf=null,this._ngForOfDirty=!0,this._differ=null}set ngForTemplate(n){n&&(this._template=n)}ngDoCheck(){if(this._ngForOfDirty){this._ngForOfDirty=!1;let n=this._ngForOf;if(!this._differ&&n)if(0)try{}catch{}else this._differ=this._differs.find(n).create(this.ngForTrackBy)}if(this._differ){let n=this._differ.diff(this._ngForOf);n&&this._applyChanges(n)}}_applyChanges(n){let r=this._viewContainer;n.forEachOperation((i,o,s)=>{if(i.previousIndex==null)r.createEmbeddedView(this._template,new Ec(i.item,this._ngForOf,-1,-1),s===null?void 0:s);else if(s==null)r.remove(o===null?void 0:o);else if(o!==null){let a=r.get(o);r.move(a,s),Cp(a,i)}});for(let i=0,o=r.length;i<o;i++){let a=r.get(i).context;a.index=i,a.count=o,a.ngForOf=this._ngForOf}n.forEachIdentityChange(i=>{let o=r.get(i.currentIndex);Cp(o,i)})}static ngTemplateContextGuard(n,r){return!0}static{this.\u0275fac=function(r){return new(r||e)(L(Lt),L(on),L(Cc))}}static{this.\u0275dir=de({type:e,selectors:[["","ngFor","","ngForOf",""]],inputs:{ngForOf:"ngForOf",ngForTrackBy:"ngForTrackBy",ngForTemplate:"ngForTemplate"},standalone:!0})}}return e})();function Cp(e,t){e.context.$implicit=t.item}var Sp=(()=>{class e{constructor(n,r){this._viewContainer=n,this._context=new bc,this._thenTemplateRef=null,this._elseTemplateRef=null,this._thenViewRef=null,this._elseViewRef=null,this._thenTemplateRef=r}set ngIf(n){this._context.$implicit=this._context.ngIf=n,this._updateView()}set ngIfThen(n){wp("ngIfThen",n),this._thenTemplateRef=n,this._thenViewRef=null,this._updateView()}set ngIfElse(n){wp("ngIfElse",n),this._elseTemplateRef=n,this._elseViewRef=null,this._updateView()}_updateView(){this._context.$implicit?this._thenViewRef||(this._viewContainer.clear(),this._elseViewRef=null,this._thenTemplateRef&&(this._thenViewRef=this._viewContainer.createEmbeddedView(this._thenTemplateRef,this._context))):this._elseViewRef||(this._viewContainer.clear(),this._thenViewRef=null,this._elseTemplateRef&&(this._elseViewRef=this._viewContainer.createEmbeddedView(this._elseTemplateRef,this._context)))}static ngTemplateContextGuard(n,r){return!0}static{this.\u0275fac=function(r){return new(r||e)(L(Lt),L(on))}}static{this.\u0275dir=de({type:e,selectors:[["","ngIf",""]],inputs:{ngIf:"ngIf",ngIfThen:"ngIfThen",ngIfElse:"ngIfElse"},standalone:!0})}}return e})(),bc=class{constructor(){this.$implicit=null,this.ngIf=null}};function wp(e,t){if(!!!(!t||t.createEmbeddedView))throw new Error(`${e} must be a TemplateRef, but received '${Ce(t)}'.`)}var Tp=(()=>{class e{constructor(n,r,i){this._ngEl=n,this._differs=r,this._renderer=i,this._ngStyle=null,this._differ=null}set ngStyle(n){this._ngStyle=n,!this._differ&&n&&(this._differ=this._differs.find(n).create())}ngDoCheck(){if(this._differ){let n=this._differ.diff(this._ngStyle);n&&this._applyChanges(n)}}_setStyle(n,r){let[i,o]=n.split("."),s=i.indexOf("-")===-1?void 0:it.DashCase;r!=null?this._renderer.setStyle(this._ngEl.nativeElement,i,o?`${r}${o}`:r,s):this._renderer.removeStyle(this._ngEl.nativeElement,i,s)}_applyChanges(n){n.forEachRemovedItem(r=>this._setStyle(r.key,null)),n.forEachAddedItem(r=>this._setStyle(r.key,r.currentValue)),n.forEachChangedItem(r=>this._setStyle(r.key,r.currentValue))}static{this.\u0275fac=function(r){return new(r||e)(L(Se),L(wc),L(st))}}static{this.\u0275dir=de({type:e,selectors:[["","ngStyle",""]],inputs:{ngStyle:"ngStyle"},standalone:!0})}}return e})();var Zr=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275mod=mt({type:e})}static{this.\u0275inj=gt({})}}return e})(),Nc="browser",Nw="server";function Rw(e){return e===Nc}function ss(e){return e===Nw}var Ap=(()=>{class e{static{this.\u0275prov=w({token:e,providedIn:"root",factory:()=>Rw(y(ot))?new Ic(y(ve),window):new Mc})}}return e})(),Ic=class{constructor(t,n){this.document=t,this.window=n,this.offset=()=>[0,0]}setOffset(t){Array.isArray(t)?this.offset=()=>t:this.offset=t}getScrollPosition(){return[this.window.scrollX,this.window.scrollY]}scrollToPosition(t){this.window.scrollTo(t[0],t[1])}scrollToAnchor(t){let n=Ow(this.document,t);n&&(this.scrollToElement(n),n.focus())}setHistoryScrollRestoration(t){this.window.history.scrollRestoration=t}scrollToElement(t){let n=t.getBoundingClientRect(),r=n.left+this.window.pageXOffset,i=n.top+this.window.pageYOffset,o=this.offset();this.window.scrollTo(r-o[0],i-o[1])}};function Ow(e,t){let n=e.getElementById(t)||e.getElementsByName(t)[0];if(n)return n;if(typeof e.createTreeWalker=="function"&&e.body&&typeof e.body.attachShadow=="function"){let r=e.createTreeWalker(e.body,NodeFilter.SHOW_ELEMENT),i=r.currentNode;for(;i;){let o=i.shadowRoot;if(o){let s=o.getElementById(t)||o.querySelector(`[name="${t}"]`);if(s)return s}i=r.nextNode()}}return null}var Mc=class{setOffset(t){}getScrollPosition(){return[0,0]}scrollToPosition(t){}scrollToAnchor(t){}setHistoryScrollRestoration(t){}},rr=class{};var jp=(()=>{class e{constructor(n,r){this._renderer=n,this._elementRef=r,this.onChange=i=>{},this.onTouched=()=>{}}setProperty(n,r){this._renderer.setProperty(this._elementRef.nativeElement,n,r)}registerOnTouched(n){this.onTouched=n}registerOnChange(n){this.onChange=n}setDisabledState(n){this.setProperty("disabled",n)}static{this.\u0275fac=function(r){return new(r||e)(L(st),L(Se))}}static{this.\u0275dir=de({type:e})}}return e})(),Lc=(()=>{class e extends jp{static{this.\u0275fac=(()=>{let n;return function(i){return(n||(n=un(e)))(i||e)}})()}static{this.\u0275dir=de({type:e,features:[Vt]})}}return e})(),us=new I("");var Fw={provide:us,useExisting:an(()=>ds),multi:!0};function kw(){let e=Et()?Et().getUserAgent():"";return/android (\d+)/.test(e.toLowerCase())}var Lw=new I(""),ds=(()=>{class e extends jp{constructor(n,r,i){super(n,r),this._compositionMode=i,this._composing=!1,this._compositionMode==null&&(this._compositionMode=!kw())}writeValue(n){let r=n??"";this.setProperty("value",r)}_handleInput(n){(!this._compositionMode||this._compositionMode&&!this._composing)&&this.onChange(n)}_compositionStart(){this._composing=!0}_compositionEnd(n){this._composing=!1,this._compositionMode&&this.onChange(n)}static{this.\u0275fac=function(r){return new(r||e)(L(st),L(Se),L(Lw,8))}}static{this.\u0275dir=de({type:e,selectors:[["input","formControlName","",3,"type","checkbox"],["textarea","formControlName",""],["input","formControl","",3,"type","checkbox"],["textarea","formControl",""],["input","ngModel","",3,"type","checkbox"],["textarea","ngModel",""],["","ngDefaultControl",""]],hostBindings:function(r,i){r&1&&K("input",function(s){return i._handleInput(s.target.value)})("blur",function(){return i.onTouched()})("compositionstart",function(){return i._compositionStart()})("compositionend",function(s){return i._compositionEnd(s.target.value)})},features:[Wr([Fw]),Vt]})}}return e})();var Vw=new I(""),jw=new I("");function Up(e){return e!=null}function Bp(e){return pn(e)?Z(e):e}function $p(e){let t={};return e.forEach(n=>{t=n!=null?D(D({},t),n):t}),Object.keys(t).length===0?null:t}function Hp(e,t){return t.map(n=>n(e))}function Uw(e){return!e.validate}function zp(e){return e.map(t=>Uw(t)?t:n=>t.validate(n))}function Bw(e){if(!e)return null;let t=e.filter(Up);return t.length==0?null:function(n){return $p(Hp(n,t))}}function Gp(e){return e!=null?Bw(zp(e)):null}function $w(e){if(!e)return null;let t=e.filter(Up);return t.length==0?null:function(n){let r=Hp(n,t).map(Bp);return ra(r).pipe(N($p))}}function Wp(e){return e!=null?$w(zp(e)):null}function Np(e,t){return e===null?[t]:Array.isArray(e)?[...e,t]:[e,t]}function Hw(e){return e._rawValidators}function zw(e){return e._rawAsyncValidators}function Oc(e){return e?Array.isArray(e)?e:[e]:[]}function ls(e,t){return Array.isArray(e)?e.includes(t):e===t}function Rp(e,t){let n=Oc(t);return Oc(e).forEach(i=>{ls(n,i)||n.push(i)}),n}function Op(e,t){return Oc(t).filter(n=>!ls(e,n))}var cs=class{constructor(){this._rawValidators=[],this._rawAsyncValidators=[],this._onDestroyCallbacks=[]}get value(){return this.control?this.control.value:null}get valid(){return this.control?this.control.valid:null}get invalid(){return this.control?this.control.invalid:null}get pending(){return this.control?this.control.pending:null}get disabled(){return this.control?this.control.disabled:null}get enabled(){return this.control?this.control.enabled:null}get errors(){return this.control?this.control.errors:null}get pristine(){return this.control?this.control.pristine:null}get dirty(){return this.control?this.control.dirty:null}get touched(){return this.control?this.control.touched:null}get status(){return this.control?this.control.status:null}get untouched(){return this.control?this.control.untouched:null}get statusChanges(){return this.control?this.control.statusChanges:null}get valueChanges(){return this.control?this.control.valueChanges:null}get path(){return null}_setValidators(t){this._rawValidators=t||[],this._composedValidatorFn=Gp(this._rawValidators)}_setAsyncValidators(t){this._rawAsyncValidators=t||[],this._composedAsyncValidatorFn=Wp(this._rawAsyncValidators)}get validator(){return this._composedValidatorFn||null}get asyncValidator(){return this._composedAsyncValidatorFn||null}_registerOnDestroy(t){this._onDestroyCallbacks.push(t)}_invokeOnDestroyCallbacks(){this._onDestroyCallbacks.forEach(t=>t()),this._onDestroyCallbacks=[]}reset(t=void 0){this.control&&this.control.reset(t)}hasError(t,n){return this.control?this.control.hasError(t,n):!1}getError(t,n){return this.control?this.control.getError(t,n):null}},Pc=class extends cs{get formDirective(){return null}get path(){return null}},Kr=class extends cs{constructor(){super(...arguments),this._parent=null,this.name=null,this.valueAccessor=null}},Fc=class{constructor(t){this._cd=t}get isTouched(){return!!this._cd?.control?.touched}get isUntouched(){return!!this._cd?.control?.untouched}get isPristine(){return!!this._cd?.control?.pristine}get isDirty(){return!!this._cd?.control?.dirty}get isValid(){return!!this._cd?.control?.valid}get isInvalid(){return!!this._cd?.control?.invalid}get isPending(){return!!this._cd?.control?.pending}get isSubmitted(){return!!this._cd?.submitted}},Gw={"[class.ng-untouched]":"isUntouched","[class.ng-touched]":"isTouched","[class.ng-pristine]":"isPristine","[class.ng-dirty]":"isDirty","[class.ng-valid]":"isValid","[class.ng-invalid]":"isInvalid","[class.ng-pending]":"isPending"},vN=q(D({},Gw),{"[class.ng-submitted]":"isSubmitted"}),qp=(()=>{class e extends Fc{constructor(n){super(n)}static{this.\u0275fac=function(r){return new(r||e)(L(Kr,2))}}static{this.\u0275dir=de({type:e,selectors:[["","formControlName",""],["","ngModel",""],["","formControl",""]],hostVars:14,hostBindings:function(r,i){r&2&&zr("ng-untouched",i.isUntouched)("ng-touched",i.isTouched)("ng-pristine",i.isPristine)("ng-dirty",i.isDirty)("ng-valid",i.isValid)("ng-invalid",i.isInvalid)("ng-pending",i.isPending)},features:[Vt]})}}return e})();var Yr="VALID",as="INVALID",or="PENDING",Qr="DISABLED";function Ww(e){return(fs(e)?e.validators:e)||null}function qw(e){return Array.isArray(e)?Gp(e):e||null}function Zw(e,t){return(fs(t)?t.asyncValidators:e)||null}function Yw(e){return Array.isArray(e)?Wp(e):e||null}function fs(e){return e!=null&&!Array.isArray(e)&&typeof e=="object"}var kc=class{constructor(t,n){this._pendingDirty=!1,this._hasOwnPendingAsyncValidator=!1,this._pendingTouched=!1,this._onCollectionChange=()=>{},this._parent=null,this.pristine=!0,this.touched=!1,this._onDisabledChange=[],this._assignValidators(t),this._assignAsyncValidators(n)}get validator(){return this._composedValidatorFn}set validator(t){this._rawValidators=this._composedValidatorFn=t}get asyncValidator(){return this._composedAsyncValidatorFn}set asyncValidator(t){this._rawAsyncValidators=this._composedAsyncValidatorFn=t}get parent(){return this._parent}get valid(){return this.status===Yr}get invalid(){return this.status===as}get pending(){return this.status==or}get disabled(){return this.status===Qr}get enabled(){return this.status!==Qr}get dirty(){return!this.pristine}get untouched(){return!this.touched}get updateOn(){return this._updateOn?this._updateOn:this.parent?this.parent.updateOn:"change"}setValidators(t){this._assignValidators(t)}setAsyncValidators(t){this._assignAsyncValidators(t)}addValidators(t){this.setValidators(Rp(t,this._rawValidators))}addAsyncValidators(t){this.setAsyncValidators(Rp(t,this._rawAsyncValidators))}removeValidators(t){this.setValidators(Op(t,this._rawValidators))}removeAsyncValidators(t){this.setAsyncValidators(Op(t,this._rawAsyncValidators))}hasValidator(t){return ls(this._rawValidators,t)}hasAsyncValidator(t){return ls(this._rawAsyncValidators,t)}clearValidators(){this.validator=null}clearAsyncValidators(){this.asyncValidator=null}markAsTouched(t={}){this.touched=!0,this._parent&&!t.onlySelf&&this._parent.markAsTouched(t)}markAllAsTouched(){this.markAsTouched({onlySelf:!0}),this._forEachChild(t=>t.markAllAsTouched())}markAsUntouched(t={}){this.touched=!1,this._pendingTouched=!1,this._forEachChild(n=>{n.markAsUntouched({onlySelf:!0})}),this._parent&&!t.onlySelf&&this._parent._updateTouched(t)}markAsDirty(t={}){this.pristine=!1,this._parent&&!t.onlySelf&&this._parent.markAsDirty(t)}markAsPristine(t={}){this.pristine=!0,this._pendingDirty=!1,this._forEachChild(n=>{n.markAsPristine({onlySelf:!0})}),this._parent&&!t.onlySelf&&this._parent._updatePristine(t)}markAsPending(t={}){this.status=or,t.emitEvent!==!1&&this.statusChanges.emit(this.status),this._parent&&!t.onlySelf&&this._parent.markAsPending(t)}disable(t={}){let n=this._parentMarkedDirty(t.onlySelf);this.status=Qr,this.errors=null,this._forEachChild(r=>{r.disable(q(D({},t),{onlySelf:!0}))}),this._updateValue(),t.emitEvent!==!1&&(this.valueChanges.emit(this.value),this.statusChanges.emit(this.status)),this._updateAncestors(q(D({},t),{skipPristineCheck:n})),this._onDisabledChange.forEach(r=>r(!0))}enable(t={}){let n=this._parentMarkedDirty(t.onlySelf);this.status=Yr,this._forEachChild(r=>{r.enable(q(D({},t),{onlySelf:!0}))}),this.updateValueAndValidity({onlySelf:!0,emitEvent:t.emitEvent}),this._updateAncestors(q(D({},t),{skipPristineCheck:n})),this._onDisabledChange.forEach(r=>r(!1))}_updateAncestors(t){this._parent&&!t.onlySelf&&(this._parent.updateValueAndValidity(t),t.skipPristineCheck||this._parent._updatePristine(),this._parent._updateTouched())}setParent(t){this._parent=t}getRawValue(){return this.value}updateValueAndValidity(t={}){this._setInitialStatus(),this._updateValue(),this.enabled&&(this._cancelExistingSubscription(),this.errors=this._runValidator(),this.status=this._calculateStatus(),(this.status===Yr||this.status===or)&&this._runAsyncValidator(t.emitEvent)),t.emitEvent!==!1&&(this.valueChanges.emit(this.value),this.statusChanges.emit(this.status)),this._parent&&!t.onlySelf&&this._parent.updateValueAndValidity(t)}_updateTreeValidity(t={emitEvent:!0}){this._forEachChild(n=>n._updateTreeValidity(t)),this.updateValueAndValidity({onlySelf:!0,emitEvent:t.emitEvent})}_setInitialStatus(){this.status=this._allControlsDisabled()?Qr:Yr}_runValidator(){return this.validator?this.validator(this):null}_runAsyncValidator(t){if(this.asyncValidator){this.status=or,this._hasOwnPendingAsyncValidator=!0;let n=Bp(this.asyncValidator(this));this._asyncValidationSubscription=n.subscribe(r=>{this._hasOwnPendingAsyncValidator=!1,this.setErrors(r,{emitEvent:t})})}}_cancelExistingSubscription(){this._asyncValidationSubscription&&(this._asyncValidationSubscription.unsubscribe(),this._hasOwnPendingAsyncValidator=!1)}setErrors(t,n={}){this.errors=t,this._updateControlsErrors(n.emitEvent!==!1)}get(t){let n=t;return n==null||(Array.isArray(n)||(n=n.split(".")),n.length===0)?null:n.reduce((r,i)=>r&&r._find(i),this)}getError(t,n){let r=n?this.get(n):this;return r&&r.errors?r.errors[t]:null}hasError(t,n){return!!this.getError(t,n)}get root(){let t=this;for(;t._parent;)t=t._parent;return t}_updateControlsErrors(t){this.status=this._calculateStatus(),t&&this.statusChanges.emit(this.status),this._parent&&this._parent._updateControlsErrors(t)}_initObservables(){this.valueChanges=new ie,this.statusChanges=new ie}_calculateStatus(){return this._allControlsDisabled()?Qr:this.errors?as:this._hasOwnPendingAsyncValidator||this._anyControlsHaveStatus(or)?or:this._anyControlsHaveStatus(as)?as:Yr}_anyControlsHaveStatus(t){return this._anyControls(n=>n.status===t)}_anyControlsDirty(){return this._anyControls(t=>t.dirty)}_anyControlsTouched(){return this._anyControls(t=>t.touched)}_updatePristine(t={}){this.pristine=!this._anyControlsDirty(),this._parent&&!t.onlySelf&&this._parent._updatePristine(t)}_updateTouched(t={}){this.touched=this._anyControlsTouched(),this._parent&&!t.onlySelf&&this._parent._updateTouched(t)}_registerOnCollectionChange(t){this._onCollectionChange=t}_setUpdateStrategy(t){fs(t)&&t.updateOn!=null&&(this._updateOn=t.updateOn)}_parentMarkedDirty(t){let n=this._parent&&this._parent.dirty;return!t&&!!n&&!this._parent._anyControlsDirty()}_find(t){return null}_assignValidators(t){this._rawValidators=Array.isArray(t)?t.slice():t,this._composedValidatorFn=qw(this._rawValidators)}_assignAsyncValidators(t){this._rawAsyncValidators=Array.isArray(t)?t.slice():t,this._composedAsyncValidatorFn=Yw(this._rawAsyncValidators)}};var Zp=new I("CallSetDisabledState",{providedIn:"root",factory:()=>Vc}),Vc="always";function Qw(e,t){return[...t.path,e]}function Kw(e,t,n=Vc){Xw(e,t),t.valueAccessor.writeValue(e.value),(e.disabled||n==="always")&&t.valueAccessor.setDisabledState?.(e.disabled),e_(e,t),n_(e,t),t_(e,t),Jw(e,t)}function Pp(e,t){e.forEach(n=>{n.registerOnValidatorChange&&n.registerOnValidatorChange(t)})}function Jw(e,t){if(t.valueAccessor.setDisabledState){let n=r=>{t.valueAccessor.setDisabledState(r)};e.registerOnDisabledChange(n),t._registerOnDestroy(()=>{e._unregisterOnDisabledChange(n)})}}function Xw(e,t){let n=Hw(e);t.validator!==null?e.setValidators(Np(n,t.validator)):typeof n=="function"&&e.setValidators([n]);let r=zw(e);t.asyncValidator!==null?e.setAsyncValidators(Np(r,t.asyncValidator)):typeof r=="function"&&e.setAsyncValidators([r]);let i=()=>e.updateValueAndValidity();Pp(t._rawValidators,i),Pp(t._rawAsyncValidators,i)}function e_(e,t){t.valueAccessor.registerOnChange(n=>{e._pendingValue=n,e._pendingChange=!0,e._pendingDirty=!0,e.updateOn==="change"&&Yp(e,t)})}function t_(e,t){t.valueAccessor.registerOnTouched(()=>{e._pendingTouched=!0,e.updateOn==="blur"&&e._pendingChange&&Yp(e,t),e.updateOn!=="submit"&&e.markAsTouched()})}function Yp(e,t){e._pendingDirty&&e.markAsDirty(),e.setValue(e._pendingValue,{emitModelToViewChange:!1}),t.viewToModelUpdate(e._pendingValue),e._pendingChange=!1}function n_(e,t){let n=(r,i)=>{t.valueAccessor.writeValue(r),i&&t.viewToModelUpdate(r)};e.registerOnChange(n),t._registerOnDestroy(()=>{e._unregisterOnChange(n)})}function r_(e,t){if(!e.hasOwnProperty("model"))return!1;let n=e.model;return n.isFirstChange()?!0:!Object.is(t,n.currentValue)}function i_(e){return Object.getPrototypeOf(e.constructor)===Lc}function o_(e,t){if(!t)return null;Array.isArray(t);let n,r,i;return t.forEach(o=>{o.constructor===ds?n=o:i_(o)?r=o:i=o}),i||r||n||null}function Fp(e,t){let n=e.indexOf(t);n>-1&&e.splice(n,1)}function kp(e){return typeof e=="object"&&e!==null&&Object.keys(e).length===2&&"value"in e&&"disabled"in e}var s_=class extends kc{constructor(t=null,n,r){super(Ww(n),Zw(r,n)),this.defaultValue=null,this._onChange=[],this._pendingChange=!1,this._applyFormState(t),this._setUpdateStrategy(n),this._initObservables(),this.updateValueAndValidity({onlySelf:!0,emitEvent:!!this.asyncValidator}),fs(n)&&(n.nonNullable||n.initialValueIsDefault)&&(kp(t)?this.defaultValue=t.value:this.defaultValue=t)}setValue(t,n={}){this.value=this._pendingValue=t,this._onChange.length&&n.emitModelToViewChange!==!1&&this._onChange.forEach(r=>r(this.value,n.emitViewToModelChange!==!1)),this.updateValueAndValidity(n)}patchValue(t,n={}){this.setValue(t,n)}reset(t=this.defaultValue,n={}){this._applyFormState(t),this.markAsPristine(n),this.markAsUntouched(n),this.setValue(this.value,n),this._pendingChange=!1}_updateValue(){}_anyControls(t){return!1}_allControlsDisabled(){return this.disabled}registerOnChange(t){this._onChange.push(t)}_unregisterOnChange(t){Fp(this._onChange,t)}registerOnDisabledChange(t){this._onDisabledChange.push(t)}_unregisterOnDisabledChange(t){Fp(this._onDisabledChange,t)}_forEachChild(t){}_syncPendingControls(){return this.updateOn==="submit"&&(this._pendingDirty&&this.markAsDirty(),this._pendingTouched&&this.markAsTouched(),this._pendingChange)?(this.setValue(this._pendingValue,{onlySelf:!0,emitModelToViewChange:!1}),!0):!1}_applyFormState(t){kp(t)?(this.value=this._pendingValue=t.value,t.disabled?this.disable({onlySelf:!0,emitEvent:!1}):this.enable({onlySelf:!0,emitEvent:!1})):this.value=this._pendingValue=t}};var a_={provide:Kr,useExisting:an(()=>jc)},Lp=Promise.resolve(),jc=(()=>{class e extends Kr{constructor(n,r,i,o,s,a){super(),this._changeDetectorRef=s,this.callSetDisabledState=a,this.control=new s_,this._registered=!1,this.name="",this.update=new ie,this._parent=n,this._setValidators(r),this._setAsyncValidators(i),this.valueAccessor=o_(this,o)}ngOnChanges(n){if(this._checkForErrors(),!this._registered||"name"in n){if(this._registered&&(this._checkName(),this.formDirective)){let r=n.name.previousValue;this.formDirective.removeControl({name:r,path:this._getPath(r)})}this._setUpControl()}"isDisabled"in n&&this._updateDisabled(n),r_(n,this.viewModel)&&(this._updateValue(this.model),this.viewModel=this.model)}ngOnDestroy(){this.formDirective&&this.formDirective.removeControl(this)}get path(){return this._getPath(this.name)}get formDirective(){return this._parent?this._parent.formDirective:null}viewToModelUpdate(n){this.viewModel=n,this.update.emit(n)}_setUpControl(){this._setUpdateStrategy(),this._isStandalone()?this._setUpStandalone():this.formDirective.addControl(this),this._registered=!0}_setUpdateStrategy(){this.options&&this.options.updateOn!=null&&(this.control._updateOn=this.options.updateOn)}_isStandalone(){return!this._parent||!!(this.options&&this.options.standalone)}_setUpStandalone(){Kw(this.control,this,this.callSetDisabledState),this.control.updateValueAndValidity({emitEvent:!1})}_checkForErrors(){this._isStandalone()||this._checkParentType(),this._checkName()}_checkParentType(){}_checkName(){this.options&&this.options.name&&(this.name=this.options.name),!this._isStandalone()&&this.name}_updateValue(n){Lp.then(()=>{this.control.setValue(n,{emitViewToModelChange:!1}),this._changeDetectorRef?.markForCheck()})}_updateDisabled(n){let r=n.isDisabled.currentValue,i=r!==0&&ns(r);Lp.then(()=>{i&&!this.control.disabled?this.control.disable():!i&&this.control.disabled&&this.control.enable(),this._changeDetectorRef?.markForCheck()})}_getPath(n){return this._parent?Qw(n,this._parent):[n]}static{this.\u0275fac=function(r){return new(r||e)(L(Pc,9),L(Vw,10),L(jw,10),L(us,10),L(gn,8),L(Zp,8))}}static{this.\u0275dir=de({type:e,selectors:[["","ngModel","",3,"formControlName","",3,"formControl",""]],inputs:{name:"name",isDisabled:[Oe.None,"disabled","isDisabled"],model:[Oe.None,"ngModel","model"],options:[Oe.None,"ngModelOptions","options"]},outputs:{update:"ngModelChange"},exportAs:["ngModel"],features:[Wr([a_]),Vt,Ft]})}}return e})();var l_={provide:us,useExisting:an(()=>hs),multi:!0};function Qp(e,t){return e==null?`${t}`:(t&&typeof t=="object"&&(t="Object"),`${e}: ${t}`.slice(0,50))}function c_(e){return e.split(":")[0]}var hs=(()=>{class e extends Lc{constructor(){super(...arguments),this._optionMap=new Map,this._idCounter=0,this._compareWith=Object.is}set compareWith(n){this._compareWith=n}writeValue(n){this.value=n;let r=this._getOptionId(n),i=Qp(r,n);this.setProperty("value",i)}registerOnChange(n){this.onChange=r=>{this.value=this._getOptionValue(r),n(this.value)}}_registerOption(){return(this._idCounter++).toString()}_getOptionId(n){for(let r of this._optionMap.keys())if(this._compareWith(this._optionMap.get(r),n))return r;return null}_getOptionValue(n){let r=c_(n);return this._optionMap.has(r)?this._optionMap.get(r):n}static{this.\u0275fac=(()=>{let n;return function(i){return(n||(n=un(e)))(i||e)}})()}static{this.\u0275dir=de({type:e,selectors:[["select","formControlName","",3,"multiple",""],["select","formControl","",3,"multiple",""],["select","ngModel","",3,"multiple",""]],hostBindings:function(r,i){r&1&&K("change",function(s){return i.onChange(s.target.value)})("blur",function(){return i.onTouched()})},inputs:{compareWith:"compareWith"},features:[Wr([l_]),Vt]})}}return e})(),Kp=(()=>{class e{constructor(n,r,i){this._element=n,this._renderer=r,this._select=i,this._select&&(this.id=this._select._registerOption())}set ngValue(n){this._select!=null&&(this._select._optionMap.set(this.id,n),this._setElementValue(Qp(this.id,n)),this._select.writeValue(this._select.value))}set value(n){this._setElementValue(n),this._select&&this._select.writeValue(this._select.value)}_setElementValue(n){this._renderer.setProperty(this._element.nativeElement,"value",n)}ngOnDestroy(){this._select&&(this._select._optionMap.delete(this.id),this._select.writeValue(this._select.value))}static{this.\u0275fac=function(r){return new(r||e)(L(Se),L(st),L(hs,9))}}static{this.\u0275dir=de({type:e,selectors:[["option"]],inputs:{ngValue:"ngValue",value:"value"}})}}return e})(),u_={provide:us,useExisting:an(()=>Jp),multi:!0};function Vp(e,t){return e==null?`${t}`:(typeof t=="string"&&(t=`'${t}'`),t&&typeof t=="object"&&(t="Object"),`${e}: ${t}`.slice(0,50))}function d_(e){return e.split(":")[0]}var Jp=(()=>{class e extends Lc{constructor(){super(...arguments),this._optionMap=new Map,this._idCounter=0,this._compareWith=Object.is}set compareWith(n){this._compareWith=n}writeValue(n){this.value=n;let r;if(Array.isArray(n)){let i=n.map(o=>this._getOptionId(o));r=(o,s)=>{o._setSelected(i.indexOf(s.toString())>-1)}}else r=(i,o)=>{i._setSelected(!1)};this._optionMap.forEach(r)}registerOnChange(n){this.onChange=r=>{let i=[],o=r.selectedOptions;if(o!==void 0){let s=o;for(let a=0;a<s.length;a++){let l=s[a],c=this._getOptionValue(l.value);i.push(c)}}else{let s=r.options;for(let a=0;a<s.length;a++){let l=s[a];if(l.selected){let c=this._getOptionValue(l.value);i.push(c)}}}this.value=i,n(i)}}_registerOption(n){let r=(this._idCounter++).toString();return this._optionMap.set(r,n),r}_getOptionId(n){for(let r of this._optionMap.keys())if(this._compareWith(this._optionMap.get(r)._value,n))return r;return null}_getOptionValue(n){let r=d_(n);return this._optionMap.has(r)?this._optionMap.get(r)._value:n}static{this.\u0275fac=(()=>{let n;return function(i){return(n||(n=un(e)))(i||e)}})()}static{this.\u0275dir=de({type:e,selectors:[["select","multiple","","formControlName",""],["select","multiple","","formControl",""],["select","multiple","","ngModel",""]],hostBindings:function(r,i){r&1&&K("change",function(s){return i.onChange(s.target)})("blur",function(){return i.onTouched()})},inputs:{compareWith:"compareWith"},features:[Wr([u_]),Vt]})}}return e})(),Xp=(()=>{class e{constructor(n,r,i){this._element=n,this._renderer=r,this._select=i,this._select&&(this.id=this._select._registerOption(this))}set ngValue(n){this._select!=null&&(this._value=n,this._setElementValue(Vp(this.id,n)),this._select.writeValue(this._select.value))}set value(n){this._select?(this._value=n,this._setElementValue(Vp(this.id,n)),this._select.writeValue(this._select.value)):this._setElementValue(n)}_setElementValue(n){this._renderer.setProperty(this._element.nativeElement,"value",n)}_setSelected(n){this._renderer.setProperty(this._element.nativeElement,"selected",n)}ngOnDestroy(){this._select&&(this._select._optionMap.delete(this.id),this._select.writeValue(this._select.value))}static{this.\u0275fac=function(r){return new(r||e)(L(Se),L(st),L(Jp,9))}}static{this.\u0275dir=de({type:e,selectors:[["option"]],inputs:{ngValue:"ngValue",value:"value"}})}}return e})();var f_=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275mod=mt({type:e})}static{this.\u0275inj=gt({})}}return e})();var eg=(()=>{class e{static withConfig(n){return{ngModule:e,providers:[{provide:Zp,useValue:n.callSetDisabledState??Vc}]}}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275mod=mt({type:e})}static{this.\u0275inj=gt({imports:[f_]})}}return e})();var Xr=class{},gs=class{},vn=class e{constructor(t){this.normalizedNames=new Map,this.lazyUpdate=null,t?typeof t=="string"?this.lazyInit=()=>{this.headers=new Map,t.split(`
-`).forEach(n=>{let r=n.indexOf(":");if(r>0){let i=n.slice(0,r),o=i.toLowerCase(),s=n.slice(r+1).trim();this.maybeSetNormalizedName(i,o),this.headers.has(o)?this.headers.get(o).push(s):this.headers.set(o,[s])}})}:typeof Headers<"u"&&t instanceof Headers?(this.headers=new Map,t.forEach((n,r)=>{this.setHeaderEntries(r,n)})):this.lazyInit=()=>{this.headers=new Map,Object.entries(t).forEach(([n,r])=>{this.setHeaderEntries(n,r)})}:this.headers=new Map}has(t){return this.init(),this.headers.has(t.toLowerCase())}get(t){this.init();let n=this.headers.get(t.toLowerCase());return n&&n.length>0?n[0]:null}keys(){return this.init(),Array.from(this.normalizedNames.values())}getAll(t){return this.init(),this.headers.get(t.toLowerCase())||null}append(t,n){return this.clone({name:t,value:n,op:"a"})}set(t,n){return this.clone({name:t,value:n,op:"s"})}delete(t,n){return this.clone({name:t,value:n,op:"d"})}maybeSetNormalizedName(t,n){this.normalizedNames.has(n)||this.normalizedNames.set(n,t)}init(){this.lazyInit&&(this.lazyInit instanceof e?this.copyFrom(this.lazyInit):this.lazyInit(),this.lazyInit=null,this.lazyUpdate&&(this.lazyUpdate.forEach(t=>this.applyUpdate(t)),this.lazyUpdate=null))}copyFrom(t){t.init(),Array.from(t.headers.keys()).forEach(n=>{this.headers.set(n,t.headers.get(n)),this.normalizedNames.set(n,t.normalizedNames.get(n))})}clone(t){let n=new e;return n.lazyInit=this.lazyInit&&this.lazyInit instanceof e?this.lazyInit:this,n.lazyUpdate=(this.lazyUpdate||[]).concat([t]),n}applyUpdate(t){let n=t.name.toLowerCase();switch(t.op){case"a":case"s":let r=t.value;if(typeof r=="string"&&(r=[r]),r.length===0)return;this.maybeSetNormalizedName(t.name,n);let i=(t.op==="a"?this.headers.get(n):void 0)||[];i.push(...r),this.headers.set(n,i);break;case"d":let o=t.value;if(!o)this.headers.delete(n),this.normalizedNames.delete(n);else{let s=this.headers.get(n);if(!s)return;s=s.filter(a=>o.indexOf(a)===-1),s.length===0?(this.headers.delete(n),this.normalizedNames.delete(n)):this.headers.set(n,s)}break}}setHeaderEntries(t,n){let r=(Array.isArray(n)?n:[n]).map(o=>o.toString()),i=t.toLowerCase();this.headers.set(i,r),this.maybeSetNormalizedName(t,i)}forEach(t){this.init(),Array.from(this.normalizedNames.keys()).forEach(n=>t(this.normalizedNames.get(n),this.headers.get(n)))}};var Bc=class{encodeKey(t){return tg(t)}encodeValue(t){return tg(t)}decodeKey(t){return decodeURIComponent(t)}decodeValue(t){return decodeURIComponent(t)}};function m_(e,t){let n=new Map;return e.length>0&&e.replace(/^\?/,"").split("&").forEach(i=>{let o=i.indexOf("="),[s,a]=o==-1?[t.decodeKey(i),""]:[t.decodeKey(i.slice(0,o)),t.decodeValue(i.slice(o+1))],l=n.get(s)||[];l.push(a),n.set(s,l)}),n}var v_=/%(\d[a-f0-9])/gi,y_={40:"@","3A":":",24:"$","2C":",","3B":";","3D":"=","3F":"?","2F":"/"};function tg(e){return encodeURIComponent(e).replace(v_,(t,n)=>y_[n]??t)}function ps(e){return`${e}`}var Ee=class e{constructor(t={}){if(this.updates=null,this.cloneFrom=null,this.encoder=t.encoder||new Bc,t.fromString){if(t.fromObject)throw new Error("Cannot specify both fromString and fromObject.");this.map=m_(t.fromString,this.encoder)}else t.fromObject?(this.map=new Map,Object.keys(t.fromObject).forEach(n=>{let r=t.fromObject[n],i=Array.isArray(r)?r.map(ps):[ps(r)];this.map.set(n,i)})):this.map=null}has(t){return this.init(),this.map.has(t)}get(t){this.init();let n=this.map.get(t);return n?n[0]:null}getAll(t){return this.init(),this.map.get(t)||null}keys(){return this.init(),Array.from(this.map.keys())}append(t,n){return this.clone({param:t,value:n,op:"a"})}appendAll(t){let n=[];return Object.keys(t).forEach(r=>{let i=t[r];Array.isArray(i)?i.forEach(o=>{n.push({param:r,value:o,op:"a"})}):n.push({param:r,value:i,op:"a"})}),this.clone(n)}set(t,n){return this.clone({param:t,value:n,op:"s"})}delete(t,n){return this.clone({param:t,value:n,op:"d"})}toString(){return this.init(),this.keys().map(t=>{let n=this.encoder.encodeKey(t);return this.map.get(t).map(r=>n+"="+this.encoder.encodeValue(r)).join("&")}).filter(t=>t!=="").join("&")}clone(t){let n=new e({encoder:this.encoder});return n.cloneFrom=this.cloneFrom||this,n.updates=(this.updates||[]).concat(t),n}init(){this.map===null&&(this.map=new Map),this.cloneFrom!==null&&(this.cloneFrom.init(),this.cloneFrom.keys().forEach(t=>this.map.set(t,this.cloneFrom.map.get(t))),this.updates.forEach(t=>{switch(t.op){case"a":case"s":let n=(t.op==="a"?this.map.get(t.param):void 0)||[];n.push(ps(t.value)),this.map.set(t.param,n);break;case"d":if(t.value!==void 0){let r=this.map.get(t.param)||[],i=r.indexOf(ps(t.value));i!==-1&&r.splice(i,1),r.length>0?this.map.set(t.param,r):this.map.delete(t.param)}else{this.map.delete(t.param);break}}}),this.cloneFrom=this.updates=null)}};var $c=class{constructor(){this.map=new Map}set(t,n){return this.map.set(t,n),this}get(t){return this.map.has(t)||this.map.set(t,t.defaultValue()),this.map.get(t)}delete(t){return this.map.delete(t),this}has(t){return this.map.has(t)}keys(){return this.map.keys()}};function D_(e){switch(e){case"DELETE":case"GET":case"HEAD":case"OPTIONS":case"JSONP":return!1;default:return!0}}function ng(e){return typeof ArrayBuffer<"u"&&e instanceof ArrayBuffer}function rg(e){return typeof Blob<"u"&&e instanceof Blob}function ig(e){return typeof FormData<"u"&&e instanceof FormData}function C_(e){return typeof URLSearchParams<"u"&&e instanceof URLSearchParams}var Jr=class e{constructor(t,n,r,i){this.url=n,this.body=null,this.reportProgress=!1,this.withCredentials=!1,this.responseType="json",this.method=t.toUpperCase();let o;if(D_(this.method)||i?(this.body=r!==void 0?r:null,o=i):o=r,o&&(this.reportProgress=!!o.reportProgress,this.withCredentials=!!o.withCredentials,o.responseType&&(this.responseType=o.responseType),o.headers&&(this.headers=o.headers),o.context&&(this.context=o.context),o.params&&(this.params=o.params),this.transferCache=o.transferCache),this.headers??=new vn,this.context??=new $c,!this.params)this.params=new Ee,this.urlWithParams=n;else{let s=this.params.toString();if(s.length===0)this.urlWithParams=n;else{let a=n.indexOf("?"),l=a===-1?"?":a<n.length-1?"&":"";this.urlWithParams=n+l+s}}}serializeBody(){return this.body===null?null:typeof this.body=="string"||ng(this.body)||rg(this.body)||ig(this.body)||C_(this.body)?this.body:this.body instanceof Ee?this.body.toString():typeof this.body=="object"||typeof this.body=="boolean"||Array.isArray(this.body)?JSON.stringify(this.body):this.body.toString()}detectContentTypeHeader(){return this.body===null||ig(this.body)?null:rg(this.body)?this.body.type||null:ng(this.body)?null:typeof this.body=="string"?"text/plain":this.body instanceof Ee?"application/x-www-form-urlencoded;charset=UTF-8":typeof this.body=="object"||typeof this.body=="number"||typeof this.body=="boolean"?"application/json":null}clone(t={}){let n=t.method||this.method,r=t.url||this.url,i=t.responseType||this.responseType,o=t.transferCache??this.transferCache,s=t.body!==void 0?t.body:this.body,a=t.withCredentials??this.withCredentials,l=t.reportProgress??this.reportProgress,c=t.headers||this.headers,u=t.params||this.params,d=t.context??this.context;return t.setHeaders!==void 0&&(c=Object.keys(t.setHeaders).reduce((f,h)=>f.set(h,t.setHeaders[h]),c)),t.setParams&&(u=Object.keys(t.setParams).reduce((f,h)=>f.set(h,t.setParams[h]),u)),new e(n,r,s,{params:u,headers:c,context:d,reportProgress:l,responseType:i,withCredentials:a,transferCache:o})}},sr=function(e){return e[e.Sent=0]="Sent",e[e.UploadProgress=1]="UploadProgress",e[e.ResponseHeader=2]="ResponseHeader",e[e.DownloadProgress=3]="DownloadProgress",e[e.Response=4]="Response",e[e.User=5]="User",e}(sr||{}),ei=class{constructor(t,n=ys.Ok,r="OK"){this.headers=t.headers||new vn,this.status=t.status!==void 0?t.status:n,this.statusText=t.statusText||r,this.url=t.url||null,this.ok=this.status>=200&&this.status<300}},Hc=class e extends ei{constructor(t={}){super(t),this.type=sr.ResponseHeader}clone(t={}){return new e({headers:t.headers||this.headers,status:t.status!==void 0?t.status:this.status,statusText:t.statusText||this.statusText,url:t.url||this.url||void 0})}},ms=class e extends ei{constructor(t={}){super(t),this.type=sr.Response,this.body=t.body!==void 0?t.body:null}clone(t={}){return new e({body:t.body!==void 0?t.body:this.body,headers:t.headers||this.headers,status:t.status!==void 0?t.status:this.status,statusText:t.statusText||this.statusText,url:t.url||this.url||void 0})}},vs=class extends ei{constructor(t){super(t,0,"Unknown Error"),this.name="HttpErrorResponse",this.ok=!1,this.status>=200&&this.status<300?this.message=`Http failure during parsing for ${t.url||"(unknown url)"}`:this.message=`Http failure response for ${t.url||"(unknown url)"}: ${t.status} ${t.statusText}`,this.error=t.error||null}},ys=function(e){return e[e.Continue=100]="Continue",e[e.SwitchingProtocols=101]="SwitchingProtocols",e[e.Processing=102]="Processing",e[e.EarlyHints=103]="EarlyHints",e[e.Ok=200]="Ok",e[e.Created=201]="Created",e[e.Accepted=202]="Accepted",e[e.NonAuthoritativeInformation=203]="NonAuthoritativeInformation",e[e.NoContent=204]="NoContent",e[e.ResetContent=205]="ResetContent",e[e.PartialContent=206]="PartialContent",e[e.MultiStatus=207]="MultiStatus",e[e.AlreadyReported=208]="AlreadyReported",e[e.ImUsed=226]="ImUsed",e[e.MultipleChoices=300]="MultipleChoices",e[e.MovedPermanently=301]="MovedPermanently",e[e.Found=302]="Found",e[e.SeeOther=303]="SeeOther",e[e.NotModified=304]="NotModified",e[e.UseProxy=305]="UseProxy",e[e.Unused=306]="Unused",e[e.TemporaryRedirect=307]="TemporaryRedirect",e[e.PermanentRedirect=308]="PermanentRedirect",e[e.BadRequest=400]="BadRequest",e[e.Unauthorized=401]="Unauthorized",e[e.PaymentRequired=402]="PaymentRequired",e[e.Forbidden=403]="Forbidden",e[e.NotFound=404]="NotFound",e[e.MethodNotAllowed=405]="MethodNotAllowed",e[e.NotAcceptable=406]="NotAcceptable",e[e.ProxyAuthenticationRequired=407]="ProxyAuthenticationRequired",e[e.RequestTimeout=408]="RequestTimeout",e[e.Conflict=409]="Conflict",e[e.Gone=410]="Gone",e[e.LengthRequired=411]="LengthRequired",e[e.PreconditionFailed=412]="PreconditionFailed",e[e.PayloadTooLarge=413]="PayloadTooLarge",e[e.UriTooLong=414]="UriTooLong",e[e.UnsupportedMediaType=415]="UnsupportedMediaType",e[e.RangeNotSatisfiable=416]="RangeNotSatisfiable",e[e.ExpectationFailed=417]="ExpectationFailed",e[e.ImATeapot=418]="ImATeapot",e[e.MisdirectedRequest=421]="MisdirectedRequest",e[e.UnprocessableEntity=422]="UnprocessableEntity",e[e.Locked=423]="Locked",e[e.FailedDependency=424]="FailedDependency",e[e.TooEarly=425]="TooEarly",e[e.UpgradeRequired=426]="UpgradeRequired",e[e.PreconditionRequired=428]="PreconditionRequired",e[e.TooManyRequests=429]="TooManyRequests",e[e.RequestHeaderFieldsTooLarge=431]="RequestHeaderFieldsTooLarge",e[e.UnavailableForLegalReasons=451]="UnavailableForLegalReasons",e[e.InternalServerError=500]="InternalServerError",e[e.NotImplemented=501]="NotImplemented",e[e.BadGateway=502]="BadGateway",e[e.ServiceUnavailable=503]="ServiceUnavailable",e[e.GatewayTimeout=504]="GatewayTimeout",e[e.HttpVersionNotSupported=505]="HttpVersionNotSupported",e[e.VariantAlsoNegotiates=506]="VariantAlsoNegotiates",e[e.InsufficientStorage=507]="InsufficientStorage",e[e.LoopDetected=508]="LoopDetected",e[e.NotExtended=510]="NotExtended",e[e.NetworkAuthenticationRequired=511]="NetworkAuthenticationRequired",e}(ys||{});function Uc(e,t){return{body:t,headers:e.headers,context:e.context,observe:e.observe,params:e.params,reportProgress:e.reportProgress,responseType:e.responseType,withCredentials:e.withCredentials,transferCache:e.transferCache}}var zc=(()=>{class e{constructor(n){this.handler=n}request(n,r,i={}){let o;if(n instanceof Jr)o=n;else{let l;i.headers instanceof vn?l=i.headers:l=new vn(i.headers);let c;i.params&&(i.params instanceof Ee?c=i.params:c=new Ee({fromObject:i.params})),o=new Jr(n,r,i.body!==void 0?i.body:null,{headers:l,context:i.context,params:c,reportProgress:i.reportProgress,responseType:i.responseType||"json",withCredentials:i.withCredentials,transferCache:i.transferCache})}let s=T(o).pipe(dt(l=>this.handler.handle(l)));if(n instanceof Jr||i.observe==="events")return s;let a=s.pipe(Ie(l=>l instanceof ms));switch(i.observe||"body"){case"body":switch(o.responseType){case"arraybuffer":return a.pipe(N(l=>{if(l.body!==null&&!(l.body instanceof ArrayBuffer))throw new Error("Response is not an ArrayBuffer.");return l.body}));case"blob":return a.pipe(N(l=>{if(l.body!==null&&!(l.body instanceof Blob))throw new Error("Response is not a Blob.");return l.body}));case"text":return a.pipe(N(l=>{if(l.body!==null&&typeof l.body!="string")throw new Error("Response is not a string.");return l.body}));case"json":default:return a.pipe(N(l=>l.body))}case"response":return a;default:throw new Error(`Unreachable: unhandled observe type ${i.observe}}`)}}delete(n,r={}){return this.request("DELETE",n,r)}get(n,r={}){return this.request("GET",n,r)}head(n,r={}){return this.request("HEAD",n,r)}jsonp(n,r){return this.request("JSONP",n,{params:new Ee().append(r,"JSONP_CALLBACK"),observe:"body",responseType:"json"})}options(n,r={}){return this.request("OPTIONS",n,r)}patch(n,r,i={}){return this.request("PATCH",n,Uc(i,r))}post(n,r,i={}){return this.request("POST",n,Uc(i,r))}put(n,r,i={}){return this.request("PUT",n,Uc(i,r))}static{this.\u0275fac=function(r){return new(r||e)(M(Xr))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function w_(e,t){return t(e)}function __(e,t,n){return(r,i)=>Ge(n,()=>t(r,o=>e(o,i)))}var ag=new I(""),E_=new I(""),b_=new I("");var og=(()=>{class e extends Xr{constructor(n,r){super(),this.backend=n,this.injector=r,this.chain=null,this.pendingTasks=y(hn);let i=y(b_,{optional:!0});this.backend=i??n}handle(n){if(this.chain===null){let i=Array.from(new Set([...this.injector.get(ag),...this.injector.get(E_,[])]));this.chain=i.reduceRight((o,s)=>__(o,s,this.injector),w_)}let r=this.pendingTasks.add();return this.chain(n,i=>this.backend.handle(i)).pipe(Zt(()=>this.pendingTasks.remove(r)))}static{this.\u0275fac=function(r){return new(r||e)(M(gs),M(ue))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();var I_=/^\)\]\}',?\n/;function M_(e){return"responseURL"in e&&e.responseURL?e.responseURL:/^X-Request-URL:/m.test(e.getAllResponseHeaders())?e.getResponseHeader("X-Request-URL"):null}var sg=(()=>{class e{constructor(n){this.xhrFactory=n}handle(n){if(n.method==="JSONP")throw new b(-2800,!1);let r=this.xhrFactory;return(r.\u0275loadImpl?Z(r.\u0275loadImpl()):T(null)).pipe(Me(()=>new $(o=>{let s=r.build();if(s.open(n.method,n.urlWithParams),n.withCredentials&&(s.withCredentials=!0),n.headers.forEach((v,C)=>s.setRequestHeader(v,C.join(","))),n.headers.has("Accept")||s.setRequestHeader("Accept","application/json, text/plain, */*"),!n.headers.has("Content-Type")){let v=n.detectContentTypeHeader();v!==null&&s.setRequestHeader("Content-Type",v)}if(n.responseType){let v=n.responseType.toLowerCase();s.responseType=v!=="json"?v:"text"}let a=n.serializeBody(),l=null,c=()=>{if(l!==null)return l;let v=s.statusText||"OK",C=new vn(s.getAllResponseHeaders()),x=M_(s)||n.url;return l=new Hc({headers:C,status:s.status,statusText:v,url:x}),l},u=()=>{let{headers:v,status:C,statusText:x,url:Qe}=c(),G=null;C!==ys.NoContent&&(G=typeof s.response>"u"?s.responseText:s.response),C===0&&(C=G?ys.Ok:0);let Te=C>=200&&C<300;if(n.responseType==="json"&&typeof G=="string"){let It=G;G=G.replace(I_,"");try{G=G!==""?JSON.parse(G):null}catch(Ae){G=It,Te&&(Te=!1,G={error:Ae,text:G})}}Te?(o.next(new ms({body:G,headers:v,status:C,statusText:x,url:Qe||void 0})),o.complete()):o.error(new vs({error:G,headers:v,status:C,statusText:x,url:Qe||void 0}))},d=v=>{let{url:C}=c(),x=new vs({error:v,status:s.status||0,statusText:s.statusText||"Unknown Error",url:C||void 0});o.error(x)},f=!1,h=v=>{f||(o.next(c()),f=!0);let C={type:sr.DownloadProgress,loaded:v.loaded};v.lengthComputable&&(C.total=v.total),n.responseType==="text"&&s.responseText&&(C.partialText=s.responseText),o.next(C)},m=v=>{let C={type:sr.UploadProgress,loaded:v.loaded};v.lengthComputable&&(C.total=v.total),o.next(C)};return s.addEventListener("load",u),s.addEventListener("error",d),s.addEventListener("timeout",d),s.addEventListener("abort",d),n.reportProgress&&(s.addEventListener("progress",h),a!==null&&s.upload&&s.upload.addEventListener("progress",m)),s.send(a),o.next({type:sr.Sent}),()=>{s.removeEventListener("error",d),s.removeEventListener("abort",d),s.removeEventListener("load",u),s.removeEventListener("timeout",d),n.reportProgress&&(s.removeEventListener("progress",h),a!==null&&s.upload&&s.upload.removeEventListener("progress",m)),s.readyState!==s.DONE&&s.abort()}})))}static{this.\u0275fac=function(r){return new(r||e)(M(rr))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),lg=new I(""),x_="XSRF-TOKEN",S_=new I("",{providedIn:"root",factory:()=>x_}),T_="X-XSRF-TOKEN",A_=new I("",{providedIn:"root",factory:()=>T_}),Ds=class{},N_=(()=>{class e{constructor(n,r,i){this.doc=n,this.platform=r,this.cookieName=i,this.lastCookieString="",this.lastToken=null,this.parseCount=0}getToken(){if(this.platform==="server")return null;let n=this.doc.cookie||"";return n!==this.lastCookieString&&(this.parseCount++,this.lastToken=is(n,this.cookieName),this.lastCookieString=n),this.lastToken}static{this.\u0275fac=function(r){return new(r||e)(M(ve),M(ot),M(S_))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function R_(e,t){let n=e.url.toLowerCase();if(!y(lg)||e.method==="GET"||e.method==="HEAD"||n.startsWith("http://")||n.startsWith("https://"))return t(e);let r=y(Ds).getToken(),i=y(A_);return r!=null&&!e.headers.has(i)&&(e=e.clone({headers:e.headers.set(i,r)})),t(e)}function NN(...e){let t=[zc,sg,og,{provide:Xr,useExisting:og},{provide:gs,useExisting:sg},{provide:ag,useValue:R_,multi:!0},{provide:lg,useValue:!0},{provide:Ds,useClass:N_}];for(let n of e)t.push(...n.\u0275providers);return Yn(t)}var qc=class extends rs{constructor(){super(...arguments),this.supportsDOMEvents=!0}},Zc=class e extends qc{static makeCurrent(){Ep(new e)}onAndCancel(t,n,r){return t.addEventListener(n,r),()=>{t.removeEventListener(n,r)}}dispatchEvent(t,n){t.dispatchEvent(n)}remove(t){t.parentNode&&t.parentNode.removeChild(t)}createElement(t,n){return n=n||this.getDefaultDocument(),n.createElement(t)}createHtmlDocument(){return document.implementation.createHTMLDocument("fakeTitle")}getDefaultDocument(){return document}isElementNode(t){return t.nodeType===Node.ELEMENT_NODE}isShadowRoot(t){return t instanceof DocumentFragment}getGlobalEventTarget(t,n){return n==="window"?window:n==="document"?t:n==="body"?t.body:null}getBaseHref(t){let n=P_();return n==null?null:F_(n)}resetBaseElement(){ti=null}getUserAgent(){return window.navigator.userAgent}getCookie(t){return is(document.cookie,t)}},ti=null;function P_(){return ti=ti||document.querySelector("base"),ti?ti.getAttribute("href"):null}function F_(e){return new URL(e,document.baseURI).pathname}var k_=(()=>{class e{build(){return new XMLHttpRequest}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),Yc=new I(""),fg=(()=>{class e{constructor(n,r){this._zone=r,this._eventNameToPlugin=new Map,n.forEach(i=>{i.manager=this}),this._plugins=n.slice().reverse()}addEventListener(n,r,i){return this._findPluginFor(r).addEventListener(n,r,i)}getZone(){return this._zone}_findPluginFor(n){let r=this._eventNameToPlugin.get(n);if(r)return r;if(r=this._plugins.find(o=>o.supports(n)),!r)throw new b(5101,!1);return this._eventNameToPlugin.set(n,r),r}static{this.\u0275fac=function(r){return new(r||e)(M(Yc),M(Y))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),Cs=class{constructor(t){this._doc=t}},Gc="ng-app-id",hg=(()=>{class e{constructor(n,r,i,o={}){this.doc=n,this.appId=r,this.nonce=i,this.platformId=o,this.styleRef=new Map,this.hostNodes=new Set,this.styleNodesInDOM=this.collectServerRenderedStyles(),this.platformIsServer=ss(o),this.resetHostNodes()}addStyles(n){for(let r of n)this.changeUsageCount(r,1)===1&&this.onStyleAdded(r)}removeStyles(n){for(let r of n)this.changeUsageCount(r,-1)<=0&&this.onStyleRemoved(r)}ngOnDestroy(){let n=this.styleNodesInDOM;n&&(n.forEach(r=>r.remove()),n.clear());for(let r of this.getAllStyles())this.onStyleRemoved(r);this.resetHostNodes()}addHost(n){this.hostNodes.add(n);for(let r of this.getAllStyles())this.addStyleToHost(n,r)}removeHost(n){this.hostNodes.delete(n)}getAllStyles(){return this.styleRef.keys()}onStyleAdded(n){for(let r of this.hostNodes)this.addStyleToHost(r,n)}onStyleRemoved(n){let r=this.styleRef;r.get(n)?.elements?.forEach(i=>i.remove()),r.delete(n)}collectServerRenderedStyles(){let n=this.doc.head?.querySelectorAll(`style[${Gc}="${this.appId}"]`);if(n?.length){let r=new Map;return n.forEach(i=>{i.textContent!=null&&r.set(i.textContent,i)}),r}return null}changeUsageCount(n,r){let i=this.styleRef;if(i.has(n)){let o=i.get(n);return o.usage+=r,o.usage}return i.set(n,{usage:r,elements:[]}),r}getStyleElement(n,r){let i=this.styleNodesInDOM,o=i?.get(r);if(o?.parentNode===n)return i.delete(r),o.removeAttribute(Gc),o;{let s=this.doc.createElement("style");return this.nonce&&s.setAttribute("nonce",this.nonce),s.textContent=r,this.platformIsServer&&s.setAttribute(Gc,this.appId),n.appendChild(s),s}}addStyleToHost(n,r){let i=this.getStyleElement(n,r),o=this.styleRef,s=o.get(r)?.elements;s?s.push(i):o.set(r,{elements:[i],usage:1})}resetHostNodes(){let n=this.hostNodes;n.clear(),n.add(this.doc.head)}static{this.\u0275fac=function(r){return new(r||e)(M(ve),M(ql),M(Yl,8),M(ot))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),Wc={svg:"http://www.w3.org/2000/svg",xhtml:"http://www.w3.org/1999/xhtml",xlink:"http://www.w3.org/1999/xlink",xml:"http://www.w3.org/XML/1998/namespace",xmlns:"http://www.w3.org/2000/xmlns/",math:"http://www.w3.org/1998/MathML/"},Kc=/%COMP%/g,pg="%COMP%",L_=`_nghost-${pg}`,V_=`_ngcontent-${pg}`,j_=!0,U_=new I("",{providedIn:"root",factory:()=>j_});function B_(e){return V_.replace(Kc,e)}function $_(e){return L_.replace(Kc,e)}function gg(e,t){return t.map(n=>n.replace(Kc,e))}var cg=(()=>{class e{constructor(n,r,i,o,s,a,l,c=null){this.eventManager=n,this.sharedStylesHost=r,this.appId=i,this.removeStylesOnCompDestroy=o,this.doc=s,this.platformId=a,this.ngZone=l,this.nonce=c,this.rendererByCompId=new Map,this.platformIsServer=ss(a),this.defaultRenderer=new ni(n,s,l,this.platformIsServer)}createRenderer(n,r){if(!n||!r)return this.defaultRenderer;this.platformIsServer&&r.encapsulation===et.ShadowDom&&(r=q(D({},r),{encapsulation:et.Emulated}));let i=this.getOrCreateRenderer(n,r);return i instanceof ws?i.applyToHost(n):i instanceof ri&&i.applyStyles(),i}getOrCreateRenderer(n,r){let i=this.rendererByCompId,o=i.get(r.id);if(!o){let s=this.doc,a=this.ngZone,l=this.eventManager,c=this.sharedStylesHost,u=this.removeStylesOnCompDestroy,d=this.platformIsServer;switch(r.encapsulation){case et.Emulated:o=new ws(l,c,r,this.appId,u,s,a,d);break;case et.ShadowDom:return new Qc(l,c,n,r,s,a,this.nonce,d);default:o=new ri(l,c,r,u,s,a,d);break}i.set(r.id,o)}return o}ngOnDestroy(){this.rendererByCompId.clear()}static{this.\u0275fac=function(r){return new(r||e)(M(fg),M(hg),M(ql),M(U_),M(ve),M(ot),M(Y),M(Yl))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),ni=class{constructor(t,n,r,i){this.eventManager=t,this.doc=n,this.ngZone=r,this.platformIsServer=i,this.data=Object.create(null),this.throwOnSyntheticProps=!0,this.destroyNode=null}destroy(){}createElement(t,n){return n?this.doc.createElementNS(Wc[n]||n,t):this.doc.createElement(t)}createComment(t){return this.doc.createComment(t)}createText(t){return this.doc.createTextNode(t)}appendChild(t,n){(ug(t)?t.content:t).appendChild(n)}insertBefore(t,n,r){t&&(ug(t)?t.content:t).insertBefore(n,r)}removeChild(t,n){t&&t.removeChild(n)}selectRootElement(t,n){let r=typeof t=="string"?this.doc.querySelector(t):t;if(!r)throw new b(-5104,!1);return n||(r.textContent=""),r}parentNode(t){return t.parentNode}nextSibling(t){return t.nextSibling}setAttribute(t,n,r,i){if(i){n=i+":"+n;let o=Wc[i];o?t.setAttributeNS(o,n,r):t.setAttribute(n,r)}else t.setAttribute(n,r)}removeAttribute(t,n,r){if(r){let i=Wc[r];i?t.removeAttributeNS(i,n):t.removeAttribute(`${r}:${n}`)}else t.removeAttribute(n)}addClass(t,n){t.classList.add(n)}removeClass(t,n){t.classList.remove(n)}setStyle(t,n,r,i){i&(it.DashCase|it.Important)?t.style.setProperty(n,r,i&it.Important?"important":""):t.style[n]=r}removeStyle(t,n,r){r&it.DashCase?t.style.removeProperty(n):t.style[n]=""}setProperty(t,n,r){t!=null&&(t[n]=r)}setValue(t,n){t.nodeValue=n}listen(t,n,r){if(typeof t=="string"&&(t=Et().getGlobalEventTarget(this.doc,t),!t))throw new Error(`Unsupported event target ${t} for event ${n}`);return this.eventManager.addEventListener(t,n,this.decoratePreventDefault(r))}decoratePreventDefault(t){return n=>{if(n==="__ngUnwrap__")return t;(this.platformIsServer?this.ngZone.runGuarded(()=>t(n)):t(n))===!1&&n.preventDefault()}}};function ug(e){return e.tagName==="TEMPLATE"&&e.content!==void 0}var Qc=class extends ni{constructor(t,n,r,i,o,s,a,l){super(t,o,s,l),this.sharedStylesHost=n,this.hostEl=r,this.shadowRoot=r.attachShadow({mode:"open"}),this.sharedStylesHost.addHost(this.shadowRoot);let c=gg(i.id,i.styles);for(let u of c){let d=document.createElement("style");a&&d.setAttribute("nonce",a),d.textContent=u,this.shadowRoot.appendChild(d)}}nodeOrShadowRoot(t){return t===this.hostEl?this.shadowRoot:t}appendChild(t,n){return super.appendChild(this.nodeOrShadowRoot(t),n)}insertBefore(t,n,r){return super.insertBefore(this.nodeOrShadowRoot(t),n,r)}removeChild(t,n){return super.removeChild(this.nodeOrShadowRoot(t),n)}parentNode(t){return this.nodeOrShadowRoot(super.parentNode(this.nodeOrShadowRoot(t)))}destroy(){this.sharedStylesHost.removeHost(this.shadowRoot)}},ri=class extends ni{constructor(t,n,r,i,o,s,a,l){super(t,o,s,a),this.sharedStylesHost=n,this.removeStylesOnCompDestroy=i,this.styles=l?gg(l,r.styles):r.styles}applyStyles(){this.sharedStylesHost.addStyles(this.styles)}destroy(){this.removeStylesOnCompDestroy&&this.sharedStylesHost.removeStyles(this.styles)}},ws=class extends ri{constructor(t,n,r,i,o,s,a,l){let c=i+"-"+r.id;super(t,n,r,o,s,a,l,c),this.contentAttr=B_(c),this.hostAttr=$_(c)}applyToHost(t){this.applyStyles(),this.setAttribute(t,this.hostAttr,"")}createElement(t,n){let r=super.createElement(t,n);return super.setAttribute(r,this.contentAttr,""),r}},H_=(()=>{class e extends Cs{constructor(n){super(n)}supports(n){return!0}addEventListener(n,r,i){return n.addEventListener(r,i,!1),()=>this.removeEventListener(n,r,i)}removeEventListener(n,r,i){return n.removeEventListener(r,i)}static{this.\u0275fac=function(r){return new(r||e)(M(ve))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),dg=["alt","control","meta","shift"],z_={"\b":"Backspace","	":"Tab","\x7F":"Delete","\x1B":"Escape",Del:"Delete",Esc:"Escape",Left:"ArrowLeft",Right:"ArrowRight",Up:"ArrowUp",Down:"ArrowDown",Menu:"ContextMenu",Scroll:"ScrollLock",Win:"OS"},G_={alt:e=>e.altKey,control:e=>e.ctrlKey,meta:e=>e.metaKey,shift:e=>e.shiftKey},W_=(()=>{class e extends Cs{constructor(n){super(n)}supports(n){return e.parseEventName(n)!=null}addEventListener(n,r,i){let o=e.parseEventName(r),s=e.eventCallback(o.fullKey,i,this.manager.getZone());return this.manager.getZone().runOutsideAngular(()=>Et().onAndCancel(n,o.domEventName,s))}static parseEventName(n){let r=n.toLowerCase().split("."),i=r.shift();if(r.length===0||!(i==="keydown"||i==="keyup"))return null;let o=e._normalizeKey(r.pop()),s="",a=r.indexOf("code");if(a>-1&&(r.splice(a,1),s="code."),dg.forEach(c=>{let u=r.indexOf(c);u>-1&&(r.splice(u,1),s+=c+".")}),s+=o,r.length!=0||o.length===0)return null;let l={};return l.domEventName=i,l.fullKey=s,l}static matchEventFullKeyCode(n,r){let i=z_[n.key]||n.key,o="";return r.indexOf("code.")>-1&&(i=n.code,o="code."),i==null||!i?!1:(i=i.toLowerCase(),i===" "?i="space":i==="."&&(i="dot"),dg.forEach(s=>{if(s!==i){let a=G_[s];a(n)&&(o+=s+".")}}),o+=i,o===r)}static eventCallback(n,r,i){return o=>{e.matchEventFullKeyCode(o,n)&&i.runGuarded(()=>r(o))}}static _normalizeKey(n){return n==="esc"?"escape":n}static{this.\u0275fac=function(r){return new(r||e)(M(ve))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function eR(e,t){return gp(D({rootComponent:e},q_(t)))}function q_(e){return{appProviders:[...J_,...e?.providers??[]],platformProviders:K_}}function Z_(){Zc.makeCurrent()}function Y_(){return new rt}function Q_(){return ph(document),document}var K_=[{provide:ot,useValue:Nc},{provide:Zl,useValue:Z_,multi:!0},{provide:ve,useFactory:Q_,deps:[]}];var J_=[{provide:Ro,useValue:"root"},{provide:rt,useFactory:Y_,deps:[]},{provide:Yc,useClass:H_,multi:!0,deps:[ve,Y,ot]},{provide:Yc,useClass:W_,multi:!0,deps:[ve]},cg,hg,fg,{provide:Ar,useExisting:cg},{provide:rr,useClass:k_,deps:[]},[]];var mg=(()=>{class e{constructor(n){this._doc=n}getTitle(){return this._doc.title}setTitle(n){this._doc.title=n||""}static{this.\u0275fac=function(r){return new(r||e)(M(ve))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();var O="primary",Di=Symbol("RouteTitle"),nu=class{constructor(t){this.params=t||{}}has(t){return Object.prototype.hasOwnProperty.call(this.params,t)}get(t){if(this.has(t)){let n=this.params[t];return Array.isArray(n)?n[0]:n}return null}getAll(t){if(this.has(t)){let n=this.params[t];return Array.isArray(n)?n:[n]}return[]}get keys(){return Object.keys(this.params)}};function dr(e){return new nu(e)}function eE(e,t,n){let r=n.path.split("/");if(r.length>e.length||n.pathMatch==="full"&&(t.hasChildren()||r.length<e.length))return null;let i={};for(let o=0;o<r.length;o++){let s=r[o],a=e[o];if(s.startsWith(":"))i[s.substring(1)]=a;else if(s!==a.path)return null}return{consumed:e.slice(0,r.length),posParams:i}}function tE(e,t){if(e.length!==t.length)return!1;for(let n=0;n<e.length;++n)if(!lt(e[n],t[n]))return!1;return!0}function lt(e,t){let n=e?ru(e):void 0,r=t?ru(t):void 0;if(!n||!r||n.length!=r.length)return!1;let i;for(let o=0;o<n.length;o++)if(i=n[o],!Ig(e[i],t[i]))return!1;return!0}function ru(e){return[...Object.keys(e),...Object.getOwnPropertySymbols(e)]}function Ig(e,t){if(Array.isArray(e)&&Array.isArray(t)){if(e.length!==t.length)return!1;let n=[...e].sort(),r=[...t].sort();return n.every((i,o)=>r[o]===i)}else return e===t}function Mg(e){return e.length>0?e[e.length-1]:null}function zt(e){return na(e)?e:pn(e)?Z(Promise.resolve(e)):T(e)}var nE={exact:Sg,subset:Tg},xg={exact:rE,subset:iE,ignored:()=>!0};function vg(e,t,n){return nE[n.paths](e.root,t.root,n.matrixParams)&&xg[n.queryParams](e.queryParams,t.queryParams)&&!(n.fragment==="exact"&&e.fragment!==t.fragment)}function rE(e,t){return lt(e,t)}function Sg(e,t,n){if(!Dn(e.segments,t.segments)||!bs(e.segments,t.segments,n)||e.numberOfChildren!==t.numberOfChildren)return!1;for(let r in t.children)if(!e.children[r]||!Sg(e.children[r],t.children[r],n))return!1;return!0}function iE(e,t){return Object.keys(t).length<=Object.keys(e).length&&Object.keys(t).every(n=>Ig(e[n],t[n]))}function Tg(e,t,n){return Ag(e,t,t.segments,n)}function Ag(e,t,n,r){if(e.segments.length>n.length){let i=e.segments.slice(0,n.length);return!(!Dn(i,n)||t.hasChildren()||!bs(i,n,r))}else if(e.segments.length===n.length){if(!Dn(e.segments,n)||!bs(e.segments,n,r))return!1;for(let i in t.children)if(!e.children[i]||!Tg(e.children[i],t.children[i],r))return!1;return!0}else{let i=n.slice(0,e.segments.length),o=n.slice(e.segments.length);return!Dn(e.segments,i)||!bs(e.segments,i,r)||!e.children[O]?!1:Ag(e.children[O],t,o,r)}}function bs(e,t,n){return t.every((r,i)=>xg[n](e[i].parameters,r.parameters))}var Ut=class{constructor(t=new z([],{}),n={},r=null){this.root=t,this.queryParams=n,this.fragment=r}get queryParamMap(){return this._queryParamMap??=dr(this.queryParams),this._queryParamMap}toString(){return aE.serialize(this)}},z=class{constructor(t,n){this.segments=t,this.children=n,this.parent=null,Object.values(n).forEach(r=>r.parent=this)}hasChildren(){return this.numberOfChildren>0}get numberOfChildren(){return Object.keys(this.children).length}toString(){return Is(this)}},yn=class{constructor(t,n){this.path=t,this.parameters=n}get parameterMap(){return this._parameterMap??=dr(this.parameters),this._parameterMap}toString(){return Rg(this)}};function oE(e,t){return Dn(e,t)&&e.every((n,r)=>lt(n.parameters,t[r].parameters))}function Dn(e,t){return e.length!==t.length?!1:e.every((n,r)=>n.path===t[r].path)}function sE(e,t){let n=[];return Object.entries(e.children).forEach(([r,i])=>{r===O&&(n=n.concat(t(i,r)))}),Object.entries(e.children).forEach(([r,i])=>{r!==O&&(n=n.concat(t(i,r)))}),n}var Ci=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>new ui,providedIn:"root"})}}return e})(),ui=class{parse(t){let n=new ou(t);return new Ut(n.parseRootSegment(),n.parseQueryParams(),n.parseFragment())}serialize(t){let n=`/${ii(t.root,!0)}`,r=uE(t.queryParams),i=typeof t.fragment=="string"?`#${lE(t.fragment)}`:"";return`${n}${r}${i}`}},aE=new ui;function Is(e){return e.segments.map(t=>Rg(t)).join("/")}function ii(e,t){if(!e.hasChildren())return Is(e);if(t){let n=e.children[O]?ii(e.children[O],!1):"",r=[];return Object.entries(e.children).forEach(([i,o])=>{i!==O&&r.push(`${i}:${ii(o,!1)}`)}),r.length>0?`${n}(${r.join("//")})`:n}else{let n=sE(e,(r,i)=>i===O?[ii(e.children[O],!1)]:[`${i}:${ii(r,!1)}`]);return Object.keys(e.children).length===1&&e.children[O]!=null?`${Is(e)}/${n[0]}`:`${Is(e)}/(${n.join("//")})`}}function Ng(e){return encodeURIComponent(e).replace(/%40/g,"@").replace(/%3A/gi,":").replace(/%24/g,"$").replace(/%2C/gi,",")}function _s(e){return Ng(e).replace(/%3B/gi,";")}function lE(e){return encodeURI(e)}function iu(e){return Ng(e).replace(/\(/g,"%28").replace(/\)/g,"%29").replace(/%26/gi,"&")}function Ms(e){return decodeURIComponent(e)}function yg(e){return Ms(e.replace(/\+/g,"%20"))}function Rg(e){return`${iu(e.path)}${cE(e.parameters)}`}function cE(e){return Object.entries(e).map(([t,n])=>`;${iu(t)}=${iu(n)}`).join("")}function uE(e){let t=Object.entries(e).map(([n,r])=>Array.isArray(r)?r.map(i=>`${_s(n)}=${_s(i)}`).join("&"):`${_s(n)}=${_s(r)}`).filter(n=>n);return t.length?`?${t.join("&")}`:""}var dE=/^[^\/()?;#]+/;function Jc(e){let t=e.match(dE);return t?t[0]:""}var fE=/^[^\/()?;=#]+/;function hE(e){let t=e.match(fE);return t?t[0]:""}var pE=/^[^=?&#]+/;function gE(e){let t=e.match(pE);return t?t[0]:""}var mE=/^[^&#]+/;function vE(e){let t=e.match(mE);return t?t[0]:""}var ou=class{constructor(t){this.url=t,this.remaining=t}parseRootSegment(){return this.consumeOptional("/"),this.remaining===""||this.peekStartsWith("?")||this.peekStartsWith("#")?new z([],{}):new z([],this.parseChildren())}parseQueryParams(){let t={};if(this.consumeOptional("?"))do this.parseQueryParam(t);while(this.consumeOptional("&"));return t}parseFragment(){return this.consumeOptional("#")?decodeURIComponent(this.remaining):null}parseChildren(){if(this.remaining==="")return{};this.consumeOptional("/");let t=[];for(this.peekStartsWith("(")||t.push(this.parseSegment());this.peekStartsWith("/")&&!this.peekStartsWith("//")&&!this.peekStartsWith("/(");)this.capture("/"),t.push(this.parseSegment());let n={};this.peekStartsWith("/(")&&(this.capture("/"),n=this.parseParens(!0));let r={};return this.peekStartsWith("(")&&(r=this.parseParens(!1)),(t.length>0||Object.keys(n).length>0)&&(r[O]=new z(t,n)),r}parseSegment(){let t=Jc(this.remaining);if(t===""&&this.peekStartsWith(";"))throw new b(4009,!1);return this.capture(t),new yn(Ms(t),this.parseMatrixParams())}parseMatrixParams(){let t={};for(;this.consumeOptional(";");)this.parseParam(t);return t}parseParam(t){let n=hE(this.remaining);if(!n)return;this.capture(n);let r="";if(this.consumeOptional("=")){let i=Jc(this.remaining);i&&(r=i,this.capture(r))}t[Ms(n)]=Ms(r)}parseQueryParam(t){let n=gE(this.remaining);if(!n)return;this.capture(n);let r="";if(this.consumeOptional("=")){let s=vE(this.remaining);s&&(r=s,this.capture(r))}let i=yg(n),o=yg(r);if(t.hasOwnProperty(i)){let s=t[i];Array.isArray(s)||(s=[s],t[i]=s),s.push(o)}else t[i]=o}parseParens(t){let n={};for(this.capture("(");!this.consumeOptional(")")&&this.remaining.length>0;){let r=Jc(this.remaining),i=this.remaining[r.length];if(i!=="/"&&i!==")"&&i!==";")throw new b(4010,!1);let o;r.indexOf(":")>-1?(o=r.slice(0,r.indexOf(":")),this.capture(o),this.capture(":")):t&&(o=O);let s=this.parseChildren();n[o]=Object.keys(s).length===1?s[O]:new z([],s),this.consumeOptional("//")}return n}peekStartsWith(t){return this.remaining.startsWith(t)}consumeOptional(t){return this.peekStartsWith(t)?(this.remaining=this.remaining.substring(t.length),!0):!1}capture(t){if(!this.consumeOptional(t))throw new b(4011,!1)}};function Og(e){return e.segments.length>0?new z([],{[O]:e}):e}function Pg(e){let t={};for(let[r,i]of Object.entries(e.children)){let o=Pg(i);if(r===O&&o.segments.length===0&&o.hasChildren())for(let[s,a]of Object.entries(o.children))t[s]=a;else(o.segments.length>0||o.hasChildren())&&(t[r]=o)}let n=new z(e.segments,t);return yE(n)}function yE(e){if(e.numberOfChildren===1&&e.children[O]){let t=e.children[O];return new z(e.segments.concat(t.segments),t.children)}return e}function fr(e){return e instanceof Ut}function DE(e,t,n=null,r=null){let i=Fg(e);return kg(i,t,n,r)}function Fg(e){let t;function n(o){let s={};for(let l of o.children){let c=n(l);s[l.outlet]=c}let a=new z(o.url,s);return o===e&&(t=a),a}let r=n(e.root),i=Og(r);return t??i}function kg(e,t,n,r){let i=e;for(;i.parent;)i=i.parent;if(t.length===0)return Xc(i,i,i,n,r);let o=CE(t);if(o.toRoot())return Xc(i,i,new z([],{}),n,r);let s=wE(o,i,e),a=s.processChildren?ai(s.segmentGroup,s.index,o.commands):Vg(s.segmentGroup,s.index,o.commands);return Xc(i,s.segmentGroup,a,n,r)}function xs(e){return typeof e=="object"&&e!=null&&!e.outlets&&!e.segmentPath}function di(e){return typeof e=="object"&&e!=null&&e.outlets}function Xc(e,t,n,r,i){let o={};r&&Object.entries(r).forEach(([l,c])=>{o[l]=Array.isArray(c)?c.map(u=>`${u}`):`${c}`});let s;e===t?s=n:s=Lg(e,t,n);let a=Og(Pg(s));return new Ut(a,o,i)}function Lg(e,t,n){let r={};return Object.entries(e.children).forEach(([i,o])=>{o===t?r[i]=n:r[i]=Lg(o,t,n)}),new z(e.segments,r)}var Ss=class{constructor(t,n,r){if(this.isAbsolute=t,this.numberOfDoubleDots=n,this.commands=r,t&&r.length>0&&xs(r[0]))throw new b(4003,!1);let i=r.find(di);if(i&&i!==Mg(r))throw new b(4004,!1)}toRoot(){return this.isAbsolute&&this.commands.length===1&&this.commands[0]=="/"}};function CE(e){if(typeof e[0]=="string"&&e.length===1&&e[0]==="/")return new Ss(!0,0,e);let t=0,n=!1,r=e.reduce((i,o,s)=>{if(typeof o=="object"&&o!=null){if(o.outlets){let a={};return Object.entries(o.outlets).forEach(([l,c])=>{a[l]=typeof c=="string"?c.split("/"):c}),[...i,{outlets:a}]}if(o.segmentPath)return[...i,o.segmentPath]}return typeof o!="string"?[...i,o]:s===0?(o.split("/").forEach((a,l)=>{l==0&&a==="."||(l==0&&a===""?n=!0:a===".."?t++:a!=""&&i.push(a))}),i):[...i,o]},[]);return new Ss(n,t,r)}var cr=class{constructor(t,n,r){this.segmentGroup=t,this.processChildren=n,this.index=r}};function wE(e,t,n){if(e.isAbsolute)return new cr(t,!0,0);if(!n)return new cr(t,!1,NaN);if(n.parent===null)return new cr(n,!0,0);let r=xs(e.commands[0])?0:1,i=n.segments.length-1+r;return _E(n,i,e.numberOfDoubleDots)}function _E(e,t,n){let r=e,i=t,o=n;for(;o>i;){if(o-=i,r=r.parent,!r)throw new b(4005,!1);i=r.segments.length}return new cr(r,!1,i-o)}function EE(e){return di(e[0])?e[0].outlets:{[O]:e}}function Vg(e,t,n){if(e??=new z([],{}),e.segments.length===0&&e.hasChildren())return ai(e,t,n);let r=bE(e,t,n),i=n.slice(r.commandIndex);if(r.match&&r.pathIndex<e.segments.length){let o=new z(e.segments.slice(0,r.pathIndex),{});return o.children[O]=new z(e.segments.slice(r.pathIndex),e.children),ai(o,0,i)}else return r.match&&i.length===0?new z(e.segments,{}):r.match&&!e.hasChildren()?su(e,t,n):r.match?ai(e,0,i):su(e,t,n)}function ai(e,t,n){if(n.length===0)return new z(e.segments,{});{let r=EE(n),i={};if(Object.keys(r).some(o=>o!==O)&&e.children[O]&&e.numberOfChildren===1&&e.children[O].segments.length===0){let o=ai(e.children[O],t,n);return new z(e.segments,o.children)}return Object.entries(r).forEach(([o,s])=>{typeof s=="string"&&(s=[s]),s!==null&&(i[o]=Vg(e.children[o],t,s))}),Object.entries(e.children).forEach(([o,s])=>{r[o]===void 0&&(i[o]=s)}),new z(e.segments,i)}}function bE(e,t,n){let r=0,i=t,o={match:!1,pathIndex:0,commandIndex:0};for(;i<e.segments.length;){if(r>=n.length)return o;let s=e.segments[i],a=n[r];if(di(a))break;let l=`${a}`,c=r<n.length-1?n[r+1]:null;if(i>0&&l===void 0)break;if(l&&c&&typeof c=="object"&&c.outlets===void 0){if(!Cg(l,c,s))return o;r+=2}else{if(!Cg(l,{},s))return o;r++}i++}return{match:!0,pathIndex:i,commandIndex:r}}function su(e,t,n){let r=e.segments.slice(0,t),i=0;for(;i<n.length;){let o=n[i];if(di(o)){let l=IE(o.outlets);return new z(r,l)}if(i===0&&xs(n[0])){let l=e.segments[t];r.push(new yn(l.path,Dg(n[0]))),i++;continue}let s=di(o)?o.outlets[O]:`${o}`,a=i<n.length-1?n[i+1]:null;s&&a&&xs(a)?(r.push(new yn(s,Dg(a))),i+=2):(r.push(new yn(s,{})),i++)}return new z(r,{})}function IE(e){let t={};return Object.entries(e).forEach(([n,r])=>{typeof r=="string"&&(r=[r]),r!==null&&(t[n]=su(new z([],{}),0,r))}),t}function Dg(e){let t={};return Object.entries(e).forEach(([n,r])=>t[n]=`${r}`),t}function Cg(e,t,n){return e==n.path&&lt(t,n.parameters)}var li="imperative",se=function(e){return e[e.NavigationStart=0]="NavigationStart",e[e.NavigationEnd=1]="NavigationEnd",e[e.NavigationCancel=2]="NavigationCancel",e[e.NavigationError=3]="NavigationError",e[e.RoutesRecognized=4]="RoutesRecognized",e[e.ResolveStart=5]="ResolveStart",e[e.ResolveEnd=6]="ResolveEnd",e[e.GuardsCheckStart=7]="GuardsCheckStart",e[e.GuardsCheckEnd=8]="GuardsCheckEnd",e[e.RouteConfigLoadStart=9]="RouteConfigLoadStart",e[e.RouteConfigLoadEnd=10]="RouteConfigLoadEnd",e[e.ChildActivationStart=11]="ChildActivationStart",e[e.ChildActivationEnd=12]="ChildActivationEnd",e[e.ActivationStart=13]="ActivationStart",e[e.ActivationEnd=14]="ActivationEnd",e[e.Scroll=15]="Scroll",e[e.NavigationSkipped=16]="NavigationSkipped",e}(se||{}),Ue=class{constructor(t,n){this.id=t,this.url=n}},hr=class extends Ue{constructor(t,n,r="imperative",i=null){super(t,n),this.type=se.NavigationStart,this.navigationTrigger=r,this.restoredState=i}toString(){return`NavigationStart(id: ${this.id}, url: '${this.url}')`}},bt=class extends Ue{constructor(t,n,r){super(t,n),this.urlAfterRedirects=r,this.type=se.NavigationEnd}toString(){return`NavigationEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}')`}},Fe=function(e){return e[e.Redirect=0]="Redirect",e[e.SupersededByNewNavigation=1]="SupersededByNewNavigation",e[e.NoDataFromResolver=2]="NoDataFromResolver",e[e.GuardRejected=3]="GuardRejected",e}(Fe||{}),Ts=function(e){return e[e.IgnoredSameUrlNavigation=0]="IgnoredSameUrlNavigation",e[e.IgnoredByUrlHandlingStrategy=1]="IgnoredByUrlHandlingStrategy",e}(Ts||{}),Bt=class extends Ue{constructor(t,n,r,i){super(t,n),this.reason=r,this.code=i,this.type=se.NavigationCancel}toString(){return`NavigationCancel(id: ${this.id}, url: '${this.url}')`}},$t=class extends Ue{constructor(t,n,r,i){super(t,n),this.reason=r,this.code=i,this.type=se.NavigationSkipped}},fi=class extends Ue{constructor(t,n,r,i){super(t,n),this.error=r,this.target=i,this.type=se.NavigationError}toString(){return`NavigationError(id: ${this.id}, url: '${this.url}', error: ${this.error})`}},As=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.RoutesRecognized}toString(){return`RoutesRecognized(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},au=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.GuardsCheckStart}toString(){return`GuardsCheckStart(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},lu=class extends Ue{constructor(t,n,r,i,o){super(t,n),this.urlAfterRedirects=r,this.state=i,this.shouldActivate=o,this.type=se.GuardsCheckEnd}toString(){return`GuardsCheckEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state}, shouldActivate: ${this.shouldActivate})`}},cu=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.ResolveStart}toString(){return`ResolveStart(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},uu=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.ResolveEnd}toString(){return`ResolveEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},du=class{constructor(t){this.route=t,this.type=se.RouteConfigLoadStart}toString(){return`RouteConfigLoadStart(path: ${this.route.path})`}},fu=class{constructor(t){this.route=t,this.type=se.RouteConfigLoadEnd}toString(){return`RouteConfigLoadEnd(path: ${this.route.path})`}},hu=class{constructor(t){this.snapshot=t,this.type=se.ChildActivationStart}toString(){return`ChildActivationStart(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},pu=class{constructor(t){this.snapshot=t,this.type=se.ChildActivationEnd}toString(){return`ChildActivationEnd(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},gu=class{constructor(t){this.snapshot=t,this.type=se.ActivationStart}toString(){return`ActivationStart(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},mu=class{constructor(t){this.snapshot=t,this.type=se.ActivationEnd}toString(){return`ActivationEnd(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},Ns=class{constructor(t,n,r){this.routerEvent=t,this.position=n,this.anchor=r,this.type=se.Scroll}toString(){let t=this.position?`${this.position[0]}, ${this.position[1]}`:null;return`Scroll(anchor: '${this.anchor}', position: '${t}')`}},hi=class{},pi=class{constructor(t){this.url=t}};var vu=class{constructor(){this.outlet=null,this.route=null,this.injector=null,this.children=new wi,this.attachRef=null}},wi=(()=>{class e{constructor(){this.contexts=new Map}onChildOutletCreated(n,r){let i=this.getOrCreateContext(n);i.outlet=r,this.contexts.set(n,i)}onChildOutletDestroyed(n){let r=this.getContext(n);r&&(r.outlet=null,r.attachRef=null)}onOutletDeactivated(){let n=this.contexts;return this.contexts=new Map,n}onOutletReAttached(n){this.contexts=n}getOrCreateContext(n){let r=this.getContext(n);return r||(r=new vu,this.contexts.set(n,r)),r}getContext(n){return this.contexts.get(n)||null}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),Rs=class{constructor(t){this._root=t}get root(){return this._root.value}parent(t){let n=this.pathFromRoot(t);return n.length>1?n[n.length-2]:null}children(t){let n=yu(t,this._root);return n?n.children.map(r=>r.value):[]}firstChild(t){let n=yu(t,this._root);return n&&n.children.length>0?n.children[0].value:null}siblings(t){let n=Du(t,this._root);return n.length<2?[]:n[n.length-2].children.map(i=>i.value).filter(i=>i!==t)}pathFromRoot(t){return Du(t,this._root).map(n=>n.value)}};function yu(e,t){if(e===t.value)return t;for(let n of t.children){let r=yu(e,n);if(r)return r}return null}function Du(e,t){if(e===t.value)return[t];for(let n of t.children){let r=Du(e,n);if(r.length)return r.unshift(t),r}return[]}var Pe=class{constructor(t,n){this.value=t,this.children=n}toString(){return`TreeNode(${this.value})`}};function lr(e){let t={};return e&&e.children.forEach(n=>t[n.value.outlet]=n),t}var Os=class extends Rs{constructor(t,n){super(t),this.snapshot=n,Tu(this,t)}toString(){return this.snapshot.toString()}};function jg(e){let t=ME(e),n=new ae([new yn("",{})]),r=new ae({}),i=new ae({}),o=new ae({}),s=new ae(""),a=new Cn(n,r,o,s,i,O,e,t.root);return a.snapshot=t.root,new Os(new Pe(a,[]),t)}function ME(e){let t={},n={},r={},i="",o=new gi([],t,r,i,n,O,e,null,{});return new Ps("",new Pe(o,[]))}var Cn=class{constructor(t,n,r,i,o,s,a,l){this.urlSubject=t,this.paramsSubject=n,this.queryParamsSubject=r,this.fragmentSubject=i,this.dataSubject=o,this.outlet=s,this.component=a,this._futureSnapshot=l,this.title=this.dataSubject?.pipe(N(c=>c[Di]))??T(void 0),this.url=t,this.params=n,this.queryParams=r,this.fragment=i,this.data=o}get routeConfig(){return this._futureSnapshot.routeConfig}get root(){return this._routerState.root}get parent(){return this._routerState.parent(this)}get firstChild(){return this._routerState.firstChild(this)}get children(){return this._routerState.children(this)}get pathFromRoot(){return this._routerState.pathFromRoot(this)}get paramMap(){return this._paramMap??=this.params.pipe(N(t=>dr(t))),this._paramMap}get queryParamMap(){return this._queryParamMap??=this.queryParams.pipe(N(t=>dr(t))),this._queryParamMap}toString(){return this.snapshot?this.snapshot.toString():`Future(${this._futureSnapshot})`}};function Su(e,t,n="emptyOnly"){let r,{routeConfig:i}=e;return t!==null&&(n==="always"||i?.path===""||!t.component&&!t.routeConfig?.loadComponent)?r={params:D(D({},t.params),e.params),data:D(D({},t.data),e.data),resolve:D(D(D(D({},e.data),t.data),i?.data),e._resolvedData)}:r={params:D({},e.params),data:D({},e.data),resolve:D(D({},e.data),e._resolvedData??{})},i&&Bg(i)&&(r.resolve[Di]=i.title),r}var gi=class{get title(){return this.data?.[Di]}constructor(t,n,r,i,o,s,a,l,c){this.url=t,this.params=n,this.queryParams=r,this.fragment=i,this.data=o,this.outlet=s,this.component=a,this.routeConfig=l,this._resolve=c}get root(){return this._routerState.root}get parent(){return this._routerState.parent(this)}get firstChild(){return this._routerState.firstChild(this)}get children(){return this._routerState.children(this)}get pathFromRoot(){return this._routerState.pathFromRoot(this)}get paramMap(){return this._paramMap??=dr(this.params),this._paramMap}get queryParamMap(){return this._queryParamMap??=dr(this.queryParams),this._queryParamMap}toString(){let t=this.url.map(r=>r.toString()).join("/"),n=this.routeConfig?this.routeConfig.path:"";return`Route(url:'${t}', path:'${n}')`}},Ps=class extends Rs{constructor(t,n){super(n),this.url=t,Tu(this,n)}toString(){return Ug(this._root)}};function Tu(e,t){t.value._routerState=e,t.children.forEach(n=>Tu(e,n))}function Ug(e){let t=e.children.length>0?` { ${e.children.map(Ug).join(", ")} } `:"";return`${e.value}${t}`}function eu(e){if(e.snapshot){let t=e.snapshot,n=e._futureSnapshot;e.snapshot=n,lt(t.queryParams,n.queryParams)||e.queryParamsSubject.next(n.queryParams),t.fragment!==n.fragment&&e.fragmentSubject.next(n.fragment),lt(t.params,n.params)||e.paramsSubject.next(n.params),tE(t.url,n.url)||e.urlSubject.next(n.url),lt(t.data,n.data)||e.dataSubject.next(n.data)}else e.snapshot=e._futureSnapshot,e.dataSubject.next(e._futureSnapshot.data)}function Cu(e,t){let n=lt(e.params,t.params)&&oE(e.url,t.url),r=!e.parent!=!t.parent;return n&&!r&&(!e.parent||Cu(e.parent,t.parent))}function Bg(e){return typeof e.title=="string"||e.title===null}var xE=(()=>{class e{constructor(){this.activated=null,this._activatedRoute=null,this.name=O,this.activateEvents=new ie,this.deactivateEvents=new ie,this.attachEvents=new ie,this.detachEvents=new ie,this.parentContexts=y(wi),this.location=y(Lt),this.changeDetector=y(gn),this.environmentInjector=y(ue),this.inputBinder=y(Vs,{optional:!0}),this.supportsBindingToComponentInputs=!0}get activatedComponentRef(){return this.activated}ngOnChanges(n){if(n.name){let{firstChange:r,previousValue:i}=n.name;if(r)return;this.isTrackedInParentContexts(i)&&(this.deactivate(),this.parentContexts.onChildOutletDestroyed(i)),this.initializeOutletWithName()}}ngOnDestroy(){this.isTrackedInParentContexts(this.name)&&this.parentContexts.onChildOutletDestroyed(this.name),this.inputBinder?.unsubscribeFromRouteData(this)}isTrackedInParentContexts(n){return this.parentContexts.getContext(n)?.outlet===this}ngOnInit(){this.initializeOutletWithName()}initializeOutletWithName(){if(this.parentContexts.onChildOutletCreated(this.name,this),this.activated)return;let n=this.parentContexts.getContext(this.name);n?.route&&(n.attachRef?this.attach(n.attachRef,n.route):this.activateWith(n.route,n.injector))}get isActivated(){return!!this.activated}get component(){if(!this.activated)throw new b(4012,!1);return this.activated.instance}get activatedRoute(){if(!this.activated)throw new b(4012,!1);return this._activatedRoute}get activatedRouteData(){return this._activatedRoute?this._activatedRoute.snapshot.data:{}}detach(){if(!this.activated)throw new b(4012,!1);this.location.detach();let n=this.activated;return this.activated=null,this._activatedRoute=null,this.detachEvents.emit(n.instance),n}attach(n,r){this.activated=n,this._activatedRoute=r,this.location.insert(n.hostView),this.inputBinder?.bindActivatedRouteToOutletComponent(this),this.attachEvents.emit(n.instance)}deactivate(){if(this.activated){let n=this.component;this.activated.destroy(),this.activated=null,this._activatedRoute=null,this.deactivateEvents.emit(n)}}activateWith(n,r){if(this.isActivated)throw new b(4013,!1);this._activatedRoute=n;let i=this.location,s=n.snapshot.component,a=this.parentContexts.getOrCreateContext(this.name).children,l=new wu(n,a,i.injector);this.activated=i.createComponent(s,{index:i.length,injector:l,environmentInjector:r??this.environmentInjector}),this.changeDetector.markForCheck(),this.inputBinder?.bindActivatedRouteToOutletComponent(this),this.activateEvents.emit(this.activated.instance)}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275dir=de({type:e,selectors:[["router-outlet"]],inputs:{name:"name"},outputs:{activateEvents:"activate",deactivateEvents:"deactivate",attachEvents:"attach",detachEvents:"detach"},exportAs:["outlet"],standalone:!0,features:[Ft]})}}return e})(),wu=class e{__ngOutletInjector(t){return new e(this.route,this.childContexts,t)}constructor(t,n,r){this.route=t,this.childContexts=n,this.parent=r}get(t,n){return t===Cn?this.route:t===wi?this.childContexts:this.parent.get(t,n)}},Vs=new I(""),wg=(()=>{class e{constructor(){this.outletDataSubscriptions=new Map}bindActivatedRouteToOutletComponent(n){this.unsubscribeFromRouteData(n),this.subscribeToRouteData(n)}unsubscribeFromRouteData(n){this.outletDataSubscriptions.get(n)?.unsubscribe(),this.outletDataSubscriptions.delete(n)}subscribeToRouteData(n){let{activatedRoute:r}=n,i=yr([r.queryParams,r.params,r.data]).pipe(Me(([o,s,a],l)=>(a=D(D(D({},o),s),a),l===0?T(a):Promise.resolve(a)))).subscribe(o=>{if(!n.isActivated||!n.activatedComponentRef||n.activatedRoute!==r||r.component===null){this.unsubscribeFromRouteData(n);return}let s=mp(r.component);if(!s){this.unsubscribeFromRouteData(n);return}for(let{templateName:a}of s.inputs)n.activatedComponentRef.setInput(a,o[a])});this.outletDataSubscriptions.set(n,i)}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function SE(e,t,n){let r=mi(e,t._root,n?n._root:void 0);return new Os(r,t)}function mi(e,t,n){if(n&&e.shouldReuseRoute(t.value,n.value.snapshot)){let r=n.value;r._futureSnapshot=t.value;let i=TE(e,t,n);return new Pe(r,i)}else{if(e.shouldAttach(t.value)){let o=e.retrieve(t.value);if(o!==null){let s=o.route;return s.value._futureSnapshot=t.value,s.children=t.children.map(a=>mi(e,a)),s}}let r=AE(t.value),i=t.children.map(o=>mi(e,o));return new Pe(r,i)}}function TE(e,t,n){return t.children.map(r=>{for(let i of n.children)if(e.shouldReuseRoute(r.value,i.value.snapshot))return mi(e,r,i);return mi(e,r)})}function AE(e){return new Cn(new ae(e.url),new ae(e.params),new ae(e.queryParams),new ae(e.fragment),new ae(e.data),e.outlet,e.component,e)}var $g="ngNavigationCancelingError";function Hg(e,t){let{redirectTo:n,navigationBehaviorOptions:r}=fr(t)?{redirectTo:t,navigationBehaviorOptions:void 0}:t,i=zg(!1,Fe.Redirect);return i.url=n,i.navigationBehaviorOptions=r,i}function zg(e,t){let n=new Error(`NavigationCancelingError: ${e||""}`);return n[$g]=!0,n.cancellationCode=t,n}function NE(e){return Gg(e)&&fr(e.url)}function Gg(e){return!!e&&e[$g]}var RE=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275cmp=Pt({type:e,selectors:[["ng-component"]],standalone:!0,features:[jt],decls:1,vars:0,template:function(r,i){r&1&&F(0,"router-outlet")},dependencies:[xE],encapsulation:2})}}return e})();function OE(e,t){return e.providers&&!e._injector&&(e._injector=Hr(e.providers,t,`Route: ${e.path}`)),e._injector??t}function Au(e){let t=e.children&&e.children.map(Au),n=t?q(D({},e),{children:t}):D({},e);return!n.component&&!n.loadComponent&&(t||n.loadChildren)&&n.outlet&&n.outlet!==O&&(n.component=RE),n}function ct(e){return e.outlet||O}function PE(e,t){let n=e.filter(r=>ct(r)===t);return n.push(...e.filter(r=>ct(r)!==t)),n}function _i(e){if(!e)return null;if(e.routeConfig?._injector)return e.routeConfig._injector;for(let t=e.parent;t;t=t.parent){let n=t.routeConfig;if(n?._loadedInjector)return n._loadedInjector;if(n?._injector)return n._injector}return null}var FE=(e,t,n,r)=>N(i=>(new _u(t,i.targetRouterState,i.currentRouterState,n,r).activate(e),i)),_u=class{constructor(t,n,r,i,o){this.routeReuseStrategy=t,this.futureState=n,this.currState=r,this.forwardEvent=i,this.inputBindingEnabled=o}activate(t){let n=this.futureState._root,r=this.currState?this.currState._root:null;this.deactivateChildRoutes(n,r,t),eu(this.futureState.root),this.activateChildRoutes(n,r,t)}deactivateChildRoutes(t,n,r){let i=lr(n);t.children.forEach(o=>{let s=o.value.outlet;this.deactivateRoutes(o,i[s],r),delete i[s]}),Object.values(i).forEach(o=>{this.deactivateRouteAndItsChildren(o,r)})}deactivateRoutes(t,n,r){let i=t.value,o=n?n.value:null;if(i===o)if(i.component){let s=r.getContext(i.outlet);s&&this.deactivateChildRoutes(t,n,s.children)}else this.deactivateChildRoutes(t,n,r);else o&&this.deactivateRouteAndItsChildren(n,r)}deactivateRouteAndItsChildren(t,n){t.value.component&&this.routeReuseStrategy.shouldDetach(t.value.snapshot)?this.detachAndStoreRouteSubtree(t,n):this.deactivateRouteAndOutlet(t,n)}detachAndStoreRouteSubtree(t,n){let r=n.getContext(t.value.outlet),i=r&&t.value.component?r.children:n,o=lr(t);for(let s of Object.values(o))this.deactivateRouteAndItsChildren(s,i);if(r&&r.outlet){let s=r.outlet.detach(),a=r.children.onOutletDeactivated();this.routeReuseStrategy.store(t.value.snapshot,{componentRef:s,route:t,contexts:a})}}deactivateRouteAndOutlet(t,n){let r=n.getContext(t.value.outlet),i=r&&t.value.component?r.children:n,o=lr(t);for(let s of Object.values(o))this.deactivateRouteAndItsChildren(s,i);r&&(r.outlet&&(r.outlet.deactivate(),r.children.onOutletDeactivated()),r.attachRef=null,r.route=null)}activateChildRoutes(t,n,r){let i=lr(n);t.children.forEach(o=>{this.activateRoutes(o,i[o.value.outlet],r),this.forwardEvent(new mu(o.value.snapshot))}),t.children.length&&this.forwardEvent(new pu(t.value.snapshot))}activateRoutes(t,n,r){let i=t.value,o=n?n.value:null;if(eu(i),i===o)if(i.component){let s=r.getOrCreateContext(i.outlet);this.activateChildRoutes(t,n,s.children)}else this.activateChildRoutes(t,n,r);else if(i.component){let s=r.getOrCreateContext(i.outlet);if(this.routeReuseStrategy.shouldAttach(i.snapshot)){let a=this.routeReuseStrategy.retrieve(i.snapshot);this.routeReuseStrategy.store(i.snapshot,null),s.children.onOutletReAttached(a.contexts),s.attachRef=a.componentRef,s.route=a.route.value,s.outlet&&s.outlet.attach(a.componentRef,a.route.value),eu(a.route.value),this.activateChildRoutes(t,null,s.children)}else{let a=_i(i.snapshot);s.attachRef=null,s.route=i,s.injector=a,s.outlet&&s.outlet.activateWith(i,s.injector),this.activateChildRoutes(t,null,s.children)}}else this.activateChildRoutes(t,null,r)}},Fs=class{constructor(t){this.path=t,this.route=this.path[this.path.length-1]}},ur=class{constructor(t,n){this.component=t,this.route=n}};function kE(e,t,n){let r=e._root,i=t?t._root:null;return oi(r,i,n,[r.value])}function LE(e){let t=e.routeConfig?e.routeConfig.canActivateChild:null;return!t||t.length===0?null:{node:e,guards:t}}function gr(e,t){let n=Symbol(),r=t.get(e,n);return r===n?typeof e=="function"&&!lf(e)?e:t.get(e):r}function oi(e,t,n,r,i={canDeactivateChecks:[],canActivateChecks:[]}){let o=lr(t);return e.children.forEach(s=>{VE(s,o[s.value.outlet],n,r.concat([s.value]),i),delete o[s.value.outlet]}),Object.entries(o).forEach(([s,a])=>ci(a,n.getContext(s),i)),i}function VE(e,t,n,r,i={canDeactivateChecks:[],canActivateChecks:[]}){let o=e.value,s=t?t.value:null,a=n?n.getContext(e.value.outlet):null;if(s&&o.routeConfig===s.routeConfig){let l=jE(s,o,o.routeConfig.runGuardsAndResolvers);l?i.canActivateChecks.push(new Fs(r)):(o.data=s.data,o._resolvedData=s._resolvedData),o.component?oi(e,t,a?a.children:null,r,i):oi(e,t,n,r,i),l&&a&&a.outlet&&a.outlet.isActivated&&i.canDeactivateChecks.push(new ur(a.outlet.component,s))}else s&&ci(t,a,i),i.canActivateChecks.push(new Fs(r)),o.component?oi(e,null,a?a.children:null,r,i):oi(e,null,n,r,i);return i}function jE(e,t,n){if(typeof n=="function")return n(e,t);switch(n){case"pathParamsChange":return!Dn(e.url,t.url);case"pathParamsOrQueryParamsChange":return!Dn(e.url,t.url)||!lt(e.queryParams,t.queryParams);case"always":return!0;case"paramsOrQueryParamsChange":return!Cu(e,t)||!lt(e.queryParams,t.queryParams);case"paramsChange":default:return!Cu(e,t)}}function ci(e,t,n){let r=lr(e),i=e.value;Object.entries(r).forEach(([o,s])=>{i.component?t?ci(s,t.children.getContext(o),n):ci(s,null,n):ci(s,t,n)}),i.component?t&&t.outlet&&t.outlet.isActivated?n.canDeactivateChecks.push(new ur(t.outlet.component,i)):n.canDeactivateChecks.push(new ur(null,i)):n.canDeactivateChecks.push(new ur(null,i))}function Ei(e){return typeof e=="function"}function UE(e){return typeof e=="boolean"}function BE(e){return e&&Ei(e.canLoad)}function $E(e){return e&&Ei(e.canActivate)}function HE(e){return e&&Ei(e.canActivateChild)}function zE(e){return e&&Ei(e.canDeactivate)}function GE(e){return e&&Ei(e.canMatch)}function Wg(e){return e instanceof ut||e?.name==="EmptyError"}var Es=Symbol("INITIAL_VALUE");function pr(){return Me(e=>yr(e.map(t=>t.pipe(ft(1),aa(Es)))).pipe(N(t=>{for(let n of t)if(n!==!0){if(n===Es)return Es;if(n===!1||n instanceof Ut)return n}return!0}),Ie(t=>t!==Es),ft(1)))}function WE(e,t){return ee(n=>{let{targetSnapshot:r,currentSnapshot:i,guards:{canActivateChecks:o,canDeactivateChecks:s}}=n;return s.length===0&&o.length===0?T(q(D({},n),{guardsResult:!0})):qE(s,r,i,e).pipe(ee(a=>a&&UE(a)?ZE(r,o,e,t):T(a)),N(a=>q(D({},n),{guardsResult:a})))})}function qE(e,t,n,r){return Z(e).pipe(ee(i=>XE(i.component,i.route,n,t,r)),Ke(i=>i!==!0,!0))}function ZE(e,t,n,r){return Z(t).pipe(dt(i=>Nn(QE(i.route.parent,r),YE(i.route,r),JE(e,i.path,n),KE(e,i.route,n))),Ke(i=>i!==!0,!0))}function YE(e,t){return e!==null&&t&&t(new gu(e)),T(!0)}function QE(e,t){return e!==null&&t&&t(new hu(e)),T(!0)}function KE(e,t,n){let r=t.routeConfig?t.routeConfig.canActivate:null;if(!r||r.length===0)return T(!0);let i=r.map(o=>Yi(()=>{let s=_i(t)??n,a=gr(o,s),l=$E(a)?a.canActivate(t,e):Ge(s,()=>a(t,e));return zt(l).pipe(Ke())}));return T(i).pipe(pr())}function JE(e,t,n){let r=t[t.length-1],o=t.slice(0,t.length-1).reverse().map(s=>LE(s)).filter(s=>s!==null).map(s=>Yi(()=>{let a=s.guards.map(l=>{let c=_i(s.node)??n,u=gr(l,c),d=HE(u)?u.canActivateChild(r,e):Ge(c,()=>u(r,e));return zt(d).pipe(Ke())});return T(a).pipe(pr())}));return T(o).pipe(pr())}function XE(e,t,n,r,i){let o=t&&t.routeConfig?t.routeConfig.canDeactivate:null;if(!o||o.length===0)return T(!0);let s=o.map(a=>{let l=_i(t)??i,c=gr(a,l),u=zE(c)?c.canDeactivate(e,t,n,r):Ge(l,()=>c(e,t,n,r));return zt(u).pipe(Ke())});return T(s).pipe(pr())}function eb(e,t,n,r){let i=t.canLoad;if(i===void 0||i.length===0)return T(!0);let o=i.map(s=>{let a=gr(s,e),l=BE(a)?a.canLoad(t,n):Ge(e,()=>a(t,n));return zt(l)});return T(o).pipe(pr(),qg(r))}function qg(e){return Js(re(t=>{if(fr(t))throw Hg(e,t)}),N(t=>t===!0))}function tb(e,t,n,r){let i=t.canMatch;if(!i||i.length===0)return T(!0);let o=i.map(s=>{let a=gr(s,e),l=GE(a)?a.canMatch(t,n):Ge(e,()=>a(t,n));return zt(l)});return T(o).pipe(pr(),qg(r))}var vi=class{constructor(t){this.segmentGroup=t||null}},ks=class extends Error{constructor(t){super(),this.urlTree=t}};function ar(e){return Tn(new vi(e))}function nb(e){return Tn(new b(4e3,!1))}function rb(e){return Tn(zg(!1,Fe.GuardRejected))}var Eu=class{constructor(t,n){this.urlSerializer=t,this.urlTree=n}lineralizeSegments(t,n){let r=[],i=n.root;for(;;){if(r=r.concat(i.segments),i.numberOfChildren===0)return T(r);if(i.numberOfChildren>1||!i.children[O])return nb(t.redirectTo);i=i.children[O]}}applyRedirectCommands(t,n,r){let i=this.applyRedirectCreateUrlTree(n,this.urlSerializer.parse(n),t,r);if(n.startsWith("/"))throw new ks(i);return i}applyRedirectCreateUrlTree(t,n,r,i){let o=this.createSegmentGroup(t,n.root,r,i);return new Ut(o,this.createQueryParams(n.queryParams,this.urlTree.queryParams),n.fragment)}createQueryParams(t,n){let r={};return Object.entries(t).forEach(([i,o])=>{if(typeof o=="string"&&o.startsWith(":")){let a=o.substring(1);r[i]=n[a]}else r[i]=o}),r}createSegmentGroup(t,n,r,i){let o=this.createSegments(t,n.segments,r,i),s={};return Object.entries(n.children).forEach(([a,l])=>{s[a]=this.createSegmentGroup(t,l,r,i)}),new z(o,s)}createSegments(t,n,r,i){return n.map(o=>o.path.startsWith(":")?this.findPosParam(t,o,i):this.findOrReturn(o,r))}findPosParam(t,n,r){let i=r[n.path.substring(1)];if(!i)throw new b(4001,!1);return i}findOrReturn(t,n){let r=0;for(let i of n){if(i.path===t.path)return n.splice(r),i;r++}return t}},bu={matched:!1,consumedSegments:[],remainingSegments:[],parameters:{},positionalParamSegments:{}};function ib(e,t,n,r,i){let o=Nu(e,t,n);return o.matched?(r=OE(t,r),tb(r,t,n,i).pipe(N(s=>s===!0?o:D({},bu)))):T(o)}function Nu(e,t,n){if(t.path==="**")return ob(n);if(t.path==="")return t.pathMatch==="full"&&(e.hasChildren()||n.length>0)?D({},bu):{matched:!0,consumedSegments:[],remainingSegments:n,parameters:{},positionalParamSegments:{}};let i=(t.matcher||eE)(n,e,t);if(!i)return D({},bu);let o={};Object.entries(i.posParams??{}).forEach(([a,l])=>{o[a]=l.path});let s=i.consumed.length>0?D(D({},o),i.consumed[i.consumed.length-1].parameters):o;return{matched:!0,consumedSegments:i.consumed,remainingSegments:n.slice(i.consumed.length),parameters:s,positionalParamSegments:i.posParams??{}}}function ob(e){return{matched:!0,parameters:e.length>0?Mg(e).parameters:{},consumedSegments:e,remainingSegments:[],positionalParamSegments:{}}}function _g(e,t,n,r){return n.length>0&&lb(e,n,r)?{segmentGroup:new z(t,ab(r,new z(n,e.children))),slicedSegments:[]}:n.length===0&&cb(e,n,r)?{segmentGroup:new z(e.segments,sb(e,n,r,e.children)),slicedSegments:n}:{segmentGroup:new z(e.segments,e.children),slicedSegments:n}}function sb(e,t,n,r){let i={};for(let o of n)if(js(e,t,o)&&!r[ct(o)]){let s=new z([],{});i[ct(o)]=s}return D(D({},r),i)}function ab(e,t){let n={};n[O]=t;for(let r of e)if(r.path===""&&ct(r)!==O){let i=new z([],{});n[ct(r)]=i}return n}function lb(e,t,n){return n.some(r=>js(e,t,r)&&ct(r)!==O)}function cb(e,t,n){return n.some(r=>js(e,t,r))}function js(e,t,n){return(e.hasChildren()||t.length>0)&&n.pathMatch==="full"?!1:n.path===""}function ub(e,t,n,r){return ct(e)!==r&&(r===O||!js(t,n,e))?!1:Nu(t,e,n).matched}function db(e,t,n){return t.length===0&&!e.children[n]}var Iu=class{};function fb(e,t,n,r,i,o,s="emptyOnly"){return new Mu(e,t,n,r,i,s,o).recognize()}var hb=31,Mu=class{constructor(t,n,r,i,o,s,a){this.injector=t,this.configLoader=n,this.rootComponentType=r,this.config=i,this.urlTree=o,this.paramsInheritanceStrategy=s,this.urlSerializer=a,this.applyRedirects=new Eu(this.urlSerializer,this.urlTree),this.absoluteRedirectCount=0,this.allowRedirects=!0}noMatchError(t){return new b(4002,`'${t.segmentGroup}'`)}recognize(){let t=_g(this.urlTree.root,[],[],this.config).segmentGroup;return this.match(t).pipe(N(n=>{let r=new gi([],Object.freeze({}),Object.freeze(D({},this.urlTree.queryParams)),this.urlTree.fragment,{},O,this.rootComponentType,null,{}),i=new Pe(r,n),o=new Ps("",i),s=DE(r,[],this.urlTree.queryParams,this.urlTree.fragment);return s.queryParams=this.urlTree.queryParams,o.url=this.urlSerializer.serialize(s),this.inheritParamsAndData(o._root,null),{state:o,tree:s}}))}match(t){return this.processSegmentGroup(this.injector,this.config,t,O).pipe(xt(r=>{if(r instanceof ks)return this.urlTree=r.urlTree,this.match(r.urlTree.root);throw r instanceof vi?this.noMatchError(r):r}))}inheritParamsAndData(t,n){let r=t.value,i=Su(r,n,this.paramsInheritanceStrategy);r.params=Object.freeze(i.params),r.data=Object.freeze(i.data),t.children.forEach(o=>this.inheritParamsAndData(o,r))}processSegmentGroup(t,n,r,i){return r.segments.length===0&&r.hasChildren()?this.processChildren(t,n,r):this.processSegment(t,n,r,r.segments,i,!0).pipe(N(o=>o instanceof Pe?[o]:[]))}processChildren(t,n,r){let i=[];for(let o of Object.keys(r.children))o==="primary"?i.unshift(o):i.push(o);return Z(i).pipe(dt(o=>{let s=r.children[o],a=PE(n,o);return this.processSegmentGroup(t,a,s,o)}),sa((o,s)=>(o.push(...s),o)),St(null),oa(),ee(o=>{if(o===null)return ar(r);let s=Zg(o);return pb(s),T(s)}))}processSegment(t,n,r,i,o,s){return Z(n).pipe(dt(a=>this.processSegmentAgainstRoute(a._injector??t,n,a,r,i,o,s).pipe(xt(l=>{if(l instanceof vi)return T(null);throw l}))),Ke(a=>!!a),xt(a=>{if(Wg(a))return db(r,i,o)?T(new Iu):ar(r);throw a}))}processSegmentAgainstRoute(t,n,r,i,o,s,a){return ub(r,i,o,s)?r.redirectTo===void 0?this.matchSegmentAgainstRoute(t,i,r,o,s):this.allowRedirects&&a?this.expandSegmentAgainstRouteUsingRedirect(t,i,n,r,o,s):ar(i):ar(i)}expandSegmentAgainstRouteUsingRedirect(t,n,r,i,o,s){let{matched:a,consumedSegments:l,positionalParamSegments:c,remainingSegments:u}=Nu(n,i,o);if(!a)return ar(n);i.redirectTo.startsWith("/")&&(this.absoluteRedirectCount++,this.absoluteRedirectCount>hb&&(this.allowRedirects=!1));let d=this.applyRedirects.applyRedirectCommands(l,i.redirectTo,c);return this.applyRedirects.lineralizeSegments(i,d).pipe(ee(f=>this.processSegment(t,r,n,f.concat(u),s,!1)))}matchSegmentAgainstRoute(t,n,r,i,o){let s=ib(n,r,i,t,this.urlSerializer);return r.path==="**"&&(n.children={}),s.pipe(Me(a=>a.matched?(t=r._injector??t,this.getChildConfig(t,r,i).pipe(Me(({routes:l})=>{let c=r._loadedInjector??t,{consumedSegments:u,remainingSegments:d,parameters:f}=a,h=new gi(u,f,Object.freeze(D({},this.urlTree.queryParams)),this.urlTree.fragment,mb(r),ct(r),r.component??r._loadedComponent??null,r,vb(r)),{segmentGroup:m,slicedSegments:v}=_g(n,u,d,l);if(v.length===0&&m.hasChildren())return this.processChildren(c,l,m).pipe(N(x=>x===null?null:new Pe(h,x)));if(l.length===0&&v.length===0)return T(new Pe(h,[]));let C=ct(r)===o;return this.processSegment(c,l,m,v,C?O:o,!0).pipe(N(x=>new Pe(h,x instanceof Pe?[x]:[])))}))):ar(n)))}getChildConfig(t,n,r){return n.children?T({routes:n.children,injector:t}):n.loadChildren?n._loadedRoutes!==void 0?T({routes:n._loadedRoutes,injector:n._loadedInjector}):eb(t,n,r,this.urlSerializer).pipe(ee(i=>i?this.configLoader.loadChildren(t,n).pipe(re(o=>{n._loadedRoutes=o.routes,n._loadedInjector=o.injector})):rb(n))):T({routes:[],injector:t})}};function pb(e){e.sort((t,n)=>t.value.outlet===O?-1:n.value.outlet===O?1:t.value.outlet.localeCompare(n.value.outlet))}function gb(e){let t=e.value.routeConfig;return t&&t.path===""}function Zg(e){let t=[],n=new Set;for(let r of e){if(!gb(r)){t.push(r);continue}let i=t.find(o=>r.value.routeConfig===o.value.routeConfig);i!==void 0?(i.children.push(...r.children),n.add(i)):t.push(r)}for(let r of n){let i=Zg(r.children);t.push(new Pe(r.value,i))}return t.filter(r=>!n.has(r))}function mb(e){return e.data||{}}function vb(e){return e.resolve||{}}function yb(e,t,n,r,i,o){return ee(s=>fb(e,t,n,r,s.extractedUrl,i,o).pipe(N(({state:a,tree:l})=>q(D({},s),{targetSnapshot:a,urlAfterRedirects:l}))))}function Db(e,t){return ee(n=>{let{targetSnapshot:r,guards:{canActivateChecks:i}}=n;if(!i.length)return T(n);let o=new Set(i.map(l=>l.route)),s=new Set;for(let l of o)if(!s.has(l))for(let c of Yg(l))s.add(c);let a=0;return Z(s).pipe(dt(l=>o.has(l)?Cb(l,r,e,t):(l.data=Su(l,l.parent,e).resolve,T(void 0))),re(()=>a++),Rn(1),ee(l=>a===s.size?T(n):Re))})}function Yg(e){let t=e.children.map(n=>Yg(n)).flat();return[e,...t]}function Cb(e,t,n,r){let i=e.routeConfig,o=e._resolve;return i?.title!==void 0&&!Bg(i)&&(o[Di]=i.title),wb(o,e,t,r).pipe(N(s=>(e._resolvedData=s,e.data=Su(e,e.parent,n).resolve,null)))}function wb(e,t,n,r){let i=ru(e);if(i.length===0)return T({});let o={};return Z(i).pipe(ee(s=>_b(e[s],t,n,r).pipe(Ke(),re(a=>{o[s]=a}))),Rn(1),ia(o),xt(s=>Wg(s)?Re:Tn(s)))}function _b(e,t,n,r){let i=_i(t)??r,o=gr(e,i),s=o.resolve?o.resolve(t,n):Ge(i,()=>o(t,n));return zt(s)}function tu(e){return Me(t=>{let n=e(t);return n?Z(n).pipe(N(()=>t)):T(t)})}var Qg=(()=>{class e{buildTitle(n){let r,i=n.root;for(;i!==void 0;)r=this.getResolvedTitleForRoute(i)??r,i=i.children.find(o=>o.outlet===O);return r}getResolvedTitleForRoute(n){return n.data[Di]}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Eb),providedIn:"root"})}}return e})(),Eb=(()=>{class e extends Qg{constructor(n){super(),this.title=n}updateTitle(n){let r=this.buildTitle(n);r!==void 0&&this.title.setTitle(r)}static{this.\u0275fac=function(r){return new(r||e)(M(mg))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),bi=new I("",{providedIn:"root",factory:()=>({})}),yi=new I(""),Ru=(()=>{class e{constructor(){this.componentLoaders=new WeakMap,this.childrenLoaders=new WeakMap,this.compiler=y(ts)}loadComponent(n){if(this.componentLoaders.get(n))return this.componentLoaders.get(n);if(n._loadedComponent)return T(n._loadedComponent);this.onLoadStartListener&&this.onLoadStartListener(n);let r=zt(n.loadComponent()).pipe(N(Kg),re(o=>{this.onLoadEndListener&&this.onLoadEndListener(n),n._loadedComponent=o}),Zt(()=>{this.componentLoaders.delete(n)})),i=new Sn(r,()=>new ye).pipe(xn());return this.componentLoaders.set(n,i),i}loadChildren(n,r){if(this.childrenLoaders.get(r))return this.childrenLoaders.get(r);if(r._loadedRoutes)return T({routes:r._loadedRoutes,injector:r._loadedInjector});this.onLoadStartListener&&this.onLoadStartListener(r);let o=bb(r,this.compiler,n,this.onLoadEndListener).pipe(Zt(()=>{this.childrenLoaders.delete(r)})),s=new Sn(o,()=>new ye).pipe(xn());return this.childrenLoaders.set(r,s),s}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function bb(e,t,n,r){return zt(e.loadChildren()).pipe(N(Kg),ee(i=>i instanceof Nr||Array.isArray(i)?T(i):Z(t.compileModuleAsync(i))),N(i=>{r&&r(e);let o,s,a=!1;return Array.isArray(i)?(s=i,a=!0):(o=i.create(n).injector,s=o.get(yi,[],{optional:!0,self:!0}).flat()),{routes:s.map(Au),injector:o}}))}function Ib(e){return e&&typeof e=="object"&&"default"in e}function Kg(e){return Ib(e)?e.default:e}var Ou=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Mb),providedIn:"root"})}}return e})(),Mb=(()=>{class e{shouldProcessUrl(n){return!0}extract(n){return n}merge(n,r){return n}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),Jg=new I(""),Xg=new I("");function xb(e,t,n){let r=e.get(Xg),i=e.get(ve);return e.get(Y).runOutsideAngular(()=>{if(!i.startViewTransition||r.skipNextTransition)return r.skipNextTransition=!1,new Promise(c=>setTimeout(c));let o,s=new Promise(c=>{o=c}),a=i.startViewTransition(()=>(o(),Sb(e))),{onViewTransitionCreated:l}=r;return l&&Ge(e,()=>l({transition:a,from:t,to:n})),s})}function Sb(e){return new Promise(t=>{Yo(t,{injector:e})})}var Pu=(()=>{class e{get hasRequestedNavigation(){return this.navigationId!==0}constructor(){this.currentNavigation=null,this.currentTransition=null,this.lastSuccessfulNavigation=null,this.events=new ye,this.transitionAbortSubject=new ye,this.configLoader=y(Ru),this.environmentInjector=y(ue),this.urlSerializer=y(Ci),this.rootContexts=y(wi),this.location=y(ir),this.inputBindingEnabled=y(Vs,{optional:!0})!==null,this.titleStrategy=y(Qg),this.options=y(bi,{optional:!0})||{},this.paramsInheritanceStrategy=this.options.paramsInheritanceStrategy||"emptyOnly",this.urlHandlingStrategy=y(Ou),this.createViewTransition=y(Jg,{optional:!0}),this.navigationId=0,this.afterPreactivation=()=>T(void 0),this.rootComponentType=null;let n=i=>this.events.next(new du(i)),r=i=>this.events.next(new fu(i));this.configLoader.onLoadEndListener=r,this.configLoader.onLoadStartListener=n}complete(){this.transitions?.complete()}handleNavigationRequest(n){let r=++this.navigationId;this.transitions?.next(q(D(D({},this.transitions.value),n),{id:r}))}setupNavigations(n,r,i){return this.transitions=new ae({id:0,currentUrlTree:r,currentRawUrl:r,extractedUrl:this.urlHandlingStrategy.extract(r),urlAfterRedirects:this.urlHandlingStrategy.extract(r),rawUrl:r,extras:{},resolve:null,reject:null,promise:Promise.resolve(!0),source:li,restoredState:null,currentSnapshot:i.snapshot,targetSnapshot:null,currentRouterState:i,targetRouterState:null,guards:{canActivateChecks:[],canDeactivateChecks:[]},guardsResult:null}),this.transitions.pipe(Ie(o=>o.id!==0),N(o=>q(D({},o),{extractedUrl:this.urlHandlingStrategy.extract(o.rawUrl)})),Me(o=>{let s=!1,a=!1;return T(o).pipe(Me(l=>{if(this.navigationId>o.id)return this.cancelNavigationTransition(o,"",Fe.SupersededByNewNavigation),Re;this.currentTransition=o,this.currentNavigation={id:l.id,initialUrl:l.rawUrl,extractedUrl:l.extractedUrl,trigger:l.source,extras:l.extras,previousNavigation:this.lastSuccessfulNavigation?q(D({},this.lastSuccessfulNavigation),{previousNavigation:null}):null};let c=!n.navigated||this.isUpdatingInternalState()||this.isUpdatedBrowserUrl(),u=l.extras.onSameUrlNavigation??n.onSameUrlNavigation;if(!c&&u!=="reload"){let d="";return this.events.next(new $t(l.id,this.urlSerializer.serialize(l.rawUrl),d,Ts.IgnoredSameUrlNavigation)),l.resolve(null),Re}if(this.urlHandlingStrategy.shouldProcessUrl(l.rawUrl))return T(l).pipe(Me(d=>{let f=this.transitions?.getValue();return this.events.next(new hr(d.id,this.urlSerializer.serialize(d.extractedUrl),d.source,d.restoredState)),f!==this.transitions?.getValue()?Re:Promise.resolve(d)}),yb(this.environmentInjector,this.configLoader,this.rootComponentType,n.config,this.urlSerializer,this.paramsInheritanceStrategy),re(d=>{o.targetSnapshot=d.targetSnapshot,o.urlAfterRedirects=d.urlAfterRedirects,this.currentNavigation=q(D({},this.currentNavigation),{finalUrl:d.urlAfterRedirects});let f=new As(d.id,this.urlSerializer.serialize(d.extractedUrl),this.urlSerializer.serialize(d.urlAfterRedirects),d.targetSnapshot);this.events.next(f)}));if(c&&this.urlHandlingStrategy.shouldProcessUrl(l.currentRawUrl)){let{id:d,extractedUrl:f,source:h,restoredState:m,extras:v}=l,C=new hr(d,this.urlSerializer.serialize(f),h,m);this.events.next(C);let x=jg(this.rootComponentType).snapshot;return this.currentTransition=o=q(D({},l),{targetSnapshot:x,urlAfterRedirects:f,extras:q(D({},v),{skipLocationChange:!1,replaceUrl:!1})}),this.currentNavigation.finalUrl=f,T(o)}else{let d="";return this.events.next(new $t(l.id,this.urlSerializer.serialize(l.extractedUrl),d,Ts.IgnoredByUrlHandlingStrategy)),l.resolve(null),Re}}),re(l=>{let c=new au(l.id,this.urlSerializer.serialize(l.extractedUrl),this.urlSerializer.serialize(l.urlAfterRedirects),l.targetSnapshot);this.events.next(c)}),N(l=>(this.currentTransition=o=q(D({},l),{guards:kE(l.targetSnapshot,l.currentSnapshot,this.rootContexts)}),o)),WE(this.environmentInjector,l=>this.events.next(l)),re(l=>{if(o.guardsResult=l.guardsResult,fr(l.guardsResult))throw Hg(this.urlSerializer,l.guardsResult);let c=new lu(l.id,this.urlSerializer.serialize(l.extractedUrl),this.urlSerializer.serialize(l.urlAfterRedirects),l.targetSnapshot,!!l.guardsResult);this.events.next(c)}),Ie(l=>l.guardsResult?!0:(this.cancelNavigationTransition(l,"",Fe.GuardRejected),!1)),tu(l=>{if(l.guards.canActivateChecks.length)return T(l).pipe(re(c=>{let u=new cu(c.id,this.urlSerializer.serialize(c.extractedUrl),this.urlSerializer.serialize(c.urlAfterRedirects),c.targetSnapshot);this.events.next(u)}),Me(c=>{let u=!1;return T(c).pipe(Db(this.paramsInheritanceStrategy,this.environmentInjector),re({next:()=>u=!0,complete:()=>{u||this.cancelNavigationTransition(c,"",Fe.NoDataFromResolver)}}))}),re(c=>{let u=new uu(c.id,this.urlSerializer.serialize(c.extractedUrl),this.urlSerializer.serialize(c.urlAfterRedirects),c.targetSnapshot);this.events.next(u)}))}),tu(l=>{let c=u=>{let d=[];u.routeConfig?.loadComponent&&!u.routeConfig._loadedComponent&&d.push(this.configLoader.loadComponent(u.routeConfig).pipe(re(f=>{u.component=f}),N(()=>{})));for(let f of u.children)d.push(...c(f));return d};return yr(c(l.targetSnapshot.root)).pipe(St(null),ft(1))}),tu(()=>this.afterPreactivation()),Me(()=>{let{currentSnapshot:l,targetSnapshot:c}=o,u=this.createViewTransition?.(this.environmentInjector,l.root,c.root);return u?Z(u).pipe(N(()=>o)):T(o)}),N(l=>{let c=SE(n.routeReuseStrategy,l.targetSnapshot,l.currentRouterState);return this.currentTransition=o=q(D({},l),{targetRouterState:c}),this.currentNavigation.targetRouterState=c,o}),re(()=>{this.events.next(new hi)}),FE(this.rootContexts,n.routeReuseStrategy,l=>this.events.next(l),this.inputBindingEnabled),ft(1),re({next:l=>{s=!0,this.lastSuccessfulNavigation=this.currentNavigation,this.events.next(new bt(l.id,this.urlSerializer.serialize(l.extractedUrl),this.urlSerializer.serialize(l.urlAfterRedirects))),this.titleStrategy?.updateTitle(l.targetRouterState.snapshot),l.resolve(!0)},complete:()=>{s=!0}}),la(this.transitionAbortSubject.pipe(re(l=>{throw l}))),Zt(()=>{!s&&!a&&this.cancelNavigationTransition(o,"",Fe.SupersededByNewNavigation),this.currentTransition?.id===o.id&&(this.currentNavigation=null,this.currentTransition=null)}),xt(l=>{if(a=!0,Gg(l))this.events.next(new Bt(o.id,this.urlSerializer.serialize(o.extractedUrl),l.message,l.cancellationCode)),NE(l)?this.events.next(new pi(l.url)):o.resolve(!1);else{this.events.next(new fi(o.id,this.urlSerializer.serialize(o.extractedUrl),l,o.targetSnapshot??void 0));try{o.resolve(n.errorHandler(l))}catch(c){this.options.resolveNavigationPromiseOnError?o.resolve(!1):o.reject(c)}}return Re}))}))}cancelNavigationTransition(n,r,i){let o=new Bt(n.id,this.urlSerializer.serialize(n.extractedUrl),r,i);this.events.next(o),n.resolve(!1)}isUpdatingInternalState(){return this.currentTransition?.extractedUrl.toString()!==this.currentTransition?.currentUrlTree.toString()}isUpdatedBrowserUrl(){return this.urlHandlingStrategy.extract(this.urlSerializer.parse(this.location.path(!0))).toString()!==this.currentTransition?.extractedUrl.toString()&&!this.currentTransition?.extras.skipLocationChange}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function Tb(e){return e!==li}var Ab=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Nb),providedIn:"root"})}}return e})(),xu=class{shouldDetach(t){return!1}store(t,n){}shouldAttach(t){return!1}retrieve(t){return null}shouldReuseRoute(t,n){return t.routeConfig===n.routeConfig}},Nb=(()=>{class e extends xu{static{this.\u0275fac=(()=>{let n;return function(i){return(n||(n=un(e)))(i||e)}})()}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),em=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Rb),providedIn:"root"})}}return e})(),Rb=(()=>{class e extends em{constructor(){super(...arguments),this.location=y(ir),this.urlSerializer=y(Ci),this.options=y(bi,{optional:!0})||{},this.canceledNavigationResolution=this.options.canceledNavigationResolution||"replace",this.urlHandlingStrategy=y(Ou),this.urlUpdateStrategy=this.options.urlUpdateStrategy||"deferred",this.currentUrlTree=new Ut,this.rawUrlTree=this.currentUrlTree,this.currentPageId=0,this.lastSuccessfulId=-1,this.routerState=jg(null),this.stateMemento=this.createStateMemento()}getCurrentUrlTree(){return this.currentUrlTree}getRawUrlTree(){return this.rawUrlTree}restoredState(){return this.location.getState()}get browserPageId(){return this.canceledNavigationResolution!=="computed"?this.currentPageId:this.restoredState()?.\u0275routerPageId??this.currentPageId}getRouterState(){return this.routerState}createStateMemento(){return{rawUrlTree:this.rawUrlTree,currentUrlTree:this.currentUrlTree,routerState:this.routerState}}registerNonRouterCurrentEntryChangeListener(n){return this.location.subscribe(r=>{r.type==="popstate"&&n(r.url,r.state)})}handleRouterEvent(n,r){if(n instanceof hr)this.stateMemento=this.createStateMemento();else if(n instanceof $t)this.rawUrlTree=r.initialUrl;else if(n instanceof As){if(this.urlUpdateStrategy==="eager"&&!r.extras.skipLocationChange){let i=this.urlHandlingStrategy.merge(r.finalUrl,r.initialUrl);this.setBrowserUrl(i,r)}}else n instanceof hi?(this.currentUrlTree=r.finalUrl,this.rawUrlTree=this.urlHandlingStrategy.merge(r.finalUrl,r.initialUrl),this.routerState=r.targetRouterState,this.urlUpdateStrategy==="deferred"&&(r.extras.skipLocationChange||this.setBrowserUrl(this.rawUrlTree,r))):n instanceof Bt&&(n.code===Fe.GuardRejected||n.code===Fe.NoDataFromResolver)?this.restoreHistory(r):n instanceof fi?this.restoreHistory(r,!0):n instanceof bt&&(this.lastSuccessfulId=n.id,this.currentPageId=this.browserPageId)}setBrowserUrl(n,r){let i=this.urlSerializer.serialize(n);if(this.location.isCurrentPathEqualTo(i)||r.extras.replaceUrl){let o=this.browserPageId,s=D(D({},r.extras.state),this.generateNgRouterState(r.id,o));this.location.replaceState(i,"",s)}else{let o=D(D({},r.extras.state),this.generateNgRouterState(r.id,this.browserPageId+1));this.location.go(i,"",o)}}restoreHistory(n,r=!1){if(this.canceledNavigationResolution==="computed"){let i=this.browserPageId,o=this.currentPageId-i;o!==0?this.location.historyGo(o):this.currentUrlTree===n.finalUrl&&o===0&&(this.resetState(n),this.resetUrlToCurrentUrlTree())}else this.canceledNavigationResolution==="replace"&&(r&&this.resetState(n),this.resetUrlToCurrentUrlTree())}resetState(n){this.routerState=this.stateMemento.routerState,this.currentUrlTree=this.stateMemento.currentUrlTree,this.rawUrlTree=this.urlHandlingStrategy.merge(this.currentUrlTree,n.finalUrl??this.rawUrlTree)}resetUrlToCurrentUrlTree(){this.location.replaceState(this.urlSerializer.serialize(this.rawUrlTree),"",this.generateNgRouterState(this.lastSuccessfulId,this.currentPageId))}generateNgRouterState(n,r){return this.canceledNavigationResolution==="computed"?{navigationId:n,\u0275routerPageId:r}:{navigationId:n}}static{this.\u0275fac=(()=>{let n;return function(i){return(n||(n=un(e)))(i||e)}})()}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),si=function(e){return e[e.COMPLETE=0]="COMPLETE",e[e.FAILED=1]="FAILED",e[e.REDIRECTING=2]="REDIRECTING",e}(si||{});function tm(e,t){e.events.pipe(Ie(n=>n instanceof bt||n instanceof Bt||n instanceof fi||n instanceof $t),N(n=>n instanceof bt||n instanceof $t?si.COMPLETE:(n instanceof Bt?n.code===Fe.Redirect||n.code===Fe.SupersededByNewNavigation:!1)?si.REDIRECTING:si.FAILED),Ie(n=>n!==si.REDIRECTING),ft(1)).subscribe(()=>{t()})}function Ob(e){throw e}var Pb={paths:"exact",fragment:"ignored",matrixParams:"ignored",queryParams:"exact"},Fb={paths:"subset",fragment:"ignored",matrixParams:"ignored",queryParams:"subset"},Ht=(()=>{class e{get currentUrlTree(){return this.stateManager.getCurrentUrlTree()}get rawUrlTree(){return this.stateManager.getRawUrlTree()}get events(){return this._events}get routerState(){return this.stateManager.getRouterState()}constructor(){this.disposed=!1,this.isNgZoneEnabled=!1,this.console=y(Xo),this.stateManager=y(em),this.options=y(bi,{optional:!0})||{},this.pendingTasks=y(hn),this.urlUpdateStrategy=this.options.urlUpdateStrategy||"deferred",this.navigationTransitions=y(Pu),this.urlSerializer=y(Ci),this.location=y(ir),this.urlHandlingStrategy=y(Ou),this._events=new ye,this.errorHandler=this.options.errorHandler||Ob,this.navigated=!1,this.routeReuseStrategy=y(Ab),this.onSameUrlNavigation=this.options.onSameUrlNavigation||"ignore",this.config=y(yi,{optional:!0})?.flat()??[],this.componentInputBindingEnabled=!!y(Vs,{optional:!0}),this.eventsSubscription=new te,this.isNgZoneEnabled=y(Y)instanceof Y&&Y.isInAngularZone(),this.resetConfig(this.config),this.navigationTransitions.setupNavigations(this,this.currentUrlTree,this.routerState).subscribe({error:n=>{this.console.warn(n)}}),this.subscribeToNavigationEvents()}subscribeToNavigationEvents(){let n=this.navigationTransitions.events.subscribe(r=>{try{let i=this.navigationTransitions.currentTransition,o=this.navigationTransitions.currentNavigation;if(i!==null&&o!==null){if(this.stateManager.handleRouterEvent(r,o),r instanceof Bt&&r.code!==Fe.Redirect&&r.code!==Fe.SupersededByNewNavigation)this.navigated=!0;else if(r instanceof bt)this.navigated=!0;else if(r instanceof pi){let s=this.urlHandlingStrategy.merge(r.url,i.currentRawUrl),a={info:i.extras.info,skipLocationChange:i.extras.skipLocationChange,replaceUrl:this.urlUpdateStrategy==="eager"||Tb(i.source)};this.scheduleNavigation(s,li,null,a,{resolve:i.resolve,reject:i.reject,promise:i.promise})}}Lb(r)&&this._events.next(r)}catch(i){this.navigationTransitions.transitionAbortSubject.next(i)}});this.eventsSubscription.add(n)}resetRootComponentType(n){this.routerState.root.component=n,this.navigationTransitions.rootComponentType=n}initialNavigation(){this.setUpLocationChangeListener(),this.navigationTransitions.hasRequestedNavigation||this.navigateToSyncWithBrowser(this.location.path(!0),li,this.stateManager.restoredState())}setUpLocationChangeListener(){this.nonRouterCurrentEntryChangeSubscription??=this.stateManager.registerNonRouterCurrentEntryChangeListener((n,r)=>{setTimeout(()=>{this.navigateToSyncWithBrowser(n,"popstate",r)},0)})}navigateToSyncWithBrowser(n,r,i){let o={replaceUrl:!0},s=i?.navigationId?i:null;if(i){let l=D({},i);delete l.navigationId,delete l.\u0275routerPageId,Object.keys(l).length!==0&&(o.state=l)}let a=this.parseUrl(n);this.scheduleNavigation(a,r,s,o)}get url(){return this.serializeUrl(this.currentUrlTree)}getCurrentNavigation(){return this.navigationTransitions.currentNavigation}get lastSuccessfulNavigation(){return this.navigationTransitions.lastSuccessfulNavigation}resetConfig(n){this.config=n.map(Au),this.navigated=!1}ngOnDestroy(){this.dispose()}dispose(){this.navigationTransitions.complete(),this.nonRouterCurrentEntryChangeSubscription&&(this.nonRouterCurrentEntryChangeSubscription.unsubscribe(),this.nonRouterCurrentEntryChangeSubscription=void 0),this.disposed=!0,this.eventsSubscription.unsubscribe()}createUrlTree(n,r={}){let{relativeTo:i,queryParams:o,fragment:s,queryParamsHandling:a,preserveFragment:l}=r,c=l?this.currentUrlTree.fragment:s,u=null;switch(a){case"merge":u=D(D({},this.currentUrlTree.queryParams),o);break;case"preserve":u=this.currentUrlTree.queryParams;break;default:u=o||null}u!==null&&(u=this.removeEmptyProps(u));let d;try{let f=i?i.snapshot:this.routerState.snapshot.root;d=Fg(f)}catch{(typeof n[0]!="string"||!n[0].startsWith("/"))&&(n=[]),d=this.currentUrlTree.root}return kg(d,n,u,c??null)}navigateByUrl(n,r={skipLocationChange:!1}){let i=fr(n)?n:this.parseUrl(n),o=this.urlHandlingStrategy.merge(i,this.rawUrlTree);return this.scheduleNavigation(o,li,null,r)}navigate(n,r={skipLocationChange:!1}){return kb(n),this.navigateByUrl(this.createUrlTree(n,r),r)}serializeUrl(n){return this.urlSerializer.serialize(n)}parseUrl(n){try{return this.urlSerializer.parse(n)}catch{return this.urlSerializer.parse("/")}}isActive(n,r){let i;if(r===!0?i=D({},Pb):r===!1?i=D({},Fb):i=r,fr(n))return vg(this.currentUrlTree,n,i);let o=this.parseUrl(n);return vg(this.currentUrlTree,o,i)}removeEmptyProps(n){return Object.entries(n).reduce((r,[i,o])=>(o!=null&&(r[i]=o),r),{})}scheduleNavigation(n,r,i,o,s){if(this.disposed)return Promise.resolve(!1);let a,l,c;s?(a=s.resolve,l=s.reject,c=s.promise):c=new Promise((d,f)=>{a=d,l=f});let u=this.pendingTasks.add();return tm(this,()=>{queueMicrotask(()=>this.pendingTasks.remove(u))}),this.navigationTransitions.handleNavigationRequest({source:r,restoredState:i,currentUrlTree:this.currentUrlTree,currentRawUrl:this.currentUrlTree,rawUrl:n,extras:o,resolve:a,reject:l,promise:c,currentSnapshot:this.routerState.snapshot,currentRouterState:this.routerState}),c.catch(d=>Promise.reject(d))}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function kb(e){for(let t=0;t<e.length;t++)if(e[t]==null)throw new b(4008,!1)}function Lb(e){return!(e instanceof hi)&&!(e instanceof pi)}var Ls=class{};var Vb=(()=>{class e{constructor(n,r,i,o,s){this.router=n,this.injector=i,this.preloadingStrategy=o,this.loader=s}setUpPreloading(){this.subscription=this.router.events.pipe(Ie(n=>n instanceof bt),dt(()=>this.preload())).subscribe(()=>{})}preload(){return this.processRoutes(this.injector,this.router.config)}ngOnDestroy(){this.subscription&&this.subscription.unsubscribe()}processRoutes(n,r){let i=[];for(let o of r){o.providers&&!o._injector&&(o._injector=Hr(o.providers,n,`Route: ${o.path}`));let s=o._injector??n,a=o._loadedInjector??s;(o.loadChildren&&!o._loadedRoutes&&o.canLoad===void 0||o.loadComponent&&!o._loadedComponent)&&i.push(this.preloadConfig(s,o)),(o.children||o._loadedRoutes)&&i.push(this.processRoutes(a,o.children??o._loadedRoutes))}return Z(i).pipe(An())}preloadConfig(n,r){return this.preloadingStrategy.preload(r,()=>{let i;r.loadChildren&&r.canLoad===void 0?i=this.loader.loadChildren(n,r):i=T(null);let o=i.pipe(ee(s=>s===null?T(void 0):(r._loadedRoutes=s.routes,r._loadedInjector=s.injector,this.processRoutes(s.injector??n,s.routes))));if(r.loadComponent&&!r._loadedComponent){let s=this.loader.loadComponent(r);return Z([o,s]).pipe(An())}else return o})}static{this.\u0275fac=function(r){return new(r||e)(M(Ht),M(ts),M(ue),M(Ls),M(Ru))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),nm=new I(""),jb=(()=>{class e{constructor(n,r,i,o,s={}){this.urlSerializer=n,this.transitions=r,this.viewportScroller=i,this.zone=o,this.options=s,this.lastId=0,this.lastSource="imperative",this.restoredId=0,this.store={},this.environmentInjector=y(ue),s.scrollPositionRestoration||="disabled",s.anchorScrolling||="disabled"}init(){this.options.scrollPositionRestoration!=="disabled"&&this.viewportScroller.setHistoryScrollRestoration("manual"),this.routerEventsSubscription=this.createScrollEvents(),this.scrollEventsSubscription=this.consumeScrollEvents()}createScrollEvents(){return this.transitions.events.subscribe(n=>{n instanceof hr?(this.store[this.lastId]=this.viewportScroller.getScrollPosition(),this.lastSource=n.navigationTrigger,this.restoredId=n.restoredState?n.restoredState.navigationId:0):n instanceof bt?(this.lastId=n.id,this.scheduleScrollEvent(n,this.urlSerializer.parse(n.urlAfterRedirects).fragment)):n instanceof $t&&n.code===Ts.IgnoredSameUrlNavigation&&(this.lastSource=void 0,this.restoredId=0,this.scheduleScrollEvent(n,this.urlSerializer.parse(n.url).fragment))})}consumeScrollEvents(){return this.transitions.events.subscribe(n=>{n instanceof Ns&&(n.position?this.options.scrollPositionRestoration==="top"?this.viewportScroller.scrollToPosition([0,0]):this.options.scrollPositionRestoration==="enabled"&&this.viewportScroller.scrollToPosition(n.position):n.anchor&&this.options.anchorScrolling==="enabled"?this.viewportScroller.scrollToAnchor(n.anchor):this.options.scrollPositionRestoration!=="disabled"&&this.viewportScroller.scrollToPosition([0,0]))})}scheduleScrollEvent(n,r){this.zone.runOutsideAngular(()=>Mi(this,null,function*(){yield new Promise(i=>{setTimeout(()=>{i()}),Yo(()=>{i()},{injector:this.environmentInjector})}),this.zone.run(()=>{this.transitions.events.next(new Ns(n,this.lastSource==="popstate"?this.store[this.restoredId]:null,r))})}))}ngOnDestroy(){this.routerEventsSubscription?.unsubscribe(),this.scrollEventsSubscription?.unsubscribe()}static{this.\u0275fac=function(r){xh()}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function CR(e,...t){return Yn([{provide:yi,multi:!0,useValue:e},[],{provide:Cn,useFactory:rm,deps:[Ht]},{provide:qr,multi:!0,useFactory:im},t.map(n=>n.\u0275providers)])}function rm(e){return e.routerState.root}function Ii(e,t){return{\u0275kind:e,\u0275providers:t}}function im(){let e=y(Dt);return t=>{let n=e.get(nr);if(t!==n.components[0])return;let r=e.get(Ht),i=e.get(om);e.get(Fu)===1&&r.initialNavigation(),e.get(sm,null,k.Optional)?.setUpPreloading(),e.get(nm,null,k.Optional)?.init(),r.resetRootComponentType(n.componentTypes[0]),i.closed||(i.next(),i.complete(),i.unsubscribe())}}var om=new I("",{factory:()=>new ye}),Fu=new I("",{providedIn:"root",factory:()=>1});function Ub(){return Ii(2,[{provide:Fu,useValue:0},{provide:es,multi:!0,deps:[Dt],useFactory:t=>{let n=t.get(bp,Promise.resolve());return()=>n.then(()=>new Promise(r=>{let i=t.get(Ht),o=t.get(om);tm(i,()=>{r(!0)}),t.get(Pu).afterPreactivation=()=>(r(!0),o.closed?T(void 0):o),i.initialNavigation()}))}}])}function Bb(){return Ii(3,[{provide:es,multi:!0,useFactory:()=>{let t=y(Ht);return()=>{t.setUpLocationChangeListener()}}},{provide:Fu,useValue:2}])}var sm=new I("");function $b(e){return Ii(0,[{provide:sm,useExisting:Vb},{provide:Ls,useExisting:e}])}function Hb(){return Ii(8,[wg,{provide:Vs,useExisting:wg}])}function zb(e){let t=[{provide:Jg,useValue:xb},{provide:Xg,useValue:D({skipNextTransition:!!e?.skipInitialTransition},e)}];return Ii(9,t)}var Eg=new I("ROUTER_FORROOT_GUARD"),Gb=[ir,{provide:Ci,useClass:ui},Ht,wi,{provide:Cn,useFactory:rm,deps:[Ht]},Ru,[]],am=(()=>{class e{constructor(n){}static forRoot(n,r){return{ngModule:e,providers:[Gb,[],{provide:yi,multi:!0,useValue:n},{provide:Eg,useFactory:Yb,deps:[[Ht,new Pr,new No]]},{provide:bi,useValue:r||{}},r?.useHash?qb():Zb(),Wb(),r?.preloadingStrategy?$b(r.preloadingStrategy).\u0275providers:[],r?.initialNavigation?Qb(r):[],r?.bindToComponentInputs?Hb().\u0275providers:[],r?.enableViewTransitions?zb().\u0275providers:[],Kb()]}}static forChild(n){return{ngModule:e,providers:[{provide:yi,multi:!0,useValue:n}]}}static{this.\u0275fac=function(r){return new(r||e)(M(Eg,8))}}static{this.\u0275mod=mt({type:e})}static{this.\u0275inj=gt({})}}return e})();function Wb(){return{provide:nm,useFactory:()=>{let e=y(Ap),t=y(Y),n=y(bi),r=y(Pu),i=y(Ci);return n.scrollOffset&&e.setOffset(n.scrollOffset),new jb(i,r,e,t,n)}}}function qb(){return{provide:mn,useClass:Mp}}function Zb(){return{provide:mn,useClass:Ac}}function Yb(e){return"guarded"}function Qb(e){return[e.initialNavigation==="disabled"?Bb().\u0275providers:[],e.initialNavigation==="enabledBlocking"?Ub().\u0275providers:[]]}var bg=new I("");function Kb(){return[{provide:bg,useFactory:im},{provide:qr,multi:!0,useExisting:bg}]}var lm=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275cmp=Pt({type:e,selectors:[["app-loading"]],standalone:!0,features:[jt],decls:87,vars:0,consts:[[1,"overlay"],["id","svg-global","xmlns","http://www.w3.org/2000/svg","fill","none","viewBox","0 0 94 136","height","136","width","94"],["stroke","#DC143C","d","M87.3629 108.433L49.1073 85.3765C47.846 84.6163 45.8009 84.6163 44.5395 85.3765L6.28392 108.433C5.02255 109.194 5.02255 110.426 6.28392 111.187L44.5395 134.243C45.8009 135.004 47.846 135.004 49.1073 134.243L87.3629 111.187C88.6243 110.426 88.6243 109.194 87.3629 108.433Z","id","line-v1"],["stroke","#DC143C","d","M91.0928 95.699L49.2899 70.5042C47.9116 69.6734 45.6769 69.6734 44.2986 70.5042L2.49568 95.699C1.11735 96.5298 1.11735 97.8767 2.49568 98.7074L44.2986 123.902C45.6769 124.733 47.9116 124.733 49.2899 123.902L91.0928 98.7074C92.4712 97.8767 92.4712 96.5298 91.0928 95.699Z","id","line-v2"],["id","node-server"],["fill","url(#paint0_linear_204_217)","d","M2.48637 72.0059L43.8699 96.9428C45.742 98.0709 48.281 97.8084 50.9284 96.2133L91.4607 71.7833C92.1444 71.2621 92.4197 70.9139 92.5421 70.1257V86.1368C92.5421 86.9686 92.0025 87.9681 91.3123 88.3825C84.502 92.4724 51.6503 112.204 50.0363 113.215C48.2352 114.343 45.3534 114.343 43.5523 113.215C41.9261 112.197 8.55699 91.8662 2.08967 87.926C1.39197 87.5011 1.00946 86.5986 1.00946 85.4058V70.1257C1.11219 70.9289 1.49685 71.3298 2.48637 72.0059Z"],["stroke","url(#paint2_linear_204_217)","fill","url(#paint1_linear_204_217)","d","M91.0928 68.7324L49.2899 43.5375C47.9116 42.7068 45.6769 42.7068 44.2986 43.5375L2.49568 68.7324C1.11735 69.5631 1.11735 70.91 2.49568 71.7407L44.2986 96.9356C45.6769 97.7663 47.9116 97.7663 49.2899 96.9356L91.0928 71.7407C92.4712 70.91 92.4712 69.5631 91.0928 68.7324Z"],["height","41","width","67","y","50","x","13","maskUnits","userSpaceOnUse","id","mask0_204_217",2,"mask-type","luminance"],["fill","white","d","M78.3486 68.7324L49.0242 51.0584C47.6459 50.2276 45.4111 50.2276 44.0328 51.0584L14.7084 68.7324C13.3301 69.5631 13.3301 70.91 14.7084 71.7407L44.0328 89.4148C45.4111 90.2455 47.6459 90.2455 49.0242 89.4148L78.3486 71.7407C79.7269 70.91 79.727 69.5631 78.3486 68.7324Z"],["mask","url(#mask0_204_217)"],["fill","#F0F8FF","d","M78.3486 68.7324L49.0242 51.0584C47.6459 50.2276 45.4111 50.2276 44.0328 51.0584L14.7084 68.7324C13.3301 69.5631 13.3301 70.91 14.7084 71.7407L44.0328 89.4148C45.4111 90.2455 47.6459 90.2455 49.0242 89.4148L78.3486 71.7407C79.7269 70.91 79.727 69.5631 78.3486 68.7324Z"],["height","29","width","48","y","56","x","23","maskUnits","userSpaceOnUse","id","mask1_204_217",2,"mask-type","luminance"],["fill","white","d","M68.9898 68.7324L49.0242 56.699C47.6459 55.8683 45.4111 55.8683 44.0328 56.699L24.0673 68.7324C22.6889 69.5631 22.6889 70.91 24.0673 71.7407L44.0328 83.7741C45.4111 84.6048 47.6459 84.6048 49.0242 83.7741L68.9898 71.7407C70.3681 70.91 70.3681 69.5631 68.9898 68.7324Z"],["mask","url(#mask1_204_217)"],["fill","#5E5E5E","d","M68.9898 68.7324L49.0242 56.699C47.6459 55.8683 45.4111 55.8683 44.0328 56.699L24.0673 68.7324C22.6889 69.5631 22.6889 70.91 24.0673 71.7407L44.0328 83.7741C45.4111 84.6048 47.6459 84.6048 49.0242 83.7741L68.9898 71.7407C70.3681 70.91 70.3681 69.5631 68.9898 68.7324Z"],["fill","#71B1C6","d","M70.1311 69.3884L48.42 56.303C47.3863 55.6799 45.7103 55.6799 44.6765 56.303L22.5275 69.6523C21.4938 70.2754 21.4938 71.2855 22.5275 71.9086L44.2386 84.994C45.2723 85.617 46.9484 85.617 47.9821 84.994L70.1311 71.6446C71.1648 71.0216 71.1648 70.0114 70.1311 69.3884Z"],["fill","#80C0D4","d","M70.131 70.8923L48.4199 57.8069C47.3862 57.1839 45.7101 57.1839 44.6764 57.8069L22.5274 71.1562C21.4937 71.7793 21.4937 72.7894 22.5274 73.4125L44.2385 86.4979C45.2722 87.1209 46.9482 87.1209 47.982 86.4979L70.131 73.1486C71.1647 72.5255 71.1647 71.5153 70.131 70.8923Z"],["fill","#89D3EB","d","M69.751 72.1675L48.4199 59.3111C47.3862 58.6881 45.7101 58.6881 44.6764 59.3111L23.2004 72.2548C22.1667 72.8779 22.1667 73.888 23.2004 74.5111L44.5315 87.3674C45.5653 87.9905 47.2413 87.9905 48.2751 87.3674L69.751 74.4238C70.7847 73.8007 70.7847 72.7905 69.751 72.1675Z"],["fill","#97E6FF","d","M68.5091 72.9231L48.4199 60.8153C47.3862 60.1922 45.7101 60.1922 44.6764 60.8153L24.8146 72.7861C23.7808 73.4091 23.7808 74.4193 24.8146 75.0424L44.9038 87.1502C45.9375 87.7733 47.6135 87.7733 48.6473 87.1502L68.5091 75.1794C69.5428 74.5563 69.5428 73.5462 68.5091 72.9231Z"],["fill","#97E6FF","d","M66.6747 73.3219L48.4199 62.3197C47.3862 61.6966 45.7101 61.6966 44.6764 62.3197L26.4412 73.3101C25.4075 73.9332 25.4075 74.9433 26.4412 75.5664L44.696 86.5686C45.7297 87.1917 47.4058 87.1917 48.4395 86.5686L66.6747 75.5782C67.7084 74.9551 67.7084 73.945 66.6747 73.3219Z"],["stroke-width","0.5","stroke","#DC143C","d","M68.9898 68.7324L49.0242 56.699C47.6459 55.8683 45.4111 55.8683 44.0328 56.699L24.0673 68.7324C22.6889 69.5631 22.6889 70.91 24.0673 71.7407L44.0328 83.7741C45.4111 84.6048 47.6459 84.6048 49.0242 83.7741L68.9898 71.7407C70.3681 70.91 70.3681 69.5631 68.9898 68.7324Z"],["id","particles"],["fill","url(#paint3_linear_204_217)","d","M43.5482 32.558C44.5429 32.558 45.3493 31.7162 45.3493 30.6778C45.3493 29.6394 44.5429 28.7976 43.5482 28.7976C42.5535 28.7976 41.7471 29.6394 41.7471 30.6778C41.7471 31.7162 42.5535 32.558 43.5482 32.558Z",1,"particle","p1"],["fill","url(#paint4_linear_204_217)","d","M50.0323 48.3519C51.027 48.3519 51.8334 47.5101 51.8334 46.4717C51.8334 45.4333 51.027 44.5915 50.0323 44.5915C49.0375 44.5915 48.2311 45.4333 48.2311 46.4717C48.2311 47.5101 49.0375 48.3519 50.0323 48.3519Z",1,"particle","p2"],["fill","url(#paint5_linear_204_217)","d","M40.3062 62.6416C41.102 62.6416 41.7471 61.9681 41.7471 61.1374C41.7471 60.3067 41.102 59.6332 40.3062 59.6332C39.5104 59.6332 38.8653 60.3067 38.8653 61.1374C38.8653 61.9681 39.5104 62.6416 40.3062 62.6416Z",1,"particle","p3"],["fill","url(#paint6_linear_204_217)","d","M50.7527 73.9229C52.1453 73.9229 53.2743 72.7444 53.2743 71.2906C53.2743 69.8368 52.1453 68.6583 50.7527 68.6583C49.3601 68.6583 48.2311 69.8368 48.2311 71.2906C48.2311 72.7444 49.3601 73.9229 50.7527 73.9229Z",1,"particle","p4"],["fill","url(#paint7_linear_204_217)","d","M48.5913 76.9312C49.1882 76.9312 49.672 76.4262 49.672 75.8031C49.672 75.1801 49.1882 74.675 48.5913 74.675C47.9945 74.675 47.5107 75.1801 47.5107 75.8031C47.5107 76.4262 47.9945 76.9312 48.5913 76.9312Z",1,"particle","p5"],["fill","url(#paint8_linear_204_217)","d","M52.9153 67.1541C53.115 67.1541 53.2768 66.9858 53.2768 66.7781C53.2768 66.5704 53.115 66.402 52.9153 66.402C52.7156 66.402 52.5538 66.5704 52.5538 66.7781C52.5538 66.9858 52.7156 67.1541 52.9153 67.1541Z",1,"particle","p6"],["fill","url(#paint9_linear_204_217)","d","M52.1936 43.8394C52.7904 43.8394 53.2743 43.3344 53.2743 42.7113C53.2743 42.0883 52.7904 41.5832 52.1936 41.5832C51.5967 41.5832 51.1129 42.0883 51.1129 42.7113C51.1129 43.3344 51.5967 43.8394 52.1936 43.8394Z",1,"particle","p7"],["fill","url(#paint10_linear_204_217)","d","M57.2367 29.5497C57.8335 29.5497 58.3173 29.0446 58.3173 28.4216C58.3173 27.7985 57.8335 27.2935 57.2367 27.2935C56.6398 27.2935 56.156 27.7985 56.156 28.4216C56.156 29.0446 56.6398 29.5497 57.2367 29.5497Z",1,"particle","p8"],["fill","url(#paint11_linear_204_217)","d","M43.9084 34.8144C44.3063 34.8144 44.6289 34.4777 44.6289 34.0623C44.6289 33.647 44.3063 33.3102 43.9084 33.3102C43.5105 33.3102 43.188 33.647 43.188 34.0623C43.188 34.4777 43.5105 34.8144 43.9084 34.8144Z",1,"particle","p9"],["id","reflectores"],["fill-opacity","0.2","fill","url(#paint12_linear_204_217)","d","M49.2037 57.0009L68.7638 68.7786C69.6763 69.3089 69.7967 69.9684 69.794 70.1625V13.7383C69.7649 13.5587 69.6807 13.4657 69.4338 13.3096L48.4832 0.601307C46.9202 -0.192595 46.0788 -0.208238 44.6446 0.601307L23.6855 13.2118C23.1956 13.5876 23.1966 13.7637 23.1956 14.4904L23.246 70.1625C23.2948 69.4916 23.7327 69.0697 25.1768 68.2447L43.9084 57.0008C44.8268 56.4344 45.3776 56.2639 46.43 56.2487C47.5299 56.2257 48.1356 56.4222 49.2037 57.0009Z"],["fill-opacity","0.2","fill","url(#paint13_linear_204_217)","d","M48.8867 27.6696C49.9674 26.9175 68.6774 14.9197 68.6774 14.9197C69.3063 14.5327 69.7089 14.375 69.7796 13.756V70.1979C69.7775 70.8816 69.505 71.208 68.7422 71.7322L48.9299 83.6603C48.2003 84.1258 47.6732 84.2687 46.5103 84.2995C45.3295 84.2679 44.8074 84.1213 44.0907 83.6603L24.4348 71.8149C23.5828 71.3313 23.2369 71.0094 23.2316 70.1979L23.1884 13.9816C23.1798 14.8398 23.4982 15.3037 24.7518 16.0874C24.7518 16.0874 42.7629 26.9175 44.2038 27.6696C45.6447 28.4217 46.0049 28.4217 46.5452 28.4217C47.0856 28.4217 47.806 28.4217 48.8867 27.6696Z"],["id","panel-rigth"],["fill","white","id","path-26-inside-1_204_217"],["d","M72 91.8323C72 90.5121 72.9268 88.9068 74.0702 88.2467L87.9298 80.2448C89.0731 79.5847 90 80.1198 90 81.44V81.44C90 82.7602 89.0732 84.3656 87.9298 85.0257L74.0702 93.0275C72.9268 93.6876 72 93.1525 72 91.8323V91.8323Z"],["fill","#91DDFB","d","M72 91.8323C72 90.5121 72.9268 88.9068 74.0702 88.2467L87.9298 80.2448C89.0731 79.5847 90 80.1198 90 81.44V81.44C90 82.7602 89.0732 84.3656 87.9298 85.0257L74.0702 93.0275C72.9268 93.6876 72 93.1525 72 91.8323V91.8323Z"],["mask","url(#path-26-inside-1_204_217)","fill","#489CB7","d","M72 89.4419L90 79.0496L72 89.4419ZM90.6928 81.44C90.6928 82.9811 89.6109 84.8551 88.2762 85.6257L74.763 93.4275C73.237 94.3085 72 93.5943 72 91.8323V91.8323C72 92.7107 72.9268 92.8876 74.0702 92.2275L87.9298 84.2257C88.6905 83.7865 89.3072 82.7184 89.3072 81.84L90.6928 81.44ZM72 94.2227V89.4419V94.2227ZM88.2762 80.0448C89.6109 79.2742 90.6928 79.8989 90.6928 81.44V81.44C90.6928 82.9811 89.6109 84.8551 88.2762 85.6257L87.9298 84.2257C88.6905 83.7865 89.3072 82.7184 89.3072 81.84V81.84C89.3072 80.5198 88.6905 79.8056 87.9298 80.2448L88.2762 80.0448Z"],["fill","white","id","path-28-inside-2_204_217"],["d","M67 94.6603C67 93.3848 67.8954 91.8339 69 91.1962V91.1962C70.1046 90.5584 71 91.0754 71 92.3509V92.5129C71 93.7884 70.1046 95.3393 69 95.977V95.977C67.8954 96.6147 67 96.0978 67 94.8223V94.6603Z"],["fill","#91DDFB","d","M67 94.6603C67 93.3848 67.8954 91.8339 69 91.1962V91.1962C70.1046 90.5584 71 91.0754 71 92.3509V92.5129C71 93.7884 70.1046 95.3393 69 95.977V95.977C67.8954 96.6147 67 96.0978 67 94.8223V94.6603Z"],["mask","url(#path-28-inside-2_204_217)","fill","#489CB7","d","M67 92.3509L71 90.0415L67 92.3509ZM71.6928 92.5129C71.6928 94.0093 70.6423 95.8288 69.3464 96.577L69.3464 96.577C68.0505 97.3252 67 96.7187 67 95.2223V94.8223C67 95.6559 67.8954 95.8147 69 95.177L69 95.177C69.7219 94.7602 70.3072 93.7465 70.3072 92.9129L71.6928 92.5129ZM67 97.1317V92.3509V97.1317ZM69.2762 91.0367C70.6109 90.2661 71.6928 90.8908 71.6928 92.4319V92.5129C71.6928 94.0093 70.6423 95.8288 69.3464 96.577L69 95.177C69.7219 94.7602 70.3072 93.7465 70.3072 92.9129V92.7509C70.3072 91.4754 69.7219 90.7794 69 91.1962L69.2762 91.0367Z"],["gradientUnits","userSpaceOnUse","y2","92.0933","x2","92.5421","y1","92.0933","x1","1.00946","id","paint0_linear_204_217"],["stop-color","#DC143C"],["stop-color","#DC143C","offset","1"],["gradientUnits","userSpaceOnUse","y2","91.1638","x2","6.72169","y1","70","x1","92.5","id","paint1_linear_204_217"],["stop-color","#DC143C","offset","0.29"],["gradientUnits","userSpaceOnUse","y2","85.0762","x2","3.55544","y1","70","x1","92.5","id","paint2_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","32.558","x2","43.5482","y1","28.7976","x1","43.5482","id","paint3_linear_204_217"],["stop-color","#5927CE"],["stop-color","#91DDFB","offset","1"],["gradientUnits","userSpaceOnUse","y2","48.3519","x2","50.0323","y1","44.5915","x1","50.0323","id","paint4_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","62.6416","x2","40.3062","y1","59.6332","x1","40.3062","id","paint5_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","73.9229","x2","50.7527","y1","68.6583","x1","50.7527","id","paint6_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","76.9312","x2","48.5913","y1","74.675","x1","48.5913","id","paint7_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","67.1541","x2","52.9153","y1","66.402","x1","52.9153","id","paint8_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","43.8394","x2","52.1936","y1","41.5832","x1","52.1936","id","paint9_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","29.5497","x2","57.2367","y1","27.2935","x1","57.2367","id","paint10_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","34.8144","x2","43.9084","y1","33.3102","x1","43.9084","id","paint11_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","16.0743","x2","62.9858","y1","88.5145","x1","67.8638","id","paint12_linear_204_217"],["stop-color","#97E6FF"],["stop-opacity","0","stop-color","white","offset","1"],["gradientUnits","userSpaceOnUse","y2","39.4139","x2","31.4515","y1","88.0938","x1","36.2597","id","paint13_linear_204_217"]],template:function(r,i){r&1&&(p(0,"div",0),Yf(),p(1,"svg",1),F(2,"path",2)(3,"path",3),p(4,"g",4),F(5,"path",5)(6,"path",6),p(7,"mask",7),F(8,"path",8),g(),p(9,"g",9),F(10,"path",10),p(11,"mask",11),F(12,"path",12),g(),p(13,"g",13),F(14,"path",14)(15,"path",15)(16,"path",16)(17,"path",17)(18,"path",18)(19,"path",19),g(),F(20,"path",20),g()(),p(21,"g",21),F(22,"path",22)(23,"path",23)(24,"path",24)(25,"path",25)(26,"path",26)(27,"path",27)(28,"path",28)(29,"path",29)(30,"path",30),g(),p(31,"g",31),F(32,"path",32)(33,"path",33),g(),p(34,"g",34)(35,"mask",35),F(36,"path",36),g(),F(37,"path",37)(38,"path",38),p(39,"mask",39),F(40,"path",40),g(),F(41,"path",41)(42,"path",42),g(),p(43,"defs")(44,"linearGradient",43),F(45,"stop",44)(46,"stop",45),g(),p(47,"linearGradient",46),F(48,"stop",44)(49,"stop",47)(50,"stop",45),g(),p(51,"linearGradient",48),F(52,"stop",44)(53,"stop",45),g(),p(54,"linearGradient",49),F(55,"stop",50)(56,"stop",51),g(),p(57,"linearGradient",52),F(58,"stop",50)(59,"stop",51),g(),p(60,"linearGradient",53),F(61,"stop",50)(62,"stop",51),g(),p(63,"linearGradient",54),F(64,"stop",50)(65,"stop",51),g(),p(66,"linearGradient",55),F(67,"stop",50)(68,"stop",51),g(),p(69,"linearGradient",56),F(70,"stop",50)(71,"stop",51),g(),p(72,"linearGradient",57),F(73,"stop",50)(74,"stop",51),g(),p(75,"linearGradient",58),F(76,"stop",50)(77,"stop",51),g(),p(78,"linearGradient",59),F(79,"stop",50)(80,"stop",51),g(),p(81,"linearGradient",60),F(82,"stop",61)(83,"stop",62),g(),p(84,"linearGradient",63),F(85,"stop",61)(86,"stop",62),g()()()())},styles:[".overlay[_ngcontent-%COMP%]{position:fixed;inset:0;background-color:#000000b3;z-index:50;display:flex;align-items:center;justify-content:center}#svg-global[_ngcontent-%COMP%]{zoom:1.2;overflow:visible}@keyframes _ngcontent-%COMP%_fade-particles{0%,to{opacity:1}50%{opacity:.5}}@keyframes _ngcontent-%COMP%_floatUp{0%{transform:translateY(0);opacity:0}10%{opacity:1}to{transform:translateY(-40px);opacity:0}}#particles[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_fade-particles 5s infinite alternate}.particle[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_floatUp linear infinite}.p1[_ngcontent-%COMP%]{animation-duration:2.2s;animation-delay:0s}.p2[_ngcontent-%COMP%]{animation-duration:2.5s;animation-delay:.3s}.p3[_ngcontent-%COMP%]{animation-duration:2s;animation-delay:.6s}.p4[_ngcontent-%COMP%]{animation-duration:2.8s;animation-delay:.2s}.p5[_ngcontent-%COMP%]{animation-duration:2.3s;animation-delay:.4s}.p6[_ngcontent-%COMP%]{animation-duration:3s;animation-delay:.1s}.p7[_ngcontent-%COMP%]{animation-duration:2.1s;animation-delay:.5s}.p8[_ngcontent-%COMP%]{animation-duration:2.6s;animation-delay:.2s}.p9[_ngcontent-%COMP%]{animation-duration:2.4s;animation-delay:.3s}@keyframes _ngcontent-%COMP%_bounce-lines{0%,to{transform:translateY(0)}50%{transform:translateY(-3px)}}#line-v1[_ngcontent-%COMP%], #line-v2[_ngcontent-%COMP%], #node-server[_ngcontent-%COMP%], #panel-rigth[_ngcontent-%COMP%], #reflectores[_ngcontent-%COMP%], #particles[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_bounce-lines 3s ease-in-out infinite alternate}#line-v2[_ngcontent-%COMP%]{animation-delay:.2s}#node-server[_ngcontent-%COMP%], #panel-rigth[_ngcontent-%COMP%], #reflectores[_ngcontent-%COMP%], #particles[_ngcontent-%COMP%]{animation-delay:.4s}"]})}}return e})();var cm={production:!0,apiUrl:"http://137.184.186.231:8080/api/pokemons"};var Us=(()=>{class e{constructor(n){this.http=n,this.apiUrl=cm.apiUrl}getAllPokemons(){return this.http.get(this.apiUrl)}getPokemons(n,r){let i=new Ee().set("page",n.toString()).set("limit",r.toString());return this.http.get(this.apiUrl,{params:i}).pipe(N(o=>({pokemons:o.content??[],totalPages:o.totalPages??0})))}getPokemonById(n){return this.http.get(`${this.apiUrl}/${n}`)}getPokemonsByName(n){let r=new Ee().set("name",n);return this.http.get(`${this.apiUrl}/name`,{params:r})}getPokemonsByType(n){let r=new Ee().set("type",n);return this.http.get(`${this.apiUrl}/type`,{params:r})}getPokemonsByAbility(n){let r=new Ee().set("ability",n);return this.http.get(`${this.apiUrl}/ability`,{params:r})}getPokemonsByMove(n){let r=new Ee().set("move",n);return this.http.get(`${this.apiUrl}/move`,{params:r})}searchAdvancedPokemons(n){let r=new Ee;return n.name&&(r=r.set("name",n.name)),n.types?.length&&n.types.forEach(i=>{r=r.append("types",i)}),n.ability&&(r=r.set("ability",n.ability)),n.move&&(r=r.set("move",n.move)),n.generation&&(r=r.set("generation",n.generation)),this.http.get(`${this.apiUrl}/search/advanced`,{params:r})}static{this.\u0275fac=function(r){return new(r||e)(M(zc))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();var Jb=(e,t)=>t.name,Xb=(e,t)=>({width:e,backgroundColor:t});function eI(e,t){if(e&1&&(p(0,"span",6),_(1),g()),e&2){let n=t.$implicit,r=H(2);Q("ngClass",r.getTypeColor(n)),E(),J(" ",n," ")}}function tI(e,t){e&1&&(p(0,"span"),_(1,"No types"),g())}function nI(e,t){if(e&1&&(p(0,"span",11),_(1),g()),e&2){let n=t.$implicit;E(),J(" ",n," ")}}function rI(e,t){e&1&&(p(0,"span"),_(1,"No abilities"),g())}function iI(e,t){if(e&1&&(p(0,"span",13),_(1),g()),e&2){let n=t.$implicit;E(),J(" ",n," ")}}function oI(e,t){e&1&&(p(0,"span"),_(1,"No moves"),g())}function sI(e,t){if(e&1&&(p(0,"div")(1,"div",23)(2,"span",24),_(3),g(),p(4,"span"),_(5),g()(),p(6,"div",25),F(7,"div",26),g()()),e&2){let n=t.$implicit,r=H(3);E(3),Xn(n.replace("-"," ")),E(2),Xn(r.pokemon.stats[n]),E(2),Q("ngStyle",cp(3,Xb,r.getStatWidth(r.pokemon.stats[n]),r.getStatColor(n)))}}function aI(e,t){if(e&1&&(p(0,"div",18),Ze(1,sI,8,6,"div",null,Ct),g()),e&2){let n=H(2);E(),Ye(n.statKeys)}}function lI(e,t){e&1&&(p(0,"p",22),_(1,"No stats available"),g())}function cI(e,t){e&1&&(p(0,"span",30),_(1,"\u2192"),g())}function uI(e,t){if(e&1){let n=at();p(0,"div",27),K("click",function(){let i=he(n).$implicit,o=H(2);return pe(o.onEvolutionClick(i.id))}),F(1,"img",28),p(2,"p",29),_(3),g()(),_e(4,cI,2,0,"span",30)}if(e&2){let n=t.$implicit,r=H(2);E(),Q("src","data:image/png;base64,"+n.spriteBase64,jr)("alt",n.name),E(2),J(" ",n.name," "),E(),Jn(4,n!==r.evolutionSprites[r.evolutionSprites.length-1]?4:-1)}}function dI(e,t){e&1&&(p(0,"p",22),_(1,"No evolutions"),g())}function fI(e,t){if(e&1){let n=at();p(0,"div",0)(1,"span",1),_(2),g(),p(3,"h2",2),_(4),g(),p(5,"div",3),F(6,"img",4),g(),p(7,"div",5),Ze(8,eI,2,2,"span",6,Ct,!1,tI,2,0,"span"),g(),p(11,"div",7)(12,"p",8)(13,"strong"),_(14,"Description:"),g(),_(15),g(),p(16,"div",9)(17,"p")(18,"strong"),_(19,"Height:"),g(),_(20),g(),p(21,"p")(22,"strong"),_(23,"Weight:"),g(),_(24),g()(),p(25,"div")(26,"strong"),_(27,"Abilities:"),g(),p(28,"div",10),Ze(29,nI,2,1,"span",11,Ct,!1,rI,2,0,"span"),g()(),p(32,"div",12)(33,"strong"),_(34,"Moves:"),g(),p(35,"div",10),Ze(36,iI,2,1,"span",13,Ct,!1,oI,2,0,"span"),g(),p(39,"div",14)(40,"button",15),K("click",function(){he(n);let i=H();return pe(i.showAllMoves=!i.showAllMoves)}),_(41),g()()()(),p(42,"div",16)(43,"h3",17),_(44," Base Stats "),g(),_e(45,aI,3,0,"div",18)(46,lI,2,0),g(),p(47,"div",19)(48,"h3",20),_(49," Evolution "),g(),p(50,"div",21),Ze(51,uI,5,4,null,null,Jb,!1,dI,2,0,"p",22),g()()()}if(e&2){let n=H();E(2),J(" #",n.pokemon.id," "),E(2),J(" ",n.pokemon.name," "),E(2),Q("src","data:image/png;base64,"+n.pokemon.spriteBase64,jr)("alt",n.pokemon.name),E(2),Ye(n.pokemon.type),E(7),J(" ",n.pokemon.description," "),E(5),J(" ",n.pokemon.height," m"),E(4),J(" ",n.pokemon.weight," kg"),E(5),Ye(n.pokemon.ability),E(7),Ye(n.getVisibleMoves()),E(5),J(" ",n.showAllMoves?"Show less...":"Show more..."," "),E(4),Jn(45,n.pokemon.stats?45:46),E(6),Ye(n.evolutionSprites)}}var dm=(()=>{class e{constructor(n){this.pokemonService=n,this.evolutionClicked=new ie,this.evolutionSprites=[],this.showAllMoves=!1,this.statKeys=["hp","attack","defense","special-attack","special-defense","speed"]}ngOnChanges(){this.pokemonId&&this.pokemonService.getPokemonById(this.pokemonId).subscribe({next:n=>{this.pokemon=n,this.loadEvolutionSprites()},error:n=>console.error("Erro ao buscar Pok\xE9mon:",n)})}getTypeColor(n){switch(n.toLowerCase()){case"fire":return"text-orange-500";case"fighting":return"text-orange-700";case"flying":return"text-blue-300";case"water":return"text-blue-500";case"ice":return"text-blue-700";case"grass":return"text-green-500";case"bug":return"text-green-700";case"ground":return"text-yellow-500";case"electric":return"text-yellow-300";case"dragon":return"text-red-500";case"rock":return"text-yellow-700";case"psychic":return"text-pink-700";case"fairy":return"text-pink-500";case"ghost":return"text-purple-500";case"poison":return"text-purple-700";case"dark":return"text-black";default:return"text-gray-500"}}getStatWidth(n){return`${Math.min(100,n/150*100)}%`}getStatColor(n){switch(n){case"hp":return"#fca5a5";case"attack":return"#fdba74";case"defense":return"#93c5fd";case"special-attack":return"#d8b4fe";case"special-defense":return"#6ee7b7";case"speed":return"#fde68a";default:return"#d1d5db"}}getVisibleMoves(){return this.showAllMoves?this.pokemon.move:this.pokemon.move.slice(0,6)}loadEvolutionSprites(){if(this.evolutionSprites=[],!!this.pokemon.evolution)for(let n of this.pokemon.evolution)this.pokemonService.getPokemonsByName(n).subscribe({next:r=>{let i=r[0];i&&(this.evolutionSprites.push({name:i.name,spriteBase64:i.spriteBase64,id:i.id}),this.evolutionSprites.sort((o,s)=>this.pokemon.evolution.indexOf(o.name)-this.pokemon.evolution.indexOf(s.name)))},error:r=>console.error(`Erro ao buscar sprite de ${n}:`,r)})}onEvolutionClick(n){this.evolutionClicked.emit(n)}static{this.\u0275fac=function(r){return new(r||e)(L(Us))}}static{this.\u0275cmp=Pt({type:e,selectors:[["app-pokemon-details"]],inputs:{pokemonId:"pokemonId"},outputs:{evolutionClicked:"evolutionClicked"},standalone:!0,features:[Ft,jt],decls:1,vars:1,consts:[[1,"flex","flex-col","w-full","max-w-[500px]","mx-auto","text-black","px-3","sm:px-4","overflow-x-hidden","box-border"],[1,"text-sm","text-gray-500","font-semibold","mt-2"],[1,"fredoka-one","text-xl","text-center","font-semibold","capitalize","mt-1"],[1,"flex","justify-center","mt-3"],[1,"h-24","w-24","sm:h-28","sm:w-28","object-contain",3,"src","alt"],[1,"flex","flex-wrap","justify-center","gap-2","mt-3"],[1,"font-medium","text-xs","sm:text-sm","capitalize","px-3","py-1","rounded-full","bg-white","shadow","border",3,"ngClass"],[1,"mt-4","text-sm","text-gray-700","space-y-3"],[1,"leading-relaxed","text-justify","px-1"],[1,"px-1"],[1,"flex","flex-wrap","gap-2","mt-2"],[1,"bg-gray-200","text-gray-700","px-3","py-1","rounded-full","capitalize","montserrat","text-xs","sm:text-sm"],[1,"mt-3"],[1,"bg-red-300","text-gray-700","px-3","py-1","rounded-full","text-xs","capitalize","montserrat"],[1,"mt-2","text-center"],[1,"text-gray-700","text-sm","hover:text-blue-700",3,"click"],[1,"mt-5","px-1"],[1,"text-md","text-center","font-semibold","mb-2"],[1,"space-y-3"],[1,"mt-6","mb-10"],[1,"text-center","font-semibold","mb-3"],[1,"flex","items-center","justify-center","gap-3","flex-wrap"],[1,"text-center","text-gray-500"],[1,"flex","justify-between","text-xs","sm:text-sm"],[1,"capitalize"],[1,"w-full","bg-gray-200","rounded-full","h-3"],[1,"h-3","rounded-full",3,"ngStyle"],[1,"flex","flex-col","items-center","cursor-pointer","hover:scale-110","transition",3,"click"],[1,"h-14","w-14","object-contain",3,"src","alt"],[1,"text-xs","capitalize","mt-1"],[1,"text-lg","text-gray-500"]],template:function(r,i){r&1&&_e(0,fI,54,13,"div",0),r&2&&Jn(0,i.pokemon?0:-1)},dependencies:[Zr,os,Tp],encapsulation:2})}}return e})();var hI=["detailsCard"],pI=(e,t)=>t.id,gI=e=>({"grid-cols-1":e}),mI=e=>[e,"px-3 py-1 rounded-full text-sm capitalize hover:opacity-80 transition shadow"];function vI(e,t){e&1&&F(0,"app-loading")}function yI(e,t){if(e&1&&(p(0,"span",27),_(1),g()),e&2){let n=t.$implicit,r=H(2);Q("ngClass",r.getTypeColor(n)),E(),J(" ",n," ")}}function DI(e,t){if(e&1){let n=at();p(0,"div",21),K("click",function(){let i=he(n).$implicit,o=H();return pe(o.selectPokemon(i.id))}),p(1,"span",22),_(2),g(),p(3,"div",23),F(4,"img",24),p(5,"div",25)(6,"p")(7,"strong"),_(8,"Height:"),g(),_(9),g(),p(10,"p")(11,"strong"),_(12,"Weight:"),g(),_(13),g()()(),p(14,"div",26),Ze(15,yI,2,2,"span",27,Ct),g(),p(17,"h2",28),_(18),g()()}if(e&2){let n=t.$implicit;E(2),J(" #",n.id," "),E(2),Q("src","data:image/png;base64,"+n.spriteBase64,jr),E(5),J(" ",n.height," m"),E(4),J(" ",n.weight," kg"),E(2),Ye(n.type),E(3),J(" ",n.name," ")}}function CI(e,t){e&1&&(p(0,"span",31),_(1," ... "),g())}function wI(e,t){if(e&1){let n=at();p(0,"button",32),K("click",function(){he(n);let i=H().$implicit,o=H();return pe(o.goToPage(i))}),_(1),g()}if(e&2){let n=H().$implicit,r=H();Q("ngClass",r.currentPage===n?"bg-purple-600 text-white shadow-md scale-105":"bg-white text-purple-700 border border-purple-300 hover:bg-purple-100"),E(),J(" ",r.displayPage(n)," ")}}function _I(e,t){if(e&1&&(pc(0),_e(1,CI,2,0,"span",29)(2,wI,2,2,"button",30),gc()),e&2){let n=t.$implicit;E(),Q("ngIf",n==="..."),E(),Q("ngIf",n!=="...")}}function EI(e,t){if(e&1){let n=at();p(0,"div",35)(1,"button",36),K("click",function(){he(n);let i=H(2);return pe(i.selectedPokemonId=null)}),_(2," \xD7 "),g(),p(3,"app-pokemon-details",37),K("evolutionClicked",function(i){he(n);let o=H(2);return pe(o.selectEvolutionPokemon(i))}),g()()}if(e&2){let n=H(2);E(3),Q("pokemonId",n.selectedPokemonId)}}function bI(e,t){if(e&1){let n=at();p(0,"div",38)(1,"div",39)(2,"button",36),K("click",function(){he(n);let i=H(2);return pe(i.selectedPokemonId=null)}),_(3," \xD7 "),g(),p(4,"app-pokemon-details",37),K("evolutionClicked",function(i){he(n);let o=H(2);return pe(o.selectEvolutionPokemon(i))}),g()()()}if(e&2){let n=H(2);E(4),Q("pokemonId",n.selectedPokemonId)}}function II(e,t){if(e&1&&(p(0,"div"),_e(1,EI,4,1,"div",33)(2,bI,5,1,"div",34),g()),e&2){let n=H();E(),Q("ngIf",n.isDesktop),E(),Q("ngIf",!n.isDesktop)}}function MI(e,t){if(e&1){let n=at();p(0,"button",53),K("click",function(){let i=he(n).$implicit,o=H(2);return pe(o.toggleTypeSelection(i))}),_(1),g()}if(e&2){let n=t.$implicit,r=H(2);Q("ngClass",yc(2,mI,r.selectedTypes.includes(n)?"bg-purple-700 text-white":"bg-white "+r.getTypeColor(n))),E(),J(" ",n," ")}}function xI(e,t){if(e&1&&(p(0,"option",49),_(1),g()),e&2){let n=t.$implicit;Q("value",n),E(),Xn(n)}}function SI(e,t){if(e&1){let n=at();p(0,"div",18)(1,"div",40)(2,"button",36),K("click",function(){he(n);let i=H();return pe(i.showAdvancedSearch=!1)}),_(3," \xD7 "),g(),p(4,"h2",41),_(5," Advanced search "),g(),p(6,"div",6)(7,"label",42),_(8,"Type:"),g(),p(9,"div",43),Ze(10,MI,2,4,"button",44,Ct),g()(),p(12,"div",6)(13,"label",42),_(14,"Ability:"),g(),p(15,"input",45),tr("ngModelChange",function(i){he(n);let o=H();return Gr(o.advancedSearch.ability,i)||(o.advancedSearch.ability=i),pe(i)}),g()(),p(16,"div",6)(17,"label",42),_(18,"Move:"),g(),p(19,"input",46),tr("ngModelChange",function(i){he(n);let o=H();return Gr(o.advancedSearch.move,i)||(o.advancedSearch.move=i),pe(i)}),g()(),p(20,"div",6)(21,"label",42),_(22,"Region:"),g(),p(23,"select",47),tr("ngModelChange",function(i){he(n);let o=H();return Gr(o.advancedSearch.region,i)||(o.advancedSearch.region=i),pe(i)}),p(24,"option",48),_(25,"All regions"),g(),Ze(26,xI,2,2,"option",49,Ct),g()(),p(28,"div",50)(29,"button",51),K("click",function(){he(n);let i=H();return pe(i.resetAdvancedSearch())}),_(30," Clear "),g(),p(31,"button",52),K("click",function(){he(n);let i=H();return pe(i.applyAdvancedSearch())}),_(32," Apply "),g()()()()}if(e&2){let n=H();E(10),Ye(n.availableTypes),E(5),er("ngModel",n.advancedSearch.ability),E(4),er("ngModel",n.advancedSearch.move),E(4),er("ngModel",n.advancedSearch.region),E(3),Ye(n.regions)}}var jR=(()=>{class e{constructor(n){this.pokemonService=n,this.allPokemons=[],this.displayedPokemons=[],this.searchTerm="",this.currentPage=0,this.limit=9,this.totalPages=0,this.pages=[],this.loading=!1,this.showAdvancedSearch=!1,this.selectedTypes=[],this.selectedPokemonId=null,this.closingCard=!1,this.isDesktop=window.innerWidth>860,this.availableTypes=["normal","fire","water","grass","electric","ice","fighting","poison","ground","flying","psychic","bug","rock","ghost","dark","dragon","steel","fairy"],this.regions=["Kanto","Johto","Hoenn","Sinnoh","Unova","Kalos","Alola","Galar","Paldea"],this.regionToGenerationMap={Kanto:"generation-i",Johto:"generation-ii",Hoenn:"generation-iii",Sinnoh:"generation-iv",Unova:"generation-v",Kalos:"generation-vi",Alola:"generation-vii",Galar:"generation-viii",Paldea:"generation-ix"},this.advancedSearch={ability:"",move:"",region:""}}ngOnInit(){this.loadAllPokemons(),window.addEventListener("resize",()=>{this.isDesktop=window.innerWidth>860})}displayPage(n){return typeof n=="number"?n+1:n}loadAllPokemons(){this.loading=!0,this.pokemonService.getAllPokemons().subscribe(n=>{this.allPokemons=n,this.currentPage=0,this.updateDisplayedPokemons(),this.loading=!1},()=>this.loading=!1)}get filteredPokemons(){let n=this.searchTerm.toLowerCase().trim();return this.allPokemons.filter(r=>{let i=r.name.toLowerCase().includes(n),o=r.id.toString().includes(n),s=this.selectedTypes.length===0||this.selectedTypes.some(a=>r.type.includes(a));return(i||o)&&s})}updateDisplayedPokemons(){let n=this.currentPage*this.limit,r=n+this.limit;this.displayedPokemons=this.filteredPokemons.slice(n,r),this.totalPages=Math.ceil(this.filteredPokemons.length/this.limit),this.pages=this.calculatePages()}calculatePages(){let n=[];if(this.totalPages<=5)for(let i=0;i<this.totalPages;i++)n.push(i);else{let o=this.totalPages-1,s=Math.max(this.currentPage-1,1),a=Math.min(this.currentPage+1,o-1);s>1?n.push(0,"..."):n.push(0);for(let l=s;l<=a;l++)n.push(l);a<o-1?n.push("...",o):a===o-1&&n.push(o)}return n}goToPage(n){typeof n=="number"&&(this.loading=!0,setTimeout(()=>{this.currentPage=n,this.updateDisplayedPokemons(),window.scrollTo({top:0,behavior:"smooth"}),this.loading=!1},300))}onSearchTermChange(){this.loading=!0,setTimeout(()=>{this.currentPage=0,this.updateDisplayedPokemons(),this.loading=!1},300)}selectPokemon(n){this.loading=!0,setTimeout(()=>{this.selectedPokemonId=n,this.closingCard=!1,this.loading=!1},150)}selectEvolutionPokemon(n){n&&(this.loading=!0,this.closingCard=!0,setTimeout(()=>{this.selectedPokemonId=n,this.closingCard=!1,setTimeout(()=>{this.detailsCard&&(this.detailsCard.nativeElement.scrollTop=0),this.loading=!1},50)},300))}toggleTypeSelection(n){this.loading=!0,setTimeout(()=>{this.selectedTypes.includes(n)?this.selectedTypes=this.selectedTypes.filter(r=>r!==n):this.selectedTypes.push(n),this.currentPage=0,this.updateDisplayedPokemons(),this.loading=!1},150)}resetAdvancedSearch(){this.loading=!0,setTimeout(()=>{this.selectedTypes=[],this.advancedSearch={ability:"",move:"",region:""},this.searchTerm="",this.showAdvancedSearch=!1,this.loadAllPokemons(),this.loading=!1},300)}applyAdvancedSearch(){this.loading=!0,this.currentPage=0;let n={name:this.searchTerm.trim()||void 0,types:this.selectedTypes.length>0?this.selectedTypes:void 0,ability:this.advancedSearch.ability.trim()||void 0,move:this.advancedSearch.move.trim()||void 0,generation:this.advancedSearch.region?this.regionToGenerationMap[this.advancedSearch.region]:void 0};this.pokemonService.searchAdvancedPokemons(n).subscribe(r=>{this.allPokemons=r,this.updateDisplayedPokemons(),this.loading=!1},()=>this.loading=!1),this.showAdvancedSearch=!1}getTypeColor(n){switch(n.toLowerCase()){case"fire":return"text-orange-500";case"fighting":return"text-orange-700";case"flying":return"text-blue-300";case"water":return"text-blue-500";case"ice":return"text-blue-700";case"grass":return"text-green-500";case"bug":return"text-green-700";case"ground":return"text-yellow-500";case"electric":return"text-yellow-300";case"dragon":return"text-red-500";case"rock":return"text-yellow-700";case"psychic":return"text-pink-700";case"fairy":return"text-pink-500";case"ghost":return"text-purple-500";case"poison":return"text-purple-700";case"dark":return"text-black";default:return"text-gray-500"}}trackPokemon(n,r){return r.id}static{this.\u0275fac=function(r){return new(r||e)(L(Us))}}static{this.\u0275cmp=Pt({type:e,selectors:[["app-home"]],viewQuery:function(r,i){if(r&1&&ap(hI,5),r&2){let o;mc(o=vc())&&(i.detailsCard=o.first)}},standalone:!0,features:[jt],decls:33,vars:13,consts:[[1,"bg-gray-200","min-h-screen","text-black","flex","items-center","justify-center","p-4","overflow-x-hidden"],[4,"ngIf"],[1,"bg-white","rounded-2xl","shadow-lg","p-6","md:p-8","w-full","max-w-6xl","flex","flex-col","relative"],[1,"flex","items-center","justify-center","gap-4","mb-4"],["src","assets/gengar.webp","alt","Gengar",1,"h-16","md:h-20","w-auto","drop-shadow-lg"],[1,"text-5xl","md:text-6xl","fredoka-one","text-purple-700","text-center","drop-shadow-2xl","glow-title"],[1,"mb-4"],["type","text","placeholder","Search by pokedex number or pokemon...",1,"montserrat","w-full","p-3","rounded-full","border","border-gray-300","text-black","focus:outline-none","focus:ring-2","focus:ring-purple-500",3,"ngModelChange","input","ngModel"],[1,"text-right","fredoka-one","mb-4"],[1,"text-purple-600","hover:underline","text-sm",3,"click"],[1,"flex-1","overflow-hidden","relative","flex","transition-all","duration-300",2,"height","calc(95vh - 150px)",3,"ngClass"],[1,"flex-1","overflow-y-auto","overflow-x-hidden","pr-1"],[1,"grid","grid-cols-1","sm:grid-cols-2","md:grid-cols-3","gap-6",3,"ngClass"],[1,"pokemon-card","bg-gradient-to-b","from-white","to-purple-50","rounded-3xl","shadow-lg","p-5","text-center","relative","cursor-pointer","border","border-purple-100","hover:shadow-2xl","hover:scale-105","transition"],[1,"mt-8","w-full","flex","justify-center"],[1,"flex","items-center","justify-center","gap-2","w-full","max-w-full","px-4","py-3","rounded-2xl","bg-white/70","backdrop-blur-md","shadow-lg","border","border-purple-200"],[1,"px-4","py-2","rounded-full","text-sm","font-semibold","transition","border","border-purple-300","text-purple-600","hover:bg-purple-100","disabled:opacity-40",3,"click","disabled"],[4,"ngFor","ngForOf"],[1,"fixed","inset-0","bg-black/50","flex","items-center","justify-center","z-50"],[1,"w-full","text-center","text-gray-600","text-sm","mt-6","p-4","border-t","border-gray-300"],[1,"mt-1"],[1,"pokemon-card","bg-gradient-to-b","from-white","to-purple-50","rounded-3xl","shadow-lg","p-5","text-center","relative","cursor-pointer","border","border-purple-100","hover:shadow-2xl","hover:scale-105","transition",3,"click"],[1,"absolute","top-3","left-3","text-sm","text-gray-400","font-semibold"],[1,"flex","justify-center","items-center","gap-4","mb-3"],[1,"h-28","w-28","object-contain",3,"src"],[1,"text-left","montserrat","text-sm","text-gray-700"],[1,"flex","flex-wrap","montserrat","justify-center","gap-2","mb-3"],[1,"font-medium","text-sm","capitalize","px-3","py-1","rounded-full","bg-white","shadow-sm","border","border-gray-200",3,"ngClass"],[1,"text-lg","fredoka-one","font-semibold","capitalize","text-black"],["class","px-3 py-2 text-gray-500 font-semibold",4,"ngIf"],["class","px-4 py-2 rounded-full text-sm font-semibold transition whitespace-nowrap",3,"ngClass","click",4,"ngIf"],[1,"px-3","py-2","text-gray-500","font-semibold"],[1,"px-4","py-2","rounded-full","text-sm","font-semibold","transition","whitespace-nowrap",3,"click","ngClass"],["class","w-[430px] bg-white rounded-2xl shadow-lg p-6 overflow-visible self-start transition-opacity duration-300 relative",4,"ngIf"],["class","fixed inset-0 bg-black/60 z-50 flex items-start justify-center p-2 overflow-y-auto",4,"ngIf"],[1,"w-[430px]","bg-white","rounded-2xl","shadow-lg","p-6","overflow-visible","self-start","transition-opacity","duration-300","relative"],[1,"absolute","top-2","right-2","text-gray-500","hover:text-red-700","text-3xl",3,"click"],[3,"evolutionClicked","pokemonId"],[1,"fixed","inset-0","bg-black/60","z-50","flex","items-start","justify-center","p-2","overflow-y-auto"],[1,"bg-white","w-full","h-full","max-w-md","rounded-2xl","shadow-2xl","p-6","relative","overflow-y-auto"],[1,"bg-white","rounded-2xl","shadow-lg","p-6","w-full","max-w-md","relative"],[1,"text-3xl","fredoka-one","text-center","text-purple-700","mb-4"],[1,"block","font-semibold","fredoka-one","text-purple-700","mb-1"],[1,"flex","flex-wrap","gap-2"],[3,"ngClass"],["placeholder","ex: telepathy",1,"w-full","p-2","montserrat","border","rounded-md","border-gray-300",3,"ngModelChange","ngModel"],["placeholder","ex: draco-meteor",1,"w-full","p-2","montserrat","border","rounded-md","border-gray-300",3,"ngModelChange","ngModel"],[1,"montserrat","w-full","p-2","border","rounded-md","border-gray-300",3,"ngModelChange","ngModel"],["value",""],[3,"value"],[1,"flex","justify-between"],[1,"bg-gray-500","text-white","px-4","py-2","rounded-full","hover:bg-red-600","transition",3,"click"],[1,"bg-purple-500","text-white","px-4","py-2","rounded-full","hover:bg-purple-700","transition",3,"click"],[3,"click","ngClass"]],template:function(r,i){r&1&&(p(0,"body",0),_e(1,vI,1,0,"app-loading",1),p(2,"div",2)(3,"div",3),F(4,"img",4),p(5,"h1",5),_(6," Pokedex "),g()(),p(7,"div",6)(8,"input",7),tr("ngModelChange",function(s){return Gr(i.searchTerm,s)||(i.searchTerm=s),s}),K("input",function(){return i.onSearchTermChange()}),g()(),p(9,"div",8)(10,"button",9),K("click",function(){return i.showAdvancedSearch=!0}),_(11," Advanced search? "),g()(),p(12,"div",10)(13,"div",11)(14,"div",12),Ze(15,DI,19,5,"div",13,pI),g(),p(17,"div",14)(18,"div",15)(19,"button",16),K("click",function(){return i.goToPage(i.currentPage-1)}),_(20," \u2039 Prev "),g(),_e(21,_I,3,2,"ng-container",17),p(22,"button",16),K("click",function(){return i.goToPage(i.currentPage+1)}),_(23," Next \u203A "),g()()()(),_e(24,II,3,2,"div",1),g(),_e(25,SI,33,3,"div",18),p(26,"footer",19)(27,"p",20),_(28,"\xA9 2025 Pokedex. All rights reserved."),g(),p(29,"small"),_(30,"Developed by "),p(31,"strong"),_(32,"Marcos Cunha"),g()()()()()),r&2&&(E(),Q("ngIf",i.loading),E(7),er("ngModel",i.searchTerm),E(4),zr("opacity-100",!i.closingCard),Q("ngClass",i.selectedPokemonId?i.isDesktop?"flex-row gap-6":"flex-col gap-0":(i.isDesktop,"flex-col gap-0")),E(2),Q("ngClass",yc(11,gI,!i.isDesktop)),E(),Ye(i.displayedPokemons),E(4),Q("disabled",i.currentPage===0),E(2),Q("ngForOf",i.pages),E(),Q("disabled",i.currentPage>=i.totalPages-1),E(2),Q("ngIf",i.selectedPokemonId),E(),Jn(25,i.showAdvancedSearch?25:-1))},dependencies:[Zr,os,xp,Sp,eg,Kp,Xp,ds,hs,qp,jc,lm,am,dm],styles:[".pokemon-card[_ngcontent-%COMP%]{cursor:pointer}@keyframes _ngcontent-%COMP%_slideDown{0%{transform:translateY(-20px);opacity:0}to{transform:translateY(0);opacity:1}}.animate-slideDown[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_slideDown .25s ease-out}.pokedex-container[_ngcontent-%COMP%]{position:relative;padding:20px}.pokemon-list[_ngcontent-%COMP%]{display:grid;grid-template-columns:repeat(auto-fill,minmax(180px,1fr));gap:20px}.pokemon-card[_ngcontent-%COMP%]{background:#fff;border-radius:12px;padding:16px;box-shadow:0 4px 12px #0000001a;cursor:pointer;text-align:center;transition:transform .2s}.pokemon-card[_ngcontent-%COMP%]:hover{transform:translateY(-4px)}.pokemon-detail-overlay[_ngcontent-%COMP%]{position:fixed;inset:0;background:#0006;z-index:10}.pokemon-detail[_ngcontent-%COMP%]{position:absolute;top:20px;left:50%;transform:translate(-50%);width:450px;max-width:95%;background:#fff;border-radius:20px;padding:25px;z-index:11;box-shadow:0 8px 20px #0003}body[_ngcontent-%COMP%], html[_ngcontent-%COMP%]{overflow-y:auto!important}@media (max-width: 860px){.pokemon-detail[_ngcontent-%COMP%]{position:absolute;width:100%;left:0;transform:none;top:0;margin:0;border-radius:0 0 20px 20px;padding:20px}.pokemon-list.blur[_ngcontent-%COMP%]{filter:blur(2px);pointer-events:none}}.close-btn[_ngcontent-%COMP%]{background:transparent;border:none;font-size:22px;position:absolute;top:10px;right:20px;cursor:pointer}.glow-title[_ngcontent-%COMP%]{text-shadow:3px 3px 5px rgba(247,194,247,.7),0 0 15px rgba(128,0,128,.5)}"]})}}return e})();export{Pt as a,_e as b,TA as c,AA as d,F as e,jt as f,NN as g,eR as h,CR as i,dm as j,jR as k};
+`).forEach(n=>{let r=n.indexOf(":");if(r>0){let i=n.slice(0,r),o=i.toLowerCase(),s=n.slice(r+1).trim();this.maybeSetNormalizedName(i,o),this.headers.has(o)?this.headers.get(o).push(s):this.headers.set(o,[s])}})}:typeof Headers<"u"&&t instanceof Headers?(this.headers=new Map,t.forEach((n,r)=>{this.setHeaderEntries(r,n)})):this.lazyInit=()=>{this.headers=new Map,Object.entries(t).forEach(([n,r])=>{this.setHeaderEntries(n,r)})}:this.headers=new Map}has(t){return this.init(),this.headers.has(t.toLowerCase())}get(t){this.init();let n=this.headers.get(t.toLowerCase());return n&&n.length>0?n[0]:null}keys(){return this.init(),Array.from(this.normalizedNames.values())}getAll(t){return this.init(),this.headers.get(t.toLowerCase())||null}append(t,n){return this.clone({name:t,value:n,op:"a"})}set(t,n){return this.clone({name:t,value:n,op:"s"})}delete(t,n){return this.clone({name:t,value:n,op:"d"})}maybeSetNormalizedName(t,n){this.normalizedNames.has(n)||this.normalizedNames.set(n,t)}init(){this.lazyInit&&(this.lazyInit instanceof e?this.copyFrom(this.lazyInit):this.lazyInit(),this.lazyInit=null,this.lazyUpdate&&(this.lazyUpdate.forEach(t=>this.applyUpdate(t)),this.lazyUpdate=null))}copyFrom(t){t.init(),Array.from(t.headers.keys()).forEach(n=>{this.headers.set(n,t.headers.get(n)),this.normalizedNames.set(n,t.normalizedNames.get(n))})}clone(t){let n=new e;return n.lazyInit=this.lazyInit&&this.lazyInit instanceof e?this.lazyInit:this,n.lazyUpdate=(this.lazyUpdate||[]).concat([t]),n}applyUpdate(t){let n=t.name.toLowerCase();switch(t.op){case"a":case"s":let r=t.value;if(typeof r=="string"&&(r=[r]),r.length===0)return;this.maybeSetNormalizedName(t.name,n);let i=(t.op==="a"?this.headers.get(n):void 0)||[];i.push(...r),this.headers.set(n,i);break;case"d":let o=t.value;if(!o)this.headers.delete(n),this.normalizedNames.delete(n);else{let s=this.headers.get(n);if(!s)return;s=s.filter(a=>o.indexOf(a)===-1),s.length===0?(this.headers.delete(n),this.normalizedNames.delete(n)):this.headers.set(n,s)}break}}setHeaderEntries(t,n){let r=(Array.isArray(n)?n:[n]).map(o=>o.toString()),i=t.toLowerCase();this.headers.set(i,r),this.maybeSetNormalizedName(t,i)}forEach(t){this.init(),Array.from(this.normalizedNames.keys()).forEach(n=>t(this.normalizedNames.get(n),this.headers.get(n)))}};var Bc=class{encodeKey(t){return tg(t)}encodeValue(t){return tg(t)}decodeKey(t){return decodeURIComponent(t)}decodeValue(t){return decodeURIComponent(t)}};function m_(e,t){let n=new Map;return e.length>0&&e.replace(/^\?/,"").split("&").forEach(i=>{let o=i.indexOf("="),[s,a]=o==-1?[t.decodeKey(i),""]:[t.decodeKey(i.slice(0,o)),t.decodeValue(i.slice(o+1))],l=n.get(s)||[];l.push(a),n.set(s,l)}),n}var v_=/%(\d[a-f0-9])/gi,y_={40:"@","3A":":",24:"$","2C":",","3B":";","3D":"=","3F":"?","2F":"/"};function tg(e){return encodeURIComponent(e).replace(v_,(t,n)=>y_[n]??t)}function ps(e){return`${e}`}var Ee=class e{constructor(t={}){if(this.updates=null,this.cloneFrom=null,this.encoder=t.encoder||new Bc,t.fromString){if(t.fromObject)throw new Error("Cannot specify both fromString and fromObject.");this.map=m_(t.fromString,this.encoder)}else t.fromObject?(this.map=new Map,Object.keys(t.fromObject).forEach(n=>{let r=t.fromObject[n],i=Array.isArray(r)?r.map(ps):[ps(r)];this.map.set(n,i)})):this.map=null}has(t){return this.init(),this.map.has(t)}get(t){this.init();let n=this.map.get(t);return n?n[0]:null}getAll(t){return this.init(),this.map.get(t)||null}keys(){return this.init(),Array.from(this.map.keys())}append(t,n){return this.clone({param:t,value:n,op:"a"})}appendAll(t){let n=[];return Object.keys(t).forEach(r=>{let i=t[r];Array.isArray(i)?i.forEach(o=>{n.push({param:r,value:o,op:"a"})}):n.push({param:r,value:i,op:"a"})}),this.clone(n)}set(t,n){return this.clone({param:t,value:n,op:"s"})}delete(t,n){return this.clone({param:t,value:n,op:"d"})}toString(){return this.init(),this.keys().map(t=>{let n=this.encoder.encodeKey(t);return this.map.get(t).map(r=>n+"="+this.encoder.encodeValue(r)).join("&")}).filter(t=>t!=="").join("&")}clone(t){let n=new e({encoder:this.encoder});return n.cloneFrom=this.cloneFrom||this,n.updates=(this.updates||[]).concat(t),n}init(){this.map===null&&(this.map=new Map),this.cloneFrom!==null&&(this.cloneFrom.init(),this.cloneFrom.keys().forEach(t=>this.map.set(t,this.cloneFrom.map.get(t))),this.updates.forEach(t=>{switch(t.op){case"a":case"s":let n=(t.op==="a"?this.map.get(t.param):void 0)||[];n.push(ps(t.value)),this.map.set(t.param,n);break;case"d":if(t.value!==void 0){let r=this.map.get(t.param)||[],i=r.indexOf(ps(t.value));i!==-1&&r.splice(i,1),r.length>0?this.map.set(t.param,r):this.map.delete(t.param)}else{this.map.delete(t.param);break}}}),this.cloneFrom=this.updates=null)}};var $c=class{constructor(){this.map=new Map}set(t,n){return this.map.set(t,n),this}get(t){return this.map.has(t)||this.map.set(t,t.defaultValue()),this.map.get(t)}delete(t){return this.map.delete(t),this}has(t){return this.map.has(t)}keys(){return this.map.keys()}};function D_(e){switch(e){case"DELETE":case"GET":case"HEAD":case"OPTIONS":case"JSONP":return!1;default:return!0}}function ng(e){return typeof ArrayBuffer<"u"&&e instanceof ArrayBuffer}function rg(e){return typeof Blob<"u"&&e instanceof Blob}function ig(e){return typeof FormData<"u"&&e instanceof FormData}function C_(e){return typeof URLSearchParams<"u"&&e instanceof URLSearchParams}var Jr=class e{constructor(t,n,r,i){this.url=n,this.body=null,this.reportProgress=!1,this.withCredentials=!1,this.responseType="json",this.method=t.toUpperCase();let o;if(D_(this.method)||i?(this.body=r!==void 0?r:null,o=i):o=r,o&&(this.reportProgress=!!o.reportProgress,this.withCredentials=!!o.withCredentials,o.responseType&&(this.responseType=o.responseType),o.headers&&(this.headers=o.headers),o.context&&(this.context=o.context),o.params&&(this.params=o.params),this.transferCache=o.transferCache),this.headers??=new vn,this.context??=new $c,!this.params)this.params=new Ee,this.urlWithParams=n;else{let s=this.params.toString();if(s.length===0)this.urlWithParams=n;else{let a=n.indexOf("?"),l=a===-1?"?":a<n.length-1?"&":"";this.urlWithParams=n+l+s}}}serializeBody(){return this.body===null?null:typeof this.body=="string"||ng(this.body)||rg(this.body)||ig(this.body)||C_(this.body)?this.body:this.body instanceof Ee?this.body.toString():typeof this.body=="object"||typeof this.body=="boolean"||Array.isArray(this.body)?JSON.stringify(this.body):this.body.toString()}detectContentTypeHeader(){return this.body===null||ig(this.body)?null:rg(this.body)?this.body.type||null:ng(this.body)?null:typeof this.body=="string"?"text/plain":this.body instanceof Ee?"application/x-www-form-urlencoded;charset=UTF-8":typeof this.body=="object"||typeof this.body=="number"||typeof this.body=="boolean"?"application/json":null}clone(t={}){let n=t.method||this.method,r=t.url||this.url,i=t.responseType||this.responseType,o=t.transferCache??this.transferCache,s=t.body!==void 0?t.body:this.body,a=t.withCredentials??this.withCredentials,l=t.reportProgress??this.reportProgress,c=t.headers||this.headers,u=t.params||this.params,d=t.context??this.context;return t.setHeaders!==void 0&&(c=Object.keys(t.setHeaders).reduce((f,h)=>f.set(h,t.setHeaders[h]),c)),t.setParams&&(u=Object.keys(t.setParams).reduce((f,h)=>f.set(h,t.setParams[h]),u)),new e(n,r,s,{params:u,headers:c,context:d,reportProgress:l,responseType:i,withCredentials:a,transferCache:o})}},sr=function(e){return e[e.Sent=0]="Sent",e[e.UploadProgress=1]="UploadProgress",e[e.ResponseHeader=2]="ResponseHeader",e[e.DownloadProgress=3]="DownloadProgress",e[e.Response=4]="Response",e[e.User=5]="User",e}(sr||{}),ei=class{constructor(t,n=ys.Ok,r="OK"){this.headers=t.headers||new vn,this.status=t.status!==void 0?t.status:n,this.statusText=t.statusText||r,this.url=t.url||null,this.ok=this.status>=200&&this.status<300}},Hc=class e extends ei{constructor(t={}){super(t),this.type=sr.ResponseHeader}clone(t={}){return new e({headers:t.headers||this.headers,status:t.status!==void 0?t.status:this.status,statusText:t.statusText||this.statusText,url:t.url||this.url||void 0})}},ms=class e extends ei{constructor(t={}){super(t),this.type=sr.Response,this.body=t.body!==void 0?t.body:null}clone(t={}){return new e({body:t.body!==void 0?t.body:this.body,headers:t.headers||this.headers,status:t.status!==void 0?t.status:this.status,statusText:t.statusText||this.statusText,url:t.url||this.url||void 0})}},vs=class extends ei{constructor(t){super(t,0,"Unknown Error"),this.name="HttpErrorResponse",this.ok=!1,this.status>=200&&this.status<300?this.message=`Http failure during parsing for ${t.url||"(unknown url)"}`:this.message=`Http failure response for ${t.url||"(unknown url)"}: ${t.status} ${t.statusText}`,this.error=t.error||null}},ys=function(e){return e[e.Continue=100]="Continue",e[e.SwitchingProtocols=101]="SwitchingProtocols",e[e.Processing=102]="Processing",e[e.EarlyHints=103]="EarlyHints",e[e.Ok=200]="Ok",e[e.Created=201]="Created",e[e.Accepted=202]="Accepted",e[e.NonAuthoritativeInformation=203]="NonAuthoritativeInformation",e[e.NoContent=204]="NoContent",e[e.ResetContent=205]="ResetContent",e[e.PartialContent=206]="PartialContent",e[e.MultiStatus=207]="MultiStatus",e[e.AlreadyReported=208]="AlreadyReported",e[e.ImUsed=226]="ImUsed",e[e.MultipleChoices=300]="MultipleChoices",e[e.MovedPermanently=301]="MovedPermanently",e[e.Found=302]="Found",e[e.SeeOther=303]="SeeOther",e[e.NotModified=304]="NotModified",e[e.UseProxy=305]="UseProxy",e[e.Unused=306]="Unused",e[e.TemporaryRedirect=307]="TemporaryRedirect",e[e.PermanentRedirect=308]="PermanentRedirect",e[e.BadRequest=400]="BadRequest",e[e.Unauthorized=401]="Unauthorized",e[e.PaymentRequired=402]="PaymentRequired",e[e.Forbidden=403]="Forbidden",e[e.NotFound=404]="NotFound",e[e.MethodNotAllowed=405]="MethodNotAllowed",e[e.NotAcceptable=406]="NotAcceptable",e[e.ProxyAuthenticationRequired=407]="ProxyAuthenticationRequired",e[e.RequestTimeout=408]="RequestTimeout",e[e.Conflict=409]="Conflict",e[e.Gone=410]="Gone",e[e.LengthRequired=411]="LengthRequired",e[e.PreconditionFailed=412]="PreconditionFailed",e[e.PayloadTooLarge=413]="PayloadTooLarge",e[e.UriTooLong=414]="UriTooLong",e[e.UnsupportedMediaType=415]="UnsupportedMediaType",e[e.RangeNotSatisfiable=416]="RangeNotSatisfiable",e[e.ExpectationFailed=417]="ExpectationFailed",e[e.ImATeapot=418]="ImATeapot",e[e.MisdirectedRequest=421]="MisdirectedRequest",e[e.UnprocessableEntity=422]="UnprocessableEntity",e[e.Locked=423]="Locked",e[e.FailedDependency=424]="FailedDependency",e[e.TooEarly=425]="TooEarly",e[e.UpgradeRequired=426]="UpgradeRequired",e[e.PreconditionRequired=428]="PreconditionRequired",e[e.TooManyRequests=429]="TooManyRequests",e[e.RequestHeaderFieldsTooLarge=431]="RequestHeaderFieldsTooLarge",e[e.UnavailableForLegalReasons=451]="UnavailableForLegalReasons",e[e.InternalServerError=500]="InternalServerError",e[e.NotImplemented=501]="NotImplemented",e[e.BadGateway=502]="BadGateway",e[e.ServiceUnavailable=503]="ServiceUnavailable",e[e.GatewayTimeout=504]="GatewayTimeout",e[e.HttpVersionNotSupported=505]="HttpVersionNotSupported",e[e.VariantAlsoNegotiates=506]="VariantAlsoNegotiates",e[e.InsufficientStorage=507]="InsufficientStorage",e[e.LoopDetected=508]="LoopDetected",e[e.NotExtended=510]="NotExtended",e[e.NetworkAuthenticationRequired=511]="NetworkAuthenticationRequired",e}(ys||{});function Uc(e,t){return{body:t,headers:e.headers,context:e.context,observe:e.observe,params:e.params,reportProgress:e.reportProgress,responseType:e.responseType,withCredentials:e.withCredentials,transferCache:e.transferCache}}var zc=(()=>{class e{constructor(n){this.handler=n}request(n,r,i={}){let o;if(n instanceof Jr)o=n;else{let l;i.headers instanceof vn?l=i.headers:l=new vn(i.headers);let c;i.params&&(i.params instanceof Ee?c=i.params:c=new Ee({fromObject:i.params})),o=new Jr(n,r,i.body!==void 0?i.body:null,{headers:l,context:i.context,params:c,reportProgress:i.reportProgress,responseType:i.responseType||"json",withCredentials:i.withCredentials,transferCache:i.transferCache})}let s=T(o).pipe(dt(l=>this.handler.handle(l)));if(n instanceof Jr||i.observe==="events")return s;let a=s.pipe(Ie(l=>l instanceof ms));switch(i.observe||"body"){case"body":switch(o.responseType){case"arraybuffer":return a.pipe(N(l=>{if(l.body!==null&&!(l.body instanceof ArrayBuffer))throw new Error("Response is not an ArrayBuffer.");return l.body}));case"blob":return a.pipe(N(l=>{if(l.body!==null&&!(l.body instanceof Blob))throw new Error("Response is not a Blob.");return l.body}));case"text":return a.pipe(N(l=>{if(l.body!==null&&typeof l.body!="string")throw new Error("Response is not a string.");return l.body}));case"json":default:return a.pipe(N(l=>l.body))}case"response":return a;default:throw new Error(`Unreachable: unhandled observe type ${i.observe}}`)}}delete(n,r={}){return this.request("DELETE",n,r)}get(n,r={}){return this.request("GET",n,r)}head(n,r={}){return this.request("HEAD",n,r)}jsonp(n,r){return this.request("JSONP",n,{params:new Ee().append(r,"JSONP_CALLBACK"),observe:"body",responseType:"json"})}options(n,r={}){return this.request("OPTIONS",n,r)}patch(n,r,i={}){return this.request("PATCH",n,Uc(i,r))}post(n,r,i={}){return this.request("POST",n,Uc(i,r))}put(n,r,i={}){return this.request("PUT",n,Uc(i,r))}static{this.\u0275fac=function(r){return new(r||e)(M(Xr))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function w_(e,t){return t(e)}function __(e,t,n){return(r,i)=>Ge(n,()=>t(r,o=>e(o,i)))}var ag=new I(""),E_=new I(""),b_=new I("");var og=(()=>{class e extends Xr{constructor(n,r){super(),this.backend=n,this.injector=r,this.chain=null,this.pendingTasks=y(hn);let i=y(b_,{optional:!0});this.backend=i??n}handle(n){if(this.chain===null){let i=Array.from(new Set([...this.injector.get(ag),...this.injector.get(E_,[])]));this.chain=i.reduceRight((o,s)=>__(o,s,this.injector),w_)}let r=this.pendingTasks.add();return this.chain(n,i=>this.backend.handle(i)).pipe(Zt(()=>this.pendingTasks.remove(r)))}static{this.\u0275fac=function(r){return new(r||e)(M(gs),M(ue))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();var I_=/^\)\]\}',?\n/;function M_(e){return"responseURL"in e&&e.responseURL?e.responseURL:/^X-Request-URL:/m.test(e.getAllResponseHeaders())?e.getResponseHeader("X-Request-URL"):null}var sg=(()=>{class e{constructor(n){this.xhrFactory=n}handle(n){if(n.method==="JSONP")throw new b(-2800,!1);let r=this.xhrFactory;return(r.\u0275loadImpl?Z(r.\u0275loadImpl()):T(null)).pipe(Me(()=>new $(o=>{let s=r.build();if(s.open(n.method,n.urlWithParams),n.withCredentials&&(s.withCredentials=!0),n.headers.forEach((v,C)=>s.setRequestHeader(v,C.join(","))),n.headers.has("Accept")||s.setRequestHeader("Accept","application/json, text/plain, */*"),!n.headers.has("Content-Type")){let v=n.detectContentTypeHeader();v!==null&&s.setRequestHeader("Content-Type",v)}if(n.responseType){let v=n.responseType.toLowerCase();s.responseType=v!=="json"?v:"text"}let a=n.serializeBody(),l=null,c=()=>{if(l!==null)return l;let v=s.statusText||"OK",C=new vn(s.getAllResponseHeaders()),x=M_(s)||n.url;return l=new Hc({headers:C,status:s.status,statusText:v,url:x}),l},u=()=>{let{headers:v,status:C,statusText:x,url:Qe}=c(),G=null;C!==ys.NoContent&&(G=typeof s.response>"u"?s.responseText:s.response),C===0&&(C=G?ys.Ok:0);let Te=C>=200&&C<300;if(n.responseType==="json"&&typeof G=="string"){let It=G;G=G.replace(I_,"");try{G=G!==""?JSON.parse(G):null}catch(Ae){G=It,Te&&(Te=!1,G={error:Ae,text:G})}}Te?(o.next(new ms({body:G,headers:v,status:C,statusText:x,url:Qe||void 0})),o.complete()):o.error(new vs({error:G,headers:v,status:C,statusText:x,url:Qe||void 0}))},d=v=>{let{url:C}=c(),x=new vs({error:v,status:s.status||0,statusText:s.statusText||"Unknown Error",url:C||void 0});o.error(x)},f=!1,h=v=>{f||(o.next(c()),f=!0);let C={type:sr.DownloadProgress,loaded:v.loaded};v.lengthComputable&&(C.total=v.total),n.responseType==="text"&&s.responseText&&(C.partialText=s.responseText),o.next(C)},m=v=>{let C={type:sr.UploadProgress,loaded:v.loaded};v.lengthComputable&&(C.total=v.total),o.next(C)};return s.addEventListener("load",u),s.addEventListener("error",d),s.addEventListener("timeout",d),s.addEventListener("abort",d),n.reportProgress&&(s.addEventListener("progress",h),a!==null&&s.upload&&s.upload.addEventListener("progress",m)),s.send(a),o.next({type:sr.Sent}),()=>{s.removeEventListener("error",d),s.removeEventListener("abort",d),s.removeEventListener("load",u),s.removeEventListener("timeout",d),n.reportProgress&&(s.removeEventListener("progress",h),a!==null&&s.upload&&s.upload.removeEventListener("progress",m)),s.readyState!==s.DONE&&s.abort()}})))}static{this.\u0275fac=function(r){return new(r||e)(M(rr))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),lg=new I(""),x_="XSRF-TOKEN",S_=new I("",{providedIn:"root",factory:()=>x_}),T_="X-XSRF-TOKEN",A_=new I("",{providedIn:"root",factory:()=>T_}),Ds=class{},N_=(()=>{class e{constructor(n,r,i){this.doc=n,this.platform=r,this.cookieName=i,this.lastCookieString="",this.lastToken=null,this.parseCount=0}getToken(){if(this.platform==="server")return null;let n=this.doc.cookie||"";return n!==this.lastCookieString&&(this.parseCount++,this.lastToken=is(n,this.cookieName),this.lastCookieString=n),this.lastToken}static{this.\u0275fac=function(r){return new(r||e)(M(ve),M(ot),M(S_))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function R_(e,t){let n=e.url.toLowerCase();if(!y(lg)||e.method==="GET"||e.method==="HEAD"||n.startsWith("http://")||n.startsWith("https://"))return t(e);let r=y(Ds).getToken(),i=y(A_);return r!=null&&!e.headers.has(i)&&(e=e.clone({headers:e.headers.set(i,r)})),t(e)}function NN(...e){let t=[zc,sg,og,{provide:Xr,useExisting:og},{provide:gs,useExisting:sg},{provide:ag,useValue:R_,multi:!0},{provide:lg,useValue:!0},{provide:Ds,useClass:N_}];for(let n of e)t.push(...n.\u0275providers);return Yn(t)}var qc=class extends rs{constructor(){super(...arguments),this.supportsDOMEvents=!0}},Zc=class e extends qc{static makeCurrent(){Ep(new e)}onAndCancel(t,n,r){return t.addEventListener(n,r),()=>{t.removeEventListener(n,r)}}dispatchEvent(t,n){t.dispatchEvent(n)}remove(t){t.parentNode&&t.parentNode.removeChild(t)}createElement(t,n){return n=n||this.getDefaultDocument(),n.createElement(t)}createHtmlDocument(){return document.implementation.createHTMLDocument("fakeTitle")}getDefaultDocument(){return document}isElementNode(t){return t.nodeType===Node.ELEMENT_NODE}isShadowRoot(t){return t instanceof DocumentFragment}getGlobalEventTarget(t,n){return n==="window"?window:n==="document"?t:n==="body"?t.body:null}getBaseHref(t){let n=P_();return n==null?null:F_(n)}resetBaseElement(){ti=null}getUserAgent(){return window.navigator.userAgent}getCookie(t){return is(document.cookie,t)}},ti=null;function P_(){return ti=ti||document.querySelector("base"),ti?ti.getAttribute("href"):null}function F_(e){return new URL(e,document.baseURI).pathname}var k_=(()=>{class e{build(){return new XMLHttpRequest}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),Yc=new I(""),fg=(()=>{class e{constructor(n,r){this._zone=r,this._eventNameToPlugin=new Map,n.forEach(i=>{i.manager=this}),this._plugins=n.slice().reverse()}addEventListener(n,r,i){return this._findPluginFor(r).addEventListener(n,r,i)}getZone(){return this._zone}_findPluginFor(n){let r=this._eventNameToPlugin.get(n);if(r)return r;if(r=this._plugins.find(o=>o.supports(n)),!r)throw new b(5101,!1);return this._eventNameToPlugin.set(n,r),r}static{this.\u0275fac=function(r){return new(r||e)(M(Yc),M(Y))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),Cs=class{constructor(t){this._doc=t}},Gc="ng-app-id",hg=(()=>{class e{constructor(n,r,i,o={}){this.doc=n,this.appId=r,this.nonce=i,this.platformId=o,this.styleRef=new Map,this.hostNodes=new Set,this.styleNodesInDOM=this.collectServerRenderedStyles(),this.platformIsServer=ss(o),this.resetHostNodes()}addStyles(n){for(let r of n)this.changeUsageCount(r,1)===1&&this.onStyleAdded(r)}removeStyles(n){for(let r of n)this.changeUsageCount(r,-1)<=0&&this.onStyleRemoved(r)}ngOnDestroy(){let n=this.styleNodesInDOM;n&&(n.forEach(r=>r.remove()),n.clear());for(let r of this.getAllStyles())this.onStyleRemoved(r);this.resetHostNodes()}addHost(n){this.hostNodes.add(n);for(let r of this.getAllStyles())this.addStyleToHost(n,r)}removeHost(n){this.hostNodes.delete(n)}getAllStyles(){return this.styleRef.keys()}onStyleAdded(n){for(let r of this.hostNodes)this.addStyleToHost(r,n)}onStyleRemoved(n){let r=this.styleRef;r.get(n)?.elements?.forEach(i=>i.remove()),r.delete(n)}collectServerRenderedStyles(){let n=this.doc.head?.querySelectorAll(`style[${Gc}="${this.appId}"]`);if(n?.length){let r=new Map;return n.forEach(i=>{i.textContent!=null&&r.set(i.textContent,i)}),r}return null}changeUsageCount(n,r){let i=this.styleRef;if(i.has(n)){let o=i.get(n);return o.usage+=r,o.usage}return i.set(n,{usage:r,elements:[]}),r}getStyleElement(n,r){let i=this.styleNodesInDOM,o=i?.get(r);if(o?.parentNode===n)return i.delete(r),o.removeAttribute(Gc),o;{let s=this.doc.createElement("style");return this.nonce&&s.setAttribute("nonce",this.nonce),s.textContent=r,this.platformIsServer&&s.setAttribute(Gc,this.appId),n.appendChild(s),s}}addStyleToHost(n,r){let i=this.getStyleElement(n,r),o=this.styleRef,s=o.get(r)?.elements;s?s.push(i):o.set(r,{elements:[i],usage:1})}resetHostNodes(){let n=this.hostNodes;n.clear(),n.add(this.doc.head)}static{this.\u0275fac=function(r){return new(r||e)(M(ve),M(ql),M(Yl,8),M(ot))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),Wc={svg:"http://www.w3.org/2000/svg",xhtml:"http://www.w3.org/1999/xhtml",xlink:"http://www.w3.org/1999/xlink",xml:"http://www.w3.org/XML/1998/namespace",xmlns:"http://www.w3.org/2000/xmlns/",math:"http://www.w3.org/1998/MathML/"},Kc=/%COMP%/g,pg="%COMP%",L_=`_nghost-${pg}`,V_=`_ngcontent-${pg}`,j_=!0,U_=new I("",{providedIn:"root",factory:()=>j_});function B_(e){return V_.replace(Kc,e)}function $_(e){return L_.replace(Kc,e)}function gg(e,t){return t.map(n=>n.replace(Kc,e))}var cg=(()=>{class e{constructor(n,r,i,o,s,a,l,c=null){this.eventManager=n,this.sharedStylesHost=r,this.appId=i,this.removeStylesOnCompDestroy=o,this.doc=s,this.platformId=a,this.ngZone=l,this.nonce=c,this.rendererByCompId=new Map,this.platformIsServer=ss(a),this.defaultRenderer=new ni(n,s,l,this.platformIsServer)}createRenderer(n,r){if(!n||!r)return this.defaultRenderer;this.platformIsServer&&r.encapsulation===et.ShadowDom&&(r=q(D({},r),{encapsulation:et.Emulated}));let i=this.getOrCreateRenderer(n,r);return i instanceof ws?i.applyToHost(n):i instanceof ri&&i.applyStyles(),i}getOrCreateRenderer(n,r){let i=this.rendererByCompId,o=i.get(r.id);if(!o){let s=this.doc,a=this.ngZone,l=this.eventManager,c=this.sharedStylesHost,u=this.removeStylesOnCompDestroy,d=this.platformIsServer;switch(r.encapsulation){case et.Emulated:o=new ws(l,c,r,this.appId,u,s,a,d);break;case et.ShadowDom:return new Qc(l,c,n,r,s,a,this.nonce,d);default:o=new ri(l,c,r,u,s,a,d);break}i.set(r.id,o)}return o}ngOnDestroy(){this.rendererByCompId.clear()}static{this.\u0275fac=function(r){return new(r||e)(M(fg),M(hg),M(ql),M(U_),M(ve),M(ot),M(Y),M(Yl))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),ni=class{constructor(t,n,r,i){this.eventManager=t,this.doc=n,this.ngZone=r,this.platformIsServer=i,this.data=Object.create(null),this.throwOnSyntheticProps=!0,this.destroyNode=null}destroy(){}createElement(t,n){return n?this.doc.createElementNS(Wc[n]||n,t):this.doc.createElement(t)}createComment(t){return this.doc.createComment(t)}createText(t){return this.doc.createTextNode(t)}appendChild(t,n){(ug(t)?t.content:t).appendChild(n)}insertBefore(t,n,r){t&&(ug(t)?t.content:t).insertBefore(n,r)}removeChild(t,n){t&&t.removeChild(n)}selectRootElement(t,n){let r=typeof t=="string"?this.doc.querySelector(t):t;if(!r)throw new b(-5104,!1);return n||(r.textContent=""),r}parentNode(t){return t.parentNode}nextSibling(t){return t.nextSibling}setAttribute(t,n,r,i){if(i){n=i+":"+n;let o=Wc[i];o?t.setAttributeNS(o,n,r):t.setAttribute(n,r)}else t.setAttribute(n,r)}removeAttribute(t,n,r){if(r){let i=Wc[r];i?t.removeAttributeNS(i,n):t.removeAttribute(`${r}:${n}`)}else t.removeAttribute(n)}addClass(t,n){t.classList.add(n)}removeClass(t,n){t.classList.remove(n)}setStyle(t,n,r,i){i&(it.DashCase|it.Important)?t.style.setProperty(n,r,i&it.Important?"important":""):t.style[n]=r}removeStyle(t,n,r){r&it.DashCase?t.style.removeProperty(n):t.style[n]=""}setProperty(t,n,r){t!=null&&(t[n]=r)}setValue(t,n){t.nodeValue=n}listen(t,n,r){if(typeof t=="string"&&(t=Et().getGlobalEventTarget(this.doc,t),!t))throw new Error(`Unsupported event target ${t} for event ${n}`);return this.eventManager.addEventListener(t,n,this.decoratePreventDefault(r))}decoratePreventDefault(t){return n=>{if(n==="__ngUnwrap__")return t;(this.platformIsServer?this.ngZone.runGuarded(()=>t(n)):t(n))===!1&&n.preventDefault()}}};function ug(e){return e.tagName==="TEMPLATE"&&e.content!==void 0}var Qc=class extends ni{constructor(t,n,r,i,o,s,a,l){super(t,o,s,l),this.sharedStylesHost=n,this.hostEl=r,this.shadowRoot=r.attachShadow({mode:"open"}),this.sharedStylesHost.addHost(this.shadowRoot);let c=gg(i.id,i.styles);for(let u of c){let d=document.createElement("style");a&&d.setAttribute("nonce",a),d.textContent=u,this.shadowRoot.appendChild(d)}}nodeOrShadowRoot(t){return t===this.hostEl?this.shadowRoot:t}appendChild(t,n){return super.appendChild(this.nodeOrShadowRoot(t),n)}insertBefore(t,n,r){return super.insertBefore(this.nodeOrShadowRoot(t),n,r)}removeChild(t,n){return super.removeChild(this.nodeOrShadowRoot(t),n)}parentNode(t){return this.nodeOrShadowRoot(super.parentNode(this.nodeOrShadowRoot(t)))}destroy(){this.sharedStylesHost.removeHost(this.shadowRoot)}},ri=class extends ni{constructor(t,n,r,i,o,s,a,l){super(t,o,s,a),this.sharedStylesHost=n,this.removeStylesOnCompDestroy=i,this.styles=l?gg(l,r.styles):r.styles}applyStyles(){this.sharedStylesHost.addStyles(this.styles)}destroy(){this.removeStylesOnCompDestroy&&this.sharedStylesHost.removeStyles(this.styles)}},ws=class extends ri{constructor(t,n,r,i,o,s,a,l){let c=i+"-"+r.id;super(t,n,r,o,s,a,l,c),this.contentAttr=B_(c),this.hostAttr=$_(c)}applyToHost(t){this.applyStyles(),this.setAttribute(t,this.hostAttr,"")}createElement(t,n){let r=super.createElement(t,n);return super.setAttribute(r,this.contentAttr,""),r}},H_=(()=>{class e extends Cs{constructor(n){super(n)}supports(n){return!0}addEventListener(n,r,i){return n.addEventListener(r,i,!1),()=>this.removeEventListener(n,r,i)}removeEventListener(n,r,i){return n.removeEventListener(r,i)}static{this.\u0275fac=function(r){return new(r||e)(M(ve))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})(),dg=["alt","control","meta","shift"],z_={"\b":"Backspace","	":"Tab","\x7F":"Delete","\x1B":"Escape",Del:"Delete",Esc:"Escape",Left:"ArrowLeft",Right:"ArrowRight",Up:"ArrowUp",Down:"ArrowDown",Menu:"ContextMenu",Scroll:"ScrollLock",Win:"OS"},G_={alt:e=>e.altKey,control:e=>e.ctrlKey,meta:e=>e.metaKey,shift:e=>e.shiftKey},W_=(()=>{class e extends Cs{constructor(n){super(n)}supports(n){return e.parseEventName(n)!=null}addEventListener(n,r,i){let o=e.parseEventName(r),s=e.eventCallback(o.fullKey,i,this.manager.getZone());return this.manager.getZone().runOutsideAngular(()=>Et().onAndCancel(n,o.domEventName,s))}static parseEventName(n){let r=n.toLowerCase().split("."),i=r.shift();if(r.length===0||!(i==="keydown"||i==="keyup"))return null;let o=e._normalizeKey(r.pop()),s="",a=r.indexOf("code");if(a>-1&&(r.splice(a,1),s="code."),dg.forEach(c=>{let u=r.indexOf(c);u>-1&&(r.splice(u,1),s+=c+".")}),s+=o,r.length!=0||o.length===0)return null;let l={};return l.domEventName=i,l.fullKey=s,l}static matchEventFullKeyCode(n,r){let i=z_[n.key]||n.key,o="";return r.indexOf("code.")>-1&&(i=n.code,o="code."),i==null||!i?!1:(i=i.toLowerCase(),i===" "?i="space":i==="."&&(i="dot"),dg.forEach(s=>{if(s!==i){let a=G_[s];a(n)&&(o+=s+".")}}),o+=i,o===r)}static eventCallback(n,r,i){return o=>{e.matchEventFullKeyCode(o,n)&&i.runGuarded(()=>r(o))}}static _normalizeKey(n){return n==="esc"?"escape":n}static{this.\u0275fac=function(r){return new(r||e)(M(ve))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function eR(e,t){return gp(D({rootComponent:e},q_(t)))}function q_(e){return{appProviders:[...J_,...e?.providers??[]],platformProviders:K_}}function Z_(){Zc.makeCurrent()}function Y_(){return new rt}function Q_(){return ph(document),document}var K_=[{provide:ot,useValue:Nc},{provide:Zl,useValue:Z_,multi:!0},{provide:ve,useFactory:Q_,deps:[]}];var J_=[{provide:Ro,useValue:"root"},{provide:rt,useFactory:Y_,deps:[]},{provide:Yc,useClass:H_,multi:!0,deps:[ve,Y,ot]},{provide:Yc,useClass:W_,multi:!0,deps:[ve]},cg,hg,fg,{provide:Ar,useExisting:cg},{provide:rr,useClass:k_,deps:[]},[]];var mg=(()=>{class e{constructor(n){this._doc=n}getTitle(){return this._doc.title}setTitle(n){this._doc.title=n||""}static{this.\u0275fac=function(r){return new(r||e)(M(ve))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();var O="primary",Di=Symbol("RouteTitle"),nu=class{constructor(t){this.params=t||{}}has(t){return Object.prototype.hasOwnProperty.call(this.params,t)}get(t){if(this.has(t)){let n=this.params[t];return Array.isArray(n)?n[0]:n}return null}getAll(t){if(this.has(t)){let n=this.params[t];return Array.isArray(n)?n:[n]}return[]}get keys(){return Object.keys(this.params)}};function dr(e){return new nu(e)}function eE(e,t,n){let r=n.path.split("/");if(r.length>e.length||n.pathMatch==="full"&&(t.hasChildren()||r.length<e.length))return null;let i={};for(let o=0;o<r.length;o++){let s=r[o],a=e[o];if(s.startsWith(":"))i[s.substring(1)]=a;else if(s!==a.path)return null}return{consumed:e.slice(0,r.length),posParams:i}}function tE(e,t){if(e.length!==t.length)return!1;for(let n=0;n<e.length;++n)if(!lt(e[n],t[n]))return!1;return!0}function lt(e,t){let n=e?ru(e):void 0,r=t?ru(t):void 0;if(!n||!r||n.length!=r.length)return!1;let i;for(let o=0;o<n.length;o++)if(i=n[o],!Ig(e[i],t[i]))return!1;return!0}function ru(e){return[...Object.keys(e),...Object.getOwnPropertySymbols(e)]}function Ig(e,t){if(Array.isArray(e)&&Array.isArray(t)){if(e.length!==t.length)return!1;let n=[...e].sort(),r=[...t].sort();return n.every((i,o)=>r[o]===i)}else return e===t}function Mg(e){return e.length>0?e[e.length-1]:null}function zt(e){return na(e)?e:pn(e)?Z(Promise.resolve(e)):T(e)}var nE={exact:Sg,subset:Tg},xg={exact:rE,subset:iE,ignored:()=>!0};function vg(e,t,n){return nE[n.paths](e.root,t.root,n.matrixParams)&&xg[n.queryParams](e.queryParams,t.queryParams)&&!(n.fragment==="exact"&&e.fragment!==t.fragment)}function rE(e,t){return lt(e,t)}function Sg(e,t,n){if(!Dn(e.segments,t.segments)||!bs(e.segments,t.segments,n)||e.numberOfChildren!==t.numberOfChildren)return!1;for(let r in t.children)if(!e.children[r]||!Sg(e.children[r],t.children[r],n))return!1;return!0}function iE(e,t){return Object.keys(t).length<=Object.keys(e).length&&Object.keys(t).every(n=>Ig(e[n],t[n]))}function Tg(e,t,n){return Ag(e,t,t.segments,n)}function Ag(e,t,n,r){if(e.segments.length>n.length){let i=e.segments.slice(0,n.length);return!(!Dn(i,n)||t.hasChildren()||!bs(i,n,r))}else if(e.segments.length===n.length){if(!Dn(e.segments,n)||!bs(e.segments,n,r))return!1;for(let i in t.children)if(!e.children[i]||!Tg(e.children[i],t.children[i],r))return!1;return!0}else{let i=n.slice(0,e.segments.length),o=n.slice(e.segments.length);return!Dn(e.segments,i)||!bs(e.segments,i,r)||!e.children[O]?!1:Ag(e.children[O],t,o,r)}}function bs(e,t,n){return t.every((r,i)=>xg[n](e[i].parameters,r.parameters))}var Ut=class{constructor(t=new z([],{}),n={},r=null){this.root=t,this.queryParams=n,this.fragment=r}get queryParamMap(){return this._queryParamMap??=dr(this.queryParams),this._queryParamMap}toString(){return aE.serialize(this)}},z=class{constructor(t,n){this.segments=t,this.children=n,this.parent=null,Object.values(n).forEach(r=>r.parent=this)}hasChildren(){return this.numberOfChildren>0}get numberOfChildren(){return Object.keys(this.children).length}toString(){return Is(this)}},yn=class{constructor(t,n){this.path=t,this.parameters=n}get parameterMap(){return this._parameterMap??=dr(this.parameters),this._parameterMap}toString(){return Rg(this)}};function oE(e,t){return Dn(e,t)&&e.every((n,r)=>lt(n.parameters,t[r].parameters))}function Dn(e,t){return e.length!==t.length?!1:e.every((n,r)=>n.path===t[r].path)}function sE(e,t){let n=[];return Object.entries(e.children).forEach(([r,i])=>{r===O&&(n=n.concat(t(i,r)))}),Object.entries(e.children).forEach(([r,i])=>{r!==O&&(n=n.concat(t(i,r)))}),n}var Ci=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>new ui,providedIn:"root"})}}return e})(),ui=class{parse(t){let n=new ou(t);return new Ut(n.parseRootSegment(),n.parseQueryParams(),n.parseFragment())}serialize(t){let n=`/${ii(t.root,!0)}`,r=uE(t.queryParams),i=typeof t.fragment=="string"?`#${lE(t.fragment)}`:"";return`${n}${r}${i}`}},aE=new ui;function Is(e){return e.segments.map(t=>Rg(t)).join("/")}function ii(e,t){if(!e.hasChildren())return Is(e);if(t){let n=e.children[O]?ii(e.children[O],!1):"",r=[];return Object.entries(e.children).forEach(([i,o])=>{i!==O&&r.push(`${i}:${ii(o,!1)}`)}),r.length>0?`${n}(${r.join("//")})`:n}else{let n=sE(e,(r,i)=>i===O?[ii(e.children[O],!1)]:[`${i}:${ii(r,!1)}`]);return Object.keys(e.children).length===1&&e.children[O]!=null?`${Is(e)}/${n[0]}`:`${Is(e)}/(${n.join("//")})`}}function Ng(e){return encodeURIComponent(e).replace(/%40/g,"@").replace(/%3A/gi,":").replace(/%24/g,"$").replace(/%2C/gi,",")}function _s(e){return Ng(e).replace(/%3B/gi,";")}function lE(e){return encodeURI(e)}function iu(e){return Ng(e).replace(/\(/g,"%28").replace(/\)/g,"%29").replace(/%26/gi,"&")}function Ms(e){return decodeURIComponent(e)}function yg(e){return Ms(e.replace(/\+/g,"%20"))}function Rg(e){return`${iu(e.path)}${cE(e.parameters)}`}function cE(e){return Object.entries(e).map(([t,n])=>`;${iu(t)}=${iu(n)}`).join("")}function uE(e){let t=Object.entries(e).map(([n,r])=>Array.isArray(r)?r.map(i=>`${_s(n)}=${_s(i)}`).join("&"):`${_s(n)}=${_s(r)}`).filter(n=>n);return t.length?`?${t.join("&")}`:""}var dE=/^[^\/()?;#]+/;function Jc(e){let t=e.match(dE);return t?t[0]:""}var fE=/^[^\/()?;=#]+/;function hE(e){let t=e.match(fE);return t?t[0]:""}var pE=/^[^=?&#]+/;function gE(e){let t=e.match(pE);return t?t[0]:""}var mE=/^[^&#]+/;function vE(e){let t=e.match(mE);return t?t[0]:""}var ou=class{constructor(t){this.url=t,this.remaining=t}parseRootSegment(){return this.consumeOptional("/"),this.remaining===""||this.peekStartsWith("?")||this.peekStartsWith("#")?new z([],{}):new z([],this.parseChildren())}parseQueryParams(){let t={};if(this.consumeOptional("?"))do this.parseQueryParam(t);while(this.consumeOptional("&"));return t}parseFragment(){return this.consumeOptional("#")?decodeURIComponent(this.remaining):null}parseChildren(){if(this.remaining==="")return{};this.consumeOptional("/");let t=[];for(this.peekStartsWith("(")||t.push(this.parseSegment());this.peekStartsWith("/")&&!this.peekStartsWith("//")&&!this.peekStartsWith("/(");)this.capture("/"),t.push(this.parseSegment());let n={};this.peekStartsWith("/(")&&(this.capture("/"),n=this.parseParens(!0));let r={};return this.peekStartsWith("(")&&(r=this.parseParens(!1)),(t.length>0||Object.keys(n).length>0)&&(r[O]=new z(t,n)),r}parseSegment(){let t=Jc(this.remaining);if(t===""&&this.peekStartsWith(";"))throw new b(4009,!1);return this.capture(t),new yn(Ms(t),this.parseMatrixParams())}parseMatrixParams(){let t={};for(;this.consumeOptional(";");)this.parseParam(t);return t}parseParam(t){let n=hE(this.remaining);if(!n)return;this.capture(n);let r="";if(this.consumeOptional("=")){let i=Jc(this.remaining);i&&(r=i,this.capture(r))}t[Ms(n)]=Ms(r)}parseQueryParam(t){let n=gE(this.remaining);if(!n)return;this.capture(n);let r="";if(this.consumeOptional("=")){let s=vE(this.remaining);s&&(r=s,this.capture(r))}let i=yg(n),o=yg(r);if(t.hasOwnProperty(i)){let s=t[i];Array.isArray(s)||(s=[s],t[i]=s),s.push(o)}else t[i]=o}parseParens(t){let n={};for(this.capture("(");!this.consumeOptional(")")&&this.remaining.length>0;){let r=Jc(this.remaining),i=this.remaining[r.length];if(i!=="/"&&i!==")"&&i!==";")throw new b(4010,!1);let o;r.indexOf(":")>-1?(o=r.slice(0,r.indexOf(":")),this.capture(o),this.capture(":")):t&&(o=O);let s=this.parseChildren();n[o]=Object.keys(s).length===1?s[O]:new z([],s),this.consumeOptional("//")}return n}peekStartsWith(t){return this.remaining.startsWith(t)}consumeOptional(t){return this.peekStartsWith(t)?(this.remaining=this.remaining.substring(t.length),!0):!1}capture(t){if(!this.consumeOptional(t))throw new b(4011,!1)}};function Og(e){return e.segments.length>0?new z([],{[O]:e}):e}function Pg(e){let t={};for(let[r,i]of Object.entries(e.children)){let o=Pg(i);if(r===O&&o.segments.length===0&&o.hasChildren())for(let[s,a]of Object.entries(o.children))t[s]=a;else(o.segments.length>0||o.hasChildren())&&(t[r]=o)}let n=new z(e.segments,t);return yE(n)}function yE(e){if(e.numberOfChildren===1&&e.children[O]){let t=e.children[O];return new z(e.segments.concat(t.segments),t.children)}return e}function fr(e){return e instanceof Ut}function DE(e,t,n=null,r=null){let i=Fg(e);return kg(i,t,n,r)}function Fg(e){let t;function n(o){let s={};for(let l of o.children){let c=n(l);s[l.outlet]=c}let a=new z(o.url,s);return o===e&&(t=a),a}let r=n(e.root),i=Og(r);return t??i}function kg(e,t,n,r){let i=e;for(;i.parent;)i=i.parent;if(t.length===0)return Xc(i,i,i,n,r);let o=CE(t);if(o.toRoot())return Xc(i,i,new z([],{}),n,r);let s=wE(o,i,e),a=s.processChildren?ai(s.segmentGroup,s.index,o.commands):Vg(s.segmentGroup,s.index,o.commands);return Xc(i,s.segmentGroup,a,n,r)}function xs(e){return typeof e=="object"&&e!=null&&!e.outlets&&!e.segmentPath}function di(e){return typeof e=="object"&&e!=null&&e.outlets}function Xc(e,t,n,r,i){let o={};r&&Object.entries(r).forEach(([l,c])=>{o[l]=Array.isArray(c)?c.map(u=>`${u}`):`${c}`});let s;e===t?s=n:s=Lg(e,t,n);let a=Og(Pg(s));return new Ut(a,o,i)}function Lg(e,t,n){let r={};return Object.entries(e.children).forEach(([i,o])=>{o===t?r[i]=n:r[i]=Lg(o,t,n)}),new z(e.segments,r)}var Ss=class{constructor(t,n,r){if(this.isAbsolute=t,this.numberOfDoubleDots=n,this.commands=r,t&&r.length>0&&xs(r[0]))throw new b(4003,!1);let i=r.find(di);if(i&&i!==Mg(r))throw new b(4004,!1)}toRoot(){return this.isAbsolute&&this.commands.length===1&&this.commands[0]=="/"}};function CE(e){if(typeof e[0]=="string"&&e.length===1&&e[0]==="/")return new Ss(!0,0,e);let t=0,n=!1,r=e.reduce((i,o,s)=>{if(typeof o=="object"&&o!=null){if(o.outlets){let a={};return Object.entries(o.outlets).forEach(([l,c])=>{a[l]=typeof c=="string"?c.split("/"):c}),[...i,{outlets:a}]}if(o.segmentPath)return[...i,o.segmentPath]}return typeof o!="string"?[...i,o]:s===0?(o.split("/").forEach((a,l)=>{l==0&&a==="."||(l==0&&a===""?n=!0:a===".."?t++:a!=""&&i.push(a))}),i):[...i,o]},[]);return new Ss(n,t,r)}var cr=class{constructor(t,n,r){this.segmentGroup=t,this.processChildren=n,this.index=r}};function wE(e,t,n){if(e.isAbsolute)return new cr(t,!0,0);if(!n)return new cr(t,!1,NaN);if(n.parent===null)return new cr(n,!0,0);let r=xs(e.commands[0])?0:1,i=n.segments.length-1+r;return _E(n,i,e.numberOfDoubleDots)}function _E(e,t,n){let r=e,i=t,o=n;for(;o>i;){if(o-=i,r=r.parent,!r)throw new b(4005,!1);i=r.segments.length}return new cr(r,!1,i-o)}function EE(e){return di(e[0])?e[0].outlets:{[O]:e}}function Vg(e,t,n){if(e??=new z([],{}),e.segments.length===0&&e.hasChildren())return ai(e,t,n);let r=bE(e,t,n),i=n.slice(r.commandIndex);if(r.match&&r.pathIndex<e.segments.length){let o=new z(e.segments.slice(0,r.pathIndex),{});return o.children[O]=new z(e.segments.slice(r.pathIndex),e.children),ai(o,0,i)}else return r.match&&i.length===0?new z(e.segments,{}):r.match&&!e.hasChildren()?su(e,t,n):r.match?ai(e,0,i):su(e,t,n)}function ai(e,t,n){if(n.length===0)return new z(e.segments,{});{let r=EE(n),i={};if(Object.keys(r).some(o=>o!==O)&&e.children[O]&&e.numberOfChildren===1&&e.children[O].segments.length===0){let o=ai(e.children[O],t,n);return new z(e.segments,o.children)}return Object.entries(r).forEach(([o,s])=>{typeof s=="string"&&(s=[s]),s!==null&&(i[o]=Vg(e.children[o],t,s))}),Object.entries(e.children).forEach(([o,s])=>{r[o]===void 0&&(i[o]=s)}),new z(e.segments,i)}}function bE(e,t,n){let r=0,i=t,o={match:!1,pathIndex:0,commandIndex:0};for(;i<e.segments.length;){if(r>=n.length)return o;let s=e.segments[i],a=n[r];if(di(a))break;let l=`${a}`,c=r<n.length-1?n[r+1]:null;if(i>0&&l===void 0)break;if(l&&c&&typeof c=="object"&&c.outlets===void 0){if(!Cg(l,c,s))return o;r+=2}else{if(!Cg(l,{},s))return o;r++}i++}return{match:!0,pathIndex:i,commandIndex:r}}function su(e,t,n){let r=e.segments.slice(0,t),i=0;for(;i<n.length;){let o=n[i];if(di(o)){let l=IE(o.outlets);return new z(r,l)}if(i===0&&xs(n[0])){let l=e.segments[t];r.push(new yn(l.path,Dg(n[0]))),i++;continue}let s=di(o)?o.outlets[O]:`${o}`,a=i<n.length-1?n[i+1]:null;s&&a&&xs(a)?(r.push(new yn(s,Dg(a))),i+=2):(r.push(new yn(s,{})),i++)}return new z(r,{})}function IE(e){let t={};return Object.entries(e).forEach(([n,r])=>{typeof r=="string"&&(r=[r]),r!==null&&(t[n]=su(new z([],{}),0,r))}),t}function Dg(e){let t={};return Object.entries(e).forEach(([n,r])=>t[n]=`${r}`),t}function Cg(e,t,n){return e==n.path&&lt(t,n.parameters)}var li="imperative",se=function(e){return e[e.NavigationStart=0]="NavigationStart",e[e.NavigationEnd=1]="NavigationEnd",e[e.NavigationCancel=2]="NavigationCancel",e[e.NavigationError=3]="NavigationError",e[e.RoutesRecognized=4]="RoutesRecognized",e[e.ResolveStart=5]="ResolveStart",e[e.ResolveEnd=6]="ResolveEnd",e[e.GuardsCheckStart=7]="GuardsCheckStart",e[e.GuardsCheckEnd=8]="GuardsCheckEnd",e[e.RouteConfigLoadStart=9]="RouteConfigLoadStart",e[e.RouteConfigLoadEnd=10]="RouteConfigLoadEnd",e[e.ChildActivationStart=11]="ChildActivationStart",e[e.ChildActivationEnd=12]="ChildActivationEnd",e[e.ActivationStart=13]="ActivationStart",e[e.ActivationEnd=14]="ActivationEnd",e[e.Scroll=15]="Scroll",e[e.NavigationSkipped=16]="NavigationSkipped",e}(se||{}),Ue=class{constructor(t,n){this.id=t,this.url=n}},hr=class extends Ue{constructor(t,n,r="imperative",i=null){super(t,n),this.type=se.NavigationStart,this.navigationTrigger=r,this.restoredState=i}toString(){return`NavigationStart(id: ${this.id}, url: '${this.url}')`}},bt=class extends Ue{constructor(t,n,r){super(t,n),this.urlAfterRedirects=r,this.type=se.NavigationEnd}toString(){return`NavigationEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}')`}},Fe=function(e){return e[e.Redirect=0]="Redirect",e[e.SupersededByNewNavigation=1]="SupersededByNewNavigation",e[e.NoDataFromResolver=2]="NoDataFromResolver",e[e.GuardRejected=3]="GuardRejected",e}(Fe||{}),Ts=function(e){return e[e.IgnoredSameUrlNavigation=0]="IgnoredSameUrlNavigation",e[e.IgnoredByUrlHandlingStrategy=1]="IgnoredByUrlHandlingStrategy",e}(Ts||{}),Bt=class extends Ue{constructor(t,n,r,i){super(t,n),this.reason=r,this.code=i,this.type=se.NavigationCancel}toString(){return`NavigationCancel(id: ${this.id}, url: '${this.url}')`}},$t=class extends Ue{constructor(t,n,r,i){super(t,n),this.reason=r,this.code=i,this.type=se.NavigationSkipped}},fi=class extends Ue{constructor(t,n,r,i){super(t,n),this.error=r,this.target=i,this.type=se.NavigationError}toString(){return`NavigationError(id: ${this.id}, url: '${this.url}', error: ${this.error})`}},As=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.RoutesRecognized}toString(){return`RoutesRecognized(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},au=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.GuardsCheckStart}toString(){return`GuardsCheckStart(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},lu=class extends Ue{constructor(t,n,r,i,o){super(t,n),this.urlAfterRedirects=r,this.state=i,this.shouldActivate=o,this.type=se.GuardsCheckEnd}toString(){return`GuardsCheckEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state}, shouldActivate: ${this.shouldActivate})`}},cu=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.ResolveStart}toString(){return`ResolveStart(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},uu=class extends Ue{constructor(t,n,r,i){super(t,n),this.urlAfterRedirects=r,this.state=i,this.type=se.ResolveEnd}toString(){return`ResolveEnd(id: ${this.id}, url: '${this.url}', urlAfterRedirects: '${this.urlAfterRedirects}', state: ${this.state})`}},du=class{constructor(t){this.route=t,this.type=se.RouteConfigLoadStart}toString(){return`RouteConfigLoadStart(path: ${this.route.path})`}},fu=class{constructor(t){this.route=t,this.type=se.RouteConfigLoadEnd}toString(){return`RouteConfigLoadEnd(path: ${this.route.path})`}},hu=class{constructor(t){this.snapshot=t,this.type=se.ChildActivationStart}toString(){return`ChildActivationStart(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},pu=class{constructor(t){this.snapshot=t,this.type=se.ChildActivationEnd}toString(){return`ChildActivationEnd(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},gu=class{constructor(t){this.snapshot=t,this.type=se.ActivationStart}toString(){return`ActivationStart(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},mu=class{constructor(t){this.snapshot=t,this.type=se.ActivationEnd}toString(){return`ActivationEnd(path: '${this.snapshot.routeConfig&&this.snapshot.routeConfig.path||""}')`}},Ns=class{constructor(t,n,r){this.routerEvent=t,this.position=n,this.anchor=r,this.type=se.Scroll}toString(){let t=this.position?`${this.position[0]}, ${this.position[1]}`:null;return`Scroll(anchor: '${this.anchor}', position: '${t}')`}},hi=class{},pi=class{constructor(t){this.url=t}};var vu=class{constructor(){this.outlet=null,this.route=null,this.injector=null,this.children=new wi,this.attachRef=null}},wi=(()=>{class e{constructor(){this.contexts=new Map}onChildOutletCreated(n,r){let i=this.getOrCreateContext(n);i.outlet=r,this.contexts.set(n,i)}onChildOutletDestroyed(n){let r=this.getContext(n);r&&(r.outlet=null,r.attachRef=null)}onOutletDeactivated(){let n=this.contexts;return this.contexts=new Map,n}onOutletReAttached(n){this.contexts=n}getOrCreateContext(n){let r=this.getContext(n);return r||(r=new vu,this.contexts.set(n,r)),r}getContext(n){return this.contexts.get(n)||null}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),Rs=class{constructor(t){this._root=t}get root(){return this._root.value}parent(t){let n=this.pathFromRoot(t);return n.length>1?n[n.length-2]:null}children(t){let n=yu(t,this._root);return n?n.children.map(r=>r.value):[]}firstChild(t){let n=yu(t,this._root);return n&&n.children.length>0?n.children[0].value:null}siblings(t){let n=Du(t,this._root);return n.length<2?[]:n[n.length-2].children.map(i=>i.value).filter(i=>i!==t)}pathFromRoot(t){return Du(t,this._root).map(n=>n.value)}};function yu(e,t){if(e===t.value)return t;for(let n of t.children){let r=yu(e,n);if(r)return r}return null}function Du(e,t){if(e===t.value)return[t];for(let n of t.children){let r=Du(e,n);if(r.length)return r.unshift(t),r}return[]}var Pe=class{constructor(t,n){this.value=t,this.children=n}toString(){return`TreeNode(${this.value})`}};function lr(e){let t={};return e&&e.children.forEach(n=>t[n.value.outlet]=n),t}var Os=class extends Rs{constructor(t,n){super(t),this.snapshot=n,Tu(this,t)}toString(){return this.snapshot.toString()}};function jg(e){let t=ME(e),n=new ae([new yn("",{})]),r=new ae({}),i=new ae({}),o=new ae({}),s=new ae(""),a=new Cn(n,r,o,s,i,O,e,t.root);return a.snapshot=t.root,new Os(new Pe(a,[]),t)}function ME(e){let t={},n={},r={},i="",o=new gi([],t,r,i,n,O,e,null,{});return new Ps("",new Pe(o,[]))}var Cn=class{constructor(t,n,r,i,o,s,a,l){this.urlSubject=t,this.paramsSubject=n,this.queryParamsSubject=r,this.fragmentSubject=i,this.dataSubject=o,this.outlet=s,this.component=a,this._futureSnapshot=l,this.title=this.dataSubject?.pipe(N(c=>c[Di]))??T(void 0),this.url=t,this.params=n,this.queryParams=r,this.fragment=i,this.data=o}get routeConfig(){return this._futureSnapshot.routeConfig}get root(){return this._routerState.root}get parent(){return this._routerState.parent(this)}get firstChild(){return this._routerState.firstChild(this)}get children(){return this._routerState.children(this)}get pathFromRoot(){return this._routerState.pathFromRoot(this)}get paramMap(){return this._paramMap??=this.params.pipe(N(t=>dr(t))),this._paramMap}get queryParamMap(){return this._queryParamMap??=this.queryParams.pipe(N(t=>dr(t))),this._queryParamMap}toString(){return this.snapshot?this.snapshot.toString():`Future(${this._futureSnapshot})`}};function Su(e,t,n="emptyOnly"){let r,{routeConfig:i}=e;return t!==null&&(n==="always"||i?.path===""||!t.component&&!t.routeConfig?.loadComponent)?r={params:D(D({},t.params),e.params),data:D(D({},t.data),e.data),resolve:D(D(D(D({},e.data),t.data),i?.data),e._resolvedData)}:r={params:D({},e.params),data:D({},e.data),resolve:D(D({},e.data),e._resolvedData??{})},i&&Bg(i)&&(r.resolve[Di]=i.title),r}var gi=class{get title(){return this.data?.[Di]}constructor(t,n,r,i,o,s,a,l,c){this.url=t,this.params=n,this.queryParams=r,this.fragment=i,this.data=o,this.outlet=s,this.component=a,this.routeConfig=l,this._resolve=c}get root(){return this._routerState.root}get parent(){return this._routerState.parent(this)}get firstChild(){return this._routerState.firstChild(this)}get children(){return this._routerState.children(this)}get pathFromRoot(){return this._routerState.pathFromRoot(this)}get paramMap(){return this._paramMap??=dr(this.params),this._paramMap}get queryParamMap(){return this._queryParamMap??=dr(this.queryParams),this._queryParamMap}toString(){let t=this.url.map(r=>r.toString()).join("/"),n=this.routeConfig?this.routeConfig.path:"";return`Route(url:'${t}', path:'${n}')`}},Ps=class extends Rs{constructor(t,n){super(n),this.url=t,Tu(this,n)}toString(){return Ug(this._root)}};function Tu(e,t){t.value._routerState=e,t.children.forEach(n=>Tu(e,n))}function Ug(e){let t=e.children.length>0?` { ${e.children.map(Ug).join(", ")} } `:"";return`${e.value}${t}`}function eu(e){if(e.snapshot){let t=e.snapshot,n=e._futureSnapshot;e.snapshot=n,lt(t.queryParams,n.queryParams)||e.queryParamsSubject.next(n.queryParams),t.fragment!==n.fragment&&e.fragmentSubject.next(n.fragment),lt(t.params,n.params)||e.paramsSubject.next(n.params),tE(t.url,n.url)||e.urlSubject.next(n.url),lt(t.data,n.data)||e.dataSubject.next(n.data)}else e.snapshot=e._futureSnapshot,e.dataSubject.next(e._futureSnapshot.data)}function Cu(e,t){let n=lt(e.params,t.params)&&oE(e.url,t.url),r=!e.parent!=!t.parent;return n&&!r&&(!e.parent||Cu(e.parent,t.parent))}function Bg(e){return typeof e.title=="string"||e.title===null}var xE=(()=>{class e{constructor(){this.activated=null,this._activatedRoute=null,this.name=O,this.activateEvents=new ie,this.deactivateEvents=new ie,this.attachEvents=new ie,this.detachEvents=new ie,this.parentContexts=y(wi),this.location=y(Lt),this.changeDetector=y(gn),this.environmentInjector=y(ue),this.inputBinder=y(Vs,{optional:!0}),this.supportsBindingToComponentInputs=!0}get activatedComponentRef(){return this.activated}ngOnChanges(n){if(n.name){let{firstChange:r,previousValue:i}=n.name;if(r)return;this.isTrackedInParentContexts(i)&&(this.deactivate(),this.parentContexts.onChildOutletDestroyed(i)),this.initializeOutletWithName()}}ngOnDestroy(){this.isTrackedInParentContexts(this.name)&&this.parentContexts.onChildOutletDestroyed(this.name),this.inputBinder?.unsubscribeFromRouteData(this)}isTrackedInParentContexts(n){return this.parentContexts.getContext(n)?.outlet===this}ngOnInit(){this.initializeOutletWithName()}initializeOutletWithName(){if(this.parentContexts.onChildOutletCreated(this.name,this),this.activated)return;let n=this.parentContexts.getContext(this.name);n?.route&&(n.attachRef?this.attach(n.attachRef,n.route):this.activateWith(n.route,n.injector))}get isActivated(){return!!this.activated}get component(){if(!this.activated)throw new b(4012,!1);return this.activated.instance}get activatedRoute(){if(!this.activated)throw new b(4012,!1);return this._activatedRoute}get activatedRouteData(){return this._activatedRoute?this._activatedRoute.snapshot.data:{}}detach(){if(!this.activated)throw new b(4012,!1);this.location.detach();let n=this.activated;return this.activated=null,this._activatedRoute=null,this.detachEvents.emit(n.instance),n}attach(n,r){this.activated=n,this._activatedRoute=r,this.location.insert(n.hostView),this.inputBinder?.bindActivatedRouteToOutletComponent(this),this.attachEvents.emit(n.instance)}deactivate(){if(this.activated){let n=this.component;this.activated.destroy(),this.activated=null,this._activatedRoute=null,this.deactivateEvents.emit(n)}}activateWith(n,r){if(this.isActivated)throw new b(4013,!1);this._activatedRoute=n;let i=this.location,s=n.snapshot.component,a=this.parentContexts.getOrCreateContext(this.name).children,l=new wu(n,a,i.injector);this.activated=i.createComponent(s,{index:i.length,injector:l,environmentInjector:r??this.environmentInjector}),this.changeDetector.markForCheck(),this.inputBinder?.bindActivatedRouteToOutletComponent(this),this.activateEvents.emit(this.activated.instance)}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275dir=de({type:e,selectors:[["router-outlet"]],inputs:{name:"name"},outputs:{activateEvents:"activate",deactivateEvents:"deactivate",attachEvents:"attach",detachEvents:"detach"},exportAs:["outlet"],standalone:!0,features:[Ft]})}}return e})(),wu=class e{__ngOutletInjector(t){return new e(this.route,this.childContexts,t)}constructor(t,n,r){this.route=t,this.childContexts=n,this.parent=r}get(t,n){return t===Cn?this.route:t===wi?this.childContexts:this.parent.get(t,n)}},Vs=new I(""),wg=(()=>{class e{constructor(){this.outletDataSubscriptions=new Map}bindActivatedRouteToOutletComponent(n){this.unsubscribeFromRouteData(n),this.subscribeToRouteData(n)}unsubscribeFromRouteData(n){this.outletDataSubscriptions.get(n)?.unsubscribe(),this.outletDataSubscriptions.delete(n)}subscribeToRouteData(n){let{activatedRoute:r}=n,i=yr([r.queryParams,r.params,r.data]).pipe(Me(([o,s,a],l)=>(a=D(D(D({},o),s),a),l===0?T(a):Promise.resolve(a)))).subscribe(o=>{if(!n.isActivated||!n.activatedComponentRef||n.activatedRoute!==r||r.component===null){this.unsubscribeFromRouteData(n);return}let s=mp(r.component);if(!s){this.unsubscribeFromRouteData(n);return}for(let{templateName:a}of s.inputs)n.activatedComponentRef.setInput(a,o[a])});this.outletDataSubscriptions.set(n,i)}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function SE(e,t,n){let r=mi(e,t._root,n?n._root:void 0);return new Os(r,t)}function mi(e,t,n){if(n&&e.shouldReuseRoute(t.value,n.value.snapshot)){let r=n.value;r._futureSnapshot=t.value;let i=TE(e,t,n);return new Pe(r,i)}else{if(e.shouldAttach(t.value)){let o=e.retrieve(t.value);if(o!==null){let s=o.route;return s.value._futureSnapshot=t.value,s.children=t.children.map(a=>mi(e,a)),s}}let r=AE(t.value),i=t.children.map(o=>mi(e,o));return new Pe(r,i)}}function TE(e,t,n){return t.children.map(r=>{for(let i of n.children)if(e.shouldReuseRoute(r.value,i.value.snapshot))return mi(e,r,i);return mi(e,r)})}function AE(e){return new Cn(new ae(e.url),new ae(e.params),new ae(e.queryParams),new ae(e.fragment),new ae(e.data),e.outlet,e.component,e)}var $g="ngNavigationCancelingError";function Hg(e,t){let{redirectTo:n,navigationBehaviorOptions:r}=fr(t)?{redirectTo:t,navigationBehaviorOptions:void 0}:t,i=zg(!1,Fe.Redirect);return i.url=n,i.navigationBehaviorOptions=r,i}function zg(e,t){let n=new Error(`NavigationCancelingError: ${e||""}`);return n[$g]=!0,n.cancellationCode=t,n}function NE(e){return Gg(e)&&fr(e.url)}function Gg(e){return!!e&&e[$g]}var RE=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275cmp=Pt({type:e,selectors:[["ng-component"]],standalone:!0,features:[jt],decls:1,vars:0,template:function(r,i){r&1&&F(0,"router-outlet")},dependencies:[xE],encapsulation:2})}}return e})();function OE(e,t){return e.providers&&!e._injector&&(e._injector=Hr(e.providers,t,`Route: ${e.path}`)),e._injector??t}function Au(e){let t=e.children&&e.children.map(Au),n=t?q(D({},e),{children:t}):D({},e);return!n.component&&!n.loadComponent&&(t||n.loadChildren)&&n.outlet&&n.outlet!==O&&(n.component=RE),n}function ct(e){return e.outlet||O}function PE(e,t){let n=e.filter(r=>ct(r)===t);return n.push(...e.filter(r=>ct(r)!==t)),n}function _i(e){if(!e)return null;if(e.routeConfig?._injector)return e.routeConfig._injector;for(let t=e.parent;t;t=t.parent){let n=t.routeConfig;if(n?._loadedInjector)return n._loadedInjector;if(n?._injector)return n._injector}return null}var FE=(e,t,n,r)=>N(i=>(new _u(t,i.targetRouterState,i.currentRouterState,n,r).activate(e),i)),_u=class{constructor(t,n,r,i,o){this.routeReuseStrategy=t,this.futureState=n,this.currState=r,this.forwardEvent=i,this.inputBindingEnabled=o}activate(t){let n=this.futureState._root,r=this.currState?this.currState._root:null;this.deactivateChildRoutes(n,r,t),eu(this.futureState.root),this.activateChildRoutes(n,r,t)}deactivateChildRoutes(t,n,r){let i=lr(n);t.children.forEach(o=>{let s=o.value.outlet;this.deactivateRoutes(o,i[s],r),delete i[s]}),Object.values(i).forEach(o=>{this.deactivateRouteAndItsChildren(o,r)})}deactivateRoutes(t,n,r){let i=t.value,o=n?n.value:null;if(i===o)if(i.component){let s=r.getContext(i.outlet);s&&this.deactivateChildRoutes(t,n,s.children)}else this.deactivateChildRoutes(t,n,r);else o&&this.deactivateRouteAndItsChildren(n,r)}deactivateRouteAndItsChildren(t,n){t.value.component&&this.routeReuseStrategy.shouldDetach(t.value.snapshot)?this.detachAndStoreRouteSubtree(t,n):this.deactivateRouteAndOutlet(t,n)}detachAndStoreRouteSubtree(t,n){let r=n.getContext(t.value.outlet),i=r&&t.value.component?r.children:n,o=lr(t);for(let s of Object.values(o))this.deactivateRouteAndItsChildren(s,i);if(r&&r.outlet){let s=r.outlet.detach(),a=r.children.onOutletDeactivated();this.routeReuseStrategy.store(t.value.snapshot,{componentRef:s,route:t,contexts:a})}}deactivateRouteAndOutlet(t,n){let r=n.getContext(t.value.outlet),i=r&&t.value.component?r.children:n,o=lr(t);for(let s of Object.values(o))this.deactivateRouteAndItsChildren(s,i);r&&(r.outlet&&(r.outlet.deactivate(),r.children.onOutletDeactivated()),r.attachRef=null,r.route=null)}activateChildRoutes(t,n,r){let i=lr(n);t.children.forEach(o=>{this.activateRoutes(o,i[o.value.outlet],r),this.forwardEvent(new mu(o.value.snapshot))}),t.children.length&&this.forwardEvent(new pu(t.value.snapshot))}activateRoutes(t,n,r){let i=t.value,o=n?n.value:null;if(eu(i),i===o)if(i.component){let s=r.getOrCreateContext(i.outlet);this.activateChildRoutes(t,n,s.children)}else this.activateChildRoutes(t,n,r);else if(i.component){let s=r.getOrCreateContext(i.outlet);if(this.routeReuseStrategy.shouldAttach(i.snapshot)){let a=this.routeReuseStrategy.retrieve(i.snapshot);this.routeReuseStrategy.store(i.snapshot,null),s.children.onOutletReAttached(a.contexts),s.attachRef=a.componentRef,s.route=a.route.value,s.outlet&&s.outlet.attach(a.componentRef,a.route.value),eu(a.route.value),this.activateChildRoutes(t,null,s.children)}else{let a=_i(i.snapshot);s.attachRef=null,s.route=i,s.injector=a,s.outlet&&s.outlet.activateWith(i,s.injector),this.activateChildRoutes(t,null,s.children)}}else this.activateChildRoutes(t,null,r)}},Fs=class{constructor(t){this.path=t,this.route=this.path[this.path.length-1]}},ur=class{constructor(t,n){this.component=t,this.route=n}};function kE(e,t,n){let r=e._root,i=t?t._root:null;return oi(r,i,n,[r.value])}function LE(e){let t=e.routeConfig?e.routeConfig.canActivateChild:null;return!t||t.length===0?null:{node:e,guards:t}}function gr(e,t){let n=Symbol(),r=t.get(e,n);return r===n?typeof e=="function"&&!lf(e)?e:t.get(e):r}function oi(e,t,n,r,i={canDeactivateChecks:[],canActivateChecks:[]}){let o=lr(t);return e.children.forEach(s=>{VE(s,o[s.value.outlet],n,r.concat([s.value]),i),delete o[s.value.outlet]}),Object.entries(o).forEach(([s,a])=>ci(a,n.getContext(s),i)),i}function VE(e,t,n,r,i={canDeactivateChecks:[],canActivateChecks:[]}){let o=e.value,s=t?t.value:null,a=n?n.getContext(e.value.outlet):null;if(s&&o.routeConfig===s.routeConfig){let l=jE(s,o,o.routeConfig.runGuardsAndResolvers);l?i.canActivateChecks.push(new Fs(r)):(o.data=s.data,o._resolvedData=s._resolvedData),o.component?oi(e,t,a?a.children:null,r,i):oi(e,t,n,r,i),l&&a&&a.outlet&&a.outlet.isActivated&&i.canDeactivateChecks.push(new ur(a.outlet.component,s))}else s&&ci(t,a,i),i.canActivateChecks.push(new Fs(r)),o.component?oi(e,null,a?a.children:null,r,i):oi(e,null,n,r,i);return i}function jE(e,t,n){if(typeof n=="function")return n(e,t);switch(n){case"pathParamsChange":return!Dn(e.url,t.url);case"pathParamsOrQueryParamsChange":return!Dn(e.url,t.url)||!lt(e.queryParams,t.queryParams);case"always":return!0;case"paramsOrQueryParamsChange":return!Cu(e,t)||!lt(e.queryParams,t.queryParams);case"paramsChange":default:return!Cu(e,t)}}function ci(e,t,n){let r=lr(e),i=e.value;Object.entries(r).forEach(([o,s])=>{i.component?t?ci(s,t.children.getContext(o),n):ci(s,null,n):ci(s,t,n)}),i.component?t&&t.outlet&&t.outlet.isActivated?n.canDeactivateChecks.push(new ur(t.outlet.component,i)):n.canDeactivateChecks.push(new ur(null,i)):n.canDeactivateChecks.push(new ur(null,i))}function Ei(e){return typeof e=="function"}function UE(e){return typeof e=="boolean"}function BE(e){return e&&Ei(e.canLoad)}function $E(e){return e&&Ei(e.canActivate)}function HE(e){return e&&Ei(e.canActivateChild)}function zE(e){return e&&Ei(e.canDeactivate)}function GE(e){return e&&Ei(e.canMatch)}function Wg(e){return e instanceof ut||e?.name==="EmptyError"}var Es=Symbol("INITIAL_VALUE");function pr(){return Me(e=>yr(e.map(t=>t.pipe(ft(1),aa(Es)))).pipe(N(t=>{for(let n of t)if(n!==!0){if(n===Es)return Es;if(n===!1||n instanceof Ut)return n}return!0}),Ie(t=>t!==Es),ft(1)))}function WE(e,t){return ee(n=>{let{targetSnapshot:r,currentSnapshot:i,guards:{canActivateChecks:o,canDeactivateChecks:s}}=n;return s.length===0&&o.length===0?T(q(D({},n),{guardsResult:!0})):qE(s,r,i,e).pipe(ee(a=>a&&UE(a)?ZE(r,o,e,t):T(a)),N(a=>q(D({},n),{guardsResult:a})))})}function qE(e,t,n,r){return Z(e).pipe(ee(i=>XE(i.component,i.route,n,t,r)),Ke(i=>i!==!0,!0))}function ZE(e,t,n,r){return Z(t).pipe(dt(i=>Nn(QE(i.route.parent,r),YE(i.route,r),JE(e,i.path,n),KE(e,i.route,n))),Ke(i=>i!==!0,!0))}function YE(e,t){return e!==null&&t&&t(new gu(e)),T(!0)}function QE(e,t){return e!==null&&t&&t(new hu(e)),T(!0)}function KE(e,t,n){let r=t.routeConfig?t.routeConfig.canActivate:null;if(!r||r.length===0)return T(!0);let i=r.map(o=>Yi(()=>{let s=_i(t)??n,a=gr(o,s),l=$E(a)?a.canActivate(t,e):Ge(s,()=>a(t,e));return zt(l).pipe(Ke())}));return T(i).pipe(pr())}function JE(e,t,n){let r=t[t.length-1],o=t.slice(0,t.length-1).reverse().map(s=>LE(s)).filter(s=>s!==null).map(s=>Yi(()=>{let a=s.guards.map(l=>{let c=_i(s.node)??n,u=gr(l,c),d=HE(u)?u.canActivateChild(r,e):Ge(c,()=>u(r,e));return zt(d).pipe(Ke())});return T(a).pipe(pr())}));return T(o).pipe(pr())}function XE(e,t,n,r,i){let o=t&&t.routeConfig?t.routeConfig.canDeactivate:null;if(!o||o.length===0)return T(!0);let s=o.map(a=>{let l=_i(t)??i,c=gr(a,l),u=zE(c)?c.canDeactivate(e,t,n,r):Ge(l,()=>c(e,t,n,r));return zt(u).pipe(Ke())});return T(s).pipe(pr())}function eb(e,t,n,r){let i=t.canLoad;if(i===void 0||i.length===0)return T(!0);let o=i.map(s=>{let a=gr(s,e),l=BE(a)?a.canLoad(t,n):Ge(e,()=>a(t,n));return zt(l)});return T(o).pipe(pr(),qg(r))}function qg(e){return Js(re(t=>{if(fr(t))throw Hg(e,t)}),N(t=>t===!0))}function tb(e,t,n,r){let i=t.canMatch;if(!i||i.length===0)return T(!0);let o=i.map(s=>{let a=gr(s,e),l=GE(a)?a.canMatch(t,n):Ge(e,()=>a(t,n));return zt(l)});return T(o).pipe(pr(),qg(r))}var vi=class{constructor(t){this.segmentGroup=t||null}},ks=class extends Error{constructor(t){super(),this.urlTree=t}};function ar(e){return Tn(new vi(e))}function nb(e){return Tn(new b(4e3,!1))}function rb(e){return Tn(zg(!1,Fe.GuardRejected))}var Eu=class{constructor(t,n){this.urlSerializer=t,this.urlTree=n}lineralizeSegments(t,n){let r=[],i=n.root;for(;;){if(r=r.concat(i.segments),i.numberOfChildren===0)return T(r);if(i.numberOfChildren>1||!i.children[O])return nb(t.redirectTo);i=i.children[O]}}applyRedirectCommands(t,n,r){let i=this.applyRedirectCreateUrlTree(n,this.urlSerializer.parse(n),t,r);if(n.startsWith("/"))throw new ks(i);return i}applyRedirectCreateUrlTree(t,n,r,i){let o=this.createSegmentGroup(t,n.root,r,i);return new Ut(o,this.createQueryParams(n.queryParams,this.urlTree.queryParams),n.fragment)}createQueryParams(t,n){let r={};return Object.entries(t).forEach(([i,o])=>{if(typeof o=="string"&&o.startsWith(":")){let a=o.substring(1);r[i]=n[a]}else r[i]=o}),r}createSegmentGroup(t,n,r,i){let o=this.createSegments(t,n.segments,r,i),s={};return Object.entries(n.children).forEach(([a,l])=>{s[a]=this.createSegmentGroup(t,l,r,i)}),new z(o,s)}createSegments(t,n,r,i){return n.map(o=>o.path.startsWith(":")?this.findPosParam(t,o,i):this.findOrReturn(o,r))}findPosParam(t,n,r){let i=r[n.path.substring(1)];if(!i)throw new b(4001,!1);return i}findOrReturn(t,n){let r=0;for(let i of n){if(i.path===t.path)return n.splice(r),i;r++}return t}},bu={matched:!1,consumedSegments:[],remainingSegments:[],parameters:{},positionalParamSegments:{}};function ib(e,t,n,r,i){let o=Nu(e,t,n);return o.matched?(r=OE(t,r),tb(r,t,n,i).pipe(N(s=>s===!0?o:D({},bu)))):T(o)}function Nu(e,t,n){if(t.path==="**")return ob(n);if(t.path==="")return t.pathMatch==="full"&&(e.hasChildren()||n.length>0)?D({},bu):{matched:!0,consumedSegments:[],remainingSegments:n,parameters:{},positionalParamSegments:{}};let i=(t.matcher||eE)(n,e,t);if(!i)return D({},bu);let o={};Object.entries(i.posParams??{}).forEach(([a,l])=>{o[a]=l.path});let s=i.consumed.length>0?D(D({},o),i.consumed[i.consumed.length-1].parameters):o;return{matched:!0,consumedSegments:i.consumed,remainingSegments:n.slice(i.consumed.length),parameters:s,positionalParamSegments:i.posParams??{}}}function ob(e){return{matched:!0,parameters:e.length>0?Mg(e).parameters:{},consumedSegments:e,remainingSegments:[],positionalParamSegments:{}}}function _g(e,t,n,r){return n.length>0&&lb(e,n,r)?{segmentGroup:new z(t,ab(r,new z(n,e.children))),slicedSegments:[]}:n.length===0&&cb(e,n,r)?{segmentGroup:new z(e.segments,sb(e,n,r,e.children)),slicedSegments:n}:{segmentGroup:new z(e.segments,e.children),slicedSegments:n}}function sb(e,t,n,r){let i={};for(let o of n)if(js(e,t,o)&&!r[ct(o)]){let s=new z([],{});i[ct(o)]=s}return D(D({},r),i)}function ab(e,t){let n={};n[O]=t;for(let r of e)if(r.path===""&&ct(r)!==O){let i=new z([],{});n[ct(r)]=i}return n}function lb(e,t,n){return n.some(r=>js(e,t,r)&&ct(r)!==O)}function cb(e,t,n){return n.some(r=>js(e,t,r))}function js(e,t,n){return(e.hasChildren()||t.length>0)&&n.pathMatch==="full"?!1:n.path===""}function ub(e,t,n,r){return ct(e)!==r&&(r===O||!js(t,n,e))?!1:Nu(t,e,n).matched}function db(e,t,n){return t.length===0&&!e.children[n]}var Iu=class{};function fb(e,t,n,r,i,o,s="emptyOnly"){return new Mu(e,t,n,r,i,s,o).recognize()}var hb=31,Mu=class{constructor(t,n,r,i,o,s,a){this.injector=t,this.configLoader=n,this.rootComponentType=r,this.config=i,this.urlTree=o,this.paramsInheritanceStrategy=s,this.urlSerializer=a,this.applyRedirects=new Eu(this.urlSerializer,this.urlTree),this.absoluteRedirectCount=0,this.allowRedirects=!0}noMatchError(t){return new b(4002,`'${t.segmentGroup}'`)}recognize(){let t=_g(this.urlTree.root,[],[],this.config).segmentGroup;return this.match(t).pipe(N(n=>{let r=new gi([],Object.freeze({}),Object.freeze(D({},this.urlTree.queryParams)),this.urlTree.fragment,{},O,this.rootComponentType,null,{}),i=new Pe(r,n),o=new Ps("",i),s=DE(r,[],this.urlTree.queryParams,this.urlTree.fragment);return s.queryParams=this.urlTree.queryParams,o.url=this.urlSerializer.serialize(s),this.inheritParamsAndData(o._root,null),{state:o,tree:s}}))}match(t){return this.processSegmentGroup(this.injector,this.config,t,O).pipe(xt(r=>{if(r instanceof ks)return this.urlTree=r.urlTree,this.match(r.urlTree.root);throw r instanceof vi?this.noMatchError(r):r}))}inheritParamsAndData(t,n){let r=t.value,i=Su(r,n,this.paramsInheritanceStrategy);r.params=Object.freeze(i.params),r.data=Object.freeze(i.data),t.children.forEach(o=>this.inheritParamsAndData(o,r))}processSegmentGroup(t,n,r,i){return r.segments.length===0&&r.hasChildren()?this.processChildren(t,n,r):this.processSegment(t,n,r,r.segments,i,!0).pipe(N(o=>o instanceof Pe?[o]:[]))}processChildren(t,n,r){let i=[];for(let o of Object.keys(r.children))o==="primary"?i.unshift(o):i.push(o);return Z(i).pipe(dt(o=>{let s=r.children[o],a=PE(n,o);return this.processSegmentGroup(t,a,s,o)}),sa((o,s)=>(o.push(...s),o)),St(null),oa(),ee(o=>{if(o===null)return ar(r);let s=Zg(o);return pb(s),T(s)}))}processSegment(t,n,r,i,o,s){return Z(n).pipe(dt(a=>this.processSegmentAgainstRoute(a._injector??t,n,a,r,i,o,s).pipe(xt(l=>{if(l instanceof vi)return T(null);throw l}))),Ke(a=>!!a),xt(a=>{if(Wg(a))return db(r,i,o)?T(new Iu):ar(r);throw a}))}processSegmentAgainstRoute(t,n,r,i,o,s,a){return ub(r,i,o,s)?r.redirectTo===void 0?this.matchSegmentAgainstRoute(t,i,r,o,s):this.allowRedirects&&a?this.expandSegmentAgainstRouteUsingRedirect(t,i,n,r,o,s):ar(i):ar(i)}expandSegmentAgainstRouteUsingRedirect(t,n,r,i,o,s){let{matched:a,consumedSegments:l,positionalParamSegments:c,remainingSegments:u}=Nu(n,i,o);if(!a)return ar(n);i.redirectTo.startsWith("/")&&(this.absoluteRedirectCount++,this.absoluteRedirectCount>hb&&(this.allowRedirects=!1));let d=this.applyRedirects.applyRedirectCommands(l,i.redirectTo,c);return this.applyRedirects.lineralizeSegments(i,d).pipe(ee(f=>this.processSegment(t,r,n,f.concat(u),s,!1)))}matchSegmentAgainstRoute(t,n,r,i,o){let s=ib(n,r,i,t,this.urlSerializer);return r.path==="**"&&(n.children={}),s.pipe(Me(a=>a.matched?(t=r._injector??t,this.getChildConfig(t,r,i).pipe(Me(({routes:l})=>{let c=r._loadedInjector??t,{consumedSegments:u,remainingSegments:d,parameters:f}=a,h=new gi(u,f,Object.freeze(D({},this.urlTree.queryParams)),this.urlTree.fragment,mb(r),ct(r),r.component??r._loadedComponent??null,r,vb(r)),{segmentGroup:m,slicedSegments:v}=_g(n,u,d,l);if(v.length===0&&m.hasChildren())return this.processChildren(c,l,m).pipe(N(x=>x===null?null:new Pe(h,x)));if(l.length===0&&v.length===0)return T(new Pe(h,[]));let C=ct(r)===o;return this.processSegment(c,l,m,v,C?O:o,!0).pipe(N(x=>new Pe(h,x instanceof Pe?[x]:[])))}))):ar(n)))}getChildConfig(t,n,r){return n.children?T({routes:n.children,injector:t}):n.loadChildren?n._loadedRoutes!==void 0?T({routes:n._loadedRoutes,injector:n._loadedInjector}):eb(t,n,r,this.urlSerializer).pipe(ee(i=>i?this.configLoader.loadChildren(t,n).pipe(re(o=>{n._loadedRoutes=o.routes,n._loadedInjector=o.injector})):rb(n))):T({routes:[],injector:t})}};function pb(e){e.sort((t,n)=>t.value.outlet===O?-1:n.value.outlet===O?1:t.value.outlet.localeCompare(n.value.outlet))}function gb(e){let t=e.value.routeConfig;return t&&t.path===""}function Zg(e){let t=[],n=new Set;for(let r of e){if(!gb(r)){t.push(r);continue}let i=t.find(o=>r.value.routeConfig===o.value.routeConfig);i!==void 0?(i.children.push(...r.children),n.add(i)):t.push(r)}for(let r of n){let i=Zg(r.children);t.push(new Pe(r.value,i))}return t.filter(r=>!n.has(r))}function mb(e){return e.data||{}}function vb(e){return e.resolve||{}}function yb(e,t,n,r,i,o){return ee(s=>fb(e,t,n,r,s.extractedUrl,i,o).pipe(N(({state:a,tree:l})=>q(D({},s),{targetSnapshot:a,urlAfterRedirects:l}))))}function Db(e,t){return ee(n=>{let{targetSnapshot:r,guards:{canActivateChecks:i}}=n;if(!i.length)return T(n);let o=new Set(i.map(l=>l.route)),s=new Set;for(let l of o)if(!s.has(l))for(let c of Yg(l))s.add(c);let a=0;return Z(s).pipe(dt(l=>o.has(l)?Cb(l,r,e,t):(l.data=Su(l,l.parent,e).resolve,T(void 0))),re(()=>a++),Rn(1),ee(l=>a===s.size?T(n):Re))})}function Yg(e){let t=e.children.map(n=>Yg(n)).flat();return[e,...t]}function Cb(e,t,n,r){let i=e.routeConfig,o=e._resolve;return i?.title!==void 0&&!Bg(i)&&(o[Di]=i.title),wb(o,e,t,r).pipe(N(s=>(e._resolvedData=s,e.data=Su(e,e.parent,n).resolve,null)))}function wb(e,t,n,r){let i=ru(e);if(i.length===0)return T({});let o={};return Z(i).pipe(ee(s=>_b(e[s],t,n,r).pipe(Ke(),re(a=>{o[s]=a}))),Rn(1),ia(o),xt(s=>Wg(s)?Re:Tn(s)))}function _b(e,t,n,r){let i=_i(t)??r,o=gr(e,i),s=o.resolve?o.resolve(t,n):Ge(i,()=>o(t,n));return zt(s)}function tu(e){return Me(t=>{let n=e(t);return n?Z(n).pipe(N(()=>t)):T(t)})}var Qg=(()=>{class e{buildTitle(n){let r,i=n.root;for(;i!==void 0;)r=this.getResolvedTitleForRoute(i)??r,i=i.children.find(o=>o.outlet===O);return r}getResolvedTitleForRoute(n){return n.data[Di]}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Eb),providedIn:"root"})}}return e})(),Eb=(()=>{class e extends Qg{constructor(n){super(),this.title=n}updateTitle(n){let r=this.buildTitle(n);r!==void 0&&this.title.setTitle(r)}static{this.\u0275fac=function(r){return new(r||e)(M(mg))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),bi=new I("",{providedIn:"root",factory:()=>({})}),yi=new I(""),Ru=(()=>{class e{constructor(){this.componentLoaders=new WeakMap,this.childrenLoaders=new WeakMap,this.compiler=y(ts)}loadComponent(n){if(this.componentLoaders.get(n))return this.componentLoaders.get(n);if(n._loadedComponent)return T(n._loadedComponent);this.onLoadStartListener&&this.onLoadStartListener(n);let r=zt(n.loadComponent()).pipe(N(Kg),re(o=>{this.onLoadEndListener&&this.onLoadEndListener(n),n._loadedComponent=o}),Zt(()=>{this.componentLoaders.delete(n)})),i=new Sn(r,()=>new ye).pipe(xn());return this.componentLoaders.set(n,i),i}loadChildren(n,r){if(this.childrenLoaders.get(r))return this.childrenLoaders.get(r);if(r._loadedRoutes)return T({routes:r._loadedRoutes,injector:r._loadedInjector});this.onLoadStartListener&&this.onLoadStartListener(r);let o=bb(r,this.compiler,n,this.onLoadEndListener).pipe(Zt(()=>{this.childrenLoaders.delete(r)})),s=new Sn(o,()=>new ye).pipe(xn());return this.childrenLoaders.set(r,s),s}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function bb(e,t,n,r){return zt(e.loadChildren()).pipe(N(Kg),ee(i=>i instanceof Nr||Array.isArray(i)?T(i):Z(t.compileModuleAsync(i))),N(i=>{r&&r(e);let o,s,a=!1;return Array.isArray(i)?(s=i,a=!0):(o=i.create(n).injector,s=o.get(yi,[],{optional:!0,self:!0}).flat()),{routes:s.map(Au),injector:o}}))}function Ib(e){return e&&typeof e=="object"&&"default"in e}function Kg(e){return Ib(e)?e.default:e}var Ou=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Mb),providedIn:"root"})}}return e})(),Mb=(()=>{class e{shouldProcessUrl(n){return!0}extract(n){return n}merge(n,r){return n}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),Jg=new I(""),Xg=new I("");function xb(e,t,n){let r=e.get(Xg),i=e.get(ve);return e.get(Y).runOutsideAngular(()=>{if(!i.startViewTransition||r.skipNextTransition)return r.skipNextTransition=!1,new Promise(c=>setTimeout(c));let o,s=new Promise(c=>{o=c}),a=i.startViewTransition(()=>(o(),Sb(e))),{onViewTransitionCreated:l}=r;return l&&Ge(e,()=>l({transition:a,from:t,to:n})),s})}function Sb(e){return new Promise(t=>{Yo(t,{injector:e})})}var Pu=(()=>{class e{get hasRequestedNavigation(){return this.navigationId!==0}constructor(){this.currentNavigation=null,this.currentTransition=null,this.lastSuccessfulNavigation=null,this.events=new ye,this.transitionAbortSubject=new ye,this.configLoader=y(Ru),this.environmentInjector=y(ue),this.urlSerializer=y(Ci),this.rootContexts=y(wi),this.location=y(ir),this.inputBindingEnabled=y(Vs,{optional:!0})!==null,this.titleStrategy=y(Qg),this.options=y(bi,{optional:!0})||{},this.paramsInheritanceStrategy=this.options.paramsInheritanceStrategy||"emptyOnly",this.urlHandlingStrategy=y(Ou),this.createViewTransition=y(Jg,{optional:!0}),this.navigationId=0,this.afterPreactivation=()=>T(void 0),this.rootComponentType=null;let n=i=>this.events.next(new du(i)),r=i=>this.events.next(new fu(i));this.configLoader.onLoadEndListener=r,this.configLoader.onLoadStartListener=n}complete(){this.transitions?.complete()}handleNavigationRequest(n){let r=++this.navigationId;this.transitions?.next(q(D(D({},this.transitions.value),n),{id:r}))}setupNavigations(n,r,i){return this.transitions=new ae({id:0,currentUrlTree:r,currentRawUrl:r,extractedUrl:this.urlHandlingStrategy.extract(r),urlAfterRedirects:this.urlHandlingStrategy.extract(r),rawUrl:r,extras:{},resolve:null,reject:null,promise:Promise.resolve(!0),source:li,restoredState:null,currentSnapshot:i.snapshot,targetSnapshot:null,currentRouterState:i,targetRouterState:null,guards:{canActivateChecks:[],canDeactivateChecks:[]},guardsResult:null}),this.transitions.pipe(Ie(o=>o.id!==0),N(o=>q(D({},o),{extractedUrl:this.urlHandlingStrategy.extract(o.rawUrl)})),Me(o=>{let s=!1,a=!1;return T(o).pipe(Me(l=>{if(this.navigationId>o.id)return this.cancelNavigationTransition(o,"",Fe.SupersededByNewNavigation),Re;this.currentTransition=o,this.currentNavigation={id:l.id,initialUrl:l.rawUrl,extractedUrl:l.extractedUrl,trigger:l.source,extras:l.extras,previousNavigation:this.lastSuccessfulNavigation?q(D({},this.lastSuccessfulNavigation),{previousNavigation:null}):null};let c=!n.navigated||this.isUpdatingInternalState()||this.isUpdatedBrowserUrl(),u=l.extras.onSameUrlNavigation??n.onSameUrlNavigation;if(!c&&u!=="reload"){let d="";return this.events.next(new $t(l.id,this.urlSerializer.serialize(l.rawUrl),d,Ts.IgnoredSameUrlNavigation)),l.resolve(null),Re}if(this.urlHandlingStrategy.shouldProcessUrl(l.rawUrl))return T(l).pipe(Me(d=>{let f=this.transitions?.getValue();return this.events.next(new hr(d.id,this.urlSerializer.serialize(d.extractedUrl),d.source,d.restoredState)),f!==this.transitions?.getValue()?Re:Promise.resolve(d)}),yb(this.environmentInjector,this.configLoader,this.rootComponentType,n.config,this.urlSerializer,this.paramsInheritanceStrategy),re(d=>{o.targetSnapshot=d.targetSnapshot,o.urlAfterRedirects=d.urlAfterRedirects,this.currentNavigation=q(D({},this.currentNavigation),{finalUrl:d.urlAfterRedirects});let f=new As(d.id,this.urlSerializer.serialize(d.extractedUrl),this.urlSerializer.serialize(d.urlAfterRedirects),d.targetSnapshot);this.events.next(f)}));if(c&&this.urlHandlingStrategy.shouldProcessUrl(l.currentRawUrl)){let{id:d,extractedUrl:f,source:h,restoredState:m,extras:v}=l,C=new hr(d,this.urlSerializer.serialize(f),h,m);this.events.next(C);let x=jg(this.rootComponentType).snapshot;return this.currentTransition=o=q(D({},l),{targetSnapshot:x,urlAfterRedirects:f,extras:q(D({},v),{skipLocationChange:!1,replaceUrl:!1})}),this.currentNavigation.finalUrl=f,T(o)}else{let d="";return this.events.next(new $t(l.id,this.urlSerializer.serialize(l.extractedUrl),d,Ts.IgnoredByUrlHandlingStrategy)),l.resolve(null),Re}}),re(l=>{let c=new au(l.id,this.urlSerializer.serialize(l.extractedUrl),this.urlSerializer.serialize(l.urlAfterRedirects),l.targetSnapshot);this.events.next(c)}),N(l=>(this.currentTransition=o=q(D({},l),{guards:kE(l.targetSnapshot,l.currentSnapshot,this.rootContexts)}),o)),WE(this.environmentInjector,l=>this.events.next(l)),re(l=>{if(o.guardsResult=l.guardsResult,fr(l.guardsResult))throw Hg(this.urlSerializer,l.guardsResult);let c=new lu(l.id,this.urlSerializer.serialize(l.extractedUrl),this.urlSerializer.serialize(l.urlAfterRedirects),l.targetSnapshot,!!l.guardsResult);this.events.next(c)}),Ie(l=>l.guardsResult?!0:(this.cancelNavigationTransition(l,"",Fe.GuardRejected),!1)),tu(l=>{if(l.guards.canActivateChecks.length)return T(l).pipe(re(c=>{let u=new cu(c.id,this.urlSerializer.serialize(c.extractedUrl),this.urlSerializer.serialize(c.urlAfterRedirects),c.targetSnapshot);this.events.next(u)}),Me(c=>{let u=!1;return T(c).pipe(Db(this.paramsInheritanceStrategy,this.environmentInjector),re({next:()=>u=!0,complete:()=>{u||this.cancelNavigationTransition(c,"",Fe.NoDataFromResolver)}}))}),re(c=>{let u=new uu(c.id,this.urlSerializer.serialize(c.extractedUrl),this.urlSerializer.serialize(c.urlAfterRedirects),c.targetSnapshot);this.events.next(u)}))}),tu(l=>{let c=u=>{let d=[];u.routeConfig?.loadComponent&&!u.routeConfig._loadedComponent&&d.push(this.configLoader.loadComponent(u.routeConfig).pipe(re(f=>{u.component=f}),N(()=>{})));for(let f of u.children)d.push(...c(f));return d};return yr(c(l.targetSnapshot.root)).pipe(St(null),ft(1))}),tu(()=>this.afterPreactivation()),Me(()=>{let{currentSnapshot:l,targetSnapshot:c}=o,u=this.createViewTransition?.(this.environmentInjector,l.root,c.root);return u?Z(u).pipe(N(()=>o)):T(o)}),N(l=>{let c=SE(n.routeReuseStrategy,l.targetSnapshot,l.currentRouterState);return this.currentTransition=o=q(D({},l),{targetRouterState:c}),this.currentNavigation.targetRouterState=c,o}),re(()=>{this.events.next(new hi)}),FE(this.rootContexts,n.routeReuseStrategy,l=>this.events.next(l),this.inputBindingEnabled),ft(1),re({next:l=>{s=!0,this.lastSuccessfulNavigation=this.currentNavigation,this.events.next(new bt(l.id,this.urlSerializer.serialize(l.extractedUrl),this.urlSerializer.serialize(l.urlAfterRedirects))),this.titleStrategy?.updateTitle(l.targetRouterState.snapshot),l.resolve(!0)},complete:()=>{s=!0}}),la(this.transitionAbortSubject.pipe(re(l=>{throw l}))),Zt(()=>{!s&&!a&&this.cancelNavigationTransition(o,"",Fe.SupersededByNewNavigation),this.currentTransition?.id===o.id&&(this.currentNavigation=null,this.currentTransition=null)}),xt(l=>{if(a=!0,Gg(l))this.events.next(new Bt(o.id,this.urlSerializer.serialize(o.extractedUrl),l.message,l.cancellationCode)),NE(l)?this.events.next(new pi(l.url)):o.resolve(!1);else{this.events.next(new fi(o.id,this.urlSerializer.serialize(o.extractedUrl),l,o.targetSnapshot??void 0));try{o.resolve(n.errorHandler(l))}catch(c){this.options.resolveNavigationPromiseOnError?o.resolve(!1):o.reject(c)}}return Re}))}))}cancelNavigationTransition(n,r,i){let o=new Bt(n.id,this.urlSerializer.serialize(n.extractedUrl),r,i);this.events.next(o),n.resolve(!1)}isUpdatingInternalState(){return this.currentTransition?.extractedUrl.toString()!==this.currentTransition?.currentUrlTree.toString()}isUpdatedBrowserUrl(){return this.urlHandlingStrategy.extract(this.urlSerializer.parse(this.location.path(!0))).toString()!==this.currentTransition?.extractedUrl.toString()&&!this.currentTransition?.extras.skipLocationChange}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function Tb(e){return e!==li}var Ab=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Nb),providedIn:"root"})}}return e})(),xu=class{shouldDetach(t){return!1}store(t,n){}shouldAttach(t){return!1}retrieve(t){return null}shouldReuseRoute(t,n){return t.routeConfig===n.routeConfig}},Nb=(()=>{class e extends xu{static{this.\u0275fac=(()=>{let n;return function(i){return(n||(n=un(e)))(i||e)}})()}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),em=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:()=>y(Rb),providedIn:"root"})}}return e})(),Rb=(()=>{class e extends em{constructor(){super(...arguments),this.location=y(ir),this.urlSerializer=y(Ci),this.options=y(bi,{optional:!0})||{},this.canceledNavigationResolution=this.options.canceledNavigationResolution||"replace",this.urlHandlingStrategy=y(Ou),this.urlUpdateStrategy=this.options.urlUpdateStrategy||"deferred",this.currentUrlTree=new Ut,this.rawUrlTree=this.currentUrlTree,this.currentPageId=0,this.lastSuccessfulId=-1,this.routerState=jg(null),this.stateMemento=this.createStateMemento()}getCurrentUrlTree(){return this.currentUrlTree}getRawUrlTree(){return this.rawUrlTree}restoredState(){return this.location.getState()}get browserPageId(){return this.canceledNavigationResolution!=="computed"?this.currentPageId:this.restoredState()?.\u0275routerPageId??this.currentPageId}getRouterState(){return this.routerState}createStateMemento(){return{rawUrlTree:this.rawUrlTree,currentUrlTree:this.currentUrlTree,routerState:this.routerState}}registerNonRouterCurrentEntryChangeListener(n){return this.location.subscribe(r=>{r.type==="popstate"&&n(r.url,r.state)})}handleRouterEvent(n,r){if(n instanceof hr)this.stateMemento=this.createStateMemento();else if(n instanceof $t)this.rawUrlTree=r.initialUrl;else if(n instanceof As){if(this.urlUpdateStrategy==="eager"&&!r.extras.skipLocationChange){let i=this.urlHandlingStrategy.merge(r.finalUrl,r.initialUrl);this.setBrowserUrl(i,r)}}else n instanceof hi?(this.currentUrlTree=r.finalUrl,this.rawUrlTree=this.urlHandlingStrategy.merge(r.finalUrl,r.initialUrl),this.routerState=r.targetRouterState,this.urlUpdateStrategy==="deferred"&&(r.extras.skipLocationChange||this.setBrowserUrl(this.rawUrlTree,r))):n instanceof Bt&&(n.code===Fe.GuardRejected||n.code===Fe.NoDataFromResolver)?this.restoreHistory(r):n instanceof fi?this.restoreHistory(r,!0):n instanceof bt&&(this.lastSuccessfulId=n.id,this.currentPageId=this.browserPageId)}setBrowserUrl(n,r){let i=this.urlSerializer.serialize(n);if(this.location.isCurrentPathEqualTo(i)||r.extras.replaceUrl){let o=this.browserPageId,s=D(D({},r.extras.state),this.generateNgRouterState(r.id,o));this.location.replaceState(i,"",s)}else{let o=D(D({},r.extras.state),this.generateNgRouterState(r.id,this.browserPageId+1));this.location.go(i,"",o)}}restoreHistory(n,r=!1){if(this.canceledNavigationResolution==="computed"){let i=this.browserPageId,o=this.currentPageId-i;o!==0?this.location.historyGo(o):this.currentUrlTree===n.finalUrl&&o===0&&(this.resetState(n),this.resetUrlToCurrentUrlTree())}else this.canceledNavigationResolution==="replace"&&(r&&this.resetState(n),this.resetUrlToCurrentUrlTree())}resetState(n){this.routerState=this.stateMemento.routerState,this.currentUrlTree=this.stateMemento.currentUrlTree,this.rawUrlTree=this.urlHandlingStrategy.merge(this.currentUrlTree,n.finalUrl??this.rawUrlTree)}resetUrlToCurrentUrlTree(){this.location.replaceState(this.urlSerializer.serialize(this.rawUrlTree),"",this.generateNgRouterState(this.lastSuccessfulId,this.currentPageId))}generateNgRouterState(n,r){return this.canceledNavigationResolution==="computed"?{navigationId:n,\u0275routerPageId:r}:{navigationId:n}}static{this.\u0275fac=(()=>{let n;return function(i){return(n||(n=un(e)))(i||e)}})()}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),si=function(e){return e[e.COMPLETE=0]="COMPLETE",e[e.FAILED=1]="FAILED",e[e.REDIRECTING=2]="REDIRECTING",e}(si||{});function tm(e,t){e.events.pipe(Ie(n=>n instanceof bt||n instanceof Bt||n instanceof fi||n instanceof $t),N(n=>n instanceof bt||n instanceof $t?si.COMPLETE:(n instanceof Bt?n.code===Fe.Redirect||n.code===Fe.SupersededByNewNavigation:!1)?si.REDIRECTING:si.FAILED),Ie(n=>n!==si.REDIRECTING),ft(1)).subscribe(()=>{t()})}function Ob(e){throw e}var Pb={paths:"exact",fragment:"ignored",matrixParams:"ignored",queryParams:"exact"},Fb={paths:"subset",fragment:"ignored",matrixParams:"ignored",queryParams:"subset"},Ht=(()=>{class e{get currentUrlTree(){return this.stateManager.getCurrentUrlTree()}get rawUrlTree(){return this.stateManager.getRawUrlTree()}get events(){return this._events}get routerState(){return this.stateManager.getRouterState()}constructor(){this.disposed=!1,this.isNgZoneEnabled=!1,this.console=y(Xo),this.stateManager=y(em),this.options=y(bi,{optional:!0})||{},this.pendingTasks=y(hn),this.urlUpdateStrategy=this.options.urlUpdateStrategy||"deferred",this.navigationTransitions=y(Pu),this.urlSerializer=y(Ci),this.location=y(ir),this.urlHandlingStrategy=y(Ou),this._events=new ye,this.errorHandler=this.options.errorHandler||Ob,this.navigated=!1,this.routeReuseStrategy=y(Ab),this.onSameUrlNavigation=this.options.onSameUrlNavigation||"ignore",this.config=y(yi,{optional:!0})?.flat()??[],this.componentInputBindingEnabled=!!y(Vs,{optional:!0}),this.eventsSubscription=new te,this.isNgZoneEnabled=y(Y)instanceof Y&&Y.isInAngularZone(),this.resetConfig(this.config),this.navigationTransitions.setupNavigations(this,this.currentUrlTree,this.routerState).subscribe({error:n=>{this.console.warn(n)}}),this.subscribeToNavigationEvents()}subscribeToNavigationEvents(){let n=this.navigationTransitions.events.subscribe(r=>{try{let i=this.navigationTransitions.currentTransition,o=this.navigationTransitions.currentNavigation;if(i!==null&&o!==null){if(this.stateManager.handleRouterEvent(r,o),r instanceof Bt&&r.code!==Fe.Redirect&&r.code!==Fe.SupersededByNewNavigation)this.navigated=!0;else if(r instanceof bt)this.navigated=!0;else if(r instanceof pi){let s=this.urlHandlingStrategy.merge(r.url,i.currentRawUrl),a={info:i.extras.info,skipLocationChange:i.extras.skipLocationChange,replaceUrl:this.urlUpdateStrategy==="eager"||Tb(i.source)};this.scheduleNavigation(s,li,null,a,{resolve:i.resolve,reject:i.reject,promise:i.promise})}}Lb(r)&&this._events.next(r)}catch(i){this.navigationTransitions.transitionAbortSubject.next(i)}});this.eventsSubscription.add(n)}resetRootComponentType(n){this.routerState.root.component=n,this.navigationTransitions.rootComponentType=n}initialNavigation(){this.setUpLocationChangeListener(),this.navigationTransitions.hasRequestedNavigation||this.navigateToSyncWithBrowser(this.location.path(!0),li,this.stateManager.restoredState())}setUpLocationChangeListener(){this.nonRouterCurrentEntryChangeSubscription??=this.stateManager.registerNonRouterCurrentEntryChangeListener((n,r)=>{setTimeout(()=>{this.navigateToSyncWithBrowser(n,"popstate",r)},0)})}navigateToSyncWithBrowser(n,r,i){let o={replaceUrl:!0},s=i?.navigationId?i:null;if(i){let l=D({},i);delete l.navigationId,delete l.\u0275routerPageId,Object.keys(l).length!==0&&(o.state=l)}let a=this.parseUrl(n);this.scheduleNavigation(a,r,s,o)}get url(){return this.serializeUrl(this.currentUrlTree)}getCurrentNavigation(){return this.navigationTransitions.currentNavigation}get lastSuccessfulNavigation(){return this.navigationTransitions.lastSuccessfulNavigation}resetConfig(n){this.config=n.map(Au),this.navigated=!1}ngOnDestroy(){this.dispose()}dispose(){this.navigationTransitions.complete(),this.nonRouterCurrentEntryChangeSubscription&&(this.nonRouterCurrentEntryChangeSubscription.unsubscribe(),this.nonRouterCurrentEntryChangeSubscription=void 0),this.disposed=!0,this.eventsSubscription.unsubscribe()}createUrlTree(n,r={}){let{relativeTo:i,queryParams:o,fragment:s,queryParamsHandling:a,preserveFragment:l}=r,c=l?this.currentUrlTree.fragment:s,u=null;switch(a){case"merge":u=D(D({},this.currentUrlTree.queryParams),o);break;case"preserve":u=this.currentUrlTree.queryParams;break;default:u=o||null}u!==null&&(u=this.removeEmptyProps(u));let d;try{let f=i?i.snapshot:this.routerState.snapshot.root;d=Fg(f)}catch{(typeof n[0]!="string"||!n[0].startsWith("/"))&&(n=[]),d=this.currentUrlTree.root}return kg(d,n,u,c??null)}navigateByUrl(n,r={skipLocationChange:!1}){let i=fr(n)?n:this.parseUrl(n),o=this.urlHandlingStrategy.merge(i,this.rawUrlTree);return this.scheduleNavigation(o,li,null,r)}navigate(n,r={skipLocationChange:!1}){return kb(n),this.navigateByUrl(this.createUrlTree(n,r),r)}serializeUrl(n){return this.urlSerializer.serialize(n)}parseUrl(n){try{return this.urlSerializer.parse(n)}catch{return this.urlSerializer.parse("/")}}isActive(n,r){let i;if(r===!0?i=D({},Pb):r===!1?i=D({},Fb):i=r,fr(n))return vg(this.currentUrlTree,n,i);let o=this.parseUrl(n);return vg(this.currentUrlTree,o,i)}removeEmptyProps(n){return Object.entries(n).reduce((r,[i,o])=>(o!=null&&(r[i]=o),r),{})}scheduleNavigation(n,r,i,o,s){if(this.disposed)return Promise.resolve(!1);let a,l,c;s?(a=s.resolve,l=s.reject,c=s.promise):c=new Promise((d,f)=>{a=d,l=f});let u=this.pendingTasks.add();return tm(this,()=>{queueMicrotask(()=>this.pendingTasks.remove(u))}),this.navigationTransitions.handleNavigationRequest({source:r,restoredState:i,currentUrlTree:this.currentUrlTree,currentRawUrl:this.currentUrlTree,rawUrl:n,extras:o,resolve:a,reject:l,promise:c,currentSnapshot:this.routerState.snapshot,currentRouterState:this.routerState}),c.catch(d=>Promise.reject(d))}static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();function kb(e){for(let t=0;t<e.length;t++)if(e[t]==null)throw new b(4008,!1)}function Lb(e){return!(e instanceof hi)&&!(e instanceof pi)}var Ls=class{};var Vb=(()=>{class e{constructor(n,r,i,o,s){this.router=n,this.injector=i,this.preloadingStrategy=o,this.loader=s}setUpPreloading(){this.subscription=this.router.events.pipe(Ie(n=>n instanceof bt),dt(()=>this.preload())).subscribe(()=>{})}preload(){return this.processRoutes(this.injector,this.router.config)}ngOnDestroy(){this.subscription&&this.subscription.unsubscribe()}processRoutes(n,r){let i=[];for(let o of r){o.providers&&!o._injector&&(o._injector=Hr(o.providers,n,`Route: ${o.path}`));let s=o._injector??n,a=o._loadedInjector??s;(o.loadChildren&&!o._loadedRoutes&&o.canLoad===void 0||o.loadComponent&&!o._loadedComponent)&&i.push(this.preloadConfig(s,o)),(o.children||o._loadedRoutes)&&i.push(this.processRoutes(a,o.children??o._loadedRoutes))}return Z(i).pipe(An())}preloadConfig(n,r){return this.preloadingStrategy.preload(r,()=>{let i;r.loadChildren&&r.canLoad===void 0?i=this.loader.loadChildren(n,r):i=T(null);let o=i.pipe(ee(s=>s===null?T(void 0):(r._loadedRoutes=s.routes,r._loadedInjector=s.injector,this.processRoutes(s.injector??n,s.routes))));if(r.loadComponent&&!r._loadedComponent){let s=this.loader.loadComponent(r);return Z([o,s]).pipe(An())}else return o})}static{this.\u0275fac=function(r){return new(r||e)(M(Ht),M(ts),M(ue),M(Ls),M(Ru))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})(),nm=new I(""),jb=(()=>{class e{constructor(n,r,i,o,s={}){this.urlSerializer=n,this.transitions=r,this.viewportScroller=i,this.zone=o,this.options=s,this.lastId=0,this.lastSource="imperative",this.restoredId=0,this.store={},this.environmentInjector=y(ue),s.scrollPositionRestoration||="disabled",s.anchorScrolling||="disabled"}init(){this.options.scrollPositionRestoration!=="disabled"&&this.viewportScroller.setHistoryScrollRestoration("manual"),this.routerEventsSubscription=this.createScrollEvents(),this.scrollEventsSubscription=this.consumeScrollEvents()}createScrollEvents(){return this.transitions.events.subscribe(n=>{n instanceof hr?(this.store[this.lastId]=this.viewportScroller.getScrollPosition(),this.lastSource=n.navigationTrigger,this.restoredId=n.restoredState?n.restoredState.navigationId:0):n instanceof bt?(this.lastId=n.id,this.scheduleScrollEvent(n,this.urlSerializer.parse(n.urlAfterRedirects).fragment)):n instanceof $t&&n.code===Ts.IgnoredSameUrlNavigation&&(this.lastSource=void 0,this.restoredId=0,this.scheduleScrollEvent(n,this.urlSerializer.parse(n.url).fragment))})}consumeScrollEvents(){return this.transitions.events.subscribe(n=>{n instanceof Ns&&(n.position?this.options.scrollPositionRestoration==="top"?this.viewportScroller.scrollToPosition([0,0]):this.options.scrollPositionRestoration==="enabled"&&this.viewportScroller.scrollToPosition(n.position):n.anchor&&this.options.anchorScrolling==="enabled"?this.viewportScroller.scrollToAnchor(n.anchor):this.options.scrollPositionRestoration!=="disabled"&&this.viewportScroller.scrollToPosition([0,0]))})}scheduleScrollEvent(n,r){this.zone.runOutsideAngular(()=>Mi(this,null,function*(){yield new Promise(i=>{setTimeout(()=>{i()}),Yo(()=>{i()},{injector:this.environmentInjector})}),this.zone.run(()=>{this.transitions.events.next(new Ns(n,this.lastSource==="popstate"?this.store[this.restoredId]:null,r))})}))}ngOnDestroy(){this.routerEventsSubscription?.unsubscribe(),this.scrollEventsSubscription?.unsubscribe()}static{this.\u0275fac=function(r){xh()}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac})}}return e})();function CR(e,...t){return Yn([{provide:yi,multi:!0,useValue:e},[],{provide:Cn,useFactory:rm,deps:[Ht]},{provide:qr,multi:!0,useFactory:im},t.map(n=>n.\u0275providers)])}function rm(e){return e.routerState.root}function Ii(e,t){return{\u0275kind:e,\u0275providers:t}}function im(){let e=y(Dt);return t=>{let n=e.get(nr);if(t!==n.components[0])return;let r=e.get(Ht),i=e.get(om);e.get(Fu)===1&&r.initialNavigation(),e.get(sm,null,k.Optional)?.setUpPreloading(),e.get(nm,null,k.Optional)?.init(),r.resetRootComponentType(n.componentTypes[0]),i.closed||(i.next(),i.complete(),i.unsubscribe())}}var om=new I("",{factory:()=>new ye}),Fu=new I("",{providedIn:"root",factory:()=>1});function Ub(){return Ii(2,[{provide:Fu,useValue:0},{provide:es,multi:!0,deps:[Dt],useFactory:t=>{let n=t.get(bp,Promise.resolve());return()=>n.then(()=>new Promise(r=>{let i=t.get(Ht),o=t.get(om);tm(i,()=>{r(!0)}),t.get(Pu).afterPreactivation=()=>(r(!0),o.closed?T(void 0):o),i.initialNavigation()}))}}])}function Bb(){return Ii(3,[{provide:es,multi:!0,useFactory:()=>{let t=y(Ht);return()=>{t.setUpLocationChangeListener()}}},{provide:Fu,useValue:2}])}var sm=new I("");function $b(e){return Ii(0,[{provide:sm,useExisting:Vb},{provide:Ls,useExisting:e}])}function Hb(){return Ii(8,[wg,{provide:Vs,useExisting:wg}])}function zb(e){let t=[{provide:Jg,useValue:xb},{provide:Xg,useValue:D({skipNextTransition:!!e?.skipInitialTransition},e)}];return Ii(9,t)}var Eg=new I("ROUTER_FORROOT_GUARD"),Gb=[ir,{provide:Ci,useClass:ui},Ht,wi,{provide:Cn,useFactory:rm,deps:[Ht]},Ru,[]],am=(()=>{class e{constructor(n){}static forRoot(n,r){return{ngModule:e,providers:[Gb,[],{provide:yi,multi:!0,useValue:n},{provide:Eg,useFactory:Yb,deps:[[Ht,new Pr,new No]]},{provide:bi,useValue:r||{}},r?.useHash?qb():Zb(),Wb(),r?.preloadingStrategy?$b(r.preloadingStrategy).\u0275providers:[],r?.initialNavigation?Qb(r):[],r?.bindToComponentInputs?Hb().\u0275providers:[],r?.enableViewTransitions?zb().\u0275providers:[],Kb()]}}static forChild(n){return{ngModule:e,providers:[{provide:yi,multi:!0,useValue:n}]}}static{this.\u0275fac=function(r){return new(r||e)(M(Eg,8))}}static{this.\u0275mod=mt({type:e})}static{this.\u0275inj=gt({})}}return e})();function Wb(){return{provide:nm,useFactory:()=>{let e=y(Ap),t=y(Y),n=y(bi),r=y(Pu),i=y(Ci);return n.scrollOffset&&e.setOffset(n.scrollOffset),new jb(i,r,e,t,n)}}}function qb(){return{provide:mn,useClass:Mp}}function Zb(){return{provide:mn,useClass:Ac}}function Yb(e){return"guarded"}function Qb(e){return[e.initialNavigation==="disabled"?Bb().\u0275providers:[],e.initialNavigation==="enabledBlocking"?Ub().\u0275providers:[]]}var bg=new I("");function Kb(){return[{provide:bg,useFactory:im},{provide:qr,multi:!0,useExisting:bg}]}var lm=(()=>{class e{static{this.\u0275fac=function(r){return new(r||e)}}static{this.\u0275cmp=Pt({type:e,selectors:[["app-loading"]],standalone:!0,features:[jt],decls:87,vars:0,consts:[[1,"overlay"],["id","svg-global","xmlns","http://www.w3.org/2000/svg","fill","none","viewBox","0 0 94 136","height","136","width","94"],["stroke","#DC143C","d","M87.3629 108.433L49.1073 85.3765C47.846 84.6163 45.8009 84.6163 44.5395 85.3765L6.28392 108.433C5.02255 109.194 5.02255 110.426 6.28392 111.187L44.5395 134.243C45.8009 135.004 47.846 135.004 49.1073 134.243L87.3629 111.187C88.6243 110.426 88.6243 109.194 87.3629 108.433Z","id","line-v1"],["stroke","#DC143C","d","M91.0928 95.699L49.2899 70.5042C47.9116 69.6734 45.6769 69.6734 44.2986 70.5042L2.49568 95.699C1.11735 96.5298 1.11735 97.8767 2.49568 98.7074L44.2986 123.902C45.6769 124.733 47.9116 124.733 49.2899 123.902L91.0928 98.7074C92.4712 97.8767 92.4712 96.5298 91.0928 95.699Z","id","line-v2"],["id","node-server"],["fill","url(#paint0_linear_204_217)","d","M2.48637 72.0059L43.8699 96.9428C45.742 98.0709 48.281 97.8084 50.9284 96.2133L91.4607 71.7833C92.1444 71.2621 92.4197 70.9139 92.5421 70.1257V86.1368C92.5421 86.9686 92.0025 87.9681 91.3123 88.3825C84.502 92.4724 51.6503 112.204 50.0363 113.215C48.2352 114.343 45.3534 114.343 43.5523 113.215C41.9261 112.197 8.55699 91.8662 2.08967 87.926C1.39197 87.5011 1.00946 86.5986 1.00946 85.4058V70.1257C1.11219 70.9289 1.49685 71.3298 2.48637 72.0059Z"],["stroke","url(#paint2_linear_204_217)","fill","url(#paint1_linear_204_217)","d","M91.0928 68.7324L49.2899 43.5375C47.9116 42.7068 45.6769 42.7068 44.2986 43.5375L2.49568 68.7324C1.11735 69.5631 1.11735 70.91 2.49568 71.7407L44.2986 96.9356C45.6769 97.7663 47.9116 97.7663 49.2899 96.9356L91.0928 71.7407C92.4712 70.91 92.4712 69.5631 91.0928 68.7324Z"],["height","41","width","67","y","50","x","13","maskUnits","userSpaceOnUse","id","mask0_204_217",2,"mask-type","luminance"],["fill","white","d","M78.3486 68.7324L49.0242 51.0584C47.6459 50.2276 45.4111 50.2276 44.0328 51.0584L14.7084 68.7324C13.3301 69.5631 13.3301 70.91 14.7084 71.7407L44.0328 89.4148C45.4111 90.2455 47.6459 90.2455 49.0242 89.4148L78.3486 71.7407C79.7269 70.91 79.727 69.5631 78.3486 68.7324Z"],["mask","url(#mask0_204_217)"],["fill","#F0F8FF","d","M78.3486 68.7324L49.0242 51.0584C47.6459 50.2276 45.4111 50.2276 44.0328 51.0584L14.7084 68.7324C13.3301 69.5631 13.3301 70.91 14.7084 71.7407L44.0328 89.4148C45.4111 90.2455 47.6459 90.2455 49.0242 89.4148L78.3486 71.7407C79.7269 70.91 79.727 69.5631 78.3486 68.7324Z"],["height","29","width","48","y","56","x","23","maskUnits","userSpaceOnUse","id","mask1_204_217",2,"mask-type","luminance"],["fill","white","d","M68.9898 68.7324L49.0242 56.699C47.6459 55.8683 45.4111 55.8683 44.0328 56.699L24.0673 68.7324C22.6889 69.5631 22.6889 70.91 24.0673 71.7407L44.0328 83.7741C45.4111 84.6048 47.6459 84.6048 49.0242 83.7741L68.9898 71.7407C70.3681 70.91 70.3681 69.5631 68.9898 68.7324Z"],["mask","url(#mask1_204_217)"],["fill","#5E5E5E","d","M68.9898 68.7324L49.0242 56.699C47.6459 55.8683 45.4111 55.8683 44.0328 56.699L24.0673 68.7324C22.6889 69.5631 22.6889 70.91 24.0673 71.7407L44.0328 83.7741C45.4111 84.6048 47.6459 84.6048 49.0242 83.7741L68.9898 71.7407C70.3681 70.91 70.3681 69.5631 68.9898 68.7324Z"],["fill","#71B1C6","d","M70.1311 69.3884L48.42 56.303C47.3863 55.6799 45.7103 55.6799 44.6765 56.303L22.5275 69.6523C21.4938 70.2754 21.4938 71.2855 22.5275 71.9086L44.2386 84.994C45.2723 85.617 46.9484 85.617 47.9821 84.994L70.1311 71.6446C71.1648 71.0216 71.1648 70.0114 70.1311 69.3884Z"],["fill","#80C0D4","d","M70.131 70.8923L48.4199 57.8069C47.3862 57.1839 45.7101 57.1839 44.6764 57.8069L22.5274 71.1562C21.4937 71.7793 21.4937 72.7894 22.5274 73.4125L44.2385 86.4979C45.2722 87.1209 46.9482 87.1209 47.982 86.4979L70.131 73.1486C71.1647 72.5255 71.1647 71.5153 70.131 70.8923Z"],["fill","#89D3EB","d","M69.751 72.1675L48.4199 59.3111C47.3862 58.6881 45.7101 58.6881 44.6764 59.3111L23.2004 72.2548C22.1667 72.8779 22.1667 73.888 23.2004 74.5111L44.5315 87.3674C45.5653 87.9905 47.2413 87.9905 48.2751 87.3674L69.751 74.4238C70.7847 73.8007 70.7847 72.7905 69.751 72.1675Z"],["fill","#97E6FF","d","M68.5091 72.9231L48.4199 60.8153C47.3862 60.1922 45.7101 60.1922 44.6764 60.8153L24.8146 72.7861C23.7808 73.4091 23.7808 74.4193 24.8146 75.0424L44.9038 87.1502C45.9375 87.7733 47.6135 87.7733 48.6473 87.1502L68.5091 75.1794C69.5428 74.5563 69.5428 73.5462 68.5091 72.9231Z"],["fill","#97E6FF","d","M66.6747 73.3219L48.4199 62.3197C47.3862 61.6966 45.7101 61.6966 44.6764 62.3197L26.4412 73.3101C25.4075 73.9332 25.4075 74.9433 26.4412 75.5664L44.696 86.5686C45.7297 87.1917 47.4058 87.1917 48.4395 86.5686L66.6747 75.5782C67.7084 74.9551 67.7084 73.945 66.6747 73.3219Z"],["stroke-width","0.5","stroke","#DC143C","d","M68.9898 68.7324L49.0242 56.699C47.6459 55.8683 45.4111 55.8683 44.0328 56.699L24.0673 68.7324C22.6889 69.5631 22.6889 70.91 24.0673 71.7407L44.0328 83.7741C45.4111 84.6048 47.6459 84.6048 49.0242 83.7741L68.9898 71.7407C70.3681 70.91 70.3681 69.5631 68.9898 68.7324Z"],["id","particles"],["fill","url(#paint3_linear_204_217)","d","M43.5482 32.558C44.5429 32.558 45.3493 31.7162 45.3493 30.6778C45.3493 29.6394 44.5429 28.7976 43.5482 28.7976C42.5535 28.7976 41.7471 29.6394 41.7471 30.6778C41.7471 31.7162 42.5535 32.558 43.5482 32.558Z",1,"particle","p1"],["fill","url(#paint4_linear_204_217)","d","M50.0323 48.3519C51.027 48.3519 51.8334 47.5101 51.8334 46.4717C51.8334 45.4333 51.027 44.5915 50.0323 44.5915C49.0375 44.5915 48.2311 45.4333 48.2311 46.4717C48.2311 47.5101 49.0375 48.3519 50.0323 48.3519Z",1,"particle","p2"],["fill","url(#paint5_linear_204_217)","d","M40.3062 62.6416C41.102 62.6416 41.7471 61.9681 41.7471 61.1374C41.7471 60.3067 41.102 59.6332 40.3062 59.6332C39.5104 59.6332 38.8653 60.3067 38.8653 61.1374C38.8653 61.9681 39.5104 62.6416 40.3062 62.6416Z",1,"particle","p3"],["fill","url(#paint6_linear_204_217)","d","M50.7527 73.9229C52.1453 73.9229 53.2743 72.7444 53.2743 71.2906C53.2743 69.8368 52.1453 68.6583 50.7527 68.6583C49.3601 68.6583 48.2311 69.8368 48.2311 71.2906C48.2311 72.7444 49.3601 73.9229 50.7527 73.9229Z",1,"particle","p4"],["fill","url(#paint7_linear_204_217)","d","M48.5913 76.9312C49.1882 76.9312 49.672 76.4262 49.672 75.8031C49.672 75.1801 49.1882 74.675 48.5913 74.675C47.9945 74.675 47.5107 75.1801 47.5107 75.8031C47.5107 76.4262 47.9945 76.9312 48.5913 76.9312Z",1,"particle","p5"],["fill","url(#paint8_linear_204_217)","d","M52.9153 67.1541C53.115 67.1541 53.2768 66.9858 53.2768 66.7781C53.2768 66.5704 53.115 66.402 52.9153 66.402C52.7156 66.402 52.5538 66.5704 52.5538 66.7781C52.5538 66.9858 52.7156 67.1541 52.9153 67.1541Z",1,"particle","p6"],["fill","url(#paint9_linear_204_217)","d","M52.1936 43.8394C52.7904 43.8394 53.2743 43.3344 53.2743 42.7113C53.2743 42.0883 52.7904 41.5832 52.1936 41.5832C51.5967 41.5832 51.1129 42.0883 51.1129 42.7113C51.1129 43.3344 51.5967 43.8394 52.1936 43.8394Z",1,"particle","p7"],["fill","url(#paint10_linear_204_217)","d","M57.2367 29.5497C57.8335 29.5497 58.3173 29.0446 58.3173 28.4216C58.3173 27.7985 57.8335 27.2935 57.2367 27.2935C56.6398 27.2935 56.156 27.7985 56.156 28.4216C56.156 29.0446 56.6398 29.5497 57.2367 29.5497Z",1,"particle","p8"],["fill","url(#paint11_linear_204_217)","d","M43.9084 34.8144C44.3063 34.8144 44.6289 34.4777 44.6289 34.0623C44.6289 33.647 44.3063 33.3102 43.9084 33.3102C43.5105 33.3102 43.188 33.647 43.188 34.0623C43.188 34.4777 43.5105 34.8144 43.9084 34.8144Z",1,"particle","p9"],["id","reflectores"],["fill-opacity","0.2","fill","url(#paint12_linear_204_217)","d","M49.2037 57.0009L68.7638 68.7786C69.6763 69.3089 69.7967 69.9684 69.794 70.1625V13.7383C69.7649 13.5587 69.6807 13.4657 69.4338 13.3096L48.4832 0.601307C46.9202 -0.192595 46.0788 -0.208238 44.6446 0.601307L23.6855 13.2118C23.1956 13.5876 23.1966 13.7637 23.1956 14.4904L23.246 70.1625C23.2948 69.4916 23.7327 69.0697 25.1768 68.2447L43.9084 57.0008C44.8268 56.4344 45.3776 56.2639 46.43 56.2487C47.5299 56.2257 48.1356 56.4222 49.2037 57.0009Z"],["fill-opacity","0.2","fill","url(#paint13_linear_204_217)","d","M48.8867 27.6696C49.9674 26.9175 68.6774 14.9197 68.6774 14.9197C69.3063 14.5327 69.7089 14.375 69.7796 13.756V70.1979C69.7775 70.8816 69.505 71.208 68.7422 71.7322L48.9299 83.6603C48.2003 84.1258 47.6732 84.2687 46.5103 84.2995C45.3295 84.2679 44.8074 84.1213 44.0907 83.6603L24.4348 71.8149C23.5828 71.3313 23.2369 71.0094 23.2316 70.1979L23.1884 13.9816C23.1798 14.8398 23.4982 15.3037 24.7518 16.0874C24.7518 16.0874 42.7629 26.9175 44.2038 27.6696C45.6447 28.4217 46.0049 28.4217 46.5452 28.4217C47.0856 28.4217 47.806 28.4217 48.8867 27.6696Z"],["id","panel-rigth"],["fill","white","id","path-26-inside-1_204_217"],["d","M72 91.8323C72 90.5121 72.9268 88.9068 74.0702 88.2467L87.9298 80.2448C89.0731 79.5847 90 80.1198 90 81.44V81.44C90 82.7602 89.0732 84.3656 87.9298 85.0257L74.0702 93.0275C72.9268 93.6876 72 93.1525 72 91.8323V91.8323Z"],["fill","#91DDFB","d","M72 91.8323C72 90.5121 72.9268 88.9068 74.0702 88.2467L87.9298 80.2448C89.0731 79.5847 90 80.1198 90 81.44V81.44C90 82.7602 89.0732 84.3656 87.9298 85.0257L74.0702 93.0275C72.9268 93.6876 72 93.1525 72 91.8323V91.8323Z"],["mask","url(#path-26-inside-1_204_217)","fill","#489CB7","d","M72 89.4419L90 79.0496L72 89.4419ZM90.6928 81.44C90.6928 82.9811 89.6109 84.8551 88.2762 85.6257L74.763 93.4275C73.237 94.3085 72 93.5943 72 91.8323V91.8323C72 92.7107 72.9268 92.8876 74.0702 92.2275L87.9298 84.2257C88.6905 83.7865 89.3072 82.7184 89.3072 81.84L90.6928 81.44ZM72 94.2227V89.4419V94.2227ZM88.2762 80.0448C89.6109 79.2742 90.6928 79.8989 90.6928 81.44V81.44C90.6928 82.9811 89.6109 84.8551 88.2762 85.6257L87.9298 84.2257C88.6905 83.7865 89.3072 82.7184 89.3072 81.84V81.84C89.3072 80.5198 88.6905 79.8056 87.9298 80.2448L88.2762 80.0448Z"],["fill","white","id","path-28-inside-2_204_217"],["d","M67 94.6603C67 93.3848 67.8954 91.8339 69 91.1962V91.1962C70.1046 90.5584 71 91.0754 71 92.3509V92.5129C71 93.7884 70.1046 95.3393 69 95.977V95.977C67.8954 96.6147 67 96.0978 67 94.8223V94.6603Z"],["fill","#91DDFB","d","M67 94.6603C67 93.3848 67.8954 91.8339 69 91.1962V91.1962C70.1046 90.5584 71 91.0754 71 92.3509V92.5129C71 93.7884 70.1046 95.3393 69 95.977V95.977C67.8954 96.6147 67 96.0978 67 94.8223V94.6603Z"],["mask","url(#path-28-inside-2_204_217)","fill","#489CB7","d","M67 92.3509L71 90.0415L67 92.3509ZM71.6928 92.5129C71.6928 94.0093 70.6423 95.8288 69.3464 96.577L69.3464 96.577C68.0505 97.3252 67 96.7187 67 95.2223V94.8223C67 95.6559 67.8954 95.8147 69 95.177L69 95.177C69.7219 94.7602 70.3072 93.7465 70.3072 92.9129L71.6928 92.5129ZM67 97.1317V92.3509V97.1317ZM69.2762 91.0367C70.6109 90.2661 71.6928 90.8908 71.6928 92.4319V92.5129C71.6928 94.0093 70.6423 95.8288 69.3464 96.577L69 95.177C69.7219 94.7602 70.3072 93.7465 70.3072 92.9129V92.7509C70.3072 91.4754 69.7219 90.7794 69 91.1962L69.2762 91.0367Z"],["gradientUnits","userSpaceOnUse","y2","92.0933","x2","92.5421","y1","92.0933","x1","1.00946","id","paint0_linear_204_217"],["stop-color","#DC143C"],["stop-color","#DC143C","offset","1"],["gradientUnits","userSpaceOnUse","y2","91.1638","x2","6.72169","y1","70","x1","92.5","id","paint1_linear_204_217"],["stop-color","#DC143C","offset","0.29"],["gradientUnits","userSpaceOnUse","y2","85.0762","x2","3.55544","y1","70","x1","92.5","id","paint2_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","32.558","x2","43.5482","y1","28.7976","x1","43.5482","id","paint3_linear_204_217"],["stop-color","#5927CE"],["stop-color","#91DDFB","offset","1"],["gradientUnits","userSpaceOnUse","y2","48.3519","x2","50.0323","y1","44.5915","x1","50.0323","id","paint4_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","62.6416","x2","40.3062","y1","59.6332","x1","40.3062","id","paint5_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","73.9229","x2","50.7527","y1","68.6583","x1","50.7527","id","paint6_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","76.9312","x2","48.5913","y1","74.675","x1","48.5913","id","paint7_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","67.1541","x2","52.9153","y1","66.402","x1","52.9153","id","paint8_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","43.8394","x2","52.1936","y1","41.5832","x1","52.1936","id","paint9_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","29.5497","x2","57.2367","y1","27.2935","x1","57.2367","id","paint10_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","34.8144","x2","43.9084","y1","33.3102","x1","43.9084","id","paint11_linear_204_217"],["gradientUnits","userSpaceOnUse","y2","16.0743","x2","62.9858","y1","88.5145","x1","67.8638","id","paint12_linear_204_217"],["stop-color","#97E6FF"],["stop-opacity","0","stop-color","white","offset","1"],["gradientUnits","userSpaceOnUse","y2","39.4139","x2","31.4515","y1","88.0938","x1","36.2597","id","paint13_linear_204_217"]],template:function(r,i){r&1&&(p(0,"div",0),Yf(),p(1,"svg",1),F(2,"path",2)(3,"path",3),p(4,"g",4),F(5,"path",5)(6,"path",6),p(7,"mask",7),F(8,"path",8),g(),p(9,"g",9),F(10,"path",10),p(11,"mask",11),F(12,"path",12),g(),p(13,"g",13),F(14,"path",14)(15,"path",15)(16,"path",16)(17,"path",17)(18,"path",18)(19,"path",19),g(),F(20,"path",20),g()(),p(21,"g",21),F(22,"path",22)(23,"path",23)(24,"path",24)(25,"path",25)(26,"path",26)(27,"path",27)(28,"path",28)(29,"path",29)(30,"path",30),g(),p(31,"g",31),F(32,"path",32)(33,"path",33),g(),p(34,"g",34)(35,"mask",35),F(36,"path",36),g(),F(37,"path",37)(38,"path",38),p(39,"mask",39),F(40,"path",40),g(),F(41,"path",41)(42,"path",42),g(),p(43,"defs")(44,"linearGradient",43),F(45,"stop",44)(46,"stop",45),g(),p(47,"linearGradient",46),F(48,"stop",44)(49,"stop",47)(50,"stop",45),g(),p(51,"linearGradient",48),F(52,"stop",44)(53,"stop",45),g(),p(54,"linearGradient",49),F(55,"stop",50)(56,"stop",51),g(),p(57,"linearGradient",52),F(58,"stop",50)(59,"stop",51),g(),p(60,"linearGradient",53),F(61,"stop",50)(62,"stop",51),g(),p(63,"linearGradient",54),F(64,"stop",50)(65,"stop",51),g(),p(66,"linearGradient",55),F(67,"stop",50)(68,"stop",51),g(),p(69,"linearGradient",56),F(70,"stop",50)(71,"stop",51),g(),p(72,"linearGradient",57),F(73,"stop",50)(74,"stop",51),g(),p(75,"linearGradient",58),F(76,"stop",50)(77,"stop",51),g(),p(78,"linearGradient",59),F(79,"stop",50)(80,"stop",51),g(),p(81,"linearGradient",60),F(82,"stop",61)(83,"stop",62),g(),p(84,"linearGradient",63),F(85,"stop",61)(86,"stop",62),g()()()())},styles:[".overlay[_ngcontent-%COMP%]{position:fixed;inset:0;background-color:#000000b3;z-index:50;display:flex;align-items:center;justify-content:center}#svg-global[_ngcontent-%COMP%]{zoom:1.2;overflow:visible}@keyframes _ngcontent-%COMP%_fade-particles{0%,to{opacity:1}50%{opacity:.5}}@keyframes _ngcontent-%COMP%_floatUp{0%{transform:translateY(0);opacity:0}10%{opacity:1}to{transform:translateY(-40px);opacity:0}}#particles[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_fade-particles 5s infinite alternate}.particle[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_floatUp linear infinite}.p1[_ngcontent-%COMP%]{animation-duration:2.2s;animation-delay:0s}.p2[_ngcontent-%COMP%]{animation-duration:2.5s;animation-delay:.3s}.p3[_ngcontent-%COMP%]{animation-duration:2s;animation-delay:.6s}.p4[_ngcontent-%COMP%]{animation-duration:2.8s;animation-delay:.2s}.p5[_ngcontent-%COMP%]{animation-duration:2.3s;animation-delay:.4s}.p6[_ngcontent-%COMP%]{animation-duration:3s;animation-delay:.1s}.p7[_ngcontent-%COMP%]{animation-duration:2.1s;animation-delay:.5s}.p8[_ngcontent-%COMP%]{animation-duration:2.6s;animation-delay:.2s}.p9[_ngcontent-%COMP%]{animation-duration:2.4s;animation-delay:.3s}@keyframes _ngcontent-%COMP%_bounce-lines{0%,to{transform:translateY(0)}50%{transform:translateY(-3px)}}#line-v1[_ngcontent-%COMP%], #line-v2[_ngcontent-%COMP%], #node-server[_ngcontent-%COMP%], #panel-rigth[_ngcontent-%COMP%], #reflectores[_ngcontent-%COMP%], #particles[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_bounce-lines 3s ease-in-out infinite alternate}#line-v2[_ngcontent-%COMP%]{animation-delay:.2s}#node-server[_ngcontent-%COMP%], #panel-rigth[_ngcontent-%COMP%], #reflectores[_ngcontent-%COMP%], #particles[_ngcontent-%COMP%]{animation-delay:.4s}"]})}}return e})();var cm={production:!0,apiUrl:"http://137.184.186.231:8080/api/pokemons"};var Us=(()=>{class e{constructor(n){this.http=n,this.apiUrl=cm.apiUrl}getAllPokemons(){return this.getAllPages(this.apiUrl,new Ee)}getPokemons(n,r){let i=new Ee().set("page",n.toString()).set("limit",r.toString());return this.http.get(this.apiUrl,{params:i}).pipe(N(o=>({pokemons:o.content??[],totalPages:o.totalPages??0})))}getPokemonById(n){return this.http.get(`${this.apiUrl}/${n}`)}getPokemonsByName(n){let r=new Ee().set("name",n);return this.http.get(`${this.apiUrl}/name`,{params:r})}getPokemonsByType(n){let r=new Ee().set("type",n);return this.http.get(`${this.apiUrl}/type`,{params:r})}getPokemonsByAbility(n){let r=new Ee().set("ability",n);return this.http.get(`${this.apiUrl}/ability`,{params:r})}getPokemonsByMove(n){let r=new Ee().set("move",n);return this.http.get(`${this.apiUrl}/move`,{params:r})}searchAdvancedPokemons(n){let r=new Ee;return n.name&&(r=r.set("name",n.name)),n.types?.length&&n.types.forEach(i=>{r=r.append("types",i)}),n.ability&&(r=r.set("ability",n.ability)),n.move&&(r=r.set("move",n.move)),n.generation&&(r=r.set("generation",n.generation)),this.getAllPages(`${this.apiUrl}/search/advanced`,r)}getAllPages(n,r){let i=r.set("limit","500").set("fields","id,name,type,spriteUrl,generation,height,weight");return new $(o=>{let s=[],a,l=(c,u)=>{a=this.http.get(c,{params:u,observe:"response"}).subscribe({next:d=>{s.push(...d.body??[]);let h=/<([^>]+)>;\s*rel="next"/.exec(d.headers.get("Link")??"");h?l(new URL(h[1],this.apiUrl).toString()):(o.next(s),o.complete())},error:d=>o.error(d)})};return l(n,i),()=>a?.unsubscribe()})}static{this.\u0275fac=function(r){return new(r||e)(M(zc))}}static{this.\u0275prov=w({token:e,factory:e.\u0275fac,providedIn:"root"})}}return e})();var Jb=(e,t)=>t.name,Xb=(e,t)=>({width:e,backgroundColor:t});function eI(e,t){if(e&1&&(p(0,"span",6),_(1),g()),e&2){let n=t.$implicit,r=H(2);Q("ngClass",r.getTypeColor(n)),E(),J(" ",n," ")}}function tI(e,t){e&1&&(p(0,"span"),_(1,"No types"),g())}function nI(e,t){if(e&1&&(p(0,"span",11),_(1),g()),e&2){let n=t.$implicit;E(),J(" ",n," ")}}function rI(e,t){e&1&&(p(0,"span"),_(1,"No abilities"),g())}function iI(e,t){if(e&1&&(p(0,"span",13),_(1),g()),e&2){let n=t.$implicit;E(),J(" ",n," ")}}function oI(e,t){e&1&&(p(0,"span"),_(1,"No moves"),g())}function sI(e,t){if(e&1&&(p(0,"div")(1,"div",23)(2,"span",24),_(3),g(),p(4,"span"),_(5),g()(),p(6,"div",25),F(7,"div",26),g()()),e&2){let n=t.$implicit,r=H(3);E(3),Xn(n.replace("-"," ")),E(2),Xn(r.pokemon.stats[n]),E(2),Q("ngStyle",cp(3,Xb,r.getStatWidth(r.pokemon.stats[n]),r.getStatColor(n)))}}function aI(e,t){if(e&1&&(p(0,"div",18),Ze(1,sI,8,6,"div",null,Ct),g()),e&2){let n=H(2);E(),Ye(n.statKeys)}}function lI(e,t){e&1&&(p(0,"p",22),_(1,"No stats available"),g())}function cI(e,t){e&1&&(p(0,"span",30),_(1,"\u2192"),g())}function uI(e,t){if(e&1){let n=at();p(0,"div",27),K("click",function(){let i=he(n).$implicit,o=H(2);return pe(o.onEvolutionClick(i.id))}),F(1,"img",28),p(2,"p",29),_(3),g()(),_e(4,cI,2,0,"span",30)}if(e&2){let n=t.$implicit,r=H(2);E(),Q("src",n.spriteUrl,jr)("alt",n.name),E(2),J(" ",n.name," "),E(),Jn(4,n!==r.evolutionSprites[r.evolutionSprites.length-1]?4:-1)}}function dI(e,t){e&1&&(p(0,"p",22),_(1,"No evolutions"),g())}function fI(e,t){if(e&1){let n=at();p(0,"div",0)(1,"span",1),_(2),g(),p(3,"h2",2),_(4),g(),p(5,"div",3),F(6,"img",4),g(),p(7,"div",5),Ze(8,eI,2,2,"span",6,Ct,!1,tI,2,0,"span"),g(),p(11,"div",7)(12,"p",8)(13,"strong"),_(14,"Description:"),g(),_(15),g(),p(16,"div",9)(17,"p")(18,"strong"),_(19,"Height:"),g(),_(20),g(),p(21,"p")(22,"strong"),_(23,"Weight:"),g(),_(24),g()(),p(25,"div")(26,"strong"),_(27,"Abilities:"),g(),p(28,"div",10),Ze(29,nI,2,1,"span",11,Ct,!1,rI,2,0,"span"),g()(),p(32,"div",12)(33,"strong"),_(34,"Moves:"),g(),p(35,"div",10),Ze(36,iI,2,1,"span",13,Ct,!1,oI,2,0,"span"),g(),p(39,"div",14)(40,"button",15),K("click",function(){he(n);let i=H();return pe(i.showAllMoves=!i.showAllMoves)}),_(41),g()()()(),p(42,"div",16)(43,"h3",17),_(44," Base Stats "),g(),_e(45,aI,3,0,"div",18)(46,lI,2,0),g(),p(47,"div",19)(48,"h3",20),_(49," Evolution "),g(),p(50,"div",21),Ze(51,uI,5,4,null,null,Jb,!1,dI,2,0,"p",22),g()()()}if(e&2){let n=H();E(2),J(" #",n.pokemon.id," "),E(2),J(" ",n.pokemon.name," "),E(2),Q("src",n.pokemon.spriteUrl,jr)("alt",n.pokemon.name),E(2),Ye(n.pokemon.type),E(7),J(" ",n.pokemon.description," "),E(5),J(" ",n.pokemon.height," m"),E(4),J(" ",n.pokemon.weight," kg"),E(5),Ye(n.pokemon.ability),E(7),Ye(n.getVisibleMoves()),E(5),J(" ",n.showAllMoves?"Show less...":"Show more..."," "),E(4),Jn(45,n.pokemon.stats?45:46),E(6),Ye(n.evolutionSprites)}}var dm=(()=>{class e{constructor(n){this.pokemonService=n,this.evolutionClicked=new ie,this.evolutionSprites=[],this.showAllMoves=!1,this.statKeys=["hp","attack","defense","special-attack","special-defense","speed"]}ngOnChanges(){this.pokemonId&&this.pokemonService.getPokemonById(this.pokemonId).subscribe({next:n=>{this.pokemon=n,this.loadEvolutionSprites()},error:n=>console.error("Erro ao buscar Pok\xE9mon:",n)})}getTypeColor(n){switch(n.toLowerCase()){case"fire":return"text-orange-500";case"fighting":return"text-orange-700";case"flying":return"text-blue-300";case"water":return"text-blue-500";case"ice":return"text-blue-700";case"grass":return"text-green-500";case"bug":return"text-green-700";case"ground":return"text-yellow-500";case"electric":return"text-yellow-300";case"dragon":return"text-red-500";case"rock":return"text-yellow-700";case"psychic":return"text-pink-700";case"fairy":return"text-pink-500";case"ghost":return"text-purple-500";case"poison":return"text-purple-700";case"dark":return"text-black";default:return"text-gray-500"}}getStatWidth(n){return`${Math.min(100,n/150*100)}%`}getStatColor(n){switch(n){case"hp":return"#fca5a5";case"attack":return"#fdba74";case"defense":return"#93c5fd";case"special-attack":return"#d8b4fe";case"special-defense":return"#6ee7b7";case"speed":return"#fde68a";default:return"#d1d5db"}}getVisibleMoves(){return this.showAllMoves?this.pokemon.move:this.pokemon.move.slice(0,6)}loadEvolutionSprites(){if(this.evolutionSprites=[],!!this.pokemon.evolution)for(let n of this.pokemon.evolution)this.pokemonService.getPokemonsByName(n).subscribe({next:r=>{let i=r[0];i&&(this.evolutionSprites.push({name:i.name,spriteUrl:i.spriteUrl,id:i.id}),this.evolutionSprites.sort((o,s)=>this.pokemon.evolution.indexOf(o.name)-this.pokemon.evolution.indexOf(s.name)))},error:r=>console.error(`Erro ao buscar sprite de ${n}:`,r)})}onEvolutionClick(n){this.evolutionClicked.emit(n)}static{this.\u0275fac=function(r){return new(r||e)(L(Us))}}static{this.\u0275cmp=Pt({type:e,selectors:[["app-pokemon-details"]],inputs:{pokemonId:"pokemonId"},outputs:{evolutionClicked:"evolutionClicked"},standalone:!0,features:[Ft,jt],decls:1,vars:1,consts:[[1,"flex","flex-col","w-full","max-w-[500px]","mx-auto","text-black","px-3","sm:px-4","overflow-x-hidden","box-border"],[1,"text-sm","text-gray-500","font-semibold","mt-2"],[1,"fredoka-one","text-xl","text-center","font-semibold","capitalize","mt-1"],[1,"flex","justify-center","mt-3"],[1,"h-24","w-24","sm:h-28","sm:w-28","object-contain",3,"src","alt"],[1,"flex","flex-wrap","justify-center","gap-2","mt-3"],[1,"font-medium","text-xs","sm:text-sm","capitalize","px-3","py-1","rounded-full","bg-white","shadow","border",3,"ngClass"],[1,"mt-4","text-sm","text-gray-700","space-y-3"],[1,"leading-relaxed","text-justify","px-1"],[1,"px-1"],[1,"flex","flex-wrap","gap-2","mt-2"],[1,"bg-gray-200","text-gray-700","px-3","py-1","rounded-full","capitalize","montserrat","text-xs","sm:text-sm"],[1,"mt-3"],[1,"bg-red-300","text-gray-700","px-3","py-1","rounded-full","text-xs","capitalize","montserrat"],[1,"mt-2","text-center"],[1,"text-gray-700","text-sm","hover:text-blue-700",3,"click"],[1,"mt-5","px-1"],[1,"text-md","text-center","font-semibold","mb-2"],[1,"space-y-3"],[1,"mt-6","mb-10"],[1,"text-center","font-semibold","mb-3"],[1,"flex","items-center","justify-center","gap-3","flex-wrap"],[1,"text-center","text-gray-500"],[1,"flex","justify-between","text-xs","sm:text-sm"],[1,"capitalize"],[1,"w-full","bg-gray-200","rounded-full","h-3"],[1,"h-3","rounded-full",3,"ngStyle"],[1,"flex","flex-col","items-center","cursor-pointer","hover:scale-110","transition",3,"click"],[1,"h-14","w-14","object-contain",3,"src","alt"],[1,"text-xs","capitalize","mt-1"],[1,"text-lg","text-gray-500"]],template:function(r,i){r&1&&_e(0,fI,54,13,"div",0),r&2&&Jn(0,i.pokemon?0:-1)},dependencies:[Zr,os,Tp],encapsulation:2})}}return e})();var hI=["detailsCard"],pI=(e,t)=>t.id,gI=e=>({"grid-cols-1":e}),mI=e=>[e,"px-3 py-1 rounded-full text-sm capitalize hover:opacity-80 transition shadow"];function vI(e,t){e&1&&F(0,"app-loading")}function yI(e,t){if(e&1&&(p(0,"span",27),_(1),g()),e&2){let n=t.$implicit,r=H(2);Q("ngClass",r.getTypeColor(n)),E(),J(" ",n," ")}}function DI(e,t){if(e&1){let n=at();p(0,"div",21),K("click",function(){let i=he(n).$implicit,o=H();return pe(o.selectPokemon(i.id))}),p(1,"span",22),_(2),g(),p(3,"div",23),F(4,"img",24),p(5,"div",25)(6,"p")(7,"strong"),_(8,"Height:"),g(),_(9),g(),p(10,"p")(11,"strong"),_(12,"Weight:"),g(),_(13),g()()(),p(14,"div",26),Ze(15,yI,2,2,"span",27,Ct),g(),p(17,"h2",28),_(18),g()()}if(e&2){let n=t.$implicit;E(2),J(" #",n.id," "),E(2),Q("src",n.spriteUrl,jr),E(5),J(" ",n.height," m"),E(4),J(" ",n.weight," kg"),E(2),Ye(n.type),E(3),J(" ",n.name," ")}}function CI(e,t){e&1&&(p(0,"span",31),_(1," ... "),g())}function wI(e,t){if(e&1){let n=at();p(0,"button",32),K("click",function(){he(n);let i=H().$implicit,o=H();return pe(o.goToPage(i))}),_(1),g()}if(e&2){let n=H().$implicit,r=H();Q("ngClass",r.currentPage===n?"bg-purple-600 text-white shadow-md scale-105":"bg-white text-purple-700 border border-purple-300 hover:bg-purple-100"),E(),J(" ",r.displayPage(n)," ")}}function _I(e,t){if(e&1&&(pc(0),_e(1,CI,2,0,"span",29)(2,wI,2,2,"button",30),gc()),e&2){let n=t.$implicit;E(),Q("ngIf",n==="..."),E(),Q("ngIf",n!=="...")}}function EI(e,t){if(e&1){let n=at();p(0,"div",35)(1,"button",36),K("click",function(){he(n);let i=H(2);return pe(i.selectedPokemonId=null)}),_(2," \xD7 "),g(),p(3,"app-pokemon-details",37),K("evolutionClicked",function(i){he(n);let o=H(2);return pe(o.selectEvolutionPokemon(i))}),g()()}if(e&2){let n=H(2);E(3),Q("pokemonId",n.selectedPokemonId)}}function bI(e,t){if(e&1){let n=at();p(0,"div",38)(1,"div",39)(2,"button",36),K("click",function(){he(n);let i=H(2);return pe(i.selectedPokemonId=null)}),_(3," \xD7 "),g(),p(4,"app-pokemon-details",37),K("evolutionClicked",function(i){he(n);let o=H(2);return pe(o.selectEvolutionPokemon(i))}),g()()()}if(e&2){let n=H(2);E(4),Q("pokemonId",n.selectedPokemonId)}}function II(e,t){if(e&1&&(p(0,"div"),_e(1,EI,4,1,"div",33)(2,bI,5,1,"div",34),g()),e&2){let n=H();E(),Q("ngIf",n.isDesktop),E(),Q("ngIf",!n.isDesktop)}}function MI(e,t){if(e&1){let n=at();p(0,"button",53),K("click",function(){let i=he(n).$implicit,o=H(2);return pe(o.toggleTypeSelection(i))}),_(1),g()}if(e&2){let n=t.$implicit,r=H(2);Q("ngClass",yc(2,mI,r.selectedTypes.includes(n)?"bg-purple-700 text-white":"bg-white "+r.getTypeColor(n))),E(),J(" ",n," ")}}function xI(e,t){if(e&1&&(p(0,"option",49),_(1),g()),e&2){let n=t.$implicit;Q("value",n),E(),Xn(n)}}function SI(e,t){if(e&1){let n=at();p(0,"div",18)(1,"div",40)(2,"button",36),K("click",function(){he(n);let i=H();return pe(i.showAdvancedSearch=!1)}),_(3," \xD7 "),g(),p(4,"h2",41),_(5," Advanced search "),g(),p(6,"div",6)(7,"label",42),_(8,"Type:"),g(),p(9,"div",43),Ze(10,MI,2,4,"button",44,Ct),g()(),p(12,"div",6)(13,"label",42),_(14,"Ability:"),g(),p(15,"input",45),tr("ngModelChange",function(i){he(n);let o=H();return Gr(o.advancedSearch.ability,i)||(o.advancedSearch.ability=i),pe(i)}),g()(),p(16,"div",6)(17,"label",42),_(18,"Move:"),g(),p(19,"input",46),tr("ngModelChange",function(i){he(n);let o=H();return Gr(o.advancedSearch.move,i)||(o.advancedSearch.move=i),pe(i)}),g()(),p(20,"div",6)(21,"label",42),_(22,"Region:"),g(),p(23,"select",47),tr("ngModelChange",function(i){he(n);let o=H();return Gr(o.advancedSearch.region,i)||(o.advancedSearch.region=i),pe(i)}),p(24,"option",48),_(25,"All regions"),g(),Ze(26,xI,2,2,"option",49,Ct),g()(),p(28,"div",50)(29,"button",51),K("click",function(){he(n);let i=H();return pe(i.resetAdvancedSearch())}),_(30," Clear "),g(),p(31,"button",52),K("click",function(){he(n);let i=H();return pe(i.applyAdvancedSearch())}),_(32," Apply "),g()()()()}if(e&2){let n=H();E(10),Ye(n.availableTypes),E(5),er("ngModel",n.advancedSearch.ability),E(4),er("ngModel",n.advancedSearch.move),E(4),er("ngModel",n.advancedSearch.region),E(3),Ye(n.regions)}}var jR=(()=>{class e{constructor(n){this.pokemonService=n,this.allPokemons=[],this.displayedPokemons=[],this.searchTerm="",this.currentPage=0,this.limit=9,this.totalPages=0,this.pages=[],this.loading=!1,this.showAdvancedSearch=!1,this.selectedTypes=[],this.selectedPokemonId=null,this.closingCard=!1,this.isDesktop=window.innerWidth>860,this.availableTypes=["normal","fire","water","grass","electric","ice","fighting","poison","ground","flying","psychic","bug","rock","ghost","dark","dragon","steel","fairy"],this.regions=["Kanto","Johto","Hoenn","Sinnoh","Unova","Kalos","Alola","Galar","Paldea"],this.regionToGenerationMap={Kanto:"generation-i",Johto:"generation-ii",Hoenn:"generation-iii",Sinnoh:"generation-iv",Unova:"generation-v",Kalos:"generation-vi",Alola:"generation-vii",Galar:"generation-viii",Paldea:"generation-ix"},this.advancedSearch={ability:"",move:"",region:""}}ngOnInit(){this.loadAllPokemons(),window.addEventListener("resize",()=>{this.isDesktop=window.innerWidth>860})}displayPage(n){return typeof n=="number"?n+1:n}loadAllPokemons(){this.loading=!0,this.pokemonService.getAllPokemons().subscribe(n=>{this.allPokemons=n,this.currentPage=0,this.updateDisplayedPokemons(),this.loading=!1},()=>this.loading=!1)}get filteredPokemons(){let n=this.searchTerm.toLowerCase().trim();return this.allPokemons.filter(r=>{let i=r.name.toLowerCase().includes(n),o=r.id.toString().includes(n),s=this.selectedTypes.length===0||this.selectedTypes.some(a=>r.type.includes(a));return(i||o)&&s})}updateDisplayedPokemons(){let n=this.currentPage*this.limit,r=n+this.limit;this.displayedPokemons=this.filteredPokemons.slice(n,r),this.totalPages=Math.ceil(this.filteredPokemons.length/this.limit),this.pages=this.calculatePages()}calculatePages(){let n=[];if(this.totalPages<=5)for(let i=0;i<this.totalPages;i++)n.push(i);else{let o=this.totalPages-1,s=Math.max(this.currentPage-1,1),a=Math.min(this.currentPage+1,o-1);s>1?n.push(0,"..."):n.push(0);for(let l=s;l<=a;l++)n.push(l);a<o-1?n.push("...",o):a===o-1&&n.push(o)}return n}goToPage(n){typeof n=="number"&&(this.loading=!0,setTimeout(()=>{this.currentPage=n,this.updateDisplayedPokemons(),window.scrollTo({top:0,behavior:"smooth"}),this.loading=!1},300))}onSearchTermChange(){this.loading=!0,setTimeout(()=>{this.currentPage=0,this.updateDisplayedPokemons(),this.loading=!1},300)}selectPokemon(n){this.loading=!0,setTimeout(()=>{this.selectedPokemonId=n,this.closingCard=!1,this.loading=!1},150)}selectEvolutionPokemon(n){n&&(this.loading=!0,this.closingCard=!0,setTimeout(()=>{this.selectedPokemonId=n,this.closingCard=!1,setTimeout(()=>{this.detailsCard&&(this.detailsCard.nativeElement.scrollTop=0),this.loading=!1},50)},300))}toggleTypeSelection(n){this.loading=!0,setTimeout(()=>{this.selectedTypes.includes(n)?this.selectedTypes=this.selectedTypes.filter(r=>r!==n):this.selectedTypes.push(n),this.currentPage=0,this.updateDisplayedPokemons(),this.loading=!1},150)}resetAdvancedSearch(){this.loading=!0,setTimeout(()=>{this.selectedTypes=[],this.advancedSearch={ability:"",move:"",region:""},this.searchTerm="",this.showAdvancedSearch=!1,this.loadAllPokemons(),this.loading=!1},300)}applyAdvancedSearch(){this.loading=!0,this.currentPage=0;let n={name:this.searchTerm.trim()||void 0,types:this.selectedTypes.length>0?this.selectedTypes:void 0,ability:this.advancedSearch.ability.trim()||void 0,move:this.advancedSearch.move.trim()||void 0,generation:this.advancedSearch.region?this.regionToGenerationMap[this.advancedSearch.region]:void 0};this.pokemonService.searchAdvancedPokemons(n).subscribe(r=>{this.allPokemons=r,this.updateDisplayedPokemons(),this.loading=!1},()=>this.loading=!1),this.showAdvancedSearch=!1}getTypeColor(n){switch(n.toLowerCase()){case"fire":return"text-orange-500";case"fighting":return"text-orange-700";case"flying":return"text-blue-300";case"water":return"text-blue-500";case"ice":return"text-blue-700";case"grass":return"text-green-500";case"bug":return"text-green-700";case"ground":return"text-yellow-500";case"electric":return"text-yellow-300";case"dragon":return"text-red-500";case"rock":return"text-yellow-700";case"psychic":return"text-pink-700";case"fairy":return"text-pink-500";case"ghost":return"text-purple-500";case"poison":return"text-purple-700";case"dark":return"text-black";default:return"text-gray-500"}}trackPokemon(n,r){return r.id}static{this.\u0275fac=function(r){return new(r||e)(L(Us))}}static{this.\u0275cmp=Pt({type:e,selectors:[["app-home"]],viewQuery:function(r,i){if(r&1&&ap(hI,5),r&2){let o;mc(o=vc())&&(i.detailsCard=o.first)}},standalone:!0,features:[jt],decls:33,vars:13,consts:[[1,"bg-gray-200","min-h-screen","text-black","flex","items-center","justify-center","p-4","overflow-x-hidden"],[4,"ngIf"],[1,"bg-white","rounded-2xl","shadow-lg","p-6","md:p-8","w-full","max-w-6xl","flex","flex-col","relative"],[1,"flex","items-center","justify-center","gap-4","mb-4"],["src","assets/gengar.webp","alt","Gengar",1,"h-16","md:h-20","w-auto","drop-shadow-lg"],[1,"text-5xl","md:text-6xl","fredoka-one","text-purple-700","text-center","drop-shadow-2xl","glow-title"],[1,"mb-4"],["type","text","placeholder","Search by pokedex number or pokemon...",1,"montserrat","w-full","p-3","rounded-full","border","border-gray-300","text-black","focus:outline-none","focus:ring-2","focus:ring-purple-500",3,"ngModelChange","input","ngModel"],[1,"text-right","fredoka-one","mb-4"],[1,"text-purple-600","hover:underline","text-sm",3,"click"],[1,"flex-1","overflow-hidden","relative","flex","transition-all","duration-300",2,"height","calc(95vh - 150px)",3,"ngClass"],[1,"flex-1","overflow-y-auto","overflow-x-hidden","pr-1"],[1,"grid","grid-cols-1","sm:grid-cols-2","md:grid-cols-3","gap-6",3,"ngClass"],[1,"pokemon-card","bg-gradient-to-b","from-white","to-purple-50","rounded-3xl","shadow-lg","p-5","text-center","relative","cursor-pointer","border","border-purple-100","hover:shadow-2xl","hover:scale-105","transition"],[1,"mt-8","w-full","flex","justify-center"],[1,"flex","items-center","justify-center","gap-2","w-full","max-w-full","px-4","py-3","rounded-2xl","bg-white/70","backdrop-blur-md","shadow-lg","border","border-purple-200"],[1,"px-4","py-2","rounded-full","text-sm","font-semibold","transition","border","border-purple-300","text-purple-600","hover:bg-purple-100","disabled:opacity-40",3,"click","disabled"],[4,"ngFor","ngForOf"],[1,"fixed","inset-0","bg-black/50","flex","items-center","justify-center","z-50"],[1,"w-full","text-center","text-gray-600","text-sm","mt-6","p-4","border-t","border-gray-300"],[1,"mt-1"],[1,"pokemon-card","bg-gradient-to-b","from-white","to-purple-50","rounded-3xl","shadow-lg","p-5","text-center","relative","cursor-pointer","border","border-purple-100","hover:shadow-2xl","hover:scale-105","transition",3,"click"],[1,"absolute","top-3","left-3","text-sm","text-gray-400","font-semibold"],[1,"flex","justify-center","items-center","gap-4","mb-3"],[1,"h-28","w-28","object-contain",3,"src"],[1,"text-left","montserrat","text-sm","text-gray-700"],[1,"flex","flex-wrap","montserrat","justify-center","gap-2","mb-3"],[1,"font-medium","text-sm","capitalize","px-3","py-1","rounded-full","bg-white","shadow-sm","border","border-gray-200",3,"ngClass"],[1,"text-lg","fredoka-one","font-semibold","capitalize","text-black"],["class","px-3 py-2 text-gray-500 font-semibold",4,"ngIf"],["class","px-4 py-2 rounded-full text-sm font-semibold transition whitespace-nowrap",3,"ngClass","click",4,"ngIf"],[1,"px-3","py-2","text-gray-500","font-semibold"],[1,"px-4","py-2","rounded-full","text-sm","font-semibold","transition","whitespace-nowrap",3,"click","ngClass"],["class","w-[430px] bg-white rounded-2xl shadow-lg p-6 overflow-visible self-start transition-opacity duration-300 relative",4,"ngIf"],["class","fixed inset-0 bg-black/60 z-50 flex items-start justify-center p-2 overflow-y-auto",4,"ngIf"],[1,"w-[430px]","bg-white","rounded-2xl","shadow-lg","p-6","overflow-visible","self-start","transition-opacity","duration-300","relative"],[1,"absolute","top-2","right-2","text-gray-500","hover:text-red-700","text-3xl",3,"click"],[3,"evolutionClicked","pokemonId"],[1,"fixed","inset-0","bg-black/60","z-50","flex","items-start","justify-center","p-2","overflow-y-auto"],[1,"bg-white","w-full","h-full","max-w-md","rounded-2xl","shadow-2xl","p-6","relative","overflow-y-auto"],[1,"bg-white","rounded-2xl","shadow-lg","p-6","w-full","max-w-md","relative"],[1,"text-3xl","fredoka-one","text-center","text-purple-700","mb-4"],[1,"block","font-semibold","fredoka-one","text-purple-700","mb-1"],[1,"flex","flex-wrap","gap-2"],[3,"ngClass"],["placeholder","ex: telepathy",1,"w-full","p-2","montserrat","border","rounded-md","border-gray-300",3,"ngModelChange","ngModel"],["placeholder","ex: draco-meteor",1,"w-full","p-2","montserrat","border","rounded-md","border-gray-300",3,"ngModelChange","ngModel"],[1,"montserrat","w-full","p-2","border","rounded-md","border-gray-300",3,"ngModelChange","ngModel"],["value",""],[3,"value"],[1,"flex","justify-between"],[1,"bg-gray-500","text-white","px-4","py-2","rounded-full","hover:bg-red-600","transition",3,"click"],[1,"bg-purple-500","text-white","px-4","py-2","rounded-full","hover:bg-purple-700","transition",3,"click"],[3,"click","ngClass"]],template:function(r,i){r&1&&(p(0,"body",0),_e(1,vI,1,0,"app-loading",1),p(2,"div",2)(3,"div",3),F(4,"img",4),p(5,"h1",5),_(6," Pokedex "),g()(),p(7,"div",6)(8,"input",7),tr("ngModelChange",function(s){return Gr(i.searchTerm,s)||(i.searchTerm=s),s}),K("input",function(){return i.onSearchTermChange()}),g()(),p(9,"div",8)(10,"button",9),K("click",function(){return i.showAdvancedSearch=!0}),_(11," Advanced search? "),g()(),p(12,"div",10)(13,"div",11)(14,"div",12),Ze(15,DI,19,5,"div",13,pI),g(),p(17,"div",14)(18,"div",15)(19,"button",16),K("click",function(){return i.goToPage(i.currentPage-1)}),_(20," \u2039 Prev "),g(),_e(21,_I,3,2,"ng-container",17),p(22,"button",16),K("click",function(){return i.goToPage(i.currentPage+1)}),_(23," Next \u203A "),g()()()(),_e(24,II,3,2,"div",1),g(),_e(25,SI,33,3,"div",18),p(26,"footer",19)(27,"p",20),_(28,"\xA9 2025 Pokedex. All rights reserved."),g(),p(29,"small"),_(30,"Developed by "),p(31,"strong"),_(32,"Marcos Cunha"),g()()()()()),r&2&&(E(),Q("ngIf",i.loading),E(7),er("ngModel",i.searchTerm),E(4),zr("opacity-100",!i.closingCard),Q("ngClass",i.selectedPokemonId?i.isDesktop?"flex-row gap-6":"flex-col gap-0":(i.isDesktop,"flex-col gap-0")),E(2),Q("ngClass",yc(11,gI,!i.isDesktop)),E(),Ye(i.displayedPokemons),E(4),Q("disabled",i.currentPage===0),E(2),Q("ngForOf",i.pages),E(),Q("disabled",i.currentPage>=i.totalPages-1),E(2),Q("ngIf",i.selectedPokemonId),E(),Jn(25,i.showAdvancedSearch?25:-1))},dependencies:[Zr,os,xp,Sp,eg,Kp,Xp,ds,hs,qp,jc,lm,am,dm],styles:[".pokemon-card[_ngcontent-%COMP%]{cursor:pointer}@keyframes _ngcontent-%COMP%_slideDown{0%{transform:translateY(-20px);opacity:0}to{transform:translateY(0);opacity:1}}.animate-slideDown[_ngcontent-%COMP%]{animation:_ngcontent-%COMP%_slideDown .25s ease-out}.pokedex-container[_ngcontent-%COMP%]{position:relative;padding:20px}.pokemon-list[_ngcontent-%COMP%]{display:grid;grid-template-columns:repeat(auto-fill,minmax(180px,1fr));gap:20px}.pokemon-card[_ngcontent-%COMP%]{background:#fff;border-radius:12px;padding:16px;box-shadow:0 4px 12px #0000001a;cursor:pointer;text-align:center;transition:transform .2s}.pokemon-card[_ngcontent-%COMP%]:hover{transform:translateY(-4px)}.pokemon-detail-overlay[_ngcontent-%COMP%]{position:fixed;inset:0;background:#0006;z-index:10}.pokemon-detail[_ngcontent-%COMP%]{position:absolute;top:20px;left:50%;transform:translate(-50%);width:450px;max-width:95%;background:#fff;border-radius:20px;padding:25px;z-index:11;box-shadow:0 8px 20px #0003}body[_ngcontent-%COMP%], html[_ngcontent-%COMP%]{overflow-y:auto!important}@media (max-width: 860px){.pokemon-detail[_ngcontent-%COMP%]{position:absolute;width:100%;left:0;transform:none;top:0;margin:0;border-radius:0 0 20px 20px;padding:20px}.pokemon-list.blur[_ngcontent-%COMP%]{filter:blur(2px);pointer-events:none}}.close-btn[_ngcontent-%COMP%]{background:transparent;border:none;font-size:22px;position:absolute;top:10px;right:20px;cursor:pointer}.glow-title[_ngcontent-%COMP%]{text-shadow:3px 3px 5px rgba(247,194,247,.7),0 0 15px rgba(128,0,128,.5)}"]})}}return e})();export{Pt as a,_e as b,TA as c,AA as d,F as e,jt as f,NN as g,eR as h,CR as i,dm as j,jR as k};
@@ -0,0 +1,97 @@
+package br.com.marcoscunha.PokedexApi.controller;
+
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import br.com.marcoscunha.PokedexApi.service.PokemonWriter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Quantidade de comandos SQL por listagem, contada pelas estatísticas do
+ * Hibernate: com todas as coleções no JSON, uma página de 200 Pokémons faz os
+ * mesmos SELECTs que uma de 10 (um por coleção, não um por Pokémon).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ListQueryCountTest {
+
+    private static final int POKEMONS = 500;
+    private static final String FIELDS = "id,name,type,ability,move,stats,evolution,spriteBase64";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PokemonRepository repository;
+
+    @Autowired
+    private PokemonWriter writer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void catalog() {
+        if (repository.count() > 0) return;
+        IntStream.rangeClosed(1, POKEMONS).mapToObj(ListQueryCountTest::pokemon).forEach(writer::add);
+        writer.flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "/name?name=poke", "/type?type=fire", "/ability?ability=ability", "/move?move=move"})
+    void statementsDoNotGrowWithPageSize(String path) throws Exception {
+        long small = statements(path, 10);
+        long large = statements(path, 200);
+
+        assertThat(large).isEqualTo(small);
+        // página (+1 linha para o cursor) e um SELECT por coleção
+        assertThat(large).isLessThanOrEqualTo(8);
+    }
+
+    private long statements(String path, int limit) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String url = "/api/pokemons" + path + (path.contains("?") ? "&" : "?") + "limit=" + limit + "&fields=" + FIELDS;
+
+        statistics.clear();
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(limit));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Pokemon pokemon(int i) {
+        Pokemon pokemon = new Pokemon();
+        pokemon.setId((long) i);
+        pokemon.setName("poke" + i);
+        pokemon.setDescription("Pokémon " + i);
+        pokemon.setSprite("https://example.com/sprites/" + i + ".png");
+        pokemon.setHeight(i);
+        pokemon.setWeight(2 * i);
+        pokemon.setGeneration("generation-" + (i % 9 + 1));
+        pokemon.setType(List.of(i % 2 == 0 ? "water" : "fire"));
+        pokemon.setAbility(List.of("ability" + i % 5, "ability" + (i + 1) % 5));
+        pokemon.setMove(List.of("move" + i % 7, "move" + (i + 3) % 7));
+        pokemon.setStats(Map.of("hp", i % 150 + 10, "speed", (i * 3) % 150 + 10));
+        pokemon.setEvolution(List.of("poke" + i));
+        return pokemon;
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.marcoscunha.PokedexApi.migration;
+
+import br.com.marcoscunha.PokedexApi.service.StorageSupport;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrações sobre um banco criado pelo ddl-auto=update, ainda com a coluna
+ * {@code pokemons.sprite_base64}: as imagens vão para {@code pokemon_sprites}
+ * e a coluna some. Num banco vazio o V5 não faz nada.
+ */
+class SpriteBase64MigrationTest {
+
+    private static final byte[] PNG = "PNG1".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] IMPORTED = "PNG3".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void copiesSpriteBase64AndDropsColumn() throws SQLException {
+        String url = url();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE pokemons (
+                        height INTEGER NOT NULL, weight INTEGER NOT NULL, id BIGINT NOT NULL,
+                        generation VARCHAR(50), description VARCHAR(255) NOT NULL, name VARCHAR(255) NOT NULL,
+                        sprite VARCHAR(255) NOT NULL, sprite_base64 TEXT, PRIMARY KEY (id))""");
+            statement.execute("""
+                    CREATE TABLE pokemon_sprites (
+                        pokemon_id BIGINT NOT NULL, content_type VARCHAR(50), etag VARCHAR(64), data MEDIUMBLOB,
+                        PRIMARY KEY (pokemon_id))""");
+            insertPokemon(statement, 1, Base64.getEncoder().encodeToString(PNG));
+            insertPokemon(statement, 2, "");
+            insertPokemon(statement, 3, Base64.getEncoder().encodeToString("antiga".getBytes(StandardCharsets.UTF_8)));
+            insertPokemon(statement, 4, "não é base64");
+            statement.execute("INSERT INTO pokemon_sprites (pokemon_id, content_type, etag, data) VALUES (3, 'image/png', '"
+                    + StorageSupport.sha256(IMPORTED) + "', X'" + hex(IMPORTED) + "')");
+        }
+
+        migrate(url);
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT pokemon_id, content_type, etag, data FROM pokemon_sprites ORDER BY pokemon_id")) {
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getLong(1)).isEqualTo(1);
+                assertThat(rows.getString(2)).isEqualTo("image/png");
+                assertThat(rows.getString(3)).isEqualTo(StorageSupport.sha256(PNG));
+                assertThat(rows.getBytes(4)).isEqualTo(PNG);
+
+                // a sprite que já estava em pokemon_sprites não é sobrescrita
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getLong(1)).isEqualTo(3);
+                assertThat(rows.getBytes(4)).isEqualTo(IMPORTED);
+
+                assertThat(rows.next()).isFalse();
+            }
+            try (ResultSet columns = connection.getMetaData()
+                    .getColumns(connection.getCatalog(), null, "pokemons", "sprite_base64")) {
+                assertThat(columns.next()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void freshSchemaIsLeftAlone() {
+        assertThat(migrate(url())).isEqualTo(5);
+    }
+
+    private static int migrate(String url) {
+        return Flyway.configure()
+                .dataSource(url, "sa", "")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .javaMigrations(new V5__MoveSpriteBase64())
+                .load()
+                .migrate()
+                .migrationsExecuted;
+    }
+
+    private static void insertPokemon(Statement statement, int id, String spriteBase64) throws SQLException {
+        statement.execute("INSERT INTO pokemons (height, weight, id, description, name, sprite, sprite_base64) VALUES ("
+                + id + ", " + id + ", " + id + ", 'Pokémon " + id + "', 'poke" + id
+                + "', 'https://example.com/sprites/" + id + ".png', '" + spriteBase64 + "')");
+    }
+
+    private static String hex(byte[] data) {
+        return HexFormat.of().formatHex(data);
+    }
+
+    private static String url() {
+        return "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+}
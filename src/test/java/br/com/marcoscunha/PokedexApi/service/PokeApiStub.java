@@ -0,0 +1,144 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * PokéAPI falsa (HttpServer do JDK) com latência fixa em cada resposta: a
+ * listagem de {@code count} Pokémons ({@code poke1}, {@code poke2}...), o
+ * documento de cada um, a espécie e a imagem. Guarda o instante de chegada
+ * ({@link System#nanoTime()}) de cada requisição e o maior número de
+ * requisições atendidas ao mesmo tempo.
+ */
+class PokeApiStub implements AutoCloseable {
+
+    private static final String[] STATS = {"hp", "attack", "defense", "special-attack", "special-defense", "speed"};
+
+    private final int count;
+    private final long latencyMs;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ConcurrentLinkedQueue<Long> arrivals = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    PokeApiStub(int count, long latencyMs) throws IOException {
+        this.count = count;
+        this.latencyMs = latencyMs;
+        // sem Nagle: cabeçalho e corpo saem em pacotes separados e o ACK atrasado somaria ~40 ms
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v2/";
+    }
+
+    String spriteBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/sprites/";
+    }
+
+    List<Long> arrivals() {
+        return new ArrayList<>(arrivals);
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    void reset() {
+        arrivals.clear();
+        maxInFlight.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ===================== RESPOSTAS =====================
+    private void handle(HttpExchange exchange) throws IOException {
+        arrivals.add(System.nanoTime());
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            respond(exchange);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String[] path = exchange.getRequestURI().getPath().replaceAll("^/|/$", "").split("/");
+        String body = null;
+        String contentType = "application/json";
+        if (path.length == 3 && path[2].equals("pokemon")) {
+            body = list();
+        } else if (path.length == 4 && path[2].equals("pokemon")) {
+            body = pokemon(Integer.parseInt(path[3].replace("poke", "")));
+        } else if (path.length == 4 && path[2].equals("pokemon-species")) {
+            body = species(Integer.parseInt(path[3]));
+        } else if (path.length == 2 && path[0].equals("sprites")) {
+            body = "PNG" + path[1];
+            contentType = "image/png";
+        }
+
+        try (exchange) {
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private String list() {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> "{\"name\":\"poke" + i + "\",\"url\":\"" + baseUrl() + "pokemon/" + i + "/\"}")
+                .collect(Collectors.joining(",", "{\"results\":[", "]}"));
+    }
+
+    private String pokemon(int i) {
+        String stats = IntStream.rangeClosed(1, 6)
+                .mapToObj(k -> "{\"stat\":{\"name\":\"" + STATS[k - 1] + "\"},\"base_stat\":" + ((i * k) % 150 + 10) + "}")
+                .collect(Collectors.joining(","));
+        return "{\"id\":" + i + ",\"name\":\"poke" + i + "\",\"height\":" + i + ",\"weight\":" + 2 * i
+                + ",\"types\":[{\"type\":{\"name\":\"" + (i % 2 == 0 ? "water" : "fire") + "\"}}]"
+                + ",\"abilities\":[{\"ability\":{\"name\":\"ability" + i % 5 + "\"}}]"
+                + ",\"moves\":[{\"move\":{\"name\":\"move" + i % 7 + "\"}}]"
+                + ",\"stats\":[" + stats + "]"
+                + ",\"species\":{\"url\":\"" + baseUrl() + "pokemon-species/" + i + "/\"}}";
+    }
+
+    private static String species(int i) {
+        return "{\"generation\":{\"name\":\"generation-" + (i % 9 + 1) + "\"}"
+                + ",\"flavor_text_entries\":[{\"language\":{\"name\":\"en\"},\"flavor_text\":\"Pokémon " + i + "\"}]}";
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.repository.ImportCheckpointRepository;
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Importação dos Pokémons contra uma PokéAPI falsa: as chamadas saem em
+ * paralelo, no máximo {@code pokeapi.import.parallelism} ao mesmo tempo, e a
+ * PokéAPI nunca recebe mais requisições do que o token bucket de
+ * {@code pokeapi.import.requests-per-second} libera. As verificações contam
+ * requisições, não comparam tempos de execução.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "pokeapi.import.requests-per-second=" + PokemonImportTest.REQUESTS_PER_SECOND,
+        "pokeapi.import.parallelism=" + PokemonImportTest.PARALLELISM
+})
+@ActiveProfiles("test")
+class PokemonImportTest {
+
+    static final int REQUESTS_PER_SECOND = 20;
+    static final int PARALLELISM = 8;
+    private static final int POKEMONS = 30;
+    private static final long LATENCY_MS = 20;
+    // atraso máximo tolerado entre a liberação de uma chamada e a chegada dela ao stub
+    private static final long ARRIVAL_JITTER_MS = 500;
+
+    private static final PokeApiStub STUB = stub();
+
+    @DynamicPropertySource
+    static void pokeApi(DynamicPropertyRegistry registry) {
+        registry.add("pokeapi.base-url", STUB::baseUrl);
+        registry.add("pokeapi.sprite-base-url", STUB::spriteBaseUrl);
+    }
+
+    @Autowired
+    private PokemonService service;
+
+    @Autowired
+    private ImportEngine importEngine;
+
+    @Autowired
+    private PokemonRepository repository;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @BeforeEach
+    void emptyCatalog() {
+        repository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+        ReflectionTestUtils.setField(importEngine, "requestsPerSecond", (double) REQUESTS_PER_SECOND);
+        STUB.reset();
+    }
+
+    @Test
+    void importRunsCallsInParallelUpToPoolSize() {
+        // sem limite de taxa, só o pool segura as chamadas
+        ReflectionTestUtils.setField(importEngine, "requestsPerSecond", 0.0);
+        importAll();
+
+        assertThat(STUB.maxInFlight()).isBetween(2, PARALLELISM);
+    }
+
+    @Test
+    void importRespectsRateLimit() {
+        importAll();
+
+        List<Long> arrivals = STUB.arrivals().stream().sorted().toList();
+        assertThat(arrivals).hasSize(1 + 2 * POKEMONS);
+
+        // token bucket: as chamadas que chegam entre a(i) e a(j) foram liberadas entre
+        // a(i) - jitter e a(j), uma a cada 1/rps s, então j - i + 1 <= (a(j) - a(i) + jitter) * rps + 1.
+        // Sem o limitador, 8 threads com 20 ms de latência passam de 50/s e estouram a conta.
+        long jitter = TimeUnit.MILLISECONDS.toNanos(ARRIVAL_JITTER_MS);
+        for (int first = 0; first < arrivals.size(); first++) {
+            for (int last = first; last < arrivals.size(); last++) {
+                long window = arrivals.get(last) - arrivals.get(first) + jitter;
+                long allowed = window * REQUESTS_PER_SECOND / TimeUnit.SECONDS.toNanos(1) + 1;
+                assertThat(last - first + 1)
+                        .as("chegadas %d..%d em %d ms", first, last, TimeUnit.NANOSECONDS.toMillis(window - jitter))
+                        .isLessThanOrEqualTo((int) allowed);
+            }
+        }
+    }
+
+    private void importAll() {
+        service.fetchAndSaveAllPokemons();
+        assertThat(repository.count()).isEqualTo(POKEMONS);
+    }
+
+    private static PokeApiStub stub() {
+        try {
+            return new PokeApiStub(POKEMONS, LATENCY_MS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.marcoscunha.PokedexApi.service;
+
+import br.com.marcoscunha.PokedexApi.dto.PokemonPage;
+import br.com.marcoscunha.PokedexApi.dto.StatRange;
+import br.com.marcoscunha.PokedexApi.dto.StatSort;
+import br.com.marcoscunha.PokedexApi.model.Pokemon;
+import br.com.marcoscunha.PokedexApi.repository.PokemonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Busca ordenada por stat antes de a cópia em memória existir: o banco devolve
+ * as mesmas páginas, na mesma ordem e com os mesmos cursores, que o índice de
+ * stats devolve depois de construído.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class StatsSearchFallbackTest {
+
+    private static final int POKEMONS = 120;
+    private static final int PAGE = 7;
+
+    @Autowired
+    private PokemonService service;
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    @Autowired
+    private PokemonRepository repository;
+
+    @Autowired
+    private PokemonWriter writer;
+
+    @BeforeEach
+    void catalog() {
+        if (repository.count() > 0) return;
+        IntStream.rangeClosed(1, POKEMONS).mapToObj(StatsSearchFallbackTest::pokemon).forEach(writer::add);
+        writer.flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"attack,asc", "attack,desc", "speed,desc", "total,asc", "total,desc"})
+    void databaseOrderMatchesStatsIndex(String sort) {
+        List<StatRange> stats = StatRange.parse(List.of("hp:20"), List.of("total:400"));
+
+        catalogIndex.refresh();
+        List<List<Long>> indexed = pages(sort, stats);
+
+        ReflectionTestUtils.setField(catalogIndex, "snapshot", null);
+        List<List<Long>> database = pages(sort, stats);
+
+        assertThat(indexed).hasSizeGreaterThan(2);
+        assertThat(database).isEqualTo(indexed);
+    }
+
+    // IDs de cada página, seguindo o cursor até a última
+    private List<List<Long>> pages(String sort, List<StatRange> stats) {
+        List<List<Long>> pages = new ArrayList<>();
+        Long cursor = null;
+        do {
+            PokemonPage page = service.statsSearch(null, List.of("fire"), null, null, null, stats,
+                    StatSort.parse(sort), cursor, PAGE, pages.isEmpty());
+            if (pages.isEmpty()) assertThat(page.total()).isPositive();
+            pages.add(page.content().stream().map(Pokemon::getId).toList());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    // valores repetidos (empates) e, a cada 5, sem speed (conta como 0)
+    private static Pokemon pokemon(int i) {
+        Map<String, Integer> stats = new HashMap<>();
+        stats.put("hp", i % 40 + 10);
+        stats.put("attack", i % 13 * 10);
+        stats.put("defense", i % 17 * 5);
+        if (i % 5 != 0) stats.put("speed", i % 9 * 20);
+
+        Pokemon pokemon = new Pokemon();
+        pokemon.setId((long) i);
+        pokemon.setName("poke" + i);
+        pokemon.setDescription("Pokémon " + i);
+        pokemon.setSprite("https://example.com/sprites/" + i + ".png");
+        pokemon.setHeight(i);
+        pokemon.setWeight(2 * i);
+        pokemon.setGeneration("generation-" + (i % 9 + 1));
+        pokemon.setType(List.of(i % 3 == 0 ? "water" : "fire"));
+        pokemon.setAbility(List.of("ability" + i % 5));
+        pokemon.setMove(List.of("move" + i % 7));
+        pokemon.setStats(stats);
+        pokemon.setEvolution(List.of("poke" + i));
+        return pokemon;
+    }
+}